@@ -0,0 +1,50 @@
+package com.cnu.docserver.analytics.controller;
+
+import com.cnu.docserver.analytics.dto.DepartmentAnalyticsDTO;
+import com.cnu.docserver.analytics.enums.RollupGranularity;
+import com.cnu.docserver.analytics.service.AnalyticsBackfillService;
+import com.cnu.docserver.analytics.service.AnalyticsRollupService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+@Tag(name = "Admin Analytics", description = "관리자 통계 API")
+@RestController
+@RequestMapping("/api/admin/analytics")
+@RequiredArgsConstructor
+public class AnalyticsController {
+
+    private final AnalyticsRollupService analyticsRollupService;
+    private final AnalyticsBackfillService analyticsBackfillService;
+
+    // 예: /departments/1?granularity=DAY&from=2025-03-01&to=2025-03-31 (기간 미지정: 최근 30일 / HOUR 는 최근 2일)
+    @Operation(summary = "부서 통계", description = "문서 유형별 자동 검토 통과율, OCR 지연, 제출 → 관리자 처리 대기 시간을 시간/일 단위로 조회합니다.")
+    @GetMapping("/departments/{departmentId}")
+    public DepartmentAnalyticsDTO department(
+            @PathVariable Integer departmentId,
+            @RequestParam(defaultValue = "DAY") RollupGranularity granularity,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+    ) {
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusDays(granularity == RollupGranularity.HOUR ? 1 : 29);
+        return analyticsRollupService.departmentAnalytics(departmentId, granularity, start, end);
+    }
+
+    @Operation(summary = "통계 재계산", description = "제출 이력(보관 포함)에서 통계를 다시 계산해 한 번에 교체합니다. 계산 중에는 이전 통계가 조회됩니다.")
+    @PostMapping("/rebuild")
+    public Map<String, Integer> rebuild() {
+        try {
+            return Map.of("submissions", analyticsBackfillService.rebuild());
+        } catch (IllegalStateException e) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.cnu.docserver.analytics.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "통계 버킷 (기간 합계면 bucketStart 는 null)")
+public record AnalyticsBucketDTO(
+        @Schema(description = "버킷 시작 시각") String bucketStart,
+        @Schema(description = "자동 검토 완료 건수 (통과 + 보완 + 반려 + 오류)") long ocrReviewed,
+        @Schema(description = "자동 검토 통과") long ocrPassed,
+        @Schema(description = "자동 검토 보완 요청") long ocrNeedsFix,
+        @Schema(description = "자동 검토 반려") long ocrRejected,
+        @Schema(description = "자동 검토 오류 (파일/호출/응답)") long ocrFailed,
+        @Schema(description = "자동 검토 통과율 (통과 / 완료, 완료 0 건이면 null)") Double ocrPassRate,
+        @Schema(description = "OCR 평균 지연 (ms)") Long avgOcrLatencyMs,
+        @Schema(description = "OCR 최대 지연 (ms)") Long maxOcrLatencyMs,
+        @Schema(description = "관리자 처리 건수") long decided,
+        @Schema(description = "승인") long approved,
+        @Schema(description = "반려") long rejected,
+        @Schema(description = "제출 → 관리자 처리 평균 대기 (초)") Long avgDecisionWaitSeconds,
+        @Schema(description = "제출 → 관리자 처리 최대 대기 (초)") Long maxDecisionWaitSeconds
+) {}
@@ -0,0 +1,15 @@
+package com.cnu.docserver.analytics.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "부서 통계: 자동 검토 통과율, OCR 지연, 관리자 처리 대기 시간")
+public record DepartmentAnalyticsDTO(
+        @Schema(description = "부서 ID") Integer departmentId,
+        @Schema(description = "버킷 단위 (HOUR | DAY)") String granularity,
+        @Schema(description = "조회 시작일 (포함)") String from,
+        @Schema(description = "조회 종료일 (포함)") String to,
+        @Schema(description = "부서 전체 기간 합계") AnalyticsBucketDTO total,
+        @Schema(description = "문서 유형별 (기간 내 기록이 있는 유형만)") List<DocTypeAnalyticsDTO> docTypes
+) {}
@@ -0,0 +1,13 @@
+package com.cnu.docserver.analytics.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "문서 유형별 통계")
+public record DocTypeAnalyticsDTO(
+        @Schema(description = "문서 유형 ID") Integer docTypeId,
+        @Schema(description = "문서 유형명") String title,
+        @Schema(description = "기간 합계") AnalyticsBucketDTO total,
+        @Schema(description = "버킷별 (기록이 있는 버킷만, 시간순)") List<AnalyticsBucketDTO> buckets
+) {}
@@ -0,0 +1,77 @@
+package com.cnu.docserver.analytics.entity;
+
+import com.cnu.docserver.analytics.enums.RollupGranularity;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+
+@Entity
+@Table(name = "submission_analytics_rollups")
+public class SubmissionAnalyticsRollup {
+
+    @EmbeddedId
+    private Key id;
+
+    // 자동 검토 결과 건수
+    @Column(name = "ocr_passed", nullable = false)
+    private long ocrPassed;
+
+    @Column(name = "ocr_needs_fix", nullable = false)
+    private long ocrNeedsFix;
+
+    @Column(name = "ocr_rejected", nullable = false)
+    private long ocrRejected;
+
+    @Column(name = "ocr_failed", nullable = false)
+    private long ocrFailed;
+
+    // OCR 호출 지연 (평균 = 합 / 건수)
+    @Column(name = "ocr_latency_count", nullable = false)
+    private long ocrLatencyCount;
+
+    @Column(name = "ocr_latency_sum_ms", nullable = false)
+    private long ocrLatencySumMs;
+
+    @Column(name = "ocr_latency_max_ms", nullable = false)
+    private long ocrLatencyMaxMs;
+
+    // 관리자 처리 건수
+    @Column(name = "approved", nullable = false)
+    private long approved;
+
+    @Column(name = "rejected", nullable = false)
+    private long rejected;
+
+    // 제출 → 관리자 처리 대기 시간 (초)
+    @Column(name = "decision_wait_count", nullable = false)
+    private long decisionWaitCount;
+
+    @Column(name = "decision_wait_sum_s", nullable = false)
+    private long decisionWaitSumSeconds;
+
+    @Column(name = "decision_wait_max_s", nullable = false)
+    private long decisionWaitMaxSeconds;
+
+    @Embeddable
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        @Enumerated(EnumType.STRING)
+        @Column(name = "granularity", length = 8)
+        private RollupGranularity granularity;
+
+        @Column(name = "doc_type_id")
+        private Integer docTypeId;
+
+        @Column(name = "bucket_start")
+        private LocalDateTime bucketStart;
+    }
+}
@@ -0,0 +1,27 @@
+package com.cnu.docserver.analytics.enums;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+/** 통계 버킷 단위. 조회 기간은 단위별 최대 버킷 수로 제한 (응답 크기가 기간에만 비례) */
+public enum RollupGranularity {
+    HOUR(ChronoUnit.HOURS, Duration.ofDays(14)),
+    DAY(ChronoUnit.DAYS, Duration.ofDays(400));
+
+    private final ChronoUnit unit;
+    private final Duration maxRange;
+
+    RollupGranularity(ChronoUnit unit, Duration maxRange) {
+        this.unit = unit;
+        this.maxRange = maxRange;
+    }
+
+    public LocalDateTime bucketOf(LocalDateTime at) {
+        return at.truncatedTo(unit);
+    }
+
+    public Duration maxRange() {
+        return maxRange;
+    }
+}
@@ -0,0 +1,15 @@
+package com.cnu.docserver.analytics.repository;
+
+import com.cnu.docserver.submission.enums.HistoryAction;
+
+import java.time.LocalDateTime;
+
+/** 재계산용 이력 한 줄 (운영/보관 테이블 공통). adminId 가 null 이면 학생/시스템 기록 */
+public record AnalyticsHistoryRow(
+        Integer submissionId,
+        Integer docTypeId,
+        String adminId,
+        HistoryAction action,
+        String memo,
+        LocalDateTime changedAt
+) {}
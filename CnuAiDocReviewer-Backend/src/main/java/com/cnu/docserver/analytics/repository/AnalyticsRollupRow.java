@@ -0,0 +1,10 @@
+package com.cnu.docserver.analytics.repository;
+
+import com.cnu.docserver.analytics.entity.SubmissionAnalyticsRollup;
+
+/** 통계 조회 프로젝션: 문서 유형 + 버킷 한 행 */
+public record AnalyticsRollupRow(
+        Integer docTypeId,
+        String title,
+        SubmissionAnalyticsRollup rollup
+) {}
@@ -0,0 +1,181 @@
+package com.cnu.docserver.analytics.repository;
+
+import com.cnu.docserver.analytics.entity.SubmissionAnalyticsRollup;
+import com.cnu.docserver.analytics.enums.RollupGranularity;
+import com.cnu.docserver.analytics.service.RollupDelta;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface SubmissionAnalyticsRollupRepository
+        extends JpaRepository<SubmissionAnalyticsRollup, SubmissionAnalyticsRollup.Key> {
+
+    // 네이티브 쓰기는 영향 테이블을 밝혀야 한다. 없으면 Hibernate 가 2차/쿼리 캐시 전체를 비움
+    String SPACES = "submission_analytics_rollups";
+    String REBUILD_SPACES = "submission_analytics_rollups_rebuild";
+    String STATE_SPACES = "analytics_rebuild_state";
+
+    // 원자적 누적: 시간/일 버킷 두 행을 한 문장으로 (행이 없으면 생성). 호출한 트랜잭션과 함께 커밋/롤백된다
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = SPACES))
+    @Query(value = """
+      INSERT INTO submission_analytics_rollups (granularity, doc_type_id, bucket_start,
+          ocr_passed, ocr_needs_fix, ocr_rejected, ocr_failed,
+          ocr_latency_count, ocr_latency_sum_ms, ocr_latency_max_ms,
+          approved, rejected, decision_wait_count, decision_wait_sum_s, decision_wait_max_s)
+      VALUES ('HOUR', :docTypeId, :hour,
+              :#{#d.ocrPassed()}, :#{#d.ocrNeedsFix()}, :#{#d.ocrRejected()}, :#{#d.ocrFailed()},
+              :#{#d.latencyCount()}, :#{#d.latencySumMs()}, :#{#d.latencyMaxMs()},
+              :#{#d.approved()}, :#{#d.rejected()}, :#{#d.waitCount()}, :#{#d.waitSumSeconds()}, :#{#d.waitMaxSeconds()}),
+             ('DAY', :docTypeId, :day,
+              :#{#d.ocrPassed()}, :#{#d.ocrNeedsFix()}, :#{#d.ocrRejected()}, :#{#d.ocrFailed()},
+              :#{#d.latencyCount()}, :#{#d.latencySumMs()}, :#{#d.latencyMaxMs()},
+              :#{#d.approved()}, :#{#d.rejected()}, :#{#d.waitCount()}, :#{#d.waitSumSeconds()}, :#{#d.waitMaxSeconds()})
+      ON DUPLICATE KEY UPDATE
+          ocr_passed          = ocr_passed + VALUES(ocr_passed),
+          ocr_needs_fix       = ocr_needs_fix + VALUES(ocr_needs_fix),
+          ocr_rejected        = ocr_rejected + VALUES(ocr_rejected),
+          ocr_failed          = ocr_failed + VALUES(ocr_failed),
+          ocr_latency_count   = ocr_latency_count + VALUES(ocr_latency_count),
+          ocr_latency_sum_ms  = ocr_latency_sum_ms + VALUES(ocr_latency_sum_ms),
+          ocr_latency_max_ms  = GREATEST(ocr_latency_max_ms, VALUES(ocr_latency_max_ms)),
+          approved            = approved + VALUES(approved),
+          rejected            = rejected + VALUES(rejected),
+          decision_wait_count = decision_wait_count + VALUES(decision_wait_count),
+          decision_wait_sum_s = decision_wait_sum_s + VALUES(decision_wait_sum_s),
+          decision_wait_max_s = GREATEST(decision_wait_max_s, VALUES(decision_wait_max_s))
+    """, nativeQuery = true)
+    int add(@Param("docTypeId") Integer docTypeId,
+            @Param("hour") LocalDateTime hour,
+            @Param("day") LocalDateTime day,
+            @Param("d") RollupDelta delta);
+
+    // 그림자 테이블의 한 버킷 행만 누적 (재계산 재생 + 재계산 중 실시간 누적).
+    // 시간 버킷들 → 그날 일 버킷 순서로 써서 실시간 누적과 잠금 순서를 맞춘다
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = REBUILD_SPACES))
+    @Query(value = """
+      INSERT INTO submission_analytics_rollups_rebuild (granularity, doc_type_id, bucket_start,
+          ocr_passed, ocr_needs_fix, ocr_rejected, ocr_failed,
+          ocr_latency_count, ocr_latency_sum_ms, ocr_latency_max_ms,
+          approved, rejected, decision_wait_count, decision_wait_sum_s, decision_wait_max_s)
+      VALUES (:granularity, :docTypeId, :bucketStart,
+              :#{#d.ocrPassed()}, :#{#d.ocrNeedsFix()}, :#{#d.ocrRejected()}, :#{#d.ocrFailed()},
+              :#{#d.latencyCount()}, :#{#d.latencySumMs()}, :#{#d.latencyMaxMs()},
+              :#{#d.approved()}, :#{#d.rejected()}, :#{#d.waitCount()}, :#{#d.waitSumSeconds()}, :#{#d.waitMaxSeconds()})
+      ON DUPLICATE KEY UPDATE
+          ocr_passed          = ocr_passed + VALUES(ocr_passed),
+          ocr_needs_fix       = ocr_needs_fix + VALUES(ocr_needs_fix),
+          ocr_rejected        = ocr_rejected + VALUES(ocr_rejected),
+          ocr_failed          = ocr_failed + VALUES(ocr_failed),
+          ocr_latency_count   = ocr_latency_count + VALUES(ocr_latency_count),
+          ocr_latency_sum_ms  = ocr_latency_sum_ms + VALUES(ocr_latency_sum_ms),
+          ocr_latency_max_ms  = GREATEST(ocr_latency_max_ms, VALUES(ocr_latency_max_ms)),
+          approved            = approved + VALUES(approved),
+          rejected            = rejected + VALUES(rejected),
+          decision_wait_count = decision_wait_count + VALUES(decision_wait_count),
+          decision_wait_sum_s = decision_wait_sum_s + VALUES(decision_wait_sum_s),
+          decision_wait_max_s = GREATEST(decision_wait_max_s, VALUES(decision_wait_max_s))
+    """, nativeQuery = true)
+    int addRebuildBucket(@Param("granularity") String granularity,
+                         @Param("docTypeId") Integer docTypeId,
+                         @Param("bucketStart") LocalDateTime bucketStart,
+                         @Param("d") RollupDelta delta);
+
+    // 조회: 부서의 문서 유형 × 기간 버킷 (PK (granularity, doc_type_id, bucket_start) 범위)
+    @Query("""
+      select new com.cnu.docserver.analytics.repository.AnalyticsRollupRow(dt.docTypeId, dt.title, r)
+      from DocType dt
+      join SubmissionAnalyticsRollup r on r.id.docTypeId = dt.docTypeId
+      where dt.department.departmentId = :departmentId
+        and r.id.granularity = :granularity
+        and r.id.bucketStart >= :from and r.id.bucketStart < :to
+      order by dt.docTypeId asc, r.id.bucketStart asc
+    """)
+    List<AnalyticsRollupRow> findDepartmentRows(@Param("departmentId") Integer departmentId,
+                                                @Param("granularity") RollupGranularity granularity,
+                                                @Param("from") LocalDateTime from,
+                                                @Param("to") LocalDateTime to);
+
+    // --- 재계산용 ---
+
+    // 재계산 상태: 실시간 누적이 공유 잠금으로 읽는다. 값이 있으면 재계산 중 (그 시각 이후 누적은 그림자 테이블에도)
+    @Query(value = "SELECT cutoff FROM analytics_rebuild_state WHERE id = 1 LOCK IN SHARE MODE", nativeQuery = true)
+    Optional<LocalDateTime> lockRebuildCutoff();
+
+    // 재계산 시작/교체: 배타 잠금 → 진행 중인 실시간 누적 트랜잭션이 끝날 때까지 기다리고, 새 누적은 커밋까지 막는다
+    @Query(value = "SELECT id FROM analytics_rebuild_state WHERE id = 1 FOR UPDATE", nativeQuery = true)
+    Integer lockRebuildStateExclusive();
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = STATE_SPACES))
+    @Query(value = "UPDATE analytics_rebuild_state SET cutoff = :cutoff WHERE id = 1", nativeQuery = true)
+    int setRebuildCutoff(@Param("cutoff") LocalDateTime cutoff);
+
+    // 재계산 전 그림자 테이블 비우기 (큰 트랜잭션을 피해 나눠서, 상태가 비어 있어 아무도 쓰지 않을 때)
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = REBUILD_SPACES))
+    @Query(value = "DELETE FROM submission_analytics_rollups_rebuild LIMIT :limit", nativeQuery = true)
+    int deleteRebuildChunk(@Param("limit") int limit);
+
+    // 교체 (배타 잠금을 잡은 트랜잭션 안에서 clearRollups → copyRebuiltRollups)
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = SPACES))
+    @Query(value = "DELETE FROM submission_analytics_rollups", nativeQuery = true)
+    int clearRollups();
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = SPACES))
+    @Query(value = """
+      INSERT INTO submission_analytics_rollups (granularity, doc_type_id, bucket_start,
+          ocr_passed, ocr_needs_fix, ocr_rejected, ocr_failed,
+          ocr_latency_count, ocr_latency_sum_ms, ocr_latency_max_ms,
+          approved, rejected, decision_wait_count, decision_wait_sum_s, decision_wait_max_s)
+      SELECT granularity, doc_type_id, bucket_start,
+          ocr_passed, ocr_needs_fix, ocr_rejected, ocr_failed,
+          ocr_latency_count, ocr_latency_sum_ms, ocr_latency_max_ms,
+          approved, rejected, decision_wait_count, decision_wait_sum_s, decision_wait_max_s
+      FROM submission_analytics_rollups_rebuild
+    """, nativeQuery = true)
+    int copyRebuiltRollups();
+
+    // 운영 이력: 제출 ID 묶음 단위, 제출별 기록 순서대로
+    @Query("""
+      select new com.cnu.docserver.analytics.repository.AnalyticsHistoryRow(
+          s.submissionId, s.docType.docTypeId, h.admin.adminId, h.action, h.memo, h.changedAt)
+      from SubmissionHistory h
+      join h.submission s
+      where s.submissionId in :ids
+        and h.changedAt < :cutoff
+      order by s.submissionId asc, h.submissionHistoryId asc
+    """)
+    List<AnalyticsHistoryRow> findHistoryRows(@Param("ids") Collection<Integer> submissionIds,
+                                              @Param("cutoff") LocalDateTime cutoff);
+
+    // 보관 제출 ID keyset 페이지
+    @Query("select s.submissionId from ArchivedSubmission s where s.submissionId > :afterId order by s.submissionId asc")
+    List<Integer> findArchivedIdPage(@Param("afterId") Integer afterId, Pageable pageable);
+
+    // 보관 이력 (운영 이력과 같은 형태)
+    @Query("""
+      select new com.cnu.docserver.analytics.repository.AnalyticsHistoryRow(
+          s.submissionId, s.docTypeId, h.adminId, h.action, h.memo, h.changedAt)
+      from ArchivedSubmissionHistory h
+      join ArchivedSubmission s on s.submissionId = h.submissionId
+      where s.submissionId in :ids
+        and h.changedAt < :cutoff
+      order by s.submissionId asc, h.submissionHistoryId asc
+    """)
+    List<AnalyticsHistoryRow> findArchivedHistoryRows(@Param("ids") Collection<Integer> submissionIds,
+                                                      @Param("cutoff") LocalDateTime cutoff);
+}
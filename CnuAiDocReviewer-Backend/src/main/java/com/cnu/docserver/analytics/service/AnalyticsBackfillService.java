@@ -0,0 +1,199 @@
+package com.cnu.docserver.analytics.service;
+
+import com.cnu.docserver.analytics.enums.RollupGranularity;
+import com.cnu.docserver.analytics.repository.AnalyticsHistoryRow;
+import com.cnu.docserver.analytics.repository.SubmissionAnalyticsRollupRepository;
+import com.cnu.docserver.common.Workload;
+import com.cnu.docserver.submission.enums.HistoryAction;
+import com.cnu.docserver.submission.repository.SubmissionRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+/**
+ * 통계 롤업을 이력(submission_histories + 보관 이력)에서 다시 계산.
+ *  - 그림자 테이블(submission_analytics_rollups_rebuild)을 비운 뒤 cutoff 를 정하고(상태 행 배타 잠금),
+ *    cutoff 이전 이력만 그림자 테이블에 재생. cutoff 이후 변경은 실시간 누적이 그림자 테이블에도 쓴다
+ *  - 끝나면 배타 잠금 안에서 본 테이블을 그림자 테이블 내용으로 교체 → 조회는 재계산 내내 이전 값, 교체는 한 번에
+ *  - 제출 ID keyset 페이지 단위로 읽고 페이지마다 한 트랜잭션에서 누적 → 메모리는 페이지 크기에 비례
+ *  - 자동 검토 결과는 이력 메모로 구분, OCR 지연은 OCR_DETAIL 기록이 있을 때만 복원된다
+ *  - 중간에 실패하면 상태를 비워 실시간 누적이 그림자 테이블에 쓰지 않게 한다 (본 테이블은 그대로)
+ */
+@Service
+@Slf4j
+public class AnalyticsBackfillService {
+
+    private static final int DELETE_CHUNK = 5000;
+
+    // ReviewTransactionService / SubmissionReviewOrchestrator 가 남기는 자동 검토 메모
+    private static final String BOT_PREFIX = "자동 검토";
+    private static final String BOT_PASS_PREFIX = "자동 검토 통과";
+    private static final String OCR_DETAIL_PREFIX = "OCR_DETAIL ";
+    private static final List<String> BOT_FAILURE_MARKERS =
+            List.of("파일 읽기 오류", "OCR 호출 오류", "시스템 오류", "OCR 응답 이상");
+
+    private final SubmissionRepository submissionRepository;
+    private final SubmissionAnalyticsRollupRepository rollupRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final int pageSize;
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    public AnalyticsBackfillService(SubmissionRepository submissionRepository,
+                                    SubmissionAnalyticsRollupRepository rollupRepository,
+                                    TransactionTemplate transactionTemplate,
+                                    ObjectMapper objectMapper,
+                                    @Value("${analytics.backfill.page-size:500}") int pageSize) {
+        this.submissionRepository = submissionRepository;
+        this.rollupRepository = rollupRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.objectMapper = objectMapper;
+        this.pageSize = pageSize;
+    }
+
+    /** 통계 전체 재계산. 반환값은 처리한 제출 수 (운영 + 보관) */
+    public int rebuild() {
+        if (!running.compareAndSet(false, true)) {
+            throw new IllegalStateException("이미 통계 재계산이 진행 중입니다.");
+        }
+        try {
+            return Workload.BACKGROUND.call(this::rebuildAll); // 전체 이력 재생 → 배치 풀
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private int rebuildAll() {
+        setCutoff(null); // 이전 재계산이 중간에 죽었으면 그림자 테이블 쓰기를 먼저 멈춘다
+        int deleted;
+        do {
+            deleted = transactionTemplate.execute(tx -> rollupRepository.deleteRebuildChunk(DELETE_CHUNK));
+        } while (deleted > 0);
+        // 잠금을 잡은 뒤의 시각: 이전에 커밋된 변경은 cutoff 이전 이력, 이후 변경은 실시간 누적이 그림자 테이블에 쓴다
+        LocalDateTime cutoff = transactionTemplate.execute(tx -> {
+            rollupRepository.lockRebuildStateExclusive();
+            LocalDateTime now = LocalDateTime.now();
+            rollupRepository.setRebuildCutoff(now);
+            return now;
+        });
+        try {
+            int live = replay(afterId -> submissionRepository.findIdPage(afterId, PageRequest.of(0, pageSize)),
+                    ids -> rollupRepository.findHistoryRows(ids, cutoff));
+            int archived = replay(afterId -> rollupRepository.findArchivedIdPage(afterId, PageRequest.of(0, pageSize)),
+                    ids -> rollupRepository.findArchivedHistoryRows(ids, cutoff));
+            int rows = transactionTemplate.execute(tx -> {
+                rollupRepository.lockRebuildStateExclusive();
+                rollupRepository.clearRollups();
+                int copied = rollupRepository.copyRebuiltRollups();
+                rollupRepository.setRebuildCutoff(null);
+                return copied;
+            });
+            log.info("Analytics rollups rebuilt: {} live + {} archived submissions ({} rows)", live, archived, rows);
+            return live + archived;
+        } catch (RuntimeException e) {
+            setCutoff(null);
+            throw e;
+        }
+    }
+
+    private void setCutoff(LocalDateTime cutoff) {
+        transactionTemplate.executeWithoutResult(tx -> {
+            rollupRepository.lockRebuildStateExclusive();
+            rollupRepository.setRebuildCutoff(cutoff);
+        });
+    }
+
+    private int replay(Function<Integer, List<Integer>> idPage,
+                       Function<List<Integer>, List<AnalyticsHistoryRow>> historyRows) {
+        int total = 0;
+        int afterId = 0;
+        List<Integer> ids;
+        while (!(ids = idPage.apply(afterId)).isEmpty()) {
+            List<Integer> page = ids;
+            transactionTemplate.executeWithoutResult(tx -> write(aggregate(historyRows.apply(page))));
+            total += ids.size();
+            afterId = ids.get(ids.size() - 1);
+        }
+        return total;
+    }
+
+    // 문서 유형 → 시간 버킷 → 누적값 (행은 제출별 기록 순서)
+    private Map<Integer, TreeMap<LocalDateTime, RollupDelta>> aggregate(List<AnalyticsHistoryRow> rows) {
+        Map<Integer, TreeMap<LocalDateTime, RollupDelta>> byDocType = new TreeMap<>();
+        Integer currentSubmission = null;
+        LocalDateTime submittedAt = null;
+        for (AnalyticsHistoryRow h : rows) {
+            if (!h.submissionId().equals(currentSubmission)) {
+                currentSubmission = h.submissionId();
+                submittedAt = null;
+            }
+            String memo = h.memo() == null ? "" : h.memo();
+            RollupDelta delta = null;
+            if (h.adminId() != null) {
+                if (h.action() == HistoryAction.APPROVED || h.action() == HistoryAction.REJECTED) {
+                    Long wait = submittedAt == null ? null : Duration.between(submittedAt, h.changedAt()).toSeconds();
+                    delta = RollupDelta.decision(h.action() == HistoryAction.APPROVED, wait);
+                }
+            } else if (memo.startsWith(OCR_DETAIL_PREFIX)) {
+                Long latency = latencyOf(memo.substring(OCR_DETAIL_PREFIX.length()));
+                if (latency != null) delta = RollupDelta.latency(latency);
+            } else if (memo.startsWith(BOT_PREFIX)) {
+                delta = RollupDelta.ocr(botOutcome(h.action(), memo), null);
+            } else if (h.action() == HistoryAction.SUBMITTED) {
+                submittedAt = h.changedAt(); // 학생 제출/재제출 → 이후 관리자 처리까지의 대기 기준
+            }
+            if (delta != null) {
+                byDocType.computeIfAbsent(h.docTypeId(), k -> new TreeMap<>())
+                        .merge(RollupGranularity.HOUR.bucketOf(h.changedAt()), delta, RollupDelta::merge);
+            }
+        }
+        return byDocType;
+    }
+
+    // 실시간 누적과 같은 잠금 순서: 문서 유형별로 그날의 시간 버킷들 → 일 버킷
+    private void write(Map<Integer, TreeMap<LocalDateTime, RollupDelta>> byDocType) {
+        byDocType.forEach((docTypeId, hours) -> {
+            LocalDateTime day = null;
+            RollupDelta dayTotal = RollupDelta.ZERO;
+            for (Map.Entry<LocalDateTime, RollupDelta> e : hours.entrySet()) {
+                LocalDateTime hourDay = RollupGranularity.DAY.bucketOf(e.getKey());
+                if (day != null && !day.equals(hourDay)) {
+                    rollupRepository.addRebuildBucket(RollupGranularity.DAY.name(), docTypeId, day, dayTotal);
+                    dayTotal = RollupDelta.ZERO;
+                }
+                day = hourDay;
+                rollupRepository.addRebuildBucket(RollupGranularity.HOUR.name(), docTypeId, e.getKey(), e.getValue());
+                dayTotal = dayTotal.merge(e.getValue());
+            }
+            if (day != null) rollupRepository.addRebuildBucket(RollupGranularity.DAY.name(), docTypeId, day, dayTotal);
+        });
+    }
+
+    private static RollupDelta.OcrOutcome botOutcome(HistoryAction action, String memo) {
+        if (memo.startsWith(BOT_PASS_PREFIX)) return RollupDelta.OcrOutcome.PASS;
+        if (action == HistoryAction.REJECTED) return RollupDelta.OcrOutcome.REJECT;
+        for (String marker : BOT_FAILURE_MARKERS) {
+            if (memo.contains(marker)) return RollupDelta.OcrOutcome.FAILED;
+        }
+        return RollupDelta.OcrOutcome.NEEDS_FIX;
+    }
+
+    private Long latencyOf(String json) {
+        try {
+            JsonNode latency = objectMapper.readTree(json).get("latency");
+            return latency != null && latency.canConvertToLong() ? latency.asLong() : null;
+        } catch (Exception e) {
+            return null; // 메모 길이 제한으로 잘린 기록 등
+        }
+    }
+}
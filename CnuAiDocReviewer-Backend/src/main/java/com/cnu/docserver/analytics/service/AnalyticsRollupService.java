@@ -0,0 +1,142 @@
+package com.cnu.docserver.analytics.service;
+
+import com.cnu.docserver.analytics.dto.AnalyticsBucketDTO;
+import com.cnu.docserver.analytics.dto.DepartmentAnalyticsDTO;
+import com.cnu.docserver.analytics.dto.DocTypeAnalyticsDTO;
+import com.cnu.docserver.analytics.entity.SubmissionAnalyticsRollup;
+import com.cnu.docserver.analytics.enums.RollupGranularity;
+import com.cnu.docserver.analytics.repository.AnalyticsRollupRow;
+import com.cnu.docserver.analytics.repository.SubmissionAnalyticsRollupRepository;
+import com.cnu.docserver.department.repository.DepartmentRepository;
+import com.cnu.docserver.submission.entity.Submission;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * 부서/문서 유형별 자동 검토·관리자 처리 통계.
+ *  - 자동 검토 결과 반영, 승인/반려 트랜잭션 안에서 시간/일 버킷 행에 누적 → 커밋/롤백이 상태 변경과 함께 묶임
+ *  - 조회는 (문서 유형 × 버킷) 행만 읽으므로 제출/이력 건수와 무관한 비용
+ *  - 누락분/도입 이전 분은 AnalyticsBackfillService 로 이력에서 다시 계산
+ *  - 재계산 중(analytics_rebuild_state.cutoff)에는 그림자 테이블에도 누적. 상태 행 공유 잠금을 이력 INSERT 보다 먼저 잡아야
+ *    재계산 시작 전 커밋된 변경(이력 재생 몫)과 이후 변경(실시간 몫)이 겹치거나 빠지지 않는다 → beginLiveUpdate()
+ */
+@Service
+@RequiredArgsConstructor
+public class AnalyticsRollupService {
+
+    private final SubmissionAnalyticsRollupRepository rollupRepository;
+    private final DepartmentRepository departmentRepository;
+
+    /** 통계에 반영할 상태 변경의 이력을 쓰기 전에 호출 (같은 트랜잭션). 재계산 시작과의 순서를 정한다 */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void beginLiveUpdate() {
+        rollupRepository.lockRebuildCutoff();
+    }
+
+    /** 자동 검토 결과. latencyMs 는 OCR 호출이 없었으면(파일 오류 등) null. 호출 전 beginLiveUpdate() */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void ocrCompleted(Integer docTypeId, RollupDelta.OcrOutcome outcome, Long latencyMs) {
+        boolean rebuilding = rollupRepository.lockRebuildCutoff().isPresent();
+        record(docTypeId, LocalDateTime.now(), RollupDelta.ocr(outcome, latencyMs), rebuilding);
+    }
+
+    /**
+     * 관리자 승인/반려. 일괄 처리는 문서 유형별로 합쳐 유형마다 한 번만 쓴다 (유형 ID 순서 → 교착 방지).
+     * 이력 INSERT 전에 호출 (상태 행 잠금이 먼저)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void decided(Collection<Submission> decided, boolean approved) {
+        boolean rebuilding = rollupRepository.lockRebuildCutoff().isPresent();
+        LocalDateTime now = LocalDateTime.now();
+        Map<Integer, RollupDelta> byDocType = new TreeMap<>();
+        for (Submission s : decided) {
+            Long waitSeconds = s.getSubmittedAt() == null ? null
+                    : Duration.between(s.getSubmittedAt(), now).toSeconds();
+            byDocType.merge(s.getDocType().getDocTypeId(), RollupDelta.decision(approved, waitSeconds), RollupDelta::merge);
+        }
+        byDocType.forEach((docTypeId, delta) -> record(docTypeId, now, delta, rebuilding));
+    }
+
+    private void record(Integer docTypeId, LocalDateTime at, RollupDelta delta, boolean rebuilding) {
+        LocalDateTime hour = RollupGranularity.HOUR.bucketOf(at);
+        LocalDateTime day = RollupGranularity.DAY.bucketOf(at);
+        rollupRepository.add(docTypeId, hour, day, delta);
+        if (rebuilding) {
+            rollupRepository.addRebuildBucket(RollupGranularity.HOUR.name(), docTypeId, hour, delta);
+            rollupRepository.addRebuildBucket(RollupGranularity.DAY.name(), docTypeId, day, delta);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public DepartmentAnalyticsDTO departmentAnalytics(Integer departmentId, RollupGranularity granularity,
+                                                      LocalDate from, LocalDate to) {
+        if (!departmentRepository.existsById(departmentId)) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "부서를 찾을 수 없습니다.");
+        }
+        if (from.isAfter(to)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "조회 기간이 올바르지 않습니다.");
+        }
+        LocalDateTime start = from.atStartOfDay();
+        LocalDateTime end = to.plusDays(1).atStartOfDay(); // to 당일 포함
+        if (Duration.between(start, end).compareTo(granularity.maxRange()) > 0) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    granularity + " 단위는 최대 " + granularity.maxRange().toDays() + "일까지 조회할 수 있습니다.");
+        }
+
+        Map<Integer, List<AnalyticsRollupRow>> byDocType = new LinkedHashMap<>();
+        for (AnalyticsRollupRow row : rollupRepository.findDepartmentRows(departmentId, granularity, start, end)) {
+            byDocType.computeIfAbsent(row.docTypeId(), k -> new ArrayList<>()).add(row);
+        }
+
+        RollupDelta departmentTotal = RollupDelta.ZERO;
+        List<DocTypeAnalyticsDTO> docTypes = new ArrayList<>();
+        for (List<AnalyticsRollupRow> rows : byDocType.values()) {
+            RollupDelta total = RollupDelta.ZERO;
+            List<AnalyticsBucketDTO> buckets = new ArrayList<>(rows.size());
+            for (AnalyticsRollupRow row : rows) {
+                RollupDelta d = toDelta(row.rollup());
+                total = total.merge(d);
+                buckets.add(toBucket(row.rollup().getId().getBucketStart().toString(), d));
+            }
+            departmentTotal = departmentTotal.merge(total);
+            docTypes.add(new DocTypeAnalyticsDTO(rows.get(0).docTypeId(), rows.get(0).title(), toBucket(null, total), buckets));
+        }
+        return new DepartmentAnalyticsDTO(departmentId, granularity.name(), from.toString(), to.toString(),
+                toBucket(null, departmentTotal), docTypes);
+    }
+
+    private static RollupDelta toDelta(SubmissionAnalyticsRollup r) {
+        return new RollupDelta(r.getOcrPassed(), r.getOcrNeedsFix(), r.getOcrRejected(), r.getOcrFailed(),
+                r.getOcrLatencyCount(), r.getOcrLatencySumMs(), r.getOcrLatencyMaxMs(),
+                r.getApproved(), r.getRejected(),
+                r.getDecisionWaitCount(), r.getDecisionWaitSumSeconds(), r.getDecisionWaitMaxSeconds());
+    }
+
+    private static AnalyticsBucketDTO toBucket(String bucketStart, RollupDelta d) {
+        long reviewed = d.ocrPassed() + d.ocrNeedsFix() + d.ocrRejected() + d.ocrFailed();
+        return new AnalyticsBucketDTO(
+                bucketStart,
+                reviewed,
+                d.ocrPassed(),
+                d.ocrNeedsFix(),
+                d.ocrRejected(),
+                d.ocrFailed(),
+                reviewed == 0 ? null : (double) d.ocrPassed() / reviewed,
+                d.latencyCount() == 0 ? null : d.latencySumMs() / d.latencyCount(),
+                d.latencyCount() == 0 ? null : d.latencyMaxMs(),
+                d.approved() + d.rejected(),
+                d.approved(),
+                d.rejected(),
+                d.waitCount() == 0 ? null : d.waitSumSeconds() / d.waitCount(),
+                d.waitCount() == 0 ? null : d.waitMaxSeconds());
+    }
+}
@@ -0,0 +1,61 @@
+package com.cnu.docserver.analytics.service;
+
+/**
+ * 통계 버킷 한 행에 더할 값. 합계는 더하고 최댓값은 큰 쪽을 남긴다 (재계산 시 같은 버킷끼리 merge).
+ */
+public record RollupDelta(
+        long ocrPassed,
+        long ocrNeedsFix,
+        long ocrRejected,
+        long ocrFailed,
+        long latencyCount,
+        long latencySumMs,
+        long latencyMaxMs,
+        long approved,
+        long rejected,
+        long waitCount,
+        long waitSumSeconds,
+        long waitMaxSeconds
+) {
+    public static final RollupDelta ZERO = new RollupDelta(0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0);
+
+    public static RollupDelta ocr(OcrOutcome outcome, Long latencyMs) {
+        RollupDelta d = new RollupDelta(
+                outcome == OcrOutcome.PASS ? 1 : 0,
+                outcome == OcrOutcome.NEEDS_FIX ? 1 : 0,
+                outcome == OcrOutcome.REJECT ? 1 : 0,
+                outcome == OcrOutcome.FAILED ? 1 : 0,
+                0, 0, 0, 0, 0, 0, 0, 0);
+        return latencyMs == null ? d : d.merge(latency(latencyMs));
+    }
+
+    public static RollupDelta latency(long latencyMs) {
+        return new RollupDelta(0, 0, 0, 0, 1, latencyMs, latencyMs, 0, 0, 0, 0, 0);
+    }
+
+    /** 관리자 처리. waitSeconds 는 제출 시각을 모르면 null (건수만 셈) */
+    public static RollupDelta decision(boolean approved, Long waitSeconds) {
+        long wait = waitSeconds == null ? 0 : Math.max(0, waitSeconds);
+        return new RollupDelta(0, 0, 0, 0, 0, 0, 0,
+                approved ? 1 : 0, approved ? 0 : 1,
+                waitSeconds == null ? 0 : 1, wait, wait);
+    }
+
+    public RollupDelta merge(RollupDelta o) {
+        return new RollupDelta(
+                ocrPassed + o.ocrPassed,
+                ocrNeedsFix + o.ocrNeedsFix,
+                ocrRejected + o.ocrRejected,
+                ocrFailed + o.ocrFailed,
+                latencyCount + o.latencyCount,
+                latencySumMs + o.latencySumMs,
+                Math.max(latencyMaxMs, o.latencyMaxMs),
+                approved + o.approved,
+                rejected + o.rejected,
+                waitCount + o.waitCount,
+                waitSumSeconds + o.waitSumSeconds,
+                Math.max(waitMaxSeconds, o.waitMaxSeconds));
+    }
+
+    public enum OcrOutcome { PASS, NEEDS_FIX, REJECT, FAILED }
+}
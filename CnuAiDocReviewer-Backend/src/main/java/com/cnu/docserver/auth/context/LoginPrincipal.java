@@ -0,0 +1,56 @@
+package com.cnu.docserver.auth.context;
+
+import com.cnu.docserver.user.enums.Role;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * 세션에 저장되는 로그인 사용자 (불변, 엔티티 아님).
+ * 로그인 시 한 번 만들어 두고 요청 처리 중에는 DB 조회 없이 읽는다.
+ * 역할/소속이 바뀌면 PrincipalService.markStale() 로 members.principal_version 이 올라가고,
+ * 버전이 다르면 다음 요청에서 PrincipalRefreshFilter 가 다시 만든다.
+ *
+ * @param studentId  학생이 아니면 null
+ * @param adminId    관리자가 아니면 null
+ * @param department 학생/관리자 소속 (없으면 null)
+ * @param version    만들 때의 members.principal_version
+ */
+public record LoginPrincipal(
+        String memberId,
+        String name,
+        Role role,
+        String studentId,
+        String adminId,
+        String department,
+        String academicStatus,
+        int version
+) implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 2L;
+
+    public String authority() {
+        return "ROLE_" + role.name();
+    }
+
+    /** SecurityContext 에 심는 인증 객체 (권한은 역할 하나) */
+    public UsernamePasswordAuthenticationToken authentication() {
+        return new UsernamePasswordAuthenticationToken(this, null, List.of(new SimpleGrantedAuthority(authority())));
+    }
+
+    /** 현재 요청의 로그인 사용자. 로그인하지 않았으면 401 */
+    public static LoginPrincipal require() {
+        var auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth == null || !(auth.getPrincipal() instanceof LoginPrincipal p)) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "로그인이 필요합니다.");
+        }
+        return p;
+    }
+}
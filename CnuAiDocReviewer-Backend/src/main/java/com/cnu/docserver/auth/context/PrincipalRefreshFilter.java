@@ -0,0 +1,50 @@
+package com.cnu.docserver.auth.context;
+
+import com.cnu.docserver.auth.service.PrincipalService;
+import com.cnu.docserver.common.ReadWriteRoutingDataSource;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpSession;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+import static org.springframework.security.web.context.HttpSessionSecurityContextRepository.SPRING_SECURITY_CONTEXT_KEY;
+
+/**
+ * principal_version 이 바뀐(markStale) 회원의 세션 principal 을 요청 시작 시 다시 만든다
+ * (버전 조회는 PrincipalService 가 짧게 캐시 → 평소에는 대부분 메모리 비교).
+ * 회원이 삭제됐거나 학생 레코드가 사라졌으면 인증을 지워 로그아웃 상태로 처리.
+ * SecurityConfig 에서 SecurityContextHolderFilter 뒤에 등록 (빈으로 등록하지 않음: 서블릿 필터 중복 방지)
+ */
+@RequiredArgsConstructor
+public class PrincipalRefreshFilter extends OncePerRequestFilter {
+
+    private final PrincipalService principalService;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        SecurityContext context = SecurityContextHolder.getContext();
+        if (context.getAuthentication() != null
+                && context.getAuthentication().getPrincipal() instanceof LoginPrincipal current
+                && principalService.isStale(current)) {
+            SecurityContext refreshed = SecurityContextHolder.createEmptyContext();
+            ReadWriteRoutingDataSource.primary(() -> principalService.rebuild(current.memberId()))
+                    .ifPresent(p -> refreshed.setAuthentication(p.authentication()));
+            SecurityContextHolder.setContext(refreshed);
+
+            HttpSession session = request.getSession(false);
+            if (session != null) {
+                if (refreshed.getAuthentication() == null) session.invalidate();
+                else session.setAttribute(SPRING_SECURITY_CONTEXT_KEY, refreshed);
+            }
+        }
+        chain.doFilter(request, response);
+    }
+}
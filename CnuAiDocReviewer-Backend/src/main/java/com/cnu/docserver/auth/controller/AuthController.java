@@ -1,24 +1,20 @@
 package com.cnu.docserver.auth.controller;
 
+import com.cnu.docserver.auth.context.LoginPrincipal;
 import com.cnu.docserver.auth.dto.LoginRequestDTO;
 import com.cnu.docserver.auth.dto.LoginResponseDTO;
 import com.cnu.docserver.auth.service.AuthService;
+import com.cnu.docserver.auth.service.PrincipalService;
 import com.cnu.docserver.user.entity.Member;
-import com.cnu.docserver.user.repository.StudentRepository;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.ArrayList;
-import java.util.List;
 
 import static org.springframework.security.web.context.HttpSessionSecurityContextRepository.SPRING_SECURITY_CONTEXT_KEY;
 
@@ -29,7 +25,7 @@ import static org.springframework.security.web.context.HttpSessionSecurityContex
 public class AuthController {
 
     private final AuthService authService;
-    private final StudentRepository studentRepository;
+    private final PrincipalService principalService;
 
     /**
      * 로그인 처리: ID, PW 기반 로그인 후 세션에 사용자 저장
@@ -47,30 +43,21 @@ public class AuthController {
         // 2) 로그인 사용자 로드
         Member loginMember = authService.findMemberById(response.getMemberId());
 
-        // 3) 권한 구성 (프로젝트에 맞게 로직 결정)
-        List<GrantedAuthority> authorities = new ArrayList<>();
-        // 기본적으로 학생이면 ROLE_STUDENT 부여
-        String roleName = "ROLE_" + loginMember.getRole().name(); // e.g. ROLE_STUDENT, ROLE_ADMIN
-        authorities.add(new SimpleGrantedAuthority(roleName));
-
-        //  학생인 경우 실제 Student 레코드가 없으면 로그인 실패로 처리 (데이터 무결성)
-        if ("ROLE_STUDENT".equals(roleName) && studentRepository.findByMember(loginMember).isEmpty()) {
+        // 3) 세션용 principal 을 한 번만 구성 (학번/관리자 ID/소속 포함 → 이후 요청은 조회 없이 사용)
+        //    학생인데 실제 Student 레코드가 없으면 로그인 실패로 처리 (데이터 무결성)
+        LoginPrincipal principal = principalService.build(loginMember).orElse(null);
+        if (principal == null) {
             return ResponseEntity.status(401).build();
         }
 
-        // 4) SecurityContext 에 Authentication 심기
-        UsernamePasswordAuthenticationToken auth =
-                new UsernamePasswordAuthenticationToken(loginMember, null, authorities);
+        // 4) SecurityContext 에 Authentication 심기 (엔티티가 아닌 불변 principal)
         SecurityContext context = SecurityContextHolder.createEmptyContext();
-        context.setAuthentication(auth);
+        context.setAuthentication(principal.authentication());
         SecurityContextHolder.setContext(context);
 
         // 5) 세션에 SecurityContext 저장 (중요)
         session.setAttribute(SPRING_SECURITY_CONTEXT_KEY, context);
 
-        // 6) 세션에 Member도 저장 — 기존 코드 호환용
-        session.setAttribute("loginUser", loginMember);
-
         return ResponseEntity.ok(response);
     }
 
@@ -79,13 +66,12 @@ public class AuthController {
      */
     @Operation(summary = "내 정보 조회", description = "현재 로그인된 사용자 정보를 반환합니다.")
     @GetMapping("/me")
-    public ResponseEntity<LoginResponseDTO> getMyInfo(HttpSession session) {
-        Member loginMember = (Member) session.getAttribute("loginUser");
-
-        if (loginMember == null) {
+    public ResponseEntity<LoginResponseDTO> getMyInfo() {
+        var auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth == null || !(auth.getPrincipal() instanceof LoginPrincipal principal)) {
             return ResponseEntity.status(401).build(); // UNAUTHORIZED
         }
 
-        return ResponseEntity.ok(LoginResponseDTO.from(loginMember));
+        return ResponseEntity.ok(LoginResponseDTO.from(principal));
     }
 }
@@ -0,0 +1,31 @@
+package com.cnu.docserver.auth.controller;
+
+import com.cnu.docserver.auth.service.PrincipalService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/admin/members")
+@Tag(name = "Member", description = "회원 세션 관리 API")
+public class MemberPrincipalController {
+
+    private final PrincipalService principalService;
+
+    /**
+     * 학사 시스템 연동 등 이 서버 밖에서 역할/소속을 바꾼 뒤 호출 → 해당 회원의 모든 세션이 다음 요청에서 새 정보로 갱신
+     */
+    @PostMapping("/{memberId}/principal/refresh")
+    @Operation(summary = "세션 사용자 정보 갱신", description = "회원의 역할/소속 변경을 로그인 중인 모든 세션에 반영합니다.")
+    public ResponseEntity<Void> refresh(@PathVariable String memberId) {
+        if (!principalService.markStale(memberId)) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "회원을 찾을 수 없습니다.");
+        }
+        return ResponseEntity.noContent().build();
+    }
+}
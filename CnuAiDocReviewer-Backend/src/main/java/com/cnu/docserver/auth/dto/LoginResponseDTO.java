@@ -1,5 +1,6 @@
 package com.cnu.docserver.auth.dto;
 
+import com.cnu.docserver.auth.context.LoginPrincipal;
 import com.cnu.docserver.user.entity.Member;
 import lombok.*;;
 @Getter
@@ -28,4 +29,15 @@ public class LoginResponseDTO {
                 .academicStatus(academicStatus)
                 .build();
     }
+
+    // 세션 principal 기준 (조회 없음)
+    public static LoginResponseDTO from(LoginPrincipal principal) {
+        return LoginResponseDTO.builder()
+                .memberId(principal.memberId())
+                .name(principal.name())
+                .role(principal.role().name())
+                .department(principal.studentId() != null ? principal.department() : null)
+                .academicStatus(principal.academicStatus())
+                .build();
+    }
 }
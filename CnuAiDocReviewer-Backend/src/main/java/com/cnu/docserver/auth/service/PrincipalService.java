@@ -0,0 +1,101 @@
+package com.cnu.docserver.auth.service;
+
+import com.cnu.docserver.auth.context.LoginPrincipal;
+import com.cnu.docserver.common.ReadWriteRoutingDataSource;
+import com.cnu.docserver.user.entity.Admin;
+import com.cnu.docserver.user.entity.Member;
+import com.cnu.docserver.user.entity.Student;
+import com.cnu.docserver.user.enums.Role;
+import com.cnu.docserver.user.repository.AdminRepository;
+import com.cnu.docserver.user.repository.MemberRepository;
+import com.cnu.docserver.user.repository.StudentRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * LoginPrincipal 생성/갱신.
+ *  - build(): 로그인 시 1회 (회원 + 학생/관리자 조회, 그 시점의 members.principal_version 을 함께 저장)
+ *    학생/관리자는 2차/쿼리 캐시를 거치지 않고 읽는다 → 서버 밖에서 바꾼 소속도 rebuild 에 바로 반영
+ *  - markStale(): 역할/소속을 바꾼 코드(또는 관리자 API)가 호출 → principal_version +1
+ *  - isStale(): 세션의 버전과 DB 버전 비교. DB 값은 versionTtl 동안 인스턴스별로 캐시
+ *    (다른 인스턴스의 변경이 반영되는 최대 지연 = versionTtl, 같은 인스턴스는 즉시)
+ */
+@Service
+public class PrincipalService {
+
+    private final MemberRepository memberRepository;
+    private final StudentRepository studentRepository;
+    private final AdminRepository adminRepository;
+    private final Cache<String, Integer> versions;
+
+    public PrincipalService(MemberRepository memberRepository,
+                            StudentRepository studentRepository,
+                            AdminRepository adminRepository,
+                            @Value("${session.principal-version-ttl-seconds:5}") long versionTtlSeconds) {
+        this.memberRepository = memberRepository;
+        this.studentRepository = studentRepository;
+        this.adminRepository = adminRepository;
+        this.versions = Caffeine.newBuilder()
+                .maximumSize(10_000)
+                .expireAfterWrite(Duration.ofSeconds(versionTtlSeconds))
+                .build();
+    }
+
+    /** 학생 역할인데 학생 레코드가 없으면 empty (데이터 무결성 → 로그인 거부) */
+    @Transactional(readOnly = true)
+    public Optional<LoginPrincipal> build(Member member) {
+        // 버전을 먼저 읽는다: 이후에 바뀐 역할/소속은 버전 차이로 다음 요청에서 잡힌다
+        Integer version = memberRepository.findPrincipalVersion(member.getMemberId()).orElse(null);
+        if (version == null) return Optional.empty();
+
+        String studentId = null, adminId = null, department = null, academicStatus = null;
+        if (member.getRole() == Role.STUDENT) {
+            Student student = studentRepository.findForPrincipal(member).orElse(null);
+            if (student == null) return Optional.empty();
+            studentId = student.getStudentId();
+            department = student.getDepartment();
+            academicStatus = student.getAcademicStatus() == null ? null : student.getAcademicStatus().name();
+        } else if (member.getRole() == Role.ADMIN) {
+            Admin admin = adminRepository.findForPrincipal(member).orElse(null);
+            if (admin != null) {
+                adminId = admin.getAdminId();
+                department = admin.getDepartment();
+            }
+        }
+        return Optional.of(new LoginPrincipal(member.getMemberId(), member.getName(), member.getRole(),
+                studentId, adminId, department, academicStatus, version));
+    }
+
+    /**
+     * 회원을 다시 읽어 새 principal 을 만든다. 회원이 없어졌거나 더 이상 유효하지 않으면 empty (→ 로그아웃).
+     * 호출 측에서 ReadWriteRoutingDataSource.primary 로 감싼다 (레플리카 지연으로 이전 값을 다시 읽지 않게).
+     */
+    @Transactional(readOnly = true)
+    public Optional<LoginPrincipal> rebuild(String memberId) {
+        return memberRepository.findForPrincipal(memberId).flatMap(this::build);
+    }
+
+    /**
+     * 역할/소속 변경 후 호출: 이 회원의 기존 세션 principal 을 모두 무효로 표시.
+     * 변경과 같은 트랜잭션에서 호출하면 함께 커밋/롤백된다. 회원이 없으면 false
+     */
+    @Transactional
+    public boolean markStale(String memberId) {
+        boolean updated = memberRepository.bumpPrincipalVersion(memberId) > 0;
+        versions.invalidate(memberId);
+        return updated;
+    }
+
+    /** 회원이 삭제됐으면 (버전 없음) 항상 stale → rebuild 가 empty 를 돌려 로그아웃 */
+    public boolean isStale(LoginPrincipal principal) {
+        Integer current = versions.get(principal.memberId(), id -> ReadWriteRoutingDataSource.primary(
+                () -> memberRepository.findPrincipalVersion(id).orElse(null)));
+        return current == null || current != principal.version();
+    }
+}
@@ -0,0 +1,264 @@
+package com.cnu.docserver.auth.session;
+
+import com.cnu.docserver.auth.context.LoginPrincipal;
+import com.cnu.docserver.user.enums.Role;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.serializer.support.DeserializingConverter;
+import org.springframework.core.serializer.support.SerializingConverter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextImpl;
+import org.springframework.session.MapSession;
+import org.springframework.session.SessionRepository;
+
+import java.io.*;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.springframework.security.web.context.HttpSessionSecurityContextRepository.SPRING_SECURITY_CONTEXT_KEY;
+
+/**
+ * 여러 인스턴스가 공유하는 세션 저장소 (http_sessions, session.store=jdbc).
+ *  - 로그인 사용자는 SecurityContext 대신 LoginPrincipal 만 고정 형식으로 저장하고, 읽을 때 SecurityContext 를 다시 만든다
+ *  - 읽기는 짧은 TTL 의 로컬 캐시 → 같은 인스턴스로 이어지는 요청은 조회 없음
+ *    (다른 인스턴스의 로그아웃/변경은 최대 TTL 만큼 늦게 보임)
+ *  - 내용이 그대로면 쓰지 않고, 마지막 접근 시각은 touch-interval 이 지났을 때만 갱신
+ *  - 기존 세션은 UPDATE 만 → 다른 인스턴스에서 지운(로그아웃/만료) 세션을 되살리지 않음
+ */
+@Slf4j
+public class JdbcSessionRepository implements SessionRepository<MapSession> {
+
+    private static final byte PRINCIPAL_FORMAT = 2; // 2: issuedAt 대신 principal_version (이전 형식 세션은 다시 로그인)
+    private static final int CLEANUP_BATCH = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Duration defaultMaxInactive;
+    private final Duration touchInterval;
+    private final Cache<String, Stored> cache;
+    // 이 인스턴스에서 만들고 아직 INSERT 하지 않은 세션 ID
+    private final Cache<String, Boolean> created;
+    private final SerializingConverter serializer = new SerializingConverter();
+    private final DeserializingConverter deserializer = new DeserializingConverter();
+
+    // 마지막으로 저장소와 맞춘 상태 (변경 여부 판단용)
+    private record Stored(MapSession session, byte[] principal, byte[] attributes, Instant persistedAccess) {}
+
+    public JdbcSessionRepository(JdbcTemplate jdbcTemplate,
+                                 Duration defaultMaxInactive,
+                                 Duration cacheTtl,
+                                 Duration touchInterval,
+                                 MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.defaultMaxInactive = defaultMaxInactive;
+        this.touchInterval = touchInterval;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(50_000)
+                .expireAfterWrite(cacheTtl)
+                .recordStats()
+                .build();
+        this.created = Caffeine.newBuilder().expireAfterWrite(Duration.ofMinutes(5)).build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "session.store");
+    }
+
+    @Override
+    public MapSession createSession() {
+        MapSession session = new MapSession();
+        session.setMaxInactiveInterval(defaultMaxInactive);
+        created.put(session.getId(), Boolean.TRUE);
+        return session;
+    }
+
+    @Override
+    public void save(MapSession session) {
+        String id = session.getId();
+        String originalId = session.getOriginalId();
+        byte[] principal = encodePrincipal(principalOf(session));
+        byte[] attributes = encodeAttributes(session);
+
+        Stored known = id.equals(originalId) ? cache.getIfPresent(id) : null;
+        Instant persistedAccess = session.getLastAccessedTime();
+        if (known != null
+                && Arrays.equals(known.principal(), principal)
+                && Arrays.equals(known.attributes(), attributes)
+                && known.session().getMaxInactiveInterval().equals(session.getMaxInactiveInterval())) {
+            if (Duration.between(known.persistedAccess(), session.getLastAccessedTime()).compareTo(touchInterval) < 0) {
+                persistedAccess = known.persistedAccess(); // 변경 없음 → 쓰기 생략
+            } else if (touch(session) == 0) {
+                cache.invalidate(id); // 다른 인스턴스에서 지워짐 (로그아웃/만료)
+                return;
+            }
+        } else if (!write(session, originalId, principal, attributes)) {
+            cache.invalidate(originalId);
+            return;
+        }
+
+        if (!id.equals(originalId)) cache.invalidate(originalId);
+        cache.put(id, new Stored(new MapSession(session), principal, attributes, persistedAccess));
+    }
+
+    @Override
+    public MapSession findById(String id) {
+        Stored stored = cache.get(id, this::load);
+        if (stored == null) return null;
+        if (stored.session().isExpired()) {
+            deleteById(id);
+            return null;
+        }
+        return new MapSession(stored.session());
+    }
+
+    @Override
+    public void deleteById(String id) {
+        cache.invalidate(id);
+        created.invalidate(id);
+        jdbcTemplate.update("DELETE FROM http_sessions WHERE session_id = ?", id);
+    }
+
+    // 만료 세션 정리 (여러 인스턴스가 동시에 돌아도 무해)
+    @Scheduled(fixedDelayString = "${session.cleanup-interval-ms:300000}", initialDelay = 60_000L)
+    public void deleteExpired() {
+        long now = System.currentTimeMillis();
+        int total = 0, deleted;
+        do {
+            deleted = jdbcTemplate.update("DELETE FROM http_sessions WHERE expires_at < ? LIMIT " + CLEANUP_BATCH, now);
+            total += deleted;
+        } while (deleted == CLEANUP_BATCH);
+        if (total > 0) log.debug("Deleted {} expired sessions", total);
+    }
+
+    // --- 저장/조회 ---
+
+    private int touch(MapSession session) {
+        return jdbcTemplate.update("UPDATE http_sessions SET last_accessed_at = ?, expires_at = ? WHERE session_id = ?",
+                session.getLastAccessedTime().toEpochMilli(), expiresAt(session), session.getId());
+    }
+
+    private boolean write(MapSession session, String originalId, byte[] principal, byte[] attributes) {
+        // 세션 고정 방지 등으로 ID 가 바뀌었으면 같은 행의 키를 바꾼다
+        int updated = jdbcTemplate.update("""
+                UPDATE http_sessions
+                   SET session_id = ?, principal = ?, attributes = ?, last_accessed_at = ?,
+                       max_inactive_seconds = ?, expires_at = ?
+                 WHERE session_id = ?
+                """,
+                session.getId(), principal, attributes, session.getLastAccessedTime().toEpochMilli(),
+                (int) session.getMaxInactiveInterval().toSeconds(), expiresAt(session), originalId);
+        if (updated > 0) return true;
+        if (created.asMap().remove(originalId) == null) return false;
+        jdbcTemplate.update("""
+                INSERT INTO http_sessions
+                    (session_id, principal, attributes, created_at, last_accessed_at, max_inactive_seconds, expires_at)
+                VALUES (?, ?, ?, ?, ?, ?, ?)
+                """,
+                session.getId(), principal, attributes, session.getCreationTime().toEpochMilli(),
+                session.getLastAccessedTime().toEpochMilli(), (int) session.getMaxInactiveInterval().toSeconds(),
+                expiresAt(session));
+        return true;
+    }
+
+    private Stored load(String id) {
+        List<Stored> rows = jdbcTemplate.query("""
+                SELECT principal, attributes, created_at, last_accessed_at, max_inactive_seconds
+                  FROM http_sessions
+                 WHERE session_id = ? AND expires_at > ?
+                """, (rs, i) -> {
+            MapSession session = new MapSession(id);
+            session.setCreationTime(Instant.ofEpochMilli(rs.getLong("created_at")));
+            session.setLastAccessedTime(Instant.ofEpochMilli(rs.getLong("last_accessed_at")));
+            session.setMaxInactiveInterval(Duration.ofSeconds(rs.getInt("max_inactive_seconds")));
+
+            byte[] attributes = rs.getBytes("attributes");
+            if (attributes != null) decodeAttributes(attributes).forEach(session::setAttribute);
+            byte[] principal = rs.getBytes("principal");
+            LoginPrincipal p = decodePrincipal(principal);
+            if (p != null) session.setAttribute(SPRING_SECURITY_CONTEXT_KEY, new SecurityContextImpl(p.authentication()));
+            return new Stored(session, principal, attributes, session.getLastAccessedTime());
+        }, id, System.currentTimeMillis());
+        return rows.isEmpty() ? null : rows.get(0);
+    }
+
+    private static long expiresAt(MapSession session) {
+        Duration maxInactive = session.getMaxInactiveInterval();
+        return maxInactive.isNegative() ? Long.MAX_VALUE : session.getLastAccessedTime().plus(maxInactive).toEpochMilli();
+    }
+
+    // --- 직렬화 ---
+
+    // 로그인 시 만든 형태(principal.authentication())일 때만 principal 컬럼으로 분리
+    private static LoginPrincipal principalOf(MapSession session) {
+        if (session.getAttribute(SPRING_SECURITY_CONTEXT_KEY) instanceof SecurityContext context
+                && context.getAuthentication() != null
+                && context.getAuthentication().getPrincipal() instanceof LoginPrincipal p
+                && context.getAuthentication().getCredentials() == null) {
+            return p;
+        }
+        return null;
+    }
+
+    private byte[] encodeAttributes(MapSession session) {
+        boolean principalStored = principalOf(session) != null;
+        HashMap<String, Object> rest = new HashMap<>();
+        for (String name : session.getAttributeNames()) {
+            if (principalStored && SPRING_SECURITY_CONTEXT_KEY.equals(name)) continue;
+            rest.put(name, session.getAttribute(name));
+        }
+        return rest.isEmpty() ? null : serializer.convert(rest);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> decodeAttributes(byte[] bytes) {
+        return (Map<String, Object>) deserializer.convert(bytes);
+    }
+
+    // 형식 번호 + 필드 (null 가능 문자열은 존재 플래그 선행). JDK 직렬화보다 작고 클래스 변경에 덜 민감
+    private static byte[] encodePrincipal(LoginPrincipal p) {
+        if (p == null) return null;
+        try (ByteArrayOutputStream bytes = new ByteArrayOutputStream(128);
+             DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(PRINCIPAL_FORMAT);
+            out.writeUTF(p.memberId());
+            writeNullable(out, p.name());
+            out.writeUTF(p.role().name());
+            writeNullable(out, p.studentId());
+            writeNullable(out, p.adminId());
+            writeNullable(out, p.department());
+            writeNullable(out, p.academicStatus());
+            out.writeInt(p.version());
+            out.flush();
+            return bytes.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // 알 수 없는 형식이면 null → 로그인 안 된 세션으로 취급
+    private static LoginPrincipal decodePrincipal(byte[] bytes) {
+        if (bytes == null || bytes.length == 0 || bytes[0] != PRINCIPAL_FORMAT) return null;
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes, 1, bytes.length - 1))) {
+            return new LoginPrincipal(in.readUTF(), readNullable(in), Role.valueOf(in.readUTF()),
+                    readNullable(in), readNullable(in), readNullable(in), readNullable(in),
+                    in.readInt());
+        } catch (IOException | IllegalArgumentException e) {
+            log.warn("Unreadable session principal ignored: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private static void writeNullable(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) out.writeUTF(value);
+    }
+
+    private static String readNullable(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+}
@@ -0,0 +1,86 @@
+package com.cnu.docserver.common;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * 부서/문서 유형/필수 항목/마감일처럼 거의 바뀌지 않는 카탈로그의 프로세스 내 캐시.
+ *  - 같은 키를 동시에 요청하면 로더는 한 번만 실행되고 나머지는 그 결과를 기다린다 (마감일 당일 몰림 대비)
+ *  - 변경 시 evict(): 즉시 + 커밋 후 한 번 더 지워서, 변경 중에 읽어 간 옛 값이 남지 않게 한다
+ *  - 다른 인스턴스의 변경은 TTL 로만 반영된다
+ *  - 로더는 원본 DB 에서 읽는다 (비운 직후 지연된 레플리카 값으로 다시 채우지 않도록)
+ *  - 로더는 Hibernate 2차 캐시도 거치지 않는다 (CacheMode.REFRESH 조회): 그 캐시는 인스턴스별이고 TTL 이 더 길다
+ *  - 적중/미스는 cache.gets{cache=catalog.*} 로 노출
+ */
+@Component
+public class CatalogCache {
+
+    public enum Region {
+        DEPARTMENTS("catalog.departments"),
+        DOC_TYPES_BY_DEPARTMENT("catalog.docTypesByDepartment"),
+        REQUIRED_FIELDS("catalog.requiredFields"),
+        DEADLINE("catalog.deadline"),
+        VERSIONS("catalog.versions"); // HTTP 검증자 (ETag/Last-Modified)
+
+        private final String metricName;
+
+        Region(String metricName) {
+            this.metricName = metricName;
+        }
+    }
+
+    private final Map<Region, Cache<Object, Object>> caches = new EnumMap<>(Region.class);
+
+    public CatalogCache(@Value("${catalog.cache.max-entries:2000}") long maxEntries,
+                        @Value("${catalog.cache.ttl-seconds:300}") long ttlSeconds,
+                        MeterRegistry meterRegistry) {
+        for (Region region : Region.values()) {
+            Cache<Object, Object> cache = Caffeine.newBuilder()
+                    .maximumSize(maxEntries)
+                    .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                    .recordStats()
+                    .build();
+            CaffeineCacheMetrics.monitor(meterRegistry, cache, region.metricName);
+            caches.put(region, cache);
+        }
+    }
+
+    /** 캐시에 없으면 loader 로 채운다. loader 예외는 캐시하지 않고 그대로 던진다 */
+    @SuppressWarnings("unchecked")
+    public <T> T get(Region region, Object key, Supplier<T> loader) {
+        return (T) caches.get(region).get(key, k -> ReadWriteRoutingDataSource.primary(loader));
+    }
+
+    public void evict(Region region, Object key) {
+        Cache<Object, Object> cache = caches.get(region);
+        cache.invalidate(key);
+        afterCommit(() -> cache.invalidate(key));
+    }
+
+    public void evictAll(Region region) {
+        Cache<Object, Object> cache = caches.get(region);
+        cache.invalidateAll();
+        afterCommit(cache::invalidateAll);
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) return;
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,36 @@
+package com.cnu.docserver.common;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.time.Duration;
+
+/**
+ * 카탈로그 조회 응답의 조건부 GET 처리.
+ *  - ETag/Last-Modified 를 붙이고, If-None-Match/If-Modified-Since 가 맞으면 304 (본문 생략)
+ *  - 로그인 뒤 응답이므로 공유 캐시가 아닌 브라우저 캐시(private)만 허용, max-age 이후엔 재검증
+ */
+@Component
+public class CatalogHttpCache {
+
+    private final CacheControl cacheControl;
+
+    public CatalogHttpCache(@Value("${catalog.http.max-age-seconds:30}") long maxAgeSeconds) {
+        this.cacheControl = CacheControl.maxAge(Duration.ofSeconds(maxAgeSeconds))
+                .cachePrivate()
+                .mustRevalidate();
+    }
+
+    /** true 면 이미 304 로 응답이 채워졌으므로 컨트롤러는 본문 없이 null 을 반환하면 된다 */
+    public boolean notModified(ServletWebRequest request, CatalogVersion version) {
+        if (version == null) return false; // 대상이 없음 → 본문 쪽에서 오류 처리 (캐시 헤더 없이)
+        if (request.getResponse() != null) {
+            // 시큐리티 기본 no-store 헤더는 이미 Cache-Control 이 있으면 덮어쓰지 않는다
+            request.getResponse().setHeader(HttpHeaders.CACHE_CONTROL, cacheControl.getHeaderValue());
+        }
+        return request.checkNotModified(version.etag(), version.lastModified());
+    }
+}
@@ -0,0 +1,13 @@
+package com.cnu.docserver.common;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/** 카탈로그 응답의 HTTP 검증자 (본문을 만들지 않고 계산) */
+public record CatalogVersion(String etag, long lastModified) {
+
+    public static CatalogVersion of(String key, LocalDateTime updatedAt) {
+        long millis = updatedAt == null ? 0L : updatedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        return new CatalogVersion("W/\"" + key + "-" + millis + "\"", millis);
+    }
+}
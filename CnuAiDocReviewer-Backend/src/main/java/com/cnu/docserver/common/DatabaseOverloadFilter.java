@@ -0,0 +1,50 @@
+package com.cnu.docserver.common;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.session.web.http.SessionRepositoryFilter;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * MVC 밖에서 난 커넥션 풀 포화/DB 접속 실패 → DatabaseOverloadHandler 와 같은 503 + Retry-After.
+ * 세션 필터보다 먼저 두어 세션 읽기/저장(session.store=jdbc)과 보안 필터 체인(principal 갱신)의 실패까지 감싼다.
+ * 응답이 이미 나가기 시작했으면 그대로 다시 던진다.
+ */
+@Component
+@Order(SessionRepositoryFilter.DEFAULT_ORDER - 1)
+@RequiredArgsConstructor
+@Slf4j
+public class DatabaseOverloadFilter extends OncePerRequestFilter {
+
+    private final ObjectMapper objectMapper;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        try {
+            chain.doFilter(request, response);
+        } catch (IOException | ServletException | RuntimeException e) {
+            if (response.isCommitted() || !DatabaseOverloadHandler.isConnectionUnavailable(e)) throw e;
+            log.warn("Database connection unavailable outside MVC ({}): {}", request.getRequestURI(), e.getMessage());
+            response.reset();
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, DatabaseOverloadHandler.RETRY_AFTER_SECONDS);
+            response.setContentType(MediaType.APPLICATION_PROBLEM_JSON_VALUE);
+            response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+            objectMapper.writeValue(response.getOutputStream(), DatabaseOverloadHandler.problem());
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.cnu.docserver.common;
+
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.exception.JDBCConnectionException;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.TransientDataAccessResourceException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import java.sql.SQLTransientConnectionException;
+
+/**
+ * 커넥션 풀에서 connection-timeout 안에 커넥션을 못 받으면(풀 포화) 또는 DB 에 닿지 않으면 503 + Retry-After.
+ * 요청을 무한정 줄 세우지 않고 빨리 돌려보내 웹 요청 스레드가 쌓이지 않게 한다.
+ * MVC 밖(세션 저장소, 보안 필터)에서 난 같은 예외는 DatabaseOverloadFilter 가 같은 응답으로 바꾼다.
+ */
+@RestControllerAdvice
+@Slf4j
+public class DatabaseOverloadHandler {
+
+    static final String RETRY_AFTER_SECONDS = "2";
+
+    @ExceptionHandler({
+            CannotCreateTransactionException.class,
+            DataAccessResourceFailureException.class,
+            TransientDataAccessResourceException.class,
+            JDBCConnectionException.class
+    })
+    public ResponseEntity<ProblemDetail> onConnectionUnavailable(RuntimeException e) {
+        log.warn("Database connection unavailable: {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS)
+                .body(problem());
+    }
+
+    static ProblemDetail problem() {
+        return ProblemDetail.forStatusAndDetail(HttpStatus.SERVICE_UNAVAILABLE,
+                "요청이 많아 처리하지 못했습니다. 잠시 후 다시 시도해 주세요.");
+    }
+
+    /** 원인 사슬 중에 위 예외(또는 풀 대기 시간 초과)가 있으면 true */
+    static boolean isConnectionUnavailable(Throwable e) {
+        for (Throwable t = e; t != null; t = t.getCause() == t ? null : t.getCause()) {
+            if (t instanceof CannotCreateTransactionException
+                    || t instanceof DataAccessResourceFailureException
+                    || t instanceof TransientDataAccessResourceException
+                    || t instanceof JDBCConnectionException
+                    || t instanceof SQLTransientConnectionException) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,129 @@
+package com.cnu.docserver.common;
+
+import jakarta.servlet.http.HttpSession;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Instant;
+import java.util.function.Supplier;
+
+/**
+ * 작업 종류(Workload)와 트랜잭션 속성으로 커넥션 풀 선택.
+ *  - OCR/INCREMENTAL/BACKGROUND 작업은 각자의 원본 풀 (웹 요청 풀과 격리)
+ *  - 웹 요청의 읽기 전용 트랜잭션(@Transactional(readOnly = true), 저장소 조회 메서드)은 레플리카, 나머지는 원본 웹 풀
+ *  - 레플리카가 없거나 닿지 않거나 지연이 크면 원본
+ *  - 방금 쓴 사용자(세션)는 그 쓰기가 레플리카에 반영될 때까지 원본에서 읽음 (read-your-writes)
+ *  - 쓰기 직후 다시 읽어 캐시에 담는 곳은 primary(...) 로 감싸 원본 강제
+ *  - 레플리카로 간 트랜잭션은 Hibernate 2차/쿼리 캐시를 읽기만 한다 (지연된 행으로 공유 캐시를 채우지 않게)
+ * LazyConnectionDataSourceProxy 뒤에 두어야 트랜잭션 속성이 정해진 뒤 커넥션을 고른다 (DataSourceConfig).
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Route { WEB, OCR, INCREMENTAL, BACKGROUND, REPLICA }
+
+    private static final String LAST_WRITE_ATTR = ReadWriteRoutingDataSource.class.getName() + ".LAST_WRITE";
+    private static final ThreadLocal<Boolean> FORCE_PRIMARY = new ThreadLocal<>();
+
+    private final ReplicaLagMonitor lagMonitor; // 레플리카 미설정 시 null
+
+    public ReadWriteRoutingDataSource(ReplicaLagMonitor lagMonitor) {
+        this.lagMonitor = lagMonitor;
+    }
+
+    /** action 안에서 새로 여는 커넥션은 원본으로 */
+    public static <T> T primary(Supplier<T> action) {
+        Boolean previous = FORCE_PRIMARY.get();
+        FORCE_PRIMARY.set(Boolean.TRUE);
+        try {
+            return action.get();
+        } finally {
+            if (previous == null) FORCE_PRIMARY.remove();
+        }
+    }
+
+    /**
+     * 읽기 전용 여부가 정해진 트랜잭션 시작 직후, 레플리카로 갈 트랜잭션이면 첫 쿼리 전에 캐시를 읽기만 하도록 전환
+     * (쿼리 캐시 저장 여부는 커넥션을 고르기 전에 정해지므로 라우팅 시점만으로는 늦다). DataSourceConfig 에서 빈으로 등록
+     */
+    public TransactionExecutionListener replicaCacheMode() {
+        return new TransactionExecutionListener() {
+            @Override
+            public void afterBegin(TransactionExecution transaction, Throwable beginFailure) {
+                if (beginFailure == null && transaction.isReadOnly() && Workload.current() == Workload.WEB
+                        && webRoute() == Route.REPLICA) {
+                    readCacheOnly();
+                }
+            }
+        };
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return route();
+    }
+
+    Route route() {
+        return switch (Workload.current()) {
+            case OCR -> Route.OCR;
+            case INCREMENTAL -> Route.INCREMENTAL;
+            case BACKGROUND -> Route.BACKGROUND;
+            case WEB -> webRoute();
+        };
+    }
+
+    private Route webRoute() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            rememberWriteOnCommit();
+            return Route.WEB;
+        }
+        if (FORCE_PRIMARY.get() != null || lagMonitor == null || !lagMonitor.isUsable()) return Route.WEB;
+
+        HttpSession session = currentSession();
+        if (session != null && session.getAttribute(LAST_WRITE_ATTR) instanceof Long lastWrite
+                && !lagMonitor.hasReplicated(Instant.ofEpochMilli(lastWrite))) {
+            return Route.WEB;
+        }
+        readCacheOnly();
+        return Route.REPLICA;
+    }
+
+    // 이 트랜잭션의 Hibernate 세션은 2차/쿼리 캐시에 넣지 않음 (open-in-view 꺼짐: 세션 = 트랜잭션)
+    private static void readCacheOnly() {
+        for (Object resource : TransactionSynchronizationManager.getResourceMap().values()) {
+            if (resource instanceof EntityManagerHolder holder) {
+                holder.getEntityManager().unwrap(Session.class).setCacheMode(CacheMode.GET);
+            }
+        }
+    }
+
+    // 로그인 세션이 있는 쓰기 트랜잭션: 커밋 시각을 세션에 기록 → 이후 읽기는 레플리카가 따라올 때까지 원본
+    private static void rememberWriteOnCommit() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) return;
+        HttpSession session = currentSession();
+        if (session == null) return;
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                try {
+                    session.setAttribute(LAST_WRITE_ATTR, System.currentTimeMillis());
+                } catch (IllegalStateException ignored) {
+                    // 그 사이 세션이 무효화됨 (로그아웃)
+                }
+            }
+        });
+    }
+
+    private static HttpSession currentSession() {
+        return RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes
+                ? attributes.getRequest().getSession(false)
+                : null;
+    }
+}
@@ -0,0 +1,65 @@
+package com.cnu.docserver.common;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * 레플리카 지연 측정 (heartbeat 방식).
+ *  - 주기마다 원본의 replication_heartbeat 에 현재 시각을 쓰고, 레플리카에서 같은 행을 읽는다
+ *  - 레플리카가 본 마지막 시각(replicatedUpTo) 이전에 커밋된 쓰기는 레플리카에도 반영돼 있다
+ *  - 복제가 멈추거나 레플리카에 닿지 않으면 지연이 계속 커짐 → max-lag 초과 시 읽기를 원본으로
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private final JdbcTemplate primary;
+    private final JdbcTemplate replica;
+    private final Duration maxLag;
+
+    private volatile Instant replicatedUpTo = Instant.EPOCH;
+    private volatile boolean reachable;
+
+    public ReplicaLagMonitor(DataSource primary, DataSource replica, Duration maxLag) {
+        this.primary = new JdbcTemplate(primary);
+        this.replica = new JdbcTemplate(replica);
+        this.maxLag = maxLag;
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.replica.heartbeat-interval-ms:1000}")
+    public void tick() {
+        try {
+            primary.update("UPDATE replication_heartbeat SET beat_at = ? WHERE id = 1", System.currentTimeMillis());
+        } catch (DataAccessException e) {
+            log.warn("Replication heartbeat write failed: {}", e.getMessage());
+        }
+        try {
+            Long beatAt = replica.queryForObject("SELECT beat_at FROM replication_heartbeat WHERE id = 1", Long.class);
+            replicatedUpTo = Instant.ofEpochMilli(beatAt == null ? 0 : beatAt);
+            if (!reachable) log.info("Replica reachable, lag {} ms", lag().toMillis());
+            reachable = true;
+        } catch (DataAccessException e) {
+            if (reachable) log.warn("Replica unreachable, reads fall back to primary: {}", e.getMessage());
+            reachable = false;
+        }
+    }
+
+    /** 레플리카로 읽어도 되는지 (닿고, 지연이 max-lag 이내) */
+    public boolean isUsable() {
+        return reachable && lag().compareTo(maxLag) <= 0;
+    }
+
+    /** at 시각까지 커밋된 쓰기가 레플리카에 반영됐는지 */
+    public boolean hasReplicated(Instant at) {
+        return !replicatedUpTo.isBefore(at);
+    }
+
+    public Duration lag() {
+        return Duration.between(replicatedUpTo, Instant.now());
+    }
+}
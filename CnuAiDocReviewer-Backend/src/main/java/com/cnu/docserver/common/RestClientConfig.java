@@ -1,6 +1,7 @@
 // com.cnu.docserver.common.RestClientConfig.java
 package com.cnu.docserver.common;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -25,10 +26,11 @@ public class RestClientConfig {
 
     /** OCR 전용 RestTemplate (타임아웃 여유) */
     @Bean(name = "ocrRestTemplate")
-    public RestTemplate ocrRestTemplate(RestTemplateBuilder builder) {
+    public RestTemplate ocrRestTemplate(RestTemplateBuilder builder,
+                                        @Value("${ocr.read-timeout:600s}") Duration readTimeout) {
         return builder
                 .setConnectTimeout(Duration.ofSeconds(10))  // 연결 타임아웃
-                .setReadTimeout(Duration.ofSeconds(600))   // 5분으로 확장
+                .setReadTimeout(readTimeout)               // OcrClient 의 유닉스 소켓 호출과 같은 값
                 .additionalMessageConverters(new ByteArrayHttpMessageConverter())
                 .build();
     }
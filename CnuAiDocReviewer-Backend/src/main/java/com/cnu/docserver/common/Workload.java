@@ -0,0 +1,39 @@
+package com.cnu.docserver.common;
+
+import java.util.function.Supplier;
+
+/**
+ * DB 커넥션 풀 격리(bulkhead) 단위. 지정하지 않은 작업은 WEB.
+ * 지정한 블록 안에서 새로 여는 커넥션은 해당 풀에서 받는다 (ReadWriteRoutingDataSource).
+ *  - OCR: 자동 검토 결과 반영 (완료가 몰려도 웹 요청 풀을 잠식하지 않음)
+ *  - INCREMENTAL: 변경 건별 검색 색인, 작업 화면 미리 불러오기 (짧고 잦음 → 배치 작업이 풀을 잡고 있어도 밀리지 않게)
+ *  - BACKGROUND: 보관/재색인/재계산 같은 대량 배치 작업
+ */
+public enum Workload {
+    WEB, OCR, INCREMENTAL, BACKGROUND;
+
+    private static final ThreadLocal<Workload> CURRENT = new ThreadLocal<>();
+
+    public static Workload current() {
+        Workload workload = CURRENT.get();
+        return workload == null ? WEB : workload;
+    }
+
+    public <T> T call(Supplier<T> action) {
+        Workload previous = CURRENT.get();
+        CURRENT.set(this);
+        try {
+            return action.get();
+        } finally {
+            if (previous == null) CURRENT.remove();
+            else CURRENT.set(previous);
+        }
+    }
+
+    public void run(Runnable action) {
+        call(() -> {
+            action.run();
+            return null;
+        });
+    }
+}
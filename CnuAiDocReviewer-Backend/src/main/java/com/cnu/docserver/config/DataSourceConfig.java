@@ -0,0 +1,119 @@
+package com.cnu.docserver.config;
+
+import com.cnu.docserver.common.ReadWriteRoutingDataSource;
+import com.cnu.docserver.common.ReadWriteRoutingDataSource.Route;
+import com.cnu.docserver.common.ReplicaLagMonitor;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.flyway.FlywayDataSource;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.TransactionExecutionListener;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 커넥션 풀 격리 + 읽기/쓰기 분리.
+ *  - web(primaryDataSource): spring.datasource.* — 웹 요청 쓰기, Flyway, 세션 저장소 등 트랜잭션 밖 작업
+ *  - ocr / incremental / background: datasource.pools.* — 같은 원본 DB, 크기와 대기 시간만 따로 (Workload 로 선택)
+ *  - replica: datasource.replica.url 을 지정했을 때만 — 웹 요청의 읽기 전용 트랜잭션
+ *  - 애플리케이션이 쓰는 DataSource 는 LazyConnectionDataSourceProxy(라우팅) → 트랜잭션 속성이 정해진 뒤 커넥션을 고름
+ *  - 레플리카로 가는 트랜잭션은 Hibernate 2차/쿼리 캐시를 채우지 않음 (replicaCacheMode)
+ * 풀마다 hikaricp.connections.{acquire,usage,pending,timeout}{pool=...} 로 대기/사용 시간이 노출된다.
+ */
+@Configuration
+public class DataSourceConfig {
+
+    @Bean
+    @FlywayDataSource
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return primaryPool(properties);
+    }
+
+    @Bean
+    @ConfigurationProperties("datasource.pools.ocr")
+    public HikariDataSource ocrDataSource(DataSourceProperties properties) {
+        return primaryPool(properties);
+    }
+
+    @Bean
+    @ConfigurationProperties("datasource.pools.incremental")
+    public HikariDataSource incrementalDataSource(DataSourceProperties properties) {
+        return primaryPool(properties);
+    }
+
+    @Bean
+    @ConfigurationProperties("datasource.pools.background")
+    public HikariDataSource backgroundDataSource(DataSourceProperties properties) {
+        return primaryPool(properties);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "datasource.replica.url")
+    @ConfigurationProperties("datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(DataSourceProperties primary,
+                                              @Value("${datasource.replica.url}") String url,
+                                              @Value("${datasource.replica.username:}") String username,
+                                              @Value("${datasource.replica.password:}") String password) {
+        return DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .driverClassName(primary.determineDriverClassName())
+                .url(url)
+                .username(username.isEmpty() ? primary.determineUsername() : username)
+                .password(password.isEmpty() ? primary.determinePassword() : password)
+                .build();
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "datasource.replica.url")
+    public ReplicaLagMonitor replicaLagMonitor(@Qualifier("primaryDataSource") DataSource primary,
+                                               @Qualifier("replicaDataSource") DataSource replica,
+                                               @Value("${datasource.replica.max-lag-ms:5000}") long maxLagMs) {
+        return new ReplicaLagMonitor(primary, replica, Duration.ofMillis(maxLagMs)); // 첫 heartbeat 전까지는 원본으로 읽음
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primary,
+                                 @Qualifier("ocrDataSource") DataSource ocr,
+                                 @Qualifier("incrementalDataSource") DataSource incremental,
+                                 @Qualifier("backgroundDataSource") DataSource background,
+                                 @Qualifier("replicaDataSource") ObjectProvider<DataSource> replica,
+                                 ObjectProvider<ReplicaLagMonitor> lagMonitor) {
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(Route.WEB, primary);
+        targets.put(Route.OCR, ocr);
+        targets.put(Route.INCREMENTAL, incremental);
+        targets.put(Route.BACKGROUND, background);
+        replica.ifAvailable(r -> targets.put(Route.REPLICA, r));
+
+        ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(lagMonitor.getIfAvailable());
+        routing.setTargetDataSources(targets);
+        routing.setDefaultTargetDataSource(primary);
+        routing.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+
+    // Boot 가 TransactionExecutionListener 빈을 트랜잭션 매니저에 등록
+    @Bean
+    public TransactionExecutionListener replicaCacheMode(DataSource dataSource) throws SQLException {
+        return dataSource.unwrap(ReadWriteRoutingDataSource.class).replicaCacheMode();
+    }
+
+    private static HikariDataSource primaryPool(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+}
@@ -0,0 +1,58 @@
+package com.cnu.docserver.config;
+
+import com.cnu.docserver.auth.session.JdbcSessionRepository;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.session.MapSessionRepository;
+import org.springframework.session.Session;
+import org.springframework.session.config.annotation.web.http.EnableSpringHttpSession;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * HttpSession 저장소 선택 (session.store).
+ *  - memory: 단일 인스턴스 (기본값)
+ *  - jdbc: http_sessions 공유 → 여러 인스턴스를 고정 세션 없이 라운드 로빈으로 운영
+ */
+@Configuration
+@EnableSpringHttpSession
+public class SessionConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "session.store", havingValue = "memory", matchIfMissing = true)
+    public MapSessionRepository inMemorySessionRepository(
+            @Value("${server.servlet.session.timeout:30m}") Duration timeout) {
+        // 마지막 접근 후 timeout 이 지난 세션은 맵에서도 제거 (버려진 세션 누적 방지)
+        Map<String, Session> sessions = Caffeine.newBuilder()
+                .expireAfterAccess(timeout)
+                .<String, Session>build()
+                .asMap();
+        MapSessionRepository repository = new MapSessionRepository(sessions);
+        repository.setDefaultMaxInactiveInterval(timeout);
+        return repository;
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "session.store", havingValue = "jdbc")
+    public JdbcSessionRepository jdbcSessionRepository(
+            DataSource dataSource,
+            @Qualifier("primaryDataSource") ObjectProvider<DataSource> primaryDataSource,
+            MeterRegistry meterRegistry,
+            @Value("${server.servlet.session.timeout:30m}") Duration timeout,
+            @Value("${session.cache-ttl-seconds:5}") long cacheTtlSeconds,
+            @Value("${session.touch-interval-seconds:60}") long touchIntervalSeconds) {
+        // 읽기/쓰기 분리 시에도 세션은 항상 원본 (라우팅은 요청 세션을 참조함)
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(primaryDataSource.getIfAvailable(() -> dataSource));
+        return new JdbcSessionRepository(jdbcTemplate, timeout,
+                Duration.ofSeconds(cacheTtlSeconds), Duration.ofSeconds(touchIntervalSeconds), meterRegistry);
+    }
+}
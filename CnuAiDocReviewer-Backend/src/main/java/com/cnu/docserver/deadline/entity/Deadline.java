@@ -14,7 +14,9 @@ import java.time.LocalDateTime;
 @Builder
 
 @Entity
-@Table(name = "deadlines")
+@Table(name = "deadlines", indexes = {
+        @Index(name = "idx_deadlines_doc_type", columnList = "doc_type_id")
+})
 public class Deadline {
 
     @Id
@@ -1,9 +1,13 @@
 package com.cnu.docserver.deadline.repository;
 
+import com.cnu.docserver.deadline.dto.DeadlineStatusDTO;
 import com.cnu.docserver.deadline.entity.Deadline;
 import com.cnu.docserver.docmanger.entity.DocType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface DeadlineRepository extends JpaRepository<Deadline,Integer> {
@@ -11,4 +15,14 @@ public interface DeadlineRepository extends JpaRepository<Deadline,Integer> {
     // 1. docType 기준으로 마감일 조회
     Optional<Deadline> findByDocType(DocType docType);
 
+    // 2. 부서의 전체 문서 유형 + 마감일 (마감일 없으면 null) 한 쿼리로
+    @Query("""
+      select new com.cnu.docserver.deadline.dto.DeadlineStatusDTO(dt.docTypeId, dt.title, d.deadline)
+      from DocType dt
+      left join Deadline d on d.docType = dt
+      where dt.department.departmentId = :departmentId
+      order by dt.docTypeId asc
+    """)
+    List<DeadlineStatusDTO> findStatusByDepartmentId(@Param("departmentId") Integer departmentId);
+
 }
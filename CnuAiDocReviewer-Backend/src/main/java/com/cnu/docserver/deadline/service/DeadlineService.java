@@ -1,10 +1,10 @@
 package com.cnu.docserver.deadline.service;
 
+import com.cnu.docserver.common.CatalogCache;
 import com.cnu.docserver.deadline.dto.DeadlineRequestDTO;
 import com.cnu.docserver.deadline.dto.DeadlineStatusDTO;
 import com.cnu.docserver.deadline.entity.Deadline;
 import com.cnu.docserver.deadline.repository.DeadlineRepository;
-import com.cnu.docserver.department.entity.Department;
 import com.cnu.docserver.docmanger.entity.DocType;
 import com.cnu.docserver.department.repository.DepartmentRepository;
 import com.cnu.docserver.docmanger.repository.DocTypeRepository;
@@ -13,6 +13,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -23,32 +24,26 @@ public class DeadlineService {
     private final DepartmentRepository departmentRepository;
     private final DocTypeRepository docTypeRepository;
     private final DeadlineRepository deadlineRepository;
+    private final CatalogCache catalogCache;
 
 
 
     // 부서별 마감일 조회
     @Transactional
     public List<DeadlineStatusDTO> getDeadlineByDepartment(Integer departmentId){
-        Department department = departmentRepository.findById(departmentId)
-                .orElseThrow(()->new RuntimeException("부서를 찾을 수 없습니다."));
-
-        List<DocType> docTypes = docTypeRepository.findByDepartment(department);
-
-        return docTypes.stream()
-                .map(docType-> {
-                    Optional<Deadline> deadlineOptional = deadlineRepository.findByDocType(docType);
-                    return DeadlineStatusDTO.builder()
-                            .docTypeId(docType.getDocTypeId())
-                            .title(docType.getTitle())
-                            .deadline(deadlineOptional.map(Deadline::getDeadline).orElse(null))
-                            .build();
-                })
-                .toList();
+        if (!departmentRepository.existsById(departmentId)) {
+            throw new RuntimeException("부서를 찾을 수 없습니다.");
+        }
+        // 문서 유형 + 마감일을 한 쿼리로 (문서 유형마다 마감일 조회하지 않음)
+        return deadlineRepository.findStatusByDepartmentId(departmentId);
     }
-    //단건 조회
-    @Transactional
+    //단건 조회 (캐시, 트랜잭션 없음)
     public DeadlineStatusDTO getDeadlineByDocTypeId(Integer docTypeId) {
-        DocType docType = docTypeRepository.findById(docTypeId)
+        return catalogCache.get(CatalogCache.Region.DEADLINE, docTypeId, () -> loadDeadline(docTypeId));
+    }
+
+    private DeadlineStatusDTO loadDeadline(Integer docTypeId) {
+        DocType docType = docTypeRepository.findFreshById(docTypeId)
                 .orElseThrow(() -> new RuntimeException("문서를 찾을 수 없습니다."));
         return deadlineRepository.findByDocType(docType)
                 .map(d -> DeadlineStatusDTO.builder()
@@ -81,6 +76,7 @@ public class DeadlineService {
         Deadline deadline = existingDeadline.orElseGet(()->Deadline.builder().docType(docType).build());
         deadline.setDeadline(deadlineRequestDTO.getDeadline());
         deadlineRepository.save(deadline);
+        touch(docType);
     }
 
     //삭제 deleteDeadlineByDocTypeId
@@ -90,5 +86,13 @@ public class DeadlineService {
                 .orElseThrow(() -> new RuntimeException("문서를 찾을 수 없습니다."));
         deadlineRepository.findByDocType(docType)
                 .ifPresent(deadlineRepository::delete);
+        touch(docType);
+    }
+
+    // 마감일은 문서 유형 버전(updatedAt)에 포함 → HTTP 검증자가 바뀌도록 갱신 후 캐시 무효화
+    private void touch(DocType docType) {
+        docType.setUpdatedAt(LocalDateTime.now());
+        catalogCache.evict(CatalogCache.Region.DEADLINE, docType.getDocTypeId());
+        catalogCache.evictAll(CatalogCache.Region.VERSIONS);
     }
 }
@@ -1,8 +1,19 @@
 package com.cnu.docserver.department.repository;
 
 import com.cnu.docserver.department.entity.Department;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import java.util.List;
 
 
 public interface DepartmentRepository extends JpaRepository<Department, Integer> {
+
+    // 부서 목록(카탈로그 캐시 로더): 2차 캐시를 거치지 않고 읽음
+    @Override
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHE_MODE, value = "REFRESH"))
+    List<Department> findAll(Sort sort);
 }
@@ -2,6 +2,8 @@ package com.cnu.docserver.docmanger.entity;
 
 import com.cnu.docserver.department.entity.Department;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import lombok.*;
 
 import java.time.LocalDateTime;
@@ -14,6 +16,7 @@ import java.util.List;
 @Builder
 
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "catalog.DocType")
 @Table(name = "doc_types")
 public class DocType {
 
@@ -39,6 +42,7 @@ public class DocType {
     private OriginalFile originalFile;
 
     @OneToMany(mappedBy = "docType", cascade = CascadeType.ALL, orphanRemoval = true)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "catalog.DocType.requiredFields")
     private List<RequiredField> requiredFields;
 
     @PrePersist
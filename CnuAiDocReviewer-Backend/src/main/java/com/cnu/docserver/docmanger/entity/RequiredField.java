@@ -1,6 +1,8 @@
 package com.cnu.docserver.docmanger.entity;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import lombok.*;
 
 import java.time.LocalDateTime;
@@ -12,11 +14,14 @@ import java.time.LocalDateTime;
 @Builder
 
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "catalog.RequiredField")
 @Table(name = "required_fields")
 public class RequiredField {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "required_field_id")
+    @TableGenerator(name = "required_field_id", table = "id_generators", pkColumnName = "sequence_name",
+            valueColumnName = "next_val", pkColumnValue = "required_fields", allocationSize = 50) // IDENTITY 는 INSERT 배치를 막음
     private Integer requiredFieldId;
 
     @ManyToOne(fetch = FetchType.LAZY)
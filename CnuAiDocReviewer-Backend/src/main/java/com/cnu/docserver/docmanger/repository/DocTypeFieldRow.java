@@ -0,0 +1,9 @@
+package com.cnu.docserver.docmanger.repository;
+
+/** 부서별 문서 목록 프로젝션: 문서 유형 × 필수 항목 한 줄 (필수 항목이 없으면 fieldName null) */
+public record DocTypeFieldRow(
+        Integer docTypeId,
+        String title,
+        String fileUrl,
+        String fieldName
+) {}
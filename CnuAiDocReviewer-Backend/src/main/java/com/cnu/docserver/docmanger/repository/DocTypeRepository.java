@@ -2,10 +2,45 @@ package com.cnu.docserver.docmanger.repository;
 
 import com.cnu.docserver.department.entity.Department;
 import com.cnu.docserver.docmanger.entity.DocType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 public interface DocTypeRepository extends JpaRepository<DocType, Integer> {
     List<DocType> findByDepartment(Department department); // 부서별 서류 목록
+
+    // 카탈로그 로더/수정 화면용: 2차 캐시를 거치지 않고 읽음 (다른 인스턴스의 수정이 catalog.cache.ttl-seconds 안에 보이도록)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHE_MODE, value = "REFRESH"))
+    @Query("select dt from DocType dt where dt.docTypeId = :docTypeId")
+    Optional<DocType> findFreshById(@Param("docTypeId") Integer docTypeId);
+
+    // 부서별 서류 목록 + 원본 파일 + 필수 항목을 한 번에 (문서 유형 × 필수 항목 행으로 펼쳐서 반환)
+    @Query("""
+      select new com.cnu.docserver.docmanger.repository.DocTypeFieldRow(
+          dt.docTypeId, dt.title, o.fileUrl, rf.fieldName)
+      from DocType dt
+      left join OriginalFile o on o.docType = dt
+      left join RequiredField rf on rf.docType = dt
+      where dt.department.departmentId = :departmentId
+      order by dt.docTypeId asc, rf.requiredFieldId asc
+    """)
+    List<DocTypeFieldRow> findListRowsByDepartmentId(@Param("departmentId") Integer departmentId);
+
+    // HTTP 검증자용: 본문 없이 버전만 (필수 항목/파일/마감일 변경 시에도 updatedAt 을 갱신함)
+    @Query("select dt.updatedAt from DocType dt where dt.docTypeId = :docTypeId")
+    Optional<LocalDateTime> findUpdatedAtById(@Param("docTypeId") Integer docTypeId);
+
+    @Query("""
+      select new com.cnu.docserver.docmanger.repository.DocTypeVersionRow(count(dt), max(dt.updatedAt))
+      from DocType dt
+      where dt.department.departmentId = :departmentId
+    """)
+    DocTypeVersionRow findVersionByDepartmentId(@Param("departmentId") Integer departmentId);
 }
@@ -0,0 +1,9 @@
+package com.cnu.docserver.docmanger.repository;
+
+import java.time.LocalDateTime;
+
+/** 부서별 문서 목록의 버전 판단용: 문서 유형 수 + 가장 최근 수정 시각 */
+public record DocTypeVersionRow(
+        Long count,
+        LocalDateTime lastUpdatedAt
+) {}
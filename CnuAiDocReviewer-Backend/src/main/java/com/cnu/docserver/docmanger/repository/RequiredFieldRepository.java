@@ -2,10 +2,15 @@ package com.cnu.docserver.docmanger.repository;
 
 import com.cnu.docserver.docmanger.entity.DocType;
 import com.cnu.docserver.docmanger.entity.RequiredField;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import java.util.List;
 
 public interface RequiredFieldRepository extends JpaRepository<RequiredField, Integer> {
+    // 카탈로그 로더/수정 화면용: 2차 캐시(인스턴스별, 무효화 전파 없음)를 거치지 않고 읽어 캐시도 새 값으로 덮는다
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHE_MODE, value = "REFRESH"))
     List<RequiredField> findByDocType(DocType docType);
 }
\ No newline at end of file
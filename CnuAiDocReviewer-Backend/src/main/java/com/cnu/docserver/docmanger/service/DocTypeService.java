@@ -1,5 +1,7 @@
 package com.cnu.docserver.docmanger.service;
 
+import com.cnu.docserver.common.CatalogCache;
+import com.cnu.docserver.common.CatalogVersion;
 import com.cnu.docserver.docmanger.dto.DocTypeEditResponseDTO;
 import com.cnu.docserver.docmanger.dto.DocTypeResponseDTO;
 import com.cnu.docserver.department.entity.Department;
@@ -8,7 +10,9 @@ import com.cnu.docserver.docmanger.entity.DocType;
 import com.cnu.docserver.docmanger.entity.OriginalFile;
 import com.cnu.docserver.docmanger.entity.RequiredField;
 import com.cnu.docserver.department.repository.DepartmentRepository;
+import com.cnu.docserver.docmanger.repository.DocTypeFieldRow;
 import com.cnu.docserver.docmanger.repository.DocTypeRepository;
+import com.cnu.docserver.docmanger.repository.DocTypeVersionRow;
 import com.cnu.docserver.docmanger.repository.OriginalFileRepository;
 import com.cnu.docserver.docmanger.repository.RequiredFieldRepository;
 import lombok.RequiredArgsConstructor;
@@ -18,6 +22,7 @@ import jakarta.transaction.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.time.LocalDateTime;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -30,6 +35,7 @@ public class DocTypeService {
     private final RequiredFieldRepository requiredFieldRepository;
     private final OriginalFileRepository originalFileRepository;
     private final FileStorageService fileStorageService;
+    private final CatalogCache catalogCache;
 
     //서류 등록
     @Transactional
@@ -55,6 +61,8 @@ public class DocTypeService {
         if (file != null && !file.isEmpty()) {
             upsertFile(docType, file);
         }
+        catalogCache.evict(CatalogCache.Region.DOC_TYPES_BY_DEPARTMENT, departmentId);
+        catalogCache.evictAll(CatalogCache.Region.VERSIONS);
         return docType;
     }
 
@@ -80,40 +88,61 @@ public class DocTypeService {
 
         // 3. 필수 항목 업데이트
         syncRequiredFields(docType, requiredFields, exampleValues);
+
+        // 4. 제목이 그대로여도 필수 항목/파일이 바뀌었을 수 있으므로 버전(updatedAt) 갱신
+        docType.setUpdatedAt(LocalDateTime.now());
+
+        // 5. 캐시 무효화 (마감일 응답에도 제목이 들어 있음)
+        catalogCache.evict(CatalogCache.Region.DOC_TYPES_BY_DEPARTMENT, docType.getDepartment().getDepartmentId());
+        catalogCache.evict(CatalogCache.Region.REQUIRED_FIELDS, docTypeId);
+        catalogCache.evict(CatalogCache.Region.DEADLINE, docTypeId);
+        catalogCache.evictAll(CatalogCache.Region.VERSIONS);
     }
 
+    // 부서별 문서 목록의 HTTP 검증자: 문서 유형 수 + 최종 수정 시각 (캐시)
+    public CatalogVersion getDepartmentCatalogVersion(Integer departmentId) {
+        return catalogCache.get(CatalogCache.Region.VERSIONS, "department:" + departmentId, () -> {
+            DocTypeVersionRow row = docTypeRepository.findVersionByDepartmentId(departmentId);
+            return CatalogVersion.of("d" + departmentId + "-" + row.count(), row.lastUpdatedAt());
+        });
+    }
 
-    //부서별 전체 문서 조회
-    @Transactional
-    public List<DocTypeResponseDTO> getDocTypesByDepartment(Integer departmentId) {
-        Department department = departmentRepository.findById(departmentId)
-                .orElseThrow(() -> new IllegalArgumentException("부서를 찾을 수 없습니다."));
+    // 문서 유형 단건(필수 항목/마감일)의 HTTP 검증자. 없는 문서면 null
+    public CatalogVersion getDocTypeVersion(Integer docTypeId) {
+        return catalogCache.get(CatalogCache.Region.VERSIONS, "docType:" + docTypeId, () ->
+                docTypeRepository.findUpdatedAtById(docTypeId)
+                        .map(at -> CatalogVersion.of("t" + docTypeId, at))
+                        .orElse(null));
+    }
 
-        return docTypeRepository.findByDepartment(department).stream()
-                .map(docType -> {
 
-                    String fileUrl = originalFileRepository.findByDocType(docType)
-                            .map(OriginalFile::getFileUrl)
-                            .orElse(null);
+    //부서별 전체 문서 조회 (캐시 적중 시 커넥션을 잡지 않도록 트랜잭션 없이)
+    public List<DocTypeResponseDTO> getDocTypesByDepartment(Integer departmentId) {
+        return catalogCache.get(CatalogCache.Region.DOC_TYPES_BY_DEPARTMENT, departmentId,
+                () -> loadDocTypesByDepartment(departmentId));
+    }
 
-                    List<String> fields = requiredFieldRepository.findByDocType(docType).stream()
-                            .map(RequiredField::getFieldName)
-                            .toList();
+    private List<DocTypeResponseDTO> loadDocTypesByDepartment(Integer departmentId) {
+        if (!departmentRepository.existsById(departmentId)) {
+            throw new IllegalArgumentException("부서를 찾을 수 없습니다.");
+        }
 
-                    return new DocTypeResponseDTO(
-                            docType.getDocTypeId(),
-                            docType.getTitle(),
-                            fields,
-                            fileUrl
-                    );
-                })
-                .toList();
+        // 문서 유형 × 필수 항목 행을 한 쿼리로 받아 문서 유형별로 모음 (정렬 순서 유지)
+        Map<Integer, DocTypeResponseDTO> byId = new LinkedHashMap<>();
+        for (DocTypeFieldRow row : docTypeRepository.findListRowsByDepartmentId(departmentId)) {
+            DocTypeResponseDTO dto = byId.computeIfAbsent(row.docTypeId(), id ->
+                    new DocTypeResponseDTO(id, row.title(), new ArrayList<>(), row.fileUrl()));
+            if (row.fieldName() != null) {
+                dto.getRequiredFields().add(row.fieldName());
+            }
+        }
+        return new ArrayList<>(byId.values());
     }
 
     //수정용 단건 조회
     @Transactional
     public DocTypeEditResponseDTO getDocTypeForEdit(Integer docTypeId) {
-        DocType docType = docTypeRepository.findById(docTypeId)
+        DocType docType = docTypeRepository.findFreshById(docTypeId)
                 .orElseThrow(() -> new RuntimeException("문서를 찾을 수 없습니다."));
 
         List<RequiredField> requiredFields = requiredFieldRepository.findByDocType(docType);
@@ -130,9 +159,13 @@ public class DocTypeService {
                 .build();
     }
 
-    @Transactional
+    // 필수 항목 정의 (캐시, 트랜잭션 없음)
     public List<RequiredFieldDTO> getRequiredFields(Integer docTypeId) {
-        DocType docType = docTypeRepository.findById(docTypeId)
+        return catalogCache.get(CatalogCache.Region.REQUIRED_FIELDS, docTypeId, () -> loadRequiredFields(docTypeId));
+    }
+
+    private List<RequiredFieldDTO> loadRequiredFields(Integer docTypeId) {
+        DocType docType = docTypeRepository.findFreshById(docTypeId)
                 .orElseThrow(() -> new IllegalArgumentException("문서를 찾을 수 없습니다."));
 
         // 정렬 컬럼이 없으면 findByDocType() 그대로 사용
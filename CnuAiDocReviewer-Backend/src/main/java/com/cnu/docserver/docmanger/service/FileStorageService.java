@@ -1,52 +1,216 @@
 package com.cnu.docserver.docmanger.service;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.HexFormat;
 import java.util.Optional;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
 @Service
 public class FileStorageService {
 
     private final Path uploadDir = Paths.get("uploads");
+    private final Path stagingDir;
+
+    // 여러 인스턴스면 uploads 와 같은 공유 볼륨이어야 다른 인스턴스가 이어받은 청크를 이어 쓸 수 있다
+    public FileStorageService(@Value("${upload.staging-dir:upload-staging}") String stagingDir) {
+        this.stagingDir = Paths.get(stagingDir);
+    }
 
     // 문서유형 파일 (기존)
     public String save(Integer docTypeId, MultipartFile file) {
         return saveInto(uploadDir.resolve("doctype").resolve(String.valueOf(docTypeId)), "/uploads/doctype/" + docTypeId + "/", file);
     }
 
-    // 제출 파일 (신규)
-    public String saveSubmission(Integer submissionId, MultipartFile file) {
-        return saveInto(uploadDir.resolve("submissions").resolve(String.valueOf(submissionId)), "/uploads/submissions/" + submissionId + "/", file);
-    }
-
     // 공통 내부 로직
     private String saveInto(Path dir, String urlPrefix, MultipartFile file) {
         try {
             Files.createDirectories(dir);
 
-            String original = Optional.ofNullable(file.getOriginalFilename()).orElse("unknown");
-            original = original.replace("\\", "/");
-            original = original.substring(original.lastIndexOf('/') + 1);
-            if (original.isBlank()) original = "unknown";
-            if (original.length() > 255) original = original.substring(original.length() - 255);
+            String original = sanitizeFilename(file.getOriginalFilename());
 
             Path target = dir.resolve(original).normalize();
             if (!target.startsWith(dir)) throw new SecurityException("Invalid path");
             Files.copy(file.getInputStream(), target, StandardCopyOption.REPLACE_EXISTING);
 
-            String encoded = java.net.URLEncoder.encode(original, java.nio.charset.StandardCharsets.UTF_8)
-                    .replace("+", "%20");
-            return urlPrefix + encoded;
+            return toUrl(urlPrefix, original);
         } catch (IOException e) {
             throw new RuntimeException("파일 저장 실패: " + e.getMessage(), e);
         }
     }
 
+    // ───────── 이어받기 업로드 (스테이징) ─────────
+    // 스테이징 파일은 uploads 밖에 두어 /uploads/** 정적 경로로 노출되지 않게 한다.
+
+    /**
+     * 스테이징 파일의 offset 위치부터 in 을 이어 쓰고, 쓴 바이트를 digest 에도 반영한다 (null 가능).
+     * mirror 가 주어지면 같은 위치에 메모리 사본도 채운다 (OCR 핸드오프용, null 가능).
+     * 도중에 실패하면 파일을 offset 으로 되돌리므로 호출 측은 같은 청크를 그대로 재전송하면 된다.
+     * @return 이번에 쓴 바이트 수
+     */
+    public long appendChunk(String token, long offset, InputStream in, long maxLen, MessageDigest digest, byte[] mirror) {
+        Path target = stagingPath(token);
+        try {
+            Files.createDirectories(stagingDir);
+        } catch (IOException e) {
+            throw new FileWriteException("파일 저장 실패: " + e.getMessage(), e);
+        }
+        try (FileChannel ch = FileChannel.open(target, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            try {
+                ch.position(offset);
+                byte[] buf = new byte[64 * 1024];
+                long written = 0;
+                int n;
+                while ((n = in.read(buf)) != -1) {
+                    if (written + n > maxLen) {
+                        throw new FileWriteException("업로드 크기가 선언한 파일 크기를 초과합니다.");
+                    }
+                    ByteBuffer bb = ByteBuffer.wrap(buf, 0, n);
+                    while (bb.hasRemaining()) ch.write(bb);
+                    if (digest != null) digest.update(buf, 0, n);
+                    if (mirror != null) System.arraycopy(buf, 0, mirror, (int) (offset + written), n);
+                    written += n;
+                }
+                return written;
+            } catch (IOException | RuntimeException e) {
+                ch.truncate(offset);
+                if (e instanceof FileWriteException fwe) throw fwe;
+                throw new FileWriteException("청크 저장 실패: " + e.getMessage(), e);
+            }
+        } catch (IOException e) {
+            throw new FileWriteException("청크 저장 실패: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 완료된 스테이징 파일을 제출 폴더로 이동 (같은 볼륨이면 rename 이라 복사 없음).
+     * 제출 ID 가 생기기 전(트랜잭션 밖)에 호출되므로 폴더는 업로드 토큰 기준으로 만든다.
+     */
+    public String promoteSubmission(String token, String filename) {
+        Path dir = uploadDir.resolve("submissions").resolve(token);
+        try {
+            Files.createDirectories(dir);
+            String original = sanitizeFilename(filename);
+            Path target = dir.resolve(original).normalize();
+            if (!target.startsWith(dir)) throw new SecurityException("Invalid path");
+            try {
+                Files.move(stagingPath(token), target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(stagingPath(token), target, StandardCopyOption.REPLACE_EXISTING);
+            }
+            return toUrl("/uploads/submissions/" + token + "/", original);
+        } catch (IOException e) {
+            throw new RuntimeException("파일 저장 실패: " + e.getMessage(), e);
+        }
+    }
+
+    /** promoteSubmission 되돌리기: 제출 반영이 실패하면 파일을 스테이징으로 돌려 같은 토큰으로 재시도할 수 있게 */
+    public void demoteSubmission(String token, String fileUrl) throws FileReadException {
+        Path source = resolveStored(fileUrl);
+        try {
+            Files.createDirectories(stagingDir);
+            try {
+                Files.move(source, stagingPath(token), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(source, stagingPath(token), StandardCopyOption.REPLACE_EXISTING);
+            }
+            Files.deleteIfExists(source.getParent()); // 토큰 폴더 (비어 있을 때만)
+        } catch (IOException e) {
+            throw new FileReadException("파일 되돌리기 실패: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 스테이징 파일 전체의 SHA-256. copyInto 가 주어지면 같은 읽기로 메모리 사본도 채운다 (크기가 정확히 같아야 함).
+     * 다른 인스턴스가 받은 청크가 섞여 누적 해시가 없을 때만 쓰인다.
+     */
+    public String sha256OfStaging(String token, byte[] copyInto) throws FileReadException {
+        try (InputStream in = Files.newInputStream(stagingPath(token))) {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            if (copyInto != null) {
+                if (in.readNBytes(copyInto, 0, copyInto.length) != copyInto.length || in.read() != -1) {
+                    throw new FileReadException("스테이징 파일 크기가 선언한 크기와 다릅니다.");
+                }
+                digest.update(copyInto);
+            } else {
+                byte[] buf = new byte[64 * 1024];
+                int n;
+                while ((n = in.read(buf)) != -1) digest.update(buf, 0, n);
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (IOException e) {
+            throw new FileReadException("스테이징 파일 읽기 실패: " + e.getMessage(), e);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * before 이전에 마지막으로 쓰인 스테이징 파일 중 keep 이 아닌 것 삭제 (세션 행 없이 남은 파일 정리).
+     * @return 삭제한 파일 수
+     */
+    public int sweepStaging(Instant before, Predicate<String> keep) {
+        if (!Files.isDirectory(stagingDir)) return 0;
+        int deleted = 0;
+        try (Stream<Path> files = Files.list(stagingDir)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                String name = file.getFileName().toString();
+                if (!name.endsWith(".part")) continue;
+                try {
+                    if (Files.getLastModifiedTime(file).toInstant().isAfter(before)) continue;
+                    if (keep.test(name.substring(0, name.length() - ".part".length()))) continue;
+                    if (Files.deleteIfExists(file)) deleted++;
+                } catch (IOException ignored) {
+                    // 그 사이 다른 인스턴스가 지웠거나 옮김
+                }
+            }
+        } catch (IOException ignored) {}
+        return deleted;
+    }
+
+    public void deleteStaging(String token) {
+        try {
+            Files.deleteIfExists(stagingPath(token));
+        } catch (IOException ignored) {}
+    }
+
+    private Path stagingPath(String token) {
+        Path target = stagingDir.resolve(token + ".part").normalize();
+        if (!target.startsWith(stagingDir)) throw new SecurityException("Invalid path");
+        return target;
+    }
+
+    private static String sanitizeFilename(String name) {
+        String original = Optional.ofNullable(name).orElse("unknown");
+        original = original.replace("\\", "/");
+        original = original.substring(original.lastIndexOf('/') + 1);
+        if (original.isBlank()) original = "unknown";
+        if (original.length() > 255) original = original.substring(original.length() - 255);
+        return original;
+    }
+
+    private static String toUrl(String urlPrefix, String filename) {
+        String encoded = java.net.URLEncoder.encode(filename, java.nio.charset.StandardCharsets.UTF_8)
+                .replace("+", "%20");
+        return urlPrefix + encoded;
+    }
+
     public void deleteByUrl(String fileUrl) {
         if (fileUrl == null || !fileUrl.startsWith("/uploads/")) return;
         try {
@@ -63,18 +227,8 @@ public class FileStorageService {
 
     /** FastAPI 전송용: 저장 파일 바이트 */
     public byte[] readBytes(String fileUrl) throws FileReadException {
-        if (fileUrl == null || !fileUrl.startsWith("/uploads/")) {
-            throw new FileReadException("잘못된 파일 URL: " + fileUrl);
-        }
+        Path target = resolveStored(fileUrl);
         try {
-            String relative = java.net.URLDecoder.decode(
-                    fileUrl.substring("/uploads/".length()),
-                    java.nio.charset.StandardCharsets.UTF_8
-            );
-            Path target = uploadDir.resolve(relative).normalize();
-            if (!target.startsWith(uploadDir)) {
-                throw new FileReadException("Invalid path traversal");
-            }
             return Files.readAllBytes(target);
         } catch (IOException e) {
             // 구체적인 예외 메시지를 포함하여 새로운 사용자 정의 예외를 던짐
@@ -82,6 +236,50 @@ public class FileStorageService {
         }
     }
 
+    /** 미리보기 메타데이터용: 저장 파일 크기 (없거나 읽을 수 없으면 -1) */
+    public long sizeOf(String fileUrl) {
+        try {
+            return Files.size(resolveStored(fileUrl));
+        } catch (IOException | FileReadException e) {
+            return -1;
+        }
+    }
+
+    /** 대용량 전송용: 파일 전체를 메모리에 올리지 않고 out 으로 바로 복사 (out 은 닫지 않음) */
+    public long copyTo(String fileUrl, OutputStream out) throws FileReadException {
+        Path target = resolveStored(fileUrl);
+        try {
+            return Files.copy(target, out);
+        } catch (IOException e) {
+            throw new FileReadException("파일 읽기 실패: " + e.getMessage(), e);
+        }
+    }
+
+    /** 공유 볼륨 전송용: uploads 기준 상대 경로 ("/" 구분). OCR 은 자기 쪽 마운트 루트에 붙여서 연다 */
+    public String relativePath(String fileUrl) throws FileReadException {
+        Path target = resolveStored(fileUrl);
+        if (!Files.isRegularFile(target)) {
+            throw new FileReadException("파일이 존재하지 않습니다: " + fileUrl);
+        }
+        return uploadDir.relativize(target).toString().replace('\\', '/');
+    }
+
+    // "/uploads/..." URL → uploads 폴더 내부 실제 경로 (폴더 밖이면 차단)
+    private Path resolveStored(String fileUrl) throws FileReadException {
+        if (fileUrl == null || !fileUrl.startsWith("/uploads/")) {
+            throw new FileReadException("잘못된 파일 URL: " + fileUrl);
+        }
+        String relative = java.net.URLDecoder.decode(
+                fileUrl.substring("/uploads/".length()),
+                java.nio.charset.StandardCharsets.UTF_8
+        );
+        Path target = uploadDir.resolve(relative).normalize();
+        if (!target.startsWith(uploadDir)) {
+            throw new FileReadException("Invalid path traversal");
+        }
+        return target;
+    }
+
     /** FastAPI 전송용: 사용자 친화적 파일명 추출 */
     public String getFilename(String fileUrl) {
         if (fileUrl == null) return "upload.bin";
@@ -102,4 +300,14 @@ public class FileStorageService {
             super(message, cause);
         }
     }
+
+    // 청크 쓰기 오류 (크기 초과/연결 끊김 등)
+    public static class FileWriteException extends RuntimeException {
+        public FileWriteException(String message) {
+            super(message);
+        }
+        public FileWriteException(String message, Throwable cause) {
+            super(message, cause);
+        }
+    }
 }
@@ -0,0 +1,103 @@
+package com.cnu.docserver.ocr;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 방금 업로드된 파일을 OCR 디스패처에 메모리로 넘겨주는 버퍼.
+ * 디스크 사본이 원본(authoritative)이며, 여기 없으면 OCR 은 디스크에서 읽는다.
+ *  - 총 바이트 기준 LRU 축출 (ocr.hot-buffer.max-bytes)
+ *  - finalize 된 업로드 세션의 미러 버퍼도 같은 예산에서 예약 (제출로 넘어가거나 짧은 TTL 뒤 반납)
+ *  - hit/miss 는 ocr.hot_buffer.requests{result=hit|miss} 로 노출
+ */
+@Component
+@Slf4j
+public class HotFileBuffer {
+
+    private final long maxBytes;
+    private final long maxEntryBytes;
+
+    // fileUrl → 파일 바이트 (접근 순서 LRU)
+    private final LinkedHashMap<String, byte[]> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long storedBytes;
+    private long reservedBytes;
+
+    private final Counter hits;
+    private final Counter misses;
+
+    public HotFileBuffer(MeterRegistry meterRegistry,
+                         @Value("${ocr.hot-buffer.max-bytes:67108864}") long maxBytes,
+                         @Value("${ocr.hot-buffer.max-entry-bytes:16777216}") long maxEntryBytes) {
+        this.maxBytes = maxBytes;
+        this.maxEntryBytes = maxEntryBytes;
+        this.hits = Counter.builder("ocr.hot_buffer.requests").tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder("ocr.hot_buffer.requests").tag("result", "miss").register(meterRegistry);
+        Gauge.builder("ocr.hot_buffer.bytes", this, HotFileBuffer::totalBytes).register(meterRegistry);
+    }
+
+    /** 완료된 업로드 세션용 미러 버퍼 예약. 예산이 없거나 파일이 크면 null (→ 디스크 경로 사용) */
+    public synchronized byte[] reserve(long size) {
+        if (size <= 0 || size > maxEntryBytes || size > Integer.MAX_VALUE) return null;
+        // 예약분은 축출할 수 없으므로, 저장분을 밀어내서라도 자리가 나야만 예약
+        while (storedBytes + reservedBytes + size > maxBytes && !entries.isEmpty()) {
+            evictEldest();
+        }
+        if (storedBytes + reservedBytes + size > maxBytes) return null;
+        reservedBytes += size;
+        return new byte[(int) size];
+    }
+
+    /** 예약 해제 (세션 폐기 또는 업로드 사용 시) */
+    public synchronized void release(byte[] mirror) {
+        if (mirror != null) reservedBytes = Math.max(0, reservedBytes - mirror.length);
+    }
+
+    /** 최종 저장 URL 기준으로 등록 */
+    public synchronized void put(String fileUrl, byte[] data) {
+        if (fileUrl == null || data == null || data.length > maxEntryBytes) return;
+        byte[] prev = entries.put(fileUrl, data);
+        if (prev != null) storedBytes -= prev.length;
+        storedBytes += data.length;
+        while (storedBytes + reservedBytes > maxBytes && !entries.isEmpty()) {
+            evictEldest();
+        }
+    }
+
+    /** OCR 디스패처가 한 번 꺼내 쓰고 나면 메모리에서 제거 */
+    public synchronized Optional<byte[]> take(String fileUrl) {
+        byte[] data = (fileUrl == null) ? null : entries.remove(fileUrl);
+        if (data == null) {
+            misses.increment();
+            return Optional.empty();
+        }
+        storedBytes -= data.length;
+        hits.increment();
+        return Optional.of(data);
+    }
+
+    public synchronized void invalidate(String fileUrl) {
+        byte[] prev = (fileUrl == null) ? null : entries.remove(fileUrl);
+        if (prev != null) storedBytes -= prev.length;
+    }
+
+    private synchronized double totalBytes() {
+        return storedBytes + reservedBytes;
+    }
+
+    private void evictEldest() {
+        Iterator<Map.Entry<String, byte[]>> it = entries.entrySet().iterator();
+        Map.Entry<String, byte[]> eldest = it.next();
+        storedBytes -= eldest.getValue().length;
+        it.remove();
+        log.debug("Hot buffer evicted {}", eldest.getKey());
+    }
+}
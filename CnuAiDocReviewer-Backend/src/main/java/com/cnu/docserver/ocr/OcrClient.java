@@ -2,6 +2,7 @@ package com.cnu.docserver.ocr;
 
 import com.cnu.docserver.ocr.dto.Finding;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.Data;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
@@ -12,6 +13,10 @@ import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.web.client.ResourceAccessException; // Import 추가
 import org.springframework.web.client.RestTemplate;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 
@@ -19,14 +24,45 @@ import java.util.Map;
 public class OcrClient {
 
     private final RestTemplate ocrRestTemplate;
+    private final ObjectMapper objectMapper;
 
-    public OcrClient(@Qualifier("ocrRestTemplate") RestTemplate ocrRestTemplate) {
+    public OcrClient(@Qualifier("ocrRestTemplate") RestTemplate ocrRestTemplate, ObjectMapper objectMapper) {
         this.ocrRestTemplate = ocrRestTemplate;
+        this.objectMapper = objectMapper;
     }
 
     @Value("${ocr.base-url:http://localhost:8000}")
     private String baseUrl;
 
+    /**
+     * 전송 방식
+     *  - http          : 파일 바이트를 multipart 로 업로드 (기본, OCR 이 다른 호스트여도 동작)
+     *  - shared-volume : 같은 uploads 볼륨을 마운트한 OCR 에 상대 경로만 HTTP 로 전달
+     *  - uds           : shared-volume 과 같되 유닉스 도메인 소켓(ocr.uds-path)으로 호출
+     */
+    @Value("${ocr.transport:http}")
+    private String transport;
+
+    @Value("${ocr.uds-path:}")
+    private String udsPath;
+
+    // ocrRestTemplate 과 같은 읽기 타임아웃 (RestClientConfig)
+    @Value("${ocr.read-timeout:600s}")
+    private Duration readTimeout;
+
+    // OCR 서비스의 OCR_SHARED_SECRET 과 같은 값 (비우면 헤더 없이 호출 → OCR 은 루프백/소켓 요청만 경로 검토 허용)
+    @Value("${ocr.shared-secret:}")
+    private String sharedSecret;
+
+    static final String SECRET_HEADER = "X-OCR-Secret";
+
+    private volatile UnixSocketHttpClient udsClient;
+
+    /** OCR 이 같은 호스트/볼륨에 있어 경로만 넘기면 되는지 */
+    public boolean isColocated() {
+        return "shared-volume".equalsIgnoreCase(transport) || "uds".equalsIgnoreCase(transport);
+    }
+
     /**
      * OCR 서비스에 파일을 보내 검토를 요청하고 결과를 반환합니다.
      * @param fileBytes 검토할 파일의 바이트 배열
@@ -36,7 +72,7 @@ public class OcrClient {
      */
     public OcrResult review(byte[] fileBytes, String filename) {
         try {
-            HttpHeaders headers = new HttpHeaders();
+            HttpHeaders headers = authHeaders();
             headers.setContentType(MediaType.MULTIPART_FORM_DATA);
 
             var body = new LinkedMultiValueMap<String, Object>();
@@ -65,6 +101,58 @@ public class OcrClient {
         }
     }
 
+    /**
+     * 공유 볼륨에 저장된 파일을 경로로 검토 요청 (파일 바이트 복사/전송 없음)
+     * @param relativePath uploads 기준 상대 경로 (예: submissions/{token}/a.pdf)
+     */
+    public OcrResult reviewStored(String relativePath) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(Map.of("path", relativePath));
+
+            if ("uds".equalsIgnoreCase(transport)) {
+                UnixSocketHttpClient.Response res = udsClient().postJson("/ocr/review-path", json, authHeaders().toSingleValueMap());
+                if (res.status() != 200) {
+                    throw new OcrException("OCR 응답 오류 (" + res.status() + "): "
+                            + new String(res.body(), StandardCharsets.UTF_8));
+                }
+                return objectMapper.readValue(res.body(), OcrResult.class);
+            }
+
+            HttpHeaders headers = authHeaders();
+            headers.setContentType(MediaType.APPLICATION_JSON);
+            ResponseEntity<OcrResult> res = ocrRestTemplate.postForEntity(
+                    baseUrl + "/ocr/review-path", new HttpEntity<>(json, headers), OcrResult.class);
+            if (res.getBody() == null) {
+                throw new OcrException("OCR 응답이 비어있습니다.");
+            }
+            return res.getBody();
+
+        } catch (OcrException e) {
+            throw e;
+        } catch (ResourceAccessException | IOException e) {
+            throw new OcrException("OCR 서버 연결/응답 타임아웃 오류", e);
+        } catch (Exception e) {
+            throw new OcrException("OCR 호출 중 예상치 못한 오류 발생", e);
+        }
+    }
+
+    private HttpHeaders authHeaders() {
+        HttpHeaders headers = new HttpHeaders();
+        if (sharedSecret != null && !sharedSecret.isBlank()) headers.set(SECRET_HEADER, sharedSecret);
+        return headers;
+    }
+
+    private UnixSocketHttpClient udsClient() {
+        UnixSocketHttpClient c = udsClient;
+        if (c == null) {
+            if (udsPath == null || udsPath.isBlank()) {
+                throw new OcrException("ocr.uds-path 가 설정되지 않았습니다.");
+            }
+            c = udsClient = new UnixSocketHttpClient(Path.of(udsPath), readTimeout);
+        }
+        return c;
+    }
+
     // OCR 호출 오류를 명확히 구분하기 위한 커스텀 예외 클래스
     public static class OcrException extends RuntimeException {
         public OcrException(String message, Throwable cause) {
@@ -85,4 +173,4 @@ public class OcrClient {
         @JsonProperty("processing_time") private String processingTime;
         @JsonProperty("debug_text") private String debugText;
     }
-}
\ No newline at end of file
+}
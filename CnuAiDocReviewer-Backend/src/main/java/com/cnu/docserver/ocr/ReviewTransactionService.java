@@ -1,12 +1,16 @@
 package com.cnu.docserver.ocr;
 
+import com.cnu.docserver.analytics.service.AnalyticsRollupService;
+import com.cnu.docserver.analytics.service.RollupDelta;
 import com.cnu.docserver.ocr.OcrClient.OcrResult;
+import com.cnu.docserver.ocr.repository.OCRReviewResultRepository;
 import com.cnu.docserver.submission.entity.Submission;
 import com.cnu.docserver.submission.entity.SubmissionHistory;
 import com.cnu.docserver.submission.enums.HistoryAction;
-import com.cnu.docserver.submission.enums.SubmissionStatus;
+import com.cnu.docserver.submission.enums.SubmissionTransition;
 import com.cnu.docserver.submission.repository.SubmissionHistoryRepository;
 import com.cnu.docserver.submission.repository.SubmissionRepository;
+import com.cnu.docserver.submission.service.SubmissionStateMachine;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
@@ -29,7 +33,10 @@ public class ReviewTransactionService {
 
     private final SubmissionRepository submissionRepo;
     private final SubmissionHistoryRepository historyRepo;
+    private final OCRReviewResultRepository ocrReviewResultRepo;
     private final ObjectMapper objectMapper;
+    private final SubmissionStateMachine stateMachine;
+    private final AnalyticsRollupService analyticsRollupService;
 
     private static final boolean OCR_DETAIL_ENABLED =
             Boolean.parseBoolean(System.getProperty("ocr.detail.enabled",
@@ -48,42 +55,55 @@ public class ReviewTransactionService {
 
         String verdict = Optional.ofNullable(res.getVerdict()).orElse("").toUpperCase();
         String humanMemo;
-        HistoryAction actionForHistory;
+        SubmissionTransition transition;
+        RollupDelta.OcrOutcome outcome;
 
         switch (verdict) {
             case "PASS" -> {
-                s.setStatus(SubmissionStatus.SUBMITTED);
+                transition = SubmissionTransition.BOT_PASS;
+                outcome = RollupDelta.OcrOutcome.PASS;
                 humanMemo = "자동 검토 통과, 관리자 검토 대기";
-                actionForHistory = HistoryAction.MODIFIED;
             }
             case "NEEDS_FIX" -> {
-                s.setStatus(SubmissionStatus.NEEDS_FIX);
+                transition = SubmissionTransition.BOT_NEEDS_FIX;
+                outcome = RollupDelta.OcrOutcome.NEEDS_FIX;
                 String reasonMsg = (res.getFindings() == null || res.getFindings().isEmpty())
                         ? (res.getReason() == null ? "사유 미기재" : res.getReason())
                         : res.getFindings().stream()
                         .map(f -> f.getLabel() + ": " + f.getMessage())
                         .limit(10).collect(Collectors.joining("; "));
                 humanMemo = "자동 검토 실패: " + reasonMsg;
-                actionForHistory = HistoryAction.MODIFIED;
             }
             case "REJECT" -> {
-                s.setStatus(SubmissionStatus.REJECTED);
+                transition = SubmissionTransition.BOT_REJECT;
+                outcome = RollupDelta.OcrOutcome.REJECT;
                 humanMemo = "자동 검토 실패: " + (res.getReason() == null ? "사유 미기재" : res.getReason());
-                actionForHistory = HistoryAction.REJECTED;
             }
             default -> {
-                s.setStatus(SubmissionStatus.NEEDS_FIX);
+                transition = SubmissionTransition.BOT_NEEDS_FIX;
+                outcome = RollupDelta.OcrOutcome.FAILED;
                 humanMemo = "자동 검토 실패: OCR 응답 이상";
-                actionForHistory = HistoryAction.MODIFIED;
             }
         }
-        log.info("➡️ Updating submission ID {} status to {}. Memo: {}", submissionId, s.getStatus(), humanMemo);
+        log.info("➡️ Updating submission ID {} status to {}. Memo: {}", submissionId, transition.to(), humanMemo);
 
-        historyRepo.save(SubmissionHistory.builder()
+        // 검수 중일 때만 반영 — 결과를 기다리는 사이 관리자가 처리했으면 그 결정을 덮어쓰지 않음
+        analyticsRollupService.beginLiveUpdate(); // 이력보다 먼저 (통계 재계산과의 순서)
+        if (!stateMachine.tryApply(s, transition, null, humanMemo)) {
+            log.info("⏭️ Submission ID {} is no longer in BOT_REVIEW ({}); OCR result discarded.", submissionId, s.getStatus());
+            return;
+        }
+        analyticsRollupService.ocrCompleted(s.getDocType().getDocTypeId(), outcome, latency);
+
+        // 구조화된 결과 (관리자 작업 화면/보관이 읽음) — 상태 전이와 같은 트랜잭션
+        OCRReviewResult result = OCRReviewResult.builder()
                 .submission(s)
-                .action(actionForHistory)
-                .memo(humanMemo)
-                .build());
+                .verdict(verdict.isEmpty() ? "UNKNOWN" : verdict.substring(0, Math.min(32, verdict.length())))
+                .reason(res.getReason())
+                .debugText(res.getDebugText())
+                .build();
+        result.setFindings(res.getFindings());
+        ocrReviewResultRepo.save(result);
 
         if (OCR_DETAIL_ENABLED) {
             try {
@@ -117,7 +137,6 @@ public class ReviewTransactionService {
             }
         }
 
-        submissionRepo.saveAndFlush(s);
         log.info("✅ Submission ID {} status update and history saved successfully.", submissionId);
     }
 
@@ -130,14 +149,12 @@ public class ReviewTransactionService {
         Submission s = submissionRepo.findById(submissionId)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND));
 
-        s.setStatus(SubmissionStatus.NEEDS_FIX);
-        submissionRepo.saveAndFlush(s);
-
-        historyRepo.save(SubmissionHistory.builder()
-                .submission(s)
-                .action(HistoryAction.MODIFIED)
-                .memo(memo)
-                .build());
+        analyticsRollupService.beginLiveUpdate();
+        if (!stateMachine.tryApply(s, SubmissionTransition.BOT_NEEDS_FIX, null, memo)) {
+            log.info("⏭️ Submission ID {} is no longer in BOT_REVIEW ({}); failure not recorded.", submissionId, s.getStatus());
+            return;
+        }
+        analyticsRollupService.ocrCompleted(s.getDocType().getDocTypeId(), RollupDelta.OcrOutcome.FAILED, null);
     }
 
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package com.cnu.docserver.ocr;
 
+import com.cnu.docserver.common.Workload;
 import com.cnu.docserver.docmanger.service.FileStorageService;
 import com.cnu.docserver.ocr.OcrClient.OcrException;
 import com.cnu.docserver.submission.entity.Submission;
@@ -27,6 +28,7 @@ public class SubmissionReviewOrchestrator {
     private final SubmissionFileRepository fileRepo;
     private final OcrClient ocrClient;
     private final FileStorageService fileStorageService;
+    private final HotFileBuffer hotFileBuffer;
     private final ReviewTransactionService reviewTransactionService; // ⭐ 새로 추가된 서비스
 
     /**
@@ -39,6 +41,10 @@ public class SubmissionReviewOrchestrator {
     }
 
     public void runBotReview(Integer submissionId) {
+        Workload.OCR.run(() -> review(submissionId)); // 결과 반영 포함 전부 OCR 풀 (완료가 몰려도 웹 요청 풀과 격리)
+    }
+
+    private void review(Integer submissionId) {
         log.info("🤖 Starting OCR review for submission ID: {}", submissionId);
 
         Submission s = submissionRepo.findById(submissionId)
@@ -53,9 +59,18 @@ public class SubmissionReviewOrchestrator {
                     });
 
             log.info("📞 Calling OCR service for submission ID: {} with file URL: {}", submissionId, fileUrl);
-            byte[] fileBytes = fileStorageService.readBytes(fileUrl);
             long t0 = System.currentTimeMillis();
-            OcrClient.OcrResult res = ocrClient.review(fileBytes, "submission.pdf");
+            OcrClient.OcrResult res;
+            if (ocrClient.isColocated()) {
+                // 같은 볼륨을 보는 OCR 에는 경로만 전달 (바이트 복사/업로드 없음)
+                hotFileBuffer.invalidate(fileUrl);
+                res = ocrClient.reviewStored(fileStorageService.relativePath(fileUrl));
+            } else {
+                // 방금 업로드된 파일은 메모리 버퍼에서, 없으면 디스크(원본)에서 읽음
+                byte[] fileBytes = hotFileBuffer.take(fileUrl)
+                        .orElseGet(() -> fileStorageService.readBytes(fileUrl));
+                res = ocrClient.review(fileBytes, "submission.pdf");
+            }
             long latency = System.currentTimeMillis() - t0;
             log.info("✅ OCR service call successful for submission ID: {}. Verdict: {}, Latency: {}ms",
                     submissionId, res.getVerdict(), latency);
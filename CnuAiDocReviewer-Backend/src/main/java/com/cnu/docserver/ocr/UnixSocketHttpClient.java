@@ -0,0 +1,134 @@
+package com.cnu.docserver.ocr;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.SocketTimeoutException;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 같은 호스트의 OCR 서비스(uvicorn --uds)와 유닉스 도메인 소켓으로 통신하는 최소 HTTP/1.1 클라이언트.
+ * JSON POST 한 건 = 연결 한 개 (Connection: close) 로 단순하게 유지한다.
+ */
+final class UnixSocketHttpClient {
+
+    private final Path socketPath;
+    private final Duration readTimeout;
+
+    UnixSocketHttpClient(Path socketPath, Duration readTimeout) {
+        this.socketPath = socketPath;
+        this.readTimeout = readTimeout;
+    }
+
+    record Response(int status, byte[] body) {}
+
+    Response postJson(String path, byte[] json, Map<String, String> extraHeaders) throws IOException {
+        try (SocketChannel ch = SocketChannel.open(StandardProtocolFamily.UNIX)) {
+            ch.connect(UnixDomainSocketAddress.of(socketPath));
+
+            StringBuilder head = new StringBuilder()
+                    .append("POST ").append(path).append(" HTTP/1.1\r\n")
+                    .append("Host: localhost\r\n")
+                    .append("Content-Type: application/json\r\n")
+                    .append("Accept: application/json\r\n");
+            extraHeaders.forEach((name, value) -> head.append(name).append(": ").append(value).append("\r\n"));
+            head.append("Content-Length: ").append(json.length).append("\r\n")
+                    .append("Connection: close\r\n\r\n");
+            byte[] headBytes = head.toString().getBytes(StandardCharsets.US_ASCII);
+            ByteBuffer out = ByteBuffer.allocate(headBytes.length + json.length);
+            out.put(headBytes).put(json).flip();
+            while (out.hasRemaining()) ch.write(out);
+
+            return parse(readAll(ch));
+        }
+    }
+
+    // 응답 끝(EOF)까지 읽기. OCR 처리 시간이 길어 read 타임아웃은 Selector 로 건다.
+    private byte[] readAll(SocketChannel ch) throws IOException {
+        ch.configureBlocking(false);
+        ByteArrayOutputStream acc = new ByteArrayOutputStream(8 * 1024);
+        ByteBuffer buf = ByteBuffer.allocate(16 * 1024);
+        long deadline = System.nanoTime() + readTimeout.toNanos();
+        try (Selector selector = Selector.open()) {
+            ch.register(selector, SelectionKey.OP_READ);
+            while (true) {
+                long remainingMs = (deadline - System.nanoTime()) / 1_000_000;
+                if (remainingMs <= 0) throw new SocketTimeoutException("OCR UDS read timeout");
+                if (selector.select(remainingMs) == 0) continue;
+                selector.selectedKeys().clear();
+                int n;
+                while ((n = ch.read(buf)) > 0) {
+                    acc.write(buf.array(), 0, n);
+                    buf.clear();
+                }
+                if (n < 0) return acc.toByteArray();
+            }
+        }
+    }
+
+    static Response parse(byte[] raw) throws IOException {
+        int headerEnd = indexOf(raw, "\r\n\r\n".getBytes(StandardCharsets.US_ASCII), 0);
+        if (headerEnd < 0) throw new IOException("Malformed HTTP response");
+        String[] lines = new String(raw, 0, headerEnd, StandardCharsets.ISO_8859_1).split("\r\n");
+        String[] statusLine = lines[0].split(" ", 3);
+        if (statusLine.length < 2) throw new IOException("Malformed status line: " + lines[0]);
+        int status = Integer.parseInt(statusLine[1]);
+
+        boolean chunked = false;
+        int contentLength = -1;
+        for (int i = 1; i < lines.length; i++) {
+            int colon = lines[i].indexOf(':');
+            if (colon < 0) continue;
+            String name = lines[i].substring(0, colon).trim().toLowerCase(Locale.ROOT);
+            String value = lines[i].substring(colon + 1).trim();
+            if (name.equals("transfer-encoding") && value.toLowerCase(Locale.ROOT).contains("chunked")) chunked = true;
+            if (name.equals("content-length")) contentLength = Integer.parseInt(value);
+        }
+
+        int bodyStart = headerEnd + 4;
+        byte[] body;
+        if (chunked) {
+            body = dechunk(raw, bodyStart);
+        } else {
+            int end = (contentLength >= 0) ? Math.min(raw.length, bodyStart + contentLength) : raw.length;
+            body = java.util.Arrays.copyOfRange(raw, bodyStart, end);
+        }
+        return new Response(status, body);
+    }
+
+    private static byte[] dechunk(byte[] raw, int pos) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] crlf = "\r\n".getBytes(StandardCharsets.US_ASCII);
+        while (true) {
+            int lineEnd = indexOf(raw, crlf, pos);
+            if (lineEnd < 0) throw new IOException("Malformed chunked body");
+            String sizeHex = new String(raw, pos, lineEnd - pos, StandardCharsets.US_ASCII).split(";")[0].trim();
+            int size = Integer.parseInt(sizeHex, 16);
+            if (size == 0) return out.toByteArray();
+            int start = lineEnd + 2;
+            if (start + size > raw.length) throw new IOException("Truncated chunked body");
+            out.write(raw, start, size);
+            pos = start + size + 2;
+        }
+    }
+
+    private static int indexOf(byte[] data, byte[] pattern, int from) {
+        outer:
+        for (int i = from; i <= data.length - pattern.length; i++) {
+            for (int j = 0; j < pattern.length; j++) {
+                if (data[i + j] != pattern[j]) continue outer;
+            }
+            return i;
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,66 @@
+package com.cnu.docserver.search.controller;
+
+import com.cnu.docserver.search.dto.SubmissionSearchPageDTO;
+import com.cnu.docserver.search.service.SubmissionSearchIndex;
+import com.cnu.docserver.search.service.SubmissionSearchIndexer;
+import com.cnu.docserver.submission.enums.SubmissionStatus;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.apache.lucene.queryparser.classic.ParseException;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.Map;
+
+@Tag(name = "Admin Search", description = "관리자 제출 전문 검색 API")
+@RestController
+@RequestMapping("/api/admin/search/submissions")
+@RequiredArgsConstructor
+public class SubmissionSearchController {
+
+    private static final int MAX_SIZE = 100;
+    private static final int MAX_WINDOW = 1000; // 관련도 검색은 앞쪽 결과만 의미 있음
+
+    private final SubmissionSearchIndex searchIndex;
+    private final SubmissionSearchIndexer searchIndexer;
+
+    // 예: ?departmentId=1&q=장학금 신청서&docTypeId=3&status=SUBMITTED
+    @Operation(summary = "제출 검색", description = "학생 이름/학번, 입력 필드 값, 자동 검토 지적 사항을 한국어 형태소 기준으로 검색합니다.")
+    @GetMapping
+    public SubmissionSearchPageDTO search(
+            @RequestParam Integer departmentId,
+            @RequestParam String q,
+            @RequestParam(required = false) Integer docTypeId,
+            @RequestParam(required = false) SubmissionStatus status,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        if (q.isBlank()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "검색어를 입력하세요.");
+        }
+        if (page < 0 || size < 1 || size > MAX_SIZE) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "page/size 값이 올바르지 않습니다.");
+        }
+        if ((page + 1) * size > MAX_WINDOW) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "검색 결과는 앞쪽 " + MAX_WINDOW + "건까지만 조회할 수 있습니다.");
+        }
+        try {
+            return searchIndex.search(new SubmissionSearchIndex.SearchRequest(
+                    departmentId, q, docTypeId, status == null ? null : status.name()), page, size);
+        } catch (ParseException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "검색어를 해석할 수 없습니다.");
+        }
+    }
+
+    @Operation(summary = "전체 재색인", description = "검색 인덱스를 비우고 모든 제출을 다시 색인합니다.")
+    @PostMapping("/reindex")
+    public Map<String, Integer> reindex() {
+        try {
+            return Map.of("submissions", searchIndexer.reindexAll());
+        } catch (IllegalStateException e) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, e.getMessage());
+        }
+    }
+}
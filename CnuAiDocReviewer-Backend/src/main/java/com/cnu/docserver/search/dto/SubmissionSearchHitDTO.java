@@ -0,0 +1,14 @@
+package com.cnu.docserver.search.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "제출 검색 결과 한 건")
+public record SubmissionSearchHitDTO(
+        @Schema(description = "제출 ID") Integer submissionId,
+        @Schema(description = "학번") String studentId,
+        @Schema(description = "학생 이름") String studentName,
+        @Schema(description = "문서 유형명") String docTypeTitle,
+        @Schema(description = "상태") String status,
+        @Schema(description = "제출일(ISO)") String submittedAt,
+        @Schema(description = "검색 점수") float score
+) {}
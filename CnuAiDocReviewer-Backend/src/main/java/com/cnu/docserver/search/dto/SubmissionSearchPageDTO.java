@@ -0,0 +1,13 @@
+package com.cnu.docserver.search.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "제출 검색 결과 페이지")
+public record SubmissionSearchPageDTO(
+        @Schema(description = "전체 일치 건수") long total,
+        @Schema(description = "페이지 번호 (0부터)") int page,
+        @Schema(description = "페이지 크기") int size,
+        @Schema(description = "결과 (관련도순, 같으면 최신순)") List<SubmissionSearchHitDTO> items
+) {}
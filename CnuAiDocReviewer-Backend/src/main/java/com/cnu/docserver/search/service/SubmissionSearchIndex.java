@@ -0,0 +1,245 @@
+package com.cnu.docserver.search.service;
+
+import com.cnu.docserver.search.dto.SubmissionSearchHitDTO;
+import com.cnu.docserver.search.dto.SubmissionSearchPageDTO;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.ko.KoreanAnalyzer;
+import org.apache.lucene.analysis.ko.KoreanPartOfSpeechStopFilter;
+import org.apache.lucene.analysis.ko.KoreanTokenizer;
+import org.apache.lucene.document.*;
+import org.apache.lucene.index.*;
+import org.apache.lucene.queryparser.classic.MultiFieldQueryParser;
+import org.apache.lucene.queryparser.classic.ParseException;
+import org.apache.lucene.queryparser.classic.QueryParser;
+import org.apache.lucene.search.*;
+import org.apache.lucene.store.FSDirectory;
+import org.apache.lucene.util.BytesRef;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 제출 전문 검색용 로컬 Lucene 인덱스 (제출 1건 = 문서 1개).
+ *  - 한국어는 nori 형태소 분석 (복합명사는 원형+분해형 모두 색인: MIXED)
+ *  - 쓰기는 IndexWriter 하나로 upsert, 검색은 SearcherManager 로 거의 실시간 반영
+ *  - 디스크 커밋은 주기적으로만 (유실분은 재색인으로 복구)
+ */
+@Component
+@Slf4j
+public class SubmissionSearchIndex {
+
+    static final String F_ID = "id";
+    static final String F_DEPT = "dept";
+    static final String F_DOC_TYPE = "docType";
+    static final String F_STATUS = "status";
+    static final String F_STUDENT_ID = "studentId";
+    static final String F_STUDENT_NAME = "studentName";
+    static final String F_STUDENT_NAME_EXACT = "studentNameExact";
+    static final String F_DOC_TYPE_TITLE = "docTypeTitle";
+    static final String F_FIELDS = "fields";
+    static final String F_FINDINGS = "findings";
+    static final String F_SUBMITTED_AT = "submittedAt";
+
+    private static final String[] TEXT_FIELDS = {F_STUDENT_NAME, F_FIELDS, F_FINDINGS};
+    private static final Map<String, Float> BOOSTS = Map.of(F_STUDENT_NAME, 3f, F_FIELDS, 1.5f, F_FINDINGS, 1f);
+
+    private final Analyzer analyzer;
+    private final FSDirectory directory;
+    private final IndexWriter writer;
+    private final SearcherManager searcherManager;
+
+    /** 색인할 제출 한 건 */
+    public record Entry(
+            Integer submissionId,
+            Integer departmentId,
+            Integer docTypeId,
+            String docTypeTitle,
+            String status,
+            String studentId,
+            String studentName,
+            LocalDateTime submittedAt,
+            String fieldsText,
+            String findingsText
+    ) {}
+
+    public record SearchRequest(
+            Integer departmentId,
+            String text,
+            Integer docTypeId,
+            String status
+    ) {}
+
+    public SubmissionSearchIndex(@Value("${search.index-dir:search-index}") String indexDir) throws IOException {
+        Path dir = Path.of(indexDir);
+        Files.createDirectories(dir);
+        this.analyzer = new KoreanAnalyzer(null, KoreanTokenizer.DecompoundMode.MIXED,
+                KoreanPartOfSpeechStopFilter.DEFAULT_STOP_TAGS, false);
+        this.directory = FSDirectory.open(dir);
+        IndexWriterConfig cfg = new IndexWriterConfig(analyzer)
+                .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND)
+                .setRAMBufferSizeMB(32);
+        this.writer = new IndexWriter(directory, cfg);
+        this.searcherManager = new SearcherManager(writer, null);
+    }
+
+    public boolean isEmpty() {
+        return writer.getDocStats().numDocs == 0;
+    }
+
+    public void upsert(Collection<Entry> entries) {
+        try {
+            for (Entry e : entries) {
+                writer.updateDocument(new Term(F_ID, String.valueOf(e.submissionId())), toDocument(e));
+            }
+            searcherManager.maybeRefresh();
+        } catch (IOException ex) {
+            throw new UncheckedIOException("검색 색인 실패", ex);
+        }
+    }
+
+    public void delete(Collection<Integer> submissionIds) {
+        try {
+            for (Integer id : submissionIds) {
+                writer.deleteDocuments(new Term(F_ID, String.valueOf(id)));
+            }
+            searcherManager.maybeRefresh();
+        } catch (IOException ex) {
+            throw new UncheckedIOException("검색 색인 삭제 실패", ex);
+        }
+    }
+
+    /** 현재 검색에 보이는 문서의 제출 ID 전체 (전체 재색인 후 남은 문서 정리용) */
+    public Set<Integer> ids() {
+        Set<Integer> ids = new HashSet<>();
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                for (LeafReaderContext leaf : searcher.getIndexReader().leaves()) {
+                    Terms terms = leaf.reader().terms(F_ID);
+                    if (terms == null) continue;
+                    TermsEnum it = terms.iterator();
+                    for (BytesRef term = it.next(); term != null; term = it.next()) {
+                        // 삭제만 표시되고 병합 전인 문서의 ID 도 섞일 수 있음 (호출 측이 DB 로 다시 확인)
+                        ids.add(Integer.valueOf(term.utf8ToString()));
+                    }
+                }
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException("검색 색인 조회 실패", ex);
+        }
+        return ids;
+    }
+
+    public SubmissionSearchPageDTO search(SearchRequest q, int page, int size) throws ParseException {
+        BooleanQuery.Builder text = new BooleanQuery.Builder();
+        MultiFieldQueryParser parser = new MultiFieldQueryParser(TEXT_FIELDS, analyzer, BOOSTS);
+        parser.setDefaultOperator(QueryParser.Operator.AND); // 입력한 단어가 모두 포함된 제출만
+        text.add(parser.parse(QueryParser.escape(q.text().trim())), BooleanClause.Occur.SHOULD);
+        // 학번/이름 정확 일치는 형태소 분석과 무관하게 최상단으로
+        text.add(new BoostQuery(new TermQuery(new Term(F_STUDENT_ID, q.text().trim())), 10f), BooleanClause.Occur.SHOULD);
+        text.add(new BoostQuery(new TermQuery(new Term(F_STUDENT_NAME_EXACT, q.text().trim())), 10f), BooleanClause.Occur.SHOULD);
+
+        BooleanQuery.Builder query = new BooleanQuery.Builder()
+                .add(text.build(), BooleanClause.Occur.MUST)
+                .add(new TermQuery(new Term(F_DEPT, String.valueOf(q.departmentId()))), BooleanClause.Occur.FILTER);
+        if (q.docTypeId() != null) {
+            query.add(new TermQuery(new Term(F_DOC_TYPE, String.valueOf(q.docTypeId()))), BooleanClause.Occur.FILTER);
+        }
+        if (q.status() != null) {
+            query.add(new TermQuery(new Term(F_STATUS, q.status())), BooleanClause.Occur.FILTER);
+        }
+        BooleanQuery built = query.build();
+
+        Sort sort = new Sort(SortField.FIELD_SCORE, new SortField(F_SUBMITTED_AT, SortField.Type.LONG, true));
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                int end = (page + 1) * size;
+                TopFieldDocs top = searcher.search(built, end, sort, true);
+                StoredFields stored = searcher.storedFields();
+                List<SubmissionSearchHitDTO> items = new ArrayList<>();
+                for (int i = page * size; i < Math.min(end, top.scoreDocs.length); i++) {
+                    ScoreDoc sd = top.scoreDocs[i];
+                    Document d = stored.document(sd.doc);
+                    IndexableField at = d.getField(F_SUBMITTED_AT);
+                    items.add(new SubmissionSearchHitDTO(
+                            Integer.valueOf(d.get(F_ID)),
+                            d.get(F_STUDENT_ID),
+                            d.get(F_STUDENT_NAME),
+                            d.get(F_DOC_TYPE_TITLE),
+                            d.get(F_STATUS),
+                            at == null ? null : LocalDateTime.ofInstant(
+                                    Instant.ofEpochMilli(at.numericValue().longValue()), ZoneOffset.UTC).toString(),
+                            sd.score));
+                }
+                return new SubmissionSearchPageDTO(searcher.count(built), page, size, items);
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException("검색 실패", ex);
+        }
+    }
+
+    // 주기적 커밋: 매 갱신마다 fsync 하지 않도록
+    @Scheduled(fixedDelayString = "${search.commit-interval-ms:30000}")
+    public void commit() {
+        if (!writer.hasUncommittedChanges()) return;
+        try {
+            writer.commit();
+        } catch (IOException ex) {
+            log.error("Search index commit failed: {}", ex.getMessage(), ex);
+        }
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        try {
+            searcherManager.close();
+            writer.commit();
+        } finally {
+            writer.close();
+            directory.close();
+            analyzer.close();
+        }
+    }
+
+    private static Document toDocument(Entry e) {
+        Document d = new Document();
+        d.add(new StringField(F_ID, String.valueOf(e.submissionId()), Field.Store.YES));
+        d.add(new StringField(F_DEPT, String.valueOf(e.departmentId()), Field.Store.NO));
+        d.add(new StringField(F_DOC_TYPE, String.valueOf(e.docTypeId()), Field.Store.NO));
+        d.add(new StringField(F_STATUS, e.status(), Field.Store.YES));
+        d.add(new StringField(F_STUDENT_ID, e.studentId(), Field.Store.YES));
+        if (e.studentName() != null) {
+            d.add(new TextField(F_STUDENT_NAME, e.studentName(), Field.Store.YES));
+            d.add(new StringField(F_STUDENT_NAME_EXACT, e.studentName(), Field.Store.NO));
+        }
+        if (e.docTypeTitle() != null) d.add(new StoredField(F_DOC_TYPE_TITLE, e.docTypeTitle()));
+        if (e.fieldsText() != null) d.add(new TextField(F_FIELDS, e.fieldsText(), Field.Store.NO));
+        if (e.findingsText() != null) d.add(new TextField(F_FINDINGS, e.findingsText(), Field.Store.NO));
+
+        long at = e.submittedAt() == null ? 0L : e.submittedAt().toInstant(ZoneOffset.UTC).toEpochMilli();
+        d.add(new NumericDocValuesField(F_SUBMITTED_AT, at)); // 정렬용
+        if (e.submittedAt() != null) d.add(new StoredField(F_SUBMITTED_AT, at));
+        return d;
+    }
+}
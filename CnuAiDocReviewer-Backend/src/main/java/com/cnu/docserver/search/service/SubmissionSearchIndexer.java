@@ -0,0 +1,262 @@
+package com.cnu.docserver.search.service;
+
+import com.cnu.docserver.common.Workload;
+import com.cnu.docserver.submission.entity.Submission;
+import com.cnu.docserver.submission.entity.SubmissionFieldValue;
+import com.cnu.docserver.submission.event.SubmissionChangedEvent;
+import com.cnu.docserver.submission.repository.ArchivedSearchRow;
+import com.cnu.docserver.submission.repository.ArchivedSubmissionRepository;
+import com.cnu.docserver.submission.repository.SubmissionFieldValueRepository;
+import com.cnu.docserver.submission.repository.SubmissionHistoryRepository;
+import com.cnu.docserver.submission.repository.SubmissionRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 제출 → 검색 인덱스 반영.
+ *  - 커밋 후 SubmissionChangedEvent 로 해당 제출만 원본에서 다시 읽어 upsert (요청 스레드와 분리: @Async)
+ *  - 같은 제출의 읽기~upsert 는 ID 별 잠금으로 한 번에 하나씩 (먼저 읽은 옛 내용이 나중에 덮어쓰지 않도록)
+ *  - 운영 테이블에 없으면 보관 테이블에서 읽는다 (보관된 제출도 검색 결과에 남음)
+ *  - 인덱스가 비어 있으면 기동 시 전체 재색인 (운영 + 보관). 전체 재색인은 비우지 않고 upsert 한 뒤
+ *    DB 에 없는 문서만 지우므로, 도는 동안에도 검색 결과가 빠지지 않는다
+ *
+ * 여러 인스턴스 배포: 인덱스(search.index-dir)는 인스턴스마다 따로이고 변경 이벤트는 쓰기를 처리한 인스턴스에만 전달된다.
+ * 다른 인스턴스에서 일어난 변경은 search.resync-cron 주기의 전체 재동기화(upsert 후 없는 문서 삭제)로 따라잡는다.
+ * 즉시 반영이 필요하면 검색 API 와 쓰기 요청을 한 인스턴스로 보내거나, 인덱스를 공유 검색 서버로 옮겨야 한다.
+ */
+@Service
+@Slf4j
+public class SubmissionSearchIndexer {
+
+    private static final int REINDEX_PAGE_SIZE = 500;
+    private static final int LOCK_STRIPES = 64;
+
+    private final SubmissionSearchIndex index;
+    private final SubmissionRepository submissionRepository;
+    private final SubmissionFieldValueRepository fieldValueRepository;
+    private final SubmissionHistoryRepository historyRepository;
+    private final ArchivedSubmissionRepository archivedRepository;
+    private final TransactionTemplate readOnly;
+    private final AtomicBoolean reindexing = new AtomicBoolean(false);
+    // 제출 ID 별 읽기~upsert 직렬화 (ID % LOCK_STRIPES)
+    private final ReentrantLock[] stripes = new ReentrantLock[LOCK_STRIPES];
+
+    public SubmissionSearchIndexer(SubmissionSearchIndex index,
+                                   SubmissionRepository submissionRepository,
+                                   SubmissionFieldValueRepository fieldValueRepository,
+                                   SubmissionHistoryRepository historyRepository,
+                                   ArchivedSubmissionRepository archivedRepository,
+                                   PlatformTransactionManager transactionManager) {
+        this.index = index;
+        this.submissionRepository = submissionRepository;
+        this.fieldValueRepository = fieldValueRepository;
+        this.historyRepository = historyRepository;
+        this.archivedRepository = archivedRepository;
+        this.readOnly = new TransactionTemplate(transactionManager);
+        this.readOnly.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.readOnly.setReadOnly(true);
+        for (int i = 0; i < LOCK_STRIPES; i++) stripes[i] = new ReentrantLock();
+    }
+
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onSubmissionChanged(SubmissionChangedEvent event) {
+        try {
+            // 건별 작업 풀(원본 DB) → 방금 커밋된 내용을 읽음 (레플리카 지연 무관, 야간 배치와 풀을 나누지 않음)
+            Workload.INCREMENTAL.run(() -> reindex(event.getSubmissionIds()));
+        } catch (RuntimeException e) {
+            // 색인 실패가 쓰기 요청에 영향 주지 않도록 로그만 (재색인으로 복구)
+            log.error("Search index update failed for submissions {}: {}", event.getSubmissionIds(), e.getMessage(), e);
+        }
+    }
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void indexOnStartupIfEmpty() {
+        if (!index.isEmpty()) return;
+        try {
+            int total = reindexAll();
+            log.info("Search index was empty, indexed {} submissions", total);
+        } catch (RuntimeException e) {
+            log.error("Initial search indexing failed: {}", e.getMessage(), e);
+        }
+    }
+
+    // 다른 인스턴스에서 일어난 변경 따라잡기 (기본 비활성: "-")
+    @Scheduled(cron = "${search.resync-cron:-}", zone = "Asia/Seoul")
+    public void resyncScheduled() {
+        try {
+            int total = run();
+            log.info("Search index resynced: {} submissions", total);
+        } catch (IllegalStateException e) {
+            log.warn("Search index resync skipped: {}", e.getMessage());
+        }
+    }
+
+    /** 전체 제출(운영 + 보관)을 다시 색인하고 DB 에 없는 문서를 지움. 반환값은 색인한 제출 수 */
+    public int reindexAll() {
+        return run();
+    }
+
+    private int run() {
+        if (!reindexing.compareAndSet(false, true)) {
+            throw new IllegalStateException("이미 재색인이 진행 중입니다.");
+        }
+        try {
+            return Workload.BACKGROUND.call(this::reindexEverything); // 전체 조회 → 배치 풀
+        } finally {
+            reindexing.set(false);
+        }
+    }
+
+    private int reindexEverything() {
+        Set<Integer> seen = new HashSet<>();
+        int afterId = 0;
+        List<Integer> ids;
+        while (!(ids = submissionRepository.findIdPage(afterId, PageRequest.of(0, REINDEX_PAGE_SIZE))).isEmpty()) {
+            reindex(ids);
+            seen.addAll(ids);
+            afterId = ids.get(ids.size() - 1);
+        }
+        // 보관 테이블 (운영 테이블과 ID 가 겹치지 않음)
+        afterId = 0;
+        while (!(ids = archivedRepository.findIdPage(afterId, PageRequest.of(0, REINDEX_PAGE_SIZE))).isEmpty()) {
+            List<Integer> page = ids;
+            withLocks(page, () -> index.upsert(readOnly.execute(tx -> loadArchived(page))));
+            seen.addAll(ids);
+            afterId = ids.get(ids.size() - 1);
+        }
+        // 훑는 동안 보지 못한 문서: 지워졌거나 그 사이 새로 생긴 제출 → 다시 읽어 없으면 삭제, 있으면 갱신
+        List<Integer> unseen = new ArrayList<>(index.ids());
+        unseen.removeAll(seen);
+        for (int from = 0; from < unseen.size(); from += REINDEX_PAGE_SIZE) {
+            reindex(unseen.subList(from, Math.min(from + REINDEX_PAGE_SIZE, unseen.size())));
+        }
+        index.commit();
+        return seen.size();
+    }
+
+    private void reindex(List<Integer> ids) {
+        withLocks(ids, () -> reindexLocked(ids));
+    }
+
+    private void reindexLocked(List<Integer> ids) {
+        List<SubmissionSearchIndex.Entry> entries = readOnly.execute(tx -> {
+            List<SubmissionSearchIndex.Entry> loaded = load(ids);
+            if (loaded.size() == ids.size()) return loaded;
+            // 운영 테이블에 없으면 그 사이 보관되었을 수 있음
+            Set<Integer> absent = new HashSet<>(ids);
+            loaded.forEach(e -> absent.remove(e.submissionId()));
+            List<SubmissionSearchIndex.Entry> all = new ArrayList<>(loaded);
+            all.addAll(loadArchived(List.copyOf(absent)));
+            return all;
+        });
+        Set<Integer> missing = new HashSet<>(ids);
+        entries.forEach(e -> missing.remove(e.submissionId()));
+
+        index.upsert(entries);
+        if (!missing.isEmpty()) index.delete(missing);
+    }
+
+    // ids 가 걸친 잠금을 번호 순으로 잡아 교착 없이 action 실행
+    private void withLocks(Collection<Integer> ids, Runnable action) {
+        int[] held = ids.stream().mapToInt(id -> Math.floorMod(id, LOCK_STRIPES)).distinct().sorted().toArray();
+        int locked = 0;
+        try {
+            for (int i : held) {
+                stripes[i].lock();
+                locked++;
+            }
+            action.run();
+        } finally {
+            for (int i = locked - 1; i >= 0; i--) stripes[held[i]].unlock();
+        }
+    }
+
+    private List<SubmissionSearchIndex.Entry> load(List<Integer> ids) {
+        Map<Integer, Submission> sources = submissionRepository.findViewSourceByIds(ids).stream()
+                .collect(Collectors.toMap(Submission::getSubmissionId, Function.identity()));
+
+        // 필드는 "필드명 값" 한 줄씩 → 필드명으로도 검색되도록
+        Map<Integer, StringBuilder> fields = new HashMap<>();
+        for (SubmissionFieldValue v : fieldValueRepository.findBySubmission_SubmissionIdInOrderBySubmissionFieldValueIdAsc(ids)) {
+            if (v.getFieldValue() == null || v.getFieldValue().isBlank()) continue;
+            StringBuilder sb = fields.computeIfAbsent(v.getSubmission().getSubmissionId(), k -> new StringBuilder());
+            if (v.getFieldName() != null) sb.append(v.getFieldName()).append(' ');
+            sb.append(v.getFieldValue()).append('\n');
+        }
+        // OCR 검토 결과(지적 사항)는 자동 검토 이력 메모에 남아 있음
+        Map<Integer, StringBuilder> findings = new HashMap<>();
+        historyRepository.findBotHistories(ids).forEach(h -> findings
+                .computeIfAbsent(h.getSubmission().getSubmissionId(), k -> new StringBuilder())
+                .append(h.getMemo()).append('\n'));
+
+        List<SubmissionSearchIndex.Entry> entries = new ArrayList<>(sources.size());
+        for (Submission s : sources.values()) {
+            Integer id = s.getSubmissionId();
+            entries.add(new SubmissionSearchIndex.Entry(
+                    id,
+                    s.getDocType().getDepartment().getDepartmentId(),
+                    s.getDocType().getDocTypeId(),
+                    s.getDocType().getTitle(),
+                    s.getStatus().name(),
+                    s.getStudent().getStudentId(),
+                    s.getStudent().getMember().getName(),
+                    s.getSubmittedAt(),
+                    fields.containsKey(id) ? fields.get(id).toString() : null,
+                    findings.containsKey(id) ? findings.get(id).toString() : null));
+        }
+        return entries;
+    }
+
+    private List<SubmissionSearchIndex.Entry> loadArchived(List<Integer> ids) {
+        if (ids.isEmpty()) return List.of();
+        Map<Integer, StringBuilder> fields = new HashMap<>();
+        for (Object[] row : archivedRepository.findFieldValueRows(ids)) {
+            String name = (String) row[1];
+            String value = (String) row[2];
+            if (value == null || value.isBlank()) continue;
+            StringBuilder sb = fields.computeIfAbsent(((Number) row[0]).intValue(), k -> new StringBuilder());
+            if (name != null) sb.append(name).append(' ');
+            sb.append(value).append('\n');
+        }
+        Map<Integer, StringBuilder> findings = new HashMap<>();
+        for (Object[] row : archivedRepository.findBotMemoRows(ids)) {
+            findings.computeIfAbsent(((Number) row[0]).intValue(), k -> new StringBuilder())
+                    .append((String) row[1]).append('\n');
+        }
+
+        List<SubmissionSearchIndex.Entry> entries = new ArrayList<>(ids.size());
+        for (ArchivedSearchRow a : archivedRepository.findSearchRows(ids)) {
+            Integer id = a.submissionId();
+            entries.add(new SubmissionSearchIndex.Entry(
+                    id,
+                    a.departmentId(),
+                    a.docTypeId(),
+                    a.docTypeTitle(),
+                    a.status().name(),
+                    a.studentId(),
+                    a.studentName(),
+                    a.submittedAt(),
+                    fields.containsKey(id) ? fields.get(id).toString() : null,
+                    findings.containsKey(id) ? findings.get(id).toString() : null));
+        }
+        return entries;
+    }
+}
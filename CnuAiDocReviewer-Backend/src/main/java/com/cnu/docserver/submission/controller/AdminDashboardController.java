@@ -0,0 +1,31 @@
+package com.cnu.docserver.submission.controller;
+
+import com.cnu.docserver.submission.dto.QueueDashboardDTO;
+import com.cnu.docserver.submission.service.QueueCounterService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+@Tag(name = "Admin Dashboard", description = "관리자 대시보드 API")
+@RestController
+@RequestMapping("/api/admin/dashboard")
+@RequiredArgsConstructor
+public class AdminDashboardController {
+
+    private final QueueCounterService queueCounterService;
+
+    @Operation(summary = "상태별 건수", description = "부서 전체 및 문서 유형별 제출 건수를 상태별로 반환합니다.")
+    @GetMapping("/counts")
+    public QueueDashboardDTO counts(@RequestParam Integer departmentId) {
+        return queueCounterService.dashboard(departmentId);
+    }
+
+    @Operation(summary = "건수 재계산", description = "제출 원본과 비교해 어긋난 카운터를 다시 계산합니다.")
+    @PostMapping("/counts/reconcile")
+    public Map<String, Integer> reconcile() {
+        return Map.of("drifted", queueCounterService.reconcile());
+    }
+}
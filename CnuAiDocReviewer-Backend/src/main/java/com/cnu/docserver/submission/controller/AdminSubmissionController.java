@@ -1,23 +1,36 @@
 package com.cnu.docserver.submission.controller;
 
+import com.cnu.docserver.auth.context.LoginPrincipal;
 import com.cnu.docserver.submission.dto.AdminDecisionRequestDTO;
+import com.cnu.docserver.submission.dto.AdminQueuePageDTO;
+import com.cnu.docserver.submission.dto.AdminWorkspaceDTO;
+import com.cnu.docserver.submission.dto.BulkDecisionRequestDTO;
+import com.cnu.docserver.submission.dto.BulkDecisionResultDTO;
 import com.cnu.docserver.submission.dto.SubmissionDetailDTO;
 import com.cnu.docserver.submission.dto.SubmissionSummaryDTO;
 import com.cnu.docserver.submission.entity.Submission;
 import com.cnu.docserver.submission.enums.SubmissionStatus;
 import com.cnu.docserver.submission.service.AdminSubmissionService;
-import com.cnu.docserver.user.entity.Member;
+import com.cnu.docserver.submission.service.AdminWorkspaceService;
+import com.cnu.docserver.submission.service.SubmissionExportService;
+import com.cnu.docserver.submission.service.SubmissionQueueViewProjector;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.core.io.ByteArrayResource;
 import org.springframework.core.io.Resource;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 
 @Tag(name = "Admin Review", description = "관리자 제출 검토 API")
 @RestController
@@ -26,6 +39,9 @@ import java.util.List;
 public class AdminSubmissionController {
 
     private final AdminSubmissionService adminSubmissionService;
+    private final SubmissionExportService submissionExportService;
+    private final SubmissionQueueViewProjector submissionQueueViewProjector;
+    private final AdminWorkspaceService adminWorkspaceService;
 
     // 검토 대기 목록
 
@@ -36,35 +52,108 @@ public class AdminSubmissionController {
     ) {
         return adminSubmissionService.listAdminQueue(departmentId, statuses);
     }
+
+    // 검토 대기열 (커서 페이지): 응답의 nextCursor 를 다음 요청의 cursor 로 넘김
+    // 예: /queue?departmentId=1&docTypeId=3&statuses=SUBMITTED&studentId=202012345&from=2025-03-01&size=50
+    @GetMapping("/queue")
+    public AdminQueuePageDTO queue(
+            @RequestParam Integer departmentId,
+            @RequestParam(required = false) Integer docTypeId,
+            @RequestParam(required = false) List<SubmissionStatus> statuses,
+            @RequestParam(required = false) String studentId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size
+    ) {
+        var filter = new AdminSubmissionService.QueueFilter(departmentId, docTypeId, statuses, studentId, from, to);
+        return adminSubmissionService.listAdminQueuePage(filter, cursor, size);
+    }
+    // 읽기 모델(submission_queue_view) 전체 재생성
+    @PostMapping("/queue-view/rebuild")
+    public Map<String, Integer> rebuildQueueView() {
+        try {
+            return Map.of("submissions", submissionQueueViewProjector.rebuild());
+        } catch (IllegalStateException e) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, e.getMessage());
+        }
+    }
+
     // 상세 조회 (필요시)
     @GetMapping("/{id}")
     public SubmissionDetailDTO getOne(@PathVariable Integer id) {
         return adminSubmissionService.getDetail(id); // DTO로 매핑해서 리턴
     }
 
+    // 검토 작업 화면: 상세 + 필드 + 자동 검토 결과 + 파일 정보 (+ 대기열 다음 next 건을 미리 불러 둠)
+    // 예: /12/workspace?departmentId=1&statuses=SUBMITTED&next=3
+    @GetMapping("/{id}/workspace")
+    public AdminWorkspaceDTO workspace(
+            @PathVariable Integer id,
+            @RequestParam(required = false) Integer departmentId,
+            @RequestParam(required = false) Integer docTypeId,
+            @RequestParam(required = false) List<SubmissionStatus> statuses,
+            @RequestParam(defaultValue = "3") int next
+    ) {
+        var filter = new AdminWorkspaceService.NextFilter(departmentId, docTypeId, statuses);
+        return adminWorkspaceService.getWorkspace(id, filter, next);
+    }
+
     // 승인
     @PostMapping("/{id}/approve")
     public SubmissionSummaryDTO approve(@PathVariable Integer id) {
-        Member adminMember = (Member) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
-        return adminSubmissionService.approve(id, adminMember); // memo 인자 제거
+        return adminSubmissionService.approve(id, LoginPrincipal.require()); // memo 인자 제거
     }
     // 반려
     @PostMapping("/{id}/reject")
     public SubmissionSummaryDTO reject(@PathVariable Integer id, @RequestBody AdminDecisionRequestDTO body) {
-        Member adminMember = (Member) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
         String reason = (body != null && body.getMemo()!=null) ? body.getMemo() : "사유 미기재";
-        return adminSubmissionService.reject(id, adminMember, reason);
+        return adminSubmissionService.reject(id, LoginPrincipal.require(), reason);
+    }
+
+    // 일괄 승인/반려: ID 목록 또는 대기열 조건 + 공통 메모 → 건별 결과
+    // 예: {"decision":"APPROVE","filter":{"departmentId":1,"docTypeId":3},"memo":"학기말 일괄 승인"}
+    // 조건은 기본으로 자동 검토를 통과한(PASS) SUBMITTED 만, 응답의 truncated 가 true 면 같은 요청을 다시 보내 이어서 처리
+    @PostMapping("/decisions")
+    public BulkDecisionResultDTO decideAll(@RequestBody BulkDecisionRequestDTO body) {
+        return adminSubmissionService.decideAll(body, LoginPrincipal.require());
+    }
+
+    // 일괄 내보내기 (ZIP 스트리밍: manifest.csv + 제출 파일)
+    // 예: /export?departmentId=1&docTypeId=3&statuses=APPROVED&from=2025-03-01&to=2025-06-30
+    @GetMapping(value = "/export", produces = "application/zip")
+    public ResponseEntity<StreamingResponseBody> export(
+            @RequestParam Integer departmentId,
+            @RequestParam(required = false) Integer docTypeId,
+            @RequestParam(required = false) List<SubmissionStatus> statuses,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+    ) {
+        var filter = new SubmissionExportService.ExportFilter(departmentId, docTypeId, statuses, from, to);
+        submissionExportService.validate(filter);
+
+        String filename = "submissions-" + departmentId + "-" + LocalDate.now() + ".zip";
+        StreamingResponseBody body = out -> submissionExportService.writeZip(filter, out);
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename*=UTF-8''" + org.springframework.web.util.UriUtils.encode(filename, java.nio.charset.StandardCharsets.UTF_8))
+                .header(HttpHeaders.CACHE_CONTROL, "no-store")
+                .contentType(MediaType.parseMediaType("application/zip"))
+                .body(body);
     }
 
     @GetMapping("/{id}/file")
     @org.springframework.security.access.prepost.PreAuthorize("hasRole('ADMIN')") // 필요 권한에 맞춰 조정
-    public ResponseEntity<Resource> download(@PathVariable Integer id) {
+    public ResponseEntity<Resource> download(@PathVariable Integer id,
+                                             @RequestParam(defaultValue = "false") boolean inline) { // inline: 브라우저 미리보기
         var file = adminSubmissionService.downloadFile(id);
         return ResponseEntity.ok()
                 .header(HttpHeaders.CONTENT_DISPOSITION,
-                        "attachment; filename*=UTF-8''" + org.springframework.web.util.UriUtils.encode(file.filename(), java.nio.charset.StandardCharsets.UTF_8))
+                        (inline ? "inline" : "attachment") + "; filename*=UTF-8''" + org.springframework.web.util.UriUtils.encode(file.filename(), java.nio.charset.StandardCharsets.UTF_8))
                 .header(HttpHeaders.CACHE_CONTROL, "no-store")
-                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .contentType(inline
+                        ? MediaTypeFactory.getMediaType(file.filename()).orElse(MediaType.APPLICATION_OCTET_STREAM)
+                        : MediaType.APPLICATION_OCTET_STREAM)
                 .contentLength(file.data().length)
                 .body(new ByteArrayResource(file.data()));
     }
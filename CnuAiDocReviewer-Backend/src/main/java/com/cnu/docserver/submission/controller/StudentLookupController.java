@@ -1,5 +1,7 @@
 package com.cnu.docserver.submission.controller;
 
+import com.cnu.docserver.common.CatalogCache;
+import com.cnu.docserver.common.CatalogHttpCache;
 import com.cnu.docserver.deadline.dto.DeadlineStatusDTO;
 import com.cnu.docserver.deadline.service.DeadlineService;
 import com.cnu.docserver.department.dto.DepartmentResponseDTO;
@@ -16,6 +18,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
 
 import java.util.List;
 
@@ -29,36 +32,47 @@ public class StudentLookupController {
     private final DepartmentRepository departmentRepository;
     private final DocTypeService docTypeService;
     private final DeadlineService deadlineService;
+    private final CatalogCache catalogCache;
+    private final CatalogHttpCache catalogHttpCache;
 
     //부서 목록
     @PreAuthorize("hasRole('STUDENT')")
     @GetMapping("/departments")
     public List<DepartmentResponseDTO> getDepartments() {
-
-        return departmentRepository.findAll(Sort.by(Sort.Direction.ASC, "departmentId"))
-                .stream()
-                .map(StudentLookupController::toDeptDto)
-                .toList();
+        return catalogCache.get(CatalogCache.Region.DEPARTMENTS, "all", () ->
+                departmentRepository.findAll(Sort.by(Sort.Direction.ASC, "departmentId"))
+                        .stream()
+                        .map(StudentLookupController::toDeptDto)
+                        .toList());
     }
 
-    //부서별 문서 목록
+    //부서별 문서 목록 (변경 없으면 304)
     @PreAuthorize("hasRole('STUDENT')")
     @GetMapping("/departments/{departmentId}/doc-types")
-    public List<DocTypeResponseDTO> getDocTypes(@PathVariable Integer departmentId) {
+    public List<DocTypeResponseDTO> getDocTypes(@PathVariable Integer departmentId, ServletWebRequest request) {
+        if (catalogHttpCache.notModified(request, docTypeService.getDepartmentCatalogVersion(departmentId))) {
+            return null;
+        }
         return docTypeService.getDocTypesByDepartment(departmentId);
     }
 
-    //필수항목 정의
+    //필수항목 정의 (변경 없으면 304)
     @PreAuthorize("hasRole('STUDENT')")
     @GetMapping("/doc-types/{docTypeId}/required-fields")
-    public List<RequiredFieldDTO> getRequiredFields(@PathVariable Integer docTypeId) {
+    public List<RequiredFieldDTO> getRequiredFields(@PathVariable Integer docTypeId, ServletWebRequest request) {
+        if (catalogHttpCache.notModified(request, docTypeService.getDocTypeVersion(docTypeId))) {
+            return null;
+        }
         return docTypeService.getRequiredFields(docTypeId);
     }
 
-    //제출기한
+    //제출기한 (변경 없으면 304)
     @PreAuthorize("hasRole('STUDENT')")
     @GetMapping("/doc-types/{docTypeId}/deadline")
-    public DeadlineStatusDTO getDeadline(@PathVariable Integer docTypeId){
+    public DeadlineStatusDTO getDeadline(@PathVariable Integer docTypeId, ServletWebRequest request){
+        if (catalogHttpCache.notModified(request, docTypeService.getDocTypeVersion(docTypeId))) {
+            return null;
+        }
         return deadlineService.getDeadlineByDocTypeId(docTypeId);
     }
 
@@ -1,16 +1,20 @@
 // com/cnu/docserver/submission/controller/SubmissionController.java
 package com.cnu.docserver.submission.controller;
 
+import com.cnu.docserver.submission.dto.FieldPatchRequestDTO;
+import com.cnu.docserver.submission.dto.FieldPatchResultDTO;
 import com.cnu.docserver.submission.dto.MySubmissionRowDTO;
 import com.cnu.docserver.submission.dto.SubmissionSummaryDTO;
 import com.cnu.docserver.submission.dto.SubmitRequestDTO;
 import com.cnu.docserver.submission.entity.Submission;
-import com.cnu.docserver.submission.entity.SubmissionFile;
 import com.cnu.docserver.submission.entity.SubmissionHistory;
-import com.cnu.docserver.submission.repository.SubmissionFileRepository;
+import com.cnu.docserver.submission.repository.ArchivedSubmissionRepository;
 import com.cnu.docserver.submission.repository.SubmissionHistoryRepository;
+import com.cnu.docserver.submission.repository.SubmissionListRow;
 import com.cnu.docserver.submission.repository.SubmissionRepository;
+import com.cnu.docserver.submission.service.SubmissionArchiveService;
 import com.cnu.docserver.submission.service.SubmissionService;
+import com.cnu.docserver.submission.service.UploadSessionService;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.*;
@@ -18,6 +22,7 @@ import io.swagger.v3.oas.annotations.media.*;
 import io.swagger.v3.oas.annotations.responses.*;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.annotation.security.PermitAll;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -42,15 +47,16 @@ public class SubmissionController {
     private static final ObjectMapper OM = new ObjectMapper();
 
     private final SubmissionService submissionService;
+    private final UploadSessionService uploadSessionService;
     private final SubmissionRepository submissionRepository;
+    private final ArchivedSubmissionRepository archivedSubmissionRepository;
     private final SubmissionHistoryRepository submissionHistoryRepository;
-    private final SubmissionFileRepository submissionFileRepository;
 
     /* ---------------- 최초 제출 ---------------- */
     @PreAuthorize("hasRole('STUDENT')")
     @Operation(
             summary = "최초 제출",
-            description = "문서 유형 ID, 필드 JSON, 파일을 멀티파트로 제출합니다. 마감일 당일까지 허용."
+            description = "문서 유형 ID, 필드 JSON, 파일(멀티파트 또는 이어받기 업로드 완료 토큰)로 제출합니다. 마감일 당일까지 허용."
     )
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "제출 성공",
@@ -58,16 +64,18 @@ public class SubmissionController {
             @ApiResponse(responseCode = "400", description = "유효성 오류(파일 누락/마감 초과 등)"),
             @ApiResponse(responseCode = "401", description = "인증 필요")
     })
-    @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @PostMapping(consumes = {MediaType.MULTIPART_FORM_DATA_VALUE, MediaType.APPLICATION_FORM_URLENCODED_VALUE})
     public SubmissionSummaryDTO create(
             @Parameter(description = "문서 유형 ID", required = true, example = "101")
             @RequestParam Integer docTypeId,
             @Parameter(description = "필드 값 JSON (예: [{\"label\":\"학번\",\"value\":\"20231234\"}])")
             @RequestParam(required = false) String fieldsJson,
-            @Parameter(description = "제출 파일", required = true)
-            @RequestPart("file") MultipartFile file
+            @Parameter(description = "이어받기 업로드 완료 토큰 (file 대신 사용)")
+            @RequestParam(required = false) String uploadToken,
+            @Parameter(description = "제출 파일 (소용량 단일 업로드)")
+            @RequestPart(value = "file", required = false) MultipartFile file
     ) {
-        return submissionService.create(docTypeId, fieldsJson, file);
+        return submissionService.create(docTypeId, fieldsJson, resolveUploadToken(uploadToken, file));
     }
 
     /* ---------------- 단건 조회(요약) ---------------- */
@@ -83,13 +91,42 @@ public class SubmissionController {
             summary = "반려 후 수정(임시저장)",
             description = "파일/필드 일부 또는 전체를 덮어씁니다. 상태는 즉시 제출로 바뀌지 않습니다."
     )
-    @PutMapping(value = "/{submissionId}", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @PutMapping(value = "/{submissionId}", consumes = {MediaType.MULTIPART_FORM_DATA_VALUE, MediaType.APPLICATION_FORM_URLENCODED_VALUE})
     public SubmissionSummaryDTO update(
             @Parameter(description = "제출 ID", example = "12") @PathVariable Integer submissionId,
             @Parameter(description = "필드 값 JSON") @RequestParam(required = false) String fieldsJson,
+            @Parameter(description = "이어받기 업로드 완료 토큰 (file 대신 사용)") @RequestParam(required = false) String uploadToken,
             @Parameter(description = "수정 파일") @RequestPart(value = "file", required = false) MultipartFile file
     ) {
-        return submissionService.update(submissionId, fieldsJson, file);
+        return submissionService.update(submissionId, fieldsJson, resolveUploadToken(uploadToken, file));
+    }
+
+    /* ---------------- 필드 단위 자동 저장 ---------------- */
+    @PreAuthorize("hasRole('STUDENT')")
+    @Operation(
+            summary = "필드 자동 저장(변경분)",
+            description = "바뀐 필드만 보냅니다(value=null 이면 삭제). baseVersion 은 마지막으로 받은 fieldsVersion 이며, "
+                    + "그 사이 다른 저장이 있었으면 409 를 반환합니다."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "저장 성공",
+                    content = @Content(schema = @Schema(implementation = FieldPatchResultDTO.class))),
+            @ApiResponse(responseCode = "409", description = "버전 충돌 또는 수정할 수 없는 상태")
+    })
+    @PatchMapping(value = "/{submissionId}/fields", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public FieldPatchResultDTO patchFields(
+            @Parameter(description = "제출 ID", example = "12") @PathVariable Integer submissionId,
+            @RequestBody @Valid FieldPatchRequestDTO body
+    ) {
+        return submissionService.patchFields(submissionId, body);
+    }
+
+    // 멀티파트 파일이 오면 같은 스테이징 경로로 한 번에 업로드 → 서비스는 토큰만 다룬다
+    private String resolveUploadToken(String uploadToken, MultipartFile file) {
+        if (file != null && !file.isEmpty()) {
+            return uploadSessionService.stage(file);
+        }
+        return uploadToken;
     }
 
     /* ---------------- 제출(바로/최종) ---------------- */
@@ -179,17 +216,19 @@ public class SubmissionController {
         Pageable pageable = PageRequest.of(0, size);
 
         var statuses = parseStatuses(statusCsv);
-        List<Submission> rows = statuses.isEmpty()
-                ? submissionRepository.findByStudent_StudentIdOrderBySubmissionIdDesc(studentId, pageable)
-                : submissionRepository.findByStudent_StudentIdAndStatusInOrderBySubmissionIdDesc(studentId, statuses, pageable);
-
-        return rows.stream().map(s -> {
-            String submittedAt = (s.getSubmittedAt() == null) ? null : s.getSubmittedAt().format(ISO);
-            SubmissionFile latest = submissionFileRepository
-                    .findTopBySubmissionOrderBySubmissionFileIdDesc(s).orElse(null);
-            String filename = (latest != null && nonBlank(latest.getFileUrl()))
-                    ? basenameFromUrl(latest.getFileUrl()) : "(파일 미존재)";
-            return new MySubmissionRowDTO(s.getSubmissionId(), s.getStatus().name(), submittedAt, filename);
+        if (statuses.isEmpty()) statuses = List.of(com.cnu.docserver.submission.enums.SubmissionStatus.values());
+
+        // 제출 + 최신 파일 URL 을 한 쿼리로
+        List<SubmissionListRow> rows = new ArrayList<>(submissionRepository.findMyListRows(studentId, statuses, pageable));
+        // 지난 학기 종료분은 보관 테이블에 있음 → 양쪽에서 size 개씩 읽어 ID 역순으로 합친 뒤 size 개
+        if (statuses.stream().anyMatch(SubmissionArchiveService.CLOSED::contains)) {
+            rows.addAll(archivedSubmissionRepository.findMyListRows(studentId, statuses, pageable));
+            rows.sort(Comparator.comparing(SubmissionListRow::submissionId).reversed());
+        }
+        return rows.stream().limit(size).map(r -> {
+            String submittedAt = (r.submittedAt() == null) ? null : r.submittedAt().format(ISO);
+            String filename = nonBlank(r.fileUrl()) ? basenameFromUrl(r.fileUrl()) : "(파일 미존재)";
+            return new MySubmissionRowDTO(r.submissionId(), r.status().name(), submittedAt, filename);
         }).toList();
     }
 
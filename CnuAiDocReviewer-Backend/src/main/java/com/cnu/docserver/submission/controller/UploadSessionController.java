@@ -0,0 +1,67 @@
+package com.cnu.docserver.submission.controller;
+
+import com.cnu.docserver.submission.dto.UploadFinalizeRequestDTO;
+import com.cnu.docserver.submission.dto.UploadSessionCreateRequestDTO;
+import com.cnu.docserver.submission.dto.UploadSessionDTO;
+import com.cnu.docserver.submission.service.UploadSessionService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/submissions/uploads")
+@Tag(name = "Student Upload", description = "이어받기(청크) 업로드 API")
+public class UploadSessionController {
+
+    private final UploadSessionService uploadSessionService;
+
+    @PreAuthorize("hasRole('STUDENT')")
+    @Operation(summary = "업로드 세션 생성", description = "파일명/크기를 선언하고 업로드 토큰을 발급받습니다.")
+    @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE)
+    public UploadSessionDTO open(@RequestBody @Valid UploadSessionCreateRequestDTO body) {
+        return uploadSessionService.open(body.getFilename(), body.getSize());
+    }
+
+    @PreAuthorize("hasRole('STUDENT')")
+    @Operation(summary = "업로드 상태 조회", description = "끊긴 업로드를 재개할 때 서버가 받은 offset 을 확인합니다.")
+    @GetMapping("/{token}")
+    public UploadSessionDTO status(@PathVariable String token) {
+        return uploadSessionService.status(token);
+    }
+
+    @PreAuthorize("hasRole('STUDENT')")
+    @Operation(summary = "청크 업로드", description = "본문(application/octet-stream)을 offset 위치에 이어 씁니다. offset 은 현재 서버 offset 과 같아야 합니다.")
+    @PutMapping(value = "/{token}", consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public UploadSessionDTO putChunk(
+            @PathVariable String token,
+            @Parameter(description = "청크 시작 위치(byte)", example = "0") @RequestParam long offset,
+            HttpServletRequest request
+    ) {
+        try {
+            return uploadSessionService.appendChunk(token, offset, request.getInputStream());
+        } catch (IOException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "청크 읽기 실패", e);
+        }
+    }
+
+    @PreAuthorize("hasRole('STUDENT')")
+    @Operation(summary = "업로드 완료", description = "크기/해시를 확인하고 업로드를 완료합니다. 응답의 uploadToken 을 제출/수정 API 에 전달하세요.")
+    @PostMapping("/{token}/finalize")
+    public UploadSessionDTO finalizeUpload(
+            @PathVariable String token,
+            @RequestBody(required = false) UploadFinalizeRequestDTO body
+    ) {
+        return uploadSessionService.finalizeUpload(token, body == null ? null : body.getSha256());
+    }
+}
@@ -0,0 +1,17 @@
+package com.cnu.docserver.submission.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "관리자 검토 대기열 한 줄")
+public record AdminQueueItemDTO(
+        @Schema(description = "제출 ID") Integer submissionId,
+        @Schema(description = "상태") String status,
+        @Schema(description = "제출일(ISO)") String submittedAt,
+        @Schema(description = "학번") String studentId,
+        @Schema(description = "학생 이름") String studentName,
+        @Schema(description = "문서 유형 ID") Integer docTypeId,
+        @Schema(description = "문서 유형명") String docTypeTitle,
+        @Schema(description = "파일 URL") String fileUrl,
+        @Schema(description = "파일명") String fileName,
+        @Schema(description = "마지막 자동 검토 판정 (PASS / NEEDS_FIX / REJECT)") String botVerdict
+) {}
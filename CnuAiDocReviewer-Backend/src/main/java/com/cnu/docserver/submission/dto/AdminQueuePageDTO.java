@@ -0,0 +1,12 @@
+package com.cnu.docserver.submission.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "관리자 검토 대기열 페이지 (커서 기반)")
+public record AdminQueuePageDTO(
+        @Schema(description = "목록 (제출일 최신순, 같은 시각이면 제출 ID 역순)") List<AdminQueueItemDTO> items,
+        @Schema(description = "다음 페이지 커서 (마지막 페이지면 null)") String nextCursor,
+        @Schema(description = "다음 페이지 존재 여부") boolean hasNext
+) {}
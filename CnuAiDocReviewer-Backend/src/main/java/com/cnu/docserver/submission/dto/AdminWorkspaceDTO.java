@@ -0,0 +1,43 @@
+package com.cnu.docserver.submission.dto;
+
+import com.cnu.docserver.ocr.dto.Finding;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "관리자 검토 작업 화면 (상세 + 필드 + 자동 검토 결과 + 파일을 한 번에)")
+public record AdminWorkspaceDTO(
+        @Schema(description = "제출 상세 (헤더 + 이력)") SubmissionDetailDTO detail,
+        @Schema(description = "입력 필드 값") List<FieldValue> fields,
+        @Schema(description = "최신 자동 검토 결과, 검토 전이면 null") OcrResult ocr,
+        @Schema(description = "제출 파일, 없으면 null") FileMeta file,
+        @Schema(description = "대기열에서 이 제출 다음 항목 ID (미리 불러 둠)") List<Integer> nextSubmissionIds
+) {
+    @Schema(description = "입력 필드 값")
+    public record FieldValue(
+            @Schema(description = "필수 항목 ID (정의와 연결되지 않았으면 null)") Integer requiredFieldId,
+            @Schema(description = "필드명") String label,
+            @Schema(description = "값") String value
+    ) {}
+
+    @Schema(description = "자동 검토 결과")
+    public record OcrResult(
+            @Schema(description = "판정", example = "NEEDS_FIX") String verdict,
+            @Schema(description = "사유") String reason,
+            @Schema(description = "지적 사항") List<Finding> findings,
+            @Schema(description = "검토 시각(ISO8601)") String createdAt
+    ) {}
+
+    @Schema(description = "제출 파일 정보")
+    public record FileMeta(
+            @Schema(description = "파일 URL") String fileUrl,
+            @Schema(description = "파일명") String fileName,
+            @Schema(description = "크기(바이트), 확인 불가면 -1") long sizeBytes,
+            @Schema(description = "MIME 타입", example = "application/pdf") String contentType,
+            @Schema(description = "브라우저 미리보기 URL (inline)") String previewUrl
+    ) {}
+
+    public AdminWorkspaceDTO withNextSubmissionIds(List<Integer> ids) {
+        return new AdminWorkspaceDTO(detail, fields, ocr, file, ids);
+    }
+}
@@ -0,0 +1,29 @@
+package com.cnu.docserver.submission.dto;
+
+import com.cnu.docserver.submission.enums.SubmissionStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Schema(description = "관리자 일괄 승인/반려 요청 (submissionIds 또는 filter 중 하나)")
+public record BulkDecisionRequestDTO(
+        @Schema(description = "처리 (APPROVE | REJECT)") Decision decision,
+        @Schema(description = "대상 제출 ID 목록") List<Integer> submissionIds,
+        @Schema(description = "대상 조건 (검토 대기열과 같은 조건, 기본: 자동 검토를 통과한 SUBMITTED)") Filter filter,
+        @Schema(description = "공통 메모 (반려 시 반려 사유)") String memo
+) {
+    public enum Decision { APPROVE, REJECT }
+
+    @Schema(description = "일괄 처리 대상 조건")
+    public record Filter(
+            @Schema(description = "부서 ID (필수)") Integer departmentId,
+            @Schema(description = "문서 유형 ID") Integer docTypeId,
+            @Schema(description = "상태 목록 (미지정 시 SUBMITTED)") List<SubmissionStatus> statuses,
+            @Schema(description = "마지막 자동 검토 판정 (PASS | NEEDS_FIX | REJECT | ANY, 미지정 시 PASS)",
+                    example = "PASS") String botVerdict,
+            @Schema(description = "학번") String studentId,
+            @Schema(description = "제출일 시작 (포함)") LocalDate from,
+            @Schema(description = "제출일 끝 (포함)") LocalDate to
+    ) {}
+}
@@ -0,0 +1,22 @@
+package com.cnu.docserver.submission.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "관리자 일괄 승인/반려 결과")
+public record BulkDecisionResultDTO(
+        @Schema(description = "처리 (APPROVE | REJECT)") String decision,
+        @Schema(description = "요청 대상 수") int requested,
+        @Schema(description = "처리된 수") int applied,
+        @Schema(description = "건별 결과 (요청 순서)") List<Item> items,
+        @Schema(description = "조건에 맞는 제출이 더 있어 한도까지만 처리함 (같은 요청을 다시 보내면 이어서 처리)")
+        boolean truncated
+) {
+    @Schema(description = "건별 결과")
+    public record Item(
+            @Schema(description = "제출 ID") Integer submissionId,
+            @Schema(description = "APPLIED | NOT_FOUND | NOT_ALLOWED") String result,
+            @Schema(description = "처리 후(건너뛴 경우 현재) 상태") String status
+    ) {}
+}
@@ -0,0 +1,21 @@
+package com.cnu.docserver.submission.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.List;
+
+@Schema(description = "필드 단위 자동 저장 요청 (바뀐 필드만)")
+public record FieldPatchRequestDTO(
+        @Schema(description = "클라이언트가 마지막으로 받은 필드 버전", example = "3",
+                requiredMode = Schema.RequiredMode.REQUIRED)
+        @NotNull Integer baseVersion,
+        @Schema(description = "변경된 필드 목록") @NotEmpty List<Change> changes
+) {
+    @Schema(description = "필드 하나의 변경 (value 가 null 이면 삭제)")
+    public record Change(
+            @Schema(description = "필드명(field_name)", example = "학번") String label,
+            @Schema(description = "새 값, null 이면 삭제", example = "20231234") String value
+    ) {}
+}
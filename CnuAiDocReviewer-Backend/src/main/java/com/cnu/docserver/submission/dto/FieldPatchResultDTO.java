@@ -0,0 +1,12 @@
+package com.cnu.docserver.submission.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "필드 단위 자동 저장 결과")
+public record FieldPatchResultDTO(
+        @Schema(description = "제출 ID") Integer submissionId,
+        @Schema(description = "저장 후 필드 버전 (다음 요청의 baseVersion)") Integer fieldsVersion,
+        @Schema(description = "추가된 필드 수") int inserted,
+        @Schema(description = "값이 바뀐 필드 수") int updated,
+        @Schema(description = "삭제된 필드 수") int deleted
+) {}
@@ -0,0 +1,20 @@
+package com.cnu.docserver.submission.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+import java.util.Map;
+
+@Schema(description = "부서 검토 대기열 현황 (상태별 건수)")
+public record QueueDashboardDTO(
+        @Schema(description = "부서 ID") Integer departmentId,
+        @Schema(description = "부서 전체 상태별 건수") Map<String, Long> totals,
+        @Schema(description = "문서 유형별 상태별 건수") List<DocTypeCounts> docTypes
+) {
+    @Schema(description = "문서 유형 한 개의 상태별 건수")
+    public record DocTypeCounts(
+            @Schema(description = "문서 유형 ID") Integer docTypeId,
+            @Schema(description = "문서 유형명") String title,
+            @Schema(description = "상태별 건수 (0 포함)") Map<String, Long> counts
+    ) {}
+}
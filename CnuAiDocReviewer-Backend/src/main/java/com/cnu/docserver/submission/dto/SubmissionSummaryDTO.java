@@ -27,4 +27,7 @@ public class SubmissionSummaryDTO {
     @Schema(description = "제출 시각(ISO8601)")
     private String submittedAt;
 
+    @Schema(description = "필드 버전 (필드 자동 저장의 baseVersion)", example = "0")
+    private Integer fieldsVersion;
+
 }
\ No newline at end of file
@@ -0,0 +1,16 @@
+package com.cnu.docserver.submission.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Schema(description = "이어받기 업로드 완료 요청")
+public class UploadFinalizeRequestDTO {
+
+    @Schema(description = "클라이언트가 계산한 SHA-256(hex). 주면 서버 값과 비교합니다.")
+    private String sha256;
+}
@@ -0,0 +1,25 @@
+package com.cnu.docserver.submission.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.*;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Schema(description = "이어받기 업로드 세션 생성 요청")
+public class UploadSessionCreateRequestDTO {
+
+    @Schema(description = "원본 파일명", example = "장학금신청서.pdf")
+    @NotBlank
+    private String filename;
+
+    @Schema(description = "전체 파일 크기(byte)", example = "10485760")
+    @NotNull
+    @Positive
+    private Long size;
+}
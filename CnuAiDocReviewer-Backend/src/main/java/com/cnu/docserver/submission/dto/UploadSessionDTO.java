@@ -0,0 +1,31 @@
+package com.cnu.docserver.submission.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Schema(description = "이어받기 업로드 세션 상태")
+public class UploadSessionDTO {
+
+    @Schema(description = "업로드 토큰 (제출/수정 시 uploadToken 으로 전달)")
+    private String uploadToken;
+
+    @Schema(description = "원본 파일명")
+    private String filename;
+
+    @Schema(description = "전체 파일 크기(byte)")
+    private long size;
+
+    @Schema(description = "서버가 받은 바이트 수 = 다음 청크의 offset")
+    private long offset;
+
+    @Schema(description = "완료 여부")
+    private boolean completed;
+
+    @Schema(description = "완료 시 SHA-256(hex)")
+    private String sha256;
+}
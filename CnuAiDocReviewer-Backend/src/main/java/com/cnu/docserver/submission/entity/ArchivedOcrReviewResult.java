@@ -0,0 +1,56 @@
+package com.cnu.docserver.submission.entity;
+
+import com.cnu.docserver.ocr.dto.Finding;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 보관된 제출의 자동 검토 결과 (읽기 전용, 관리자 작업 화면 read-through)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+
+@Entity
+@Immutable
+@Table(name = "ocr_review_result_archive", indexes = {
+        @Index(name = "idx_ocr_review_result_archive_submission", columnList = "submission_id")
+})
+public class ArchivedOcrReviewResult {
+
+    private static final ObjectMapper om = new ObjectMapper();
+
+    @Id
+    @Column(name = "id")
+    private Long id;
+
+    @Column(name = "submission_id", nullable = false)
+    private Integer submissionId;
+
+    @Column(name = "verdict", nullable = false, length = 32)
+    private String verdict;
+
+    @Column(name = "findings_json", columnDefinition = "TEXT")
+    private String findingsJson;
+
+    @Column(name = "reason", columnDefinition = "TEXT")
+    private String reason;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    // OCRReviewResult.getFindings 와 같은 해석 (깨진 JSON 이면 빈 목록)
+    public List<Finding> getFindings() {
+        try {
+            if (findingsJson == null || findingsJson.isBlank()) return List.of();
+            return om.readValue(findingsJson, new TypeReference<List<Finding>>() {});
+        } catch (Exception e) {
+            return List.of();
+        }
+    }
+}
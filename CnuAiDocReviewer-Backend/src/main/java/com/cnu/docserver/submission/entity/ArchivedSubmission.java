@@ -0,0 +1,67 @@
+package com.cnu.docserver.submission.entity;
+
+import com.cnu.docserver.submission.enums.SubmissionStatus;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+
+/**
+ * 지난 학기에 종료되어 보관 테이블로 옮겨진 제출 (읽기 전용).
+ * SubmissionArchiveService 가 네이티브 INSERT ... SELECT 로만 채우고, 운영 테이블에 없는 제출을 조회할 때(read-through)만 읽는다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+
+@Entity
+@Immutable
+@Table(name = "submissions_archive", indexes = {
+        @Index(name = "idx_submissions_archive_closed", columnList = "closed_at, submission_id"),
+        @Index(name = "idx_submissions_archive_student", columnList = "student_id, submission_id")
+})
+public class ArchivedSubmission {
+
+    @Id
+    @Column(name = "submission_id")
+    private Integer submissionId;
+
+    @Column(name = "student_id", nullable = false)
+    private String studentId;
+
+    @Column(name = "member_id")
+    private String memberId;
+
+    @Column(name = "student_name")
+    private String studentName;
+
+    @Column(name = "doc_type_id", nullable = false)
+    private Integer docTypeId;
+
+    @Column(name = "doc_type_title", length = 100)
+    private String docTypeTitle;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 30)
+    private SubmissionStatus status;
+
+    @Column(name = "rejection_reason")
+    private String rejectionReason;
+
+    @Column(name = "reviewed_at")
+    private LocalDateTime reviewedAt;
+
+    @Column(name = "submitted_at")
+    private LocalDateTime submittedAt;
+
+    @Column(name = "closed_at")
+    private LocalDateTime closedAt;
+
+    @Column(name = "file_url", length = 512)
+    private String fileUrl;
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+}
@@ -0,0 +1,45 @@
+package com.cnu.docserver.submission.entity;
+
+import com.cnu.docserver.submission.enums.HistoryAction;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+
+// 보관된 제출의 이력 (읽기 전용, 관리자 이름은 보관 시점 값)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+
+@Entity
+@Immutable
+@Table(name = "submission_histories_archive", indexes = {
+        @Index(name = "idx_histories_archive_submission", columnList = "submission_id, changed_at")
+})
+public class ArchivedSubmissionHistory {
+
+    @Id
+    @Column(name = "submission_history_id")
+    private Integer submissionHistoryId;
+
+    @Column(name = "submission_id", nullable = false)
+    private Integer submissionId;
+
+    @Column(name = "admin_id")
+    private String adminId;
+
+    @Column(name = "admin_name")
+    private String adminName;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "action", length = 40)
+    private HistoryAction action;
+
+    @Column(name = "memo")
+    private String memo;
+
+    @Column(name = "changed_at", nullable = false)
+    private LocalDateTime changedAt;
+}
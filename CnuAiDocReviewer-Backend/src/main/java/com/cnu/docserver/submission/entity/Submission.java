@@ -15,7 +15,16 @@ import java.time.LocalDateTime;
 @Builder
 
 @Entity
-@Table(name = "submissions")
+@Table(name = "submissions", indexes = {
+        // 관리자 대기열 keyset (submitted_at, submission_id) 정렬을 인덱스 순서 그대로 읽도록
+        @Index(name = "idx_submissions_doctype_submitted", columnList = "doc_type_id, submitted_at, submission_id"),
+        @Index(name = "idx_submissions_status_submitted", columnList = "status, submitted_at, submission_id"),
+        @Index(name = "idx_submissions_student_submitted", columnList = "student_id, submitted_at, submission_id"),
+        @Index(name = "idx_submissions_submitted", columnList = "submitted_at, submission_id"),
+        // 상태별 건수 카운터 정합성 점검 (GROUP BY doc_type_id, status)
+        @Index(name = "idx_submissions_doctype_status_submitted", columnList = "doc_type_id, status, submitted_at"),
+        @Index(name = "idx_submissions_student_id", columnList = "student_id, submission_id")
+})
 public class Submission {
 
     @Id
@@ -31,19 +40,25 @@ public class Submission {
     @JoinColumn(name = "doc_type_id",referencedColumnName = "doc_type_id",nullable = false)
     private DocType docType;
 
+    // 상태/제출 시각/종료 시각은 엔티티 UPDATE 에 포함되지 않고 전이표의 조건부 UPDATE 로만 바뀜 (SubmissionStateMachine)
     @Enumerated(EnumType.STRING)
-    @Column(name = "status", nullable = false, length = 30)
+    @Column(name = "status", nullable = false, length = 30, updatable = false)
     private SubmissionStatus status;
 
     @Column(name = "rejection_reason")
     private String rejectionReason;
 
-    @Column(name = "reviewed_at")
+    @Column(name = "reviewed_at", updatable = false)
     private LocalDateTime reviewedAt;
 
-    @Column(name = "submitted_at")
+    @Column(name = "submitted_at", updatable = false)
     private LocalDateTime submittedAt;
 
+    // 필드 값 버전 (자동 저장 낙관적 잠금). 엔티티 UPDATE 에는 포함되지 않고 조건부 UPDATE 로만 증가
+    @Builder.Default
+    @Column(name = "fields_version", nullable = false, updatable = false)
+    private Integer fieldsVersion = 0;
+
     @PrePersist
     public void onCreate() {
         if (status == null) status = SubmissionStatus.DRAFT;
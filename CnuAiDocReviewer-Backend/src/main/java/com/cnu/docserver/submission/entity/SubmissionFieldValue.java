@@ -16,7 +16,9 @@ import org.springframework.aot.generate.GeneratedTypeReference;
 public class SubmissionFieldValue {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "submission_field_value_id")
+    @TableGenerator(name = "submission_field_value_id", table = "id_generators", pkColumnName = "sequence_name",
+            valueColumnName = "next_val", pkColumnValue = "submission_field_values", allocationSize = 50) // IDENTITY 는 INSERT 배치를 막음
     @Column(name = "submission_field_value_id")
     private Integer submissionFieldValueId;
 
@@ -12,7 +12,9 @@ import java.time.LocalDateTime;
 @Builder
 
 @Entity
-@Table(name = "submission_files")
+@Table(name = "submission_files", indexes = {
+        @Index(name = "idx_submission_files_submission", columnList = "submission_id")
+})
 public class SubmissionFile {
 
     @Id
@@ -14,11 +14,15 @@ import java.time.LocalDateTime;
 @Builder
 
 @Entity
-@Table(name = "submission_histories")
+@Table(name = "submission_histories", indexes = {
+        @Index(name = "idx_histories_submission_changed", columnList = "submission_id, changed_at")
+})
 public class SubmissionHistory {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "submission_history_id")
+    @TableGenerator(name = "submission_history_id", table = "id_generators", pkColumnName = "sequence_name",
+            valueColumnName = "next_val", pkColumnValue = "submission_histories", allocationSize = 50) // IDENTITY 는 INSERT 배치를 막음
     @Column(name = "submission_history_id")
     private Integer submissionHistoryId;
 
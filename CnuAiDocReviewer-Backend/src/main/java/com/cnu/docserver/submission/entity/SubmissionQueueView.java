@@ -0,0 +1,73 @@
+package com.cnu.docserver.submission.entity;
+
+import com.cnu.docserver.submission.enums.SubmissionStatus;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 관리자 조회용 비정규화 읽기 모델 (제출 1건 = 1행).
+ * 쓰기 테이블(submissions 등)과 분리되어 목록/상세 헤더/검색이 조인 없이 이 테이블만 읽는다.
+ * SubmissionQueueViewProjector 가 이벤트로 갱신하고, 언제든 원본에서 다시 만들 수 있다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+
+@Entity
+@Table(name = "submission_queue_view", indexes = {
+        @Index(name = "idx_queue_view_dept_submitted", columnList = "department_id, submitted_at, submission_id"),
+        @Index(name = "idx_queue_view_dept_status_submitted", columnList = "department_id, status, submitted_at, submission_id"),
+        @Index(name = "idx_queue_view_doctype_submitted", columnList = "doc_type_id, submitted_at, submission_id"),
+        @Index(name = "idx_queue_view_student_submitted", columnList = "student_id, submitted_at, submission_id")
+})
+public class SubmissionQueueView {
+
+    @Id
+    @Column(name = "submission_id")
+    private Integer submissionId;
+
+    @Column(name = "department_id", nullable = false)
+    private Integer departmentId;
+
+    @Column(name = "doc_type_id", nullable = false)
+    private Integer docTypeId;
+
+    @Column(name = "doc_type_title", length = 100)
+    private String docTypeTitle;
+
+    @Column(name = "student_id", nullable = false)
+    private String studentId;
+
+    @Column(name = "member_id")
+    private String memberId;
+
+    @Column(name = "student_name")
+    private String studentName;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 30)
+    private SubmissionStatus status;
+
+    @Column(name = "submitted_at")
+    private LocalDateTime submittedAt;
+
+    @Column(name = "file_url", length = 512)
+    private String fileUrl;
+
+    @Column(name = "file_name")
+    private String fileName;
+
+    // 마지막 자동 검토 결과 (PASS / NEEDS_FIX / REJECT, 검토 전이면 null)
+    @Column(name = "bot_verdict", length = 20)
+    private String botVerdict;
+
+    @Column(name = "bot_memo")
+    private String botMemo;
+
+    @Column(name = "refreshed_at", nullable = false)
+    private LocalDateTime refreshedAt;
+}
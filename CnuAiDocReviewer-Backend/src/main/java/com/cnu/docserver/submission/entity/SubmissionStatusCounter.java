@@ -0,0 +1,37 @@
+package com.cnu.docserver.submission.entity;
+
+import com.cnu.docserver.submission.enums.SubmissionStatus;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+
+@Entity
+@Table(name = "submission_status_counters")
+public class SubmissionStatusCounter {
+
+    @EmbeddedId
+    private Key id;
+
+    // 해당 문서 유형 × 상태의 제출 건수 (상태 전이 시 같은 트랜잭션에서 증감)
+    @Column(name = "cnt", nullable = false)
+    private long count;
+
+    @Embeddable
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        @Column(name = "doc_type_id")
+        private Integer docTypeId;
+
+        @Enumerated(EnumType.STRING)
+        @Column(name = "status", length = 30)
+        private SubmissionStatus status;
+    }
+}
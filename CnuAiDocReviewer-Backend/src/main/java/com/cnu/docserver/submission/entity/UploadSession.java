@@ -0,0 +1,49 @@
+package com.cnu.docserver.submission.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+
+@Entity
+@Table(name = "upload_sessions")
+public class UploadSession {
+
+    @Id
+    @Column(name = "token", length = 36)
+    private String token;
+
+    @Column(name = "owner_id", nullable = false)
+    private String ownerId;
+
+    @Column(name = "filename", nullable = false)
+    private String filename;
+
+    @Column(name = "size", nullable = false)
+    private long size;
+
+    // 앞에서부터 연속으로 받은 바이트 수 (다음 청크 offset)
+    @Column(name = "received_bytes", nullable = false)
+    private long receivedBytes;
+
+    @Column(name = "completed", nullable = false)
+    private boolean completed;
+
+    @Column(name = "sha256", length = 64)
+    private String sha256;
+
+    // 청크 쓰기/claim 중인 요청의 임대 (만료되면 무시)
+    @Column(name = "lease_id", length = 36)
+    private String leaseId;
+
+    @Column(name = "lease_until")
+    private LocalDateTime leaseUntil;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,70 @@
+package com.cnu.docserver.submission.enums;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+import static com.cnu.docserver.submission.enums.SubmissionStatus.*;
+
+/**
+ * 제출 상태 전이표. 상태 변경은 모두 여기 정의된 전이로만 한다 (SubmissionStateMachine).
+ * from 중 하나에서만 to 로 바뀌고, 반영은 조건부 UPDATE 한 번 (다른 작업이 먼저 바꿨으면 충돌).
+ */
+public enum SubmissionTransition {
+    // 학생 제출/재제출: DIRECT 는 관리자 대기, 그 외는 챗봇 검수
+    SUBMIT_DIRECT(SUBMITTED, HistoryAction.SUBMITTED, true, DRAFT, REJECTED, NEEDS_FIX),
+    SUBMIT_FOR_BOT(BOT_REVIEW, HistoryAction.SUBMITTED, true, DRAFT, REJECTED, NEEDS_FIX),
+
+    // 자동 검토 결과 (검수 중인 제출에만 반영 — 그 사이 관리자가 처리했으면 버림)
+    BOT_PASS(SUBMITTED, HistoryAction.MODIFIED, false, BOT_REVIEW),
+    BOT_NEEDS_FIX(NEEDS_FIX, HistoryAction.MODIFIED, false, BOT_REVIEW),
+    BOT_REJECT(REJECTED, HistoryAction.REJECTED, false, BOT_REVIEW),
+
+    // 관리자 처리
+    APPROVE(APPROVED, HistoryAction.APPROVED, false, SUBMITTED, UNDER_REVIEW, BOT_REVIEW, NEEDS_FIX),
+    REJECT(REJECTED, HistoryAction.REJECTED, false, SUBMITTED, UNDER_REVIEW, BOT_REVIEW, NEEDS_FIX);
+
+    private final SubmissionStatus to;
+    private final HistoryAction historyAction;
+    private final boolean stampsSubmittedAt;
+    private final Set<SubmissionStatus> from; // 변경 불가 (from() 으로 그대로 노출)
+
+    SubmissionTransition(SubmissionStatus to, HistoryAction historyAction, boolean stampsSubmittedAt,
+                         SubmissionStatus first, SubmissionStatus... rest) {
+        this.to = to;
+        this.historyAction = historyAction;
+        this.stampsSubmittedAt = stampsSubmittedAt;
+        this.from = Collections.unmodifiableSet(EnumSet.of(first, rest));
+    }
+
+    public SubmissionStatus to() {
+        return to;
+    }
+
+    public HistoryAction historyAction() {
+        return historyAction;
+    }
+
+    // 제출 시각(관리자 대기열 정렬 기준)을 새로 찍는 전이
+    public boolean stampsSubmittedAt() {
+        return stampsSubmittedAt;
+    }
+
+    // 종료(승인/반려) 시각을 찍는 전이 (학기 보관 기준 시각, SubmissionArchiveService)
+    public boolean stampsReviewedAt() {
+        return to == APPROVED || to == REJECTED;
+    }
+
+    public Set<SubmissionStatus> from() {
+        return from;
+    }
+
+    public boolean allowsFrom(SubmissionStatus status) {
+        return from.contains(status);
+    }
+
+    // 관리자 승인/반려 (처리 대기 시간 통계 대상)
+    public boolean isDecision() {
+        return this == APPROVE || this == REJECT;
+    }
+}
@@ -0,0 +1,29 @@
+package com.cnu.docserver.submission.event;
+
+import org.springframework.context.ApplicationEvent;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 제출의 상태/파일/검토 결과가 바뀌었음을 알리는 이벤트.
+ * 읽기 모델(submission_queue_view)은 커밋 이후 이 이벤트를 받아 해당 행을 원본 기준으로 다시 계산한다.
+ * 일괄 처리는 바뀐 제출들을 이벤트 하나로 묶어 보낸다 (리스너가 한 번에 처리).
+ */
+public class SubmissionChangedEvent extends ApplicationEvent {
+
+    private final List<Integer> submissionIds;
+
+    public SubmissionChangedEvent(Object source, Integer submissionId) {
+        this(source, List.of(submissionId));
+    }
+
+    public SubmissionChangedEvent(Object source, Collection<Integer> submissionIds) {
+        super(source);
+        this.submissionIds = List.copyOf(submissionIds);
+    }
+
+    public List<Integer> getSubmissionIds() {
+        return submissionIds;
+    }
+}
@@ -0,0 +1,10 @@
+package com.cnu.docserver.submission.repository;
+
+import com.cnu.docserver.submission.entity.ArchivedOcrReviewResult;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Optional;
+
+public interface ArchivedOcrReviewResultRepository extends JpaRepository<ArchivedOcrReviewResult, Long> {
+    Optional<ArchivedOcrReviewResult> findTopBySubmissionIdOrderByIdDesc(Integer submissionId);
+}
@@ -0,0 +1,17 @@
+package com.cnu.docserver.submission.repository;
+
+import com.cnu.docserver.submission.enums.SubmissionStatus;
+
+import java.time.LocalDateTime;
+
+/** 검색 재색인 프로젝션: 보관된 제출 (학생 이름/문서 제목은 보관 시점 값, 부서는 현재 문서 유형 기준) */
+public record ArchivedSearchRow(
+        Integer submissionId,
+        Integer departmentId,
+        Integer docTypeId,
+        String docTypeTitle,
+        SubmissionStatus status,
+        String studentId,
+        String studentName,
+        LocalDateTime submittedAt
+) {}
@@ -0,0 +1,14 @@
+package com.cnu.docserver.submission.repository;
+
+import com.cnu.docserver.submission.entity.ArchivedSubmissionHistory;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface ArchivedSubmissionHistoryRepository extends JpaRepository<ArchivedSubmissionHistory, Integer> {
+    List<ArchivedSubmissionHistory> findBySubmissionIdOrderByChangedAtAsc(Integer submissionId);
+
+    // 일괄 내보내기 (SubmissionHistoryRepository.findBySubmission_SubmissionIdIn... 와 같은 순서)
+    List<ArchivedSubmissionHistory> findBySubmissionIdInOrderBySubmissionHistoryIdAsc(Collection<Integer> submissionIds);
+}
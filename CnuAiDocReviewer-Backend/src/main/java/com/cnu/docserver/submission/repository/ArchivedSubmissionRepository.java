@@ -0,0 +1,204 @@
+package com.cnu.docserver.submission.repository;
+
+import com.cnu.docserver.submission.entity.ArchivedSubmission;
+import com.cnu.docserver.submission.enums.SubmissionStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 종료된 제출을 운영 테이블 → 보관 테이블로 옮기는 네이티브 쿼리 모음.
+ * 이동 쿼리는 모두 SubmissionArchiveService 의 배치 트랜잭션 안에서 lockClosed() 로 잠근 ID 에 대해서만 호출한다.
+ * 쓰기 쿼리마다 NATIVE_SPACES 로 영향 테이블을 밝혀 2차/쿼리 캐시 전체가 비워지지 않게 한다.
+ */
+public interface ArchivedSubmissionRepository extends JpaRepository<ArchivedSubmission, Integer> {
+
+    // 후보 중 아직 종료 상태이고 기준 시각 이전에 끝난 것만 잠근다 (그 사이 다시 열린 제출 제외)
+    @Query(value = """
+      SELECT submission_id FROM submissions
+      WHERE submission_id IN (:ids)
+        AND status IN ('APPROVED', 'REJECTED')
+        AND submitted_at < :cutoff
+        AND (reviewed_at IS NULL OR reviewed_at < :cutoff)
+      FOR UPDATE
+    """, nativeQuery = true)
+    List<Integer> lockClosed(@Param("ids") Collection<Integer> ids, @Param("cutoff") LocalDateTime cutoff);
+
+    // --- 복사 ---
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "submissions_archive"))
+    @Query(value = """
+      INSERT INTO submissions_archive (submission_id, student_id, member_id, student_name, doc_type_id, doc_type_title,
+                                       status, rejection_reason, reviewed_at, submitted_at, closed_at, file_url, archived_at)
+      SELECT s.submission_id, s.student_id, st.member_id, m.name, s.doc_type_id, dt.title,
+             s.status, s.rejection_reason, s.reviewed_at, s.submitted_at, COALESCE(s.reviewed_at, s.submitted_at),
+             (SELECT f.file_url FROM submission_files f
+              WHERE f.submission_id = s.submission_id
+              ORDER BY f.submission_file_id DESC LIMIT 1),
+             :now
+      FROM submissions s
+      JOIN students st ON st.student_id = s.student_id
+      LEFT JOIN members m ON m.member_id = st.member_id
+      JOIN doc_types dt ON dt.doc_type_id = s.doc_type_id
+      WHERE s.submission_id IN (:ids)
+    """, nativeQuery = true)
+    int copySubmissions(@Param("ids") Collection<Integer> ids, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "submission_histories_archive"))
+    @Query(value = """
+      INSERT INTO submission_histories_archive (submission_history_id, submission_id, admin_id, admin_name,
+                                                action, memo, changed_at)
+      SELECT h.submission_history_id, h.submission_id, h.admin_id, m.name, h.action, h.memo, h.changed_at
+      FROM submission_histories h
+      LEFT JOIN admins a ON a.admin_id = h.admin_id
+      LEFT JOIN members m ON m.member_id = a.member_id
+      WHERE h.submission_id IN (:ids)
+    """, nativeQuery = true)
+    int copyHistories(@Param("ids") Collection<Integer> ids);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "submission_field_values_archive"))
+    @Query(value = """
+      INSERT INTO submission_field_values_archive (submission_field_value_id, submission_id, field_name, field_value)
+      SELECT v.submission_field_value_id, v.submission_id, v.field_name, v.field_value
+      FROM submission_field_values v
+      WHERE v.submission_id IN (:ids)
+    """, nativeQuery = true)
+    int copyFieldValues(@Param("ids") Collection<Integer> ids);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "ocr_review_result_archive"))
+    @Query(value = """
+      INSERT INTO ocr_review_result_archive (id, submission_id, verdict, findings_json, reason, debug_text, created_at)
+      SELECT r.id, r.submission_submission_id, r.verdict, r.findings_json, r.reason, r.debug_text, r.created_at
+      FROM ocr_review_result r
+      WHERE r.submission_submission_id IN (:ids)
+    """, nativeQuery = true)
+    int copyOcrResults(@Param("ids") Collection<Integer> ids);
+
+    // 상태별 건수 카운터에서 빼기 (submissions 삭제 전에 호출)
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = SubmissionStatusCounterRepository.SPACES))
+    @Query(value = """
+      UPDATE submission_status_counters c
+      JOIN (SELECT doc_type_id, status, COUNT(*) AS n
+            FROM submissions WHERE submission_id IN (:ids)
+            GROUP BY doc_type_id, status) t
+        ON t.doc_type_id = c.doc_type_id AND t.status = c.status
+      SET c.cnt = c.cnt - t.n
+    """, nativeQuery = true)
+    int subtractCounters(@Param("ids") Collection<Integer> ids);
+
+    // --- read-through (학생 본인 목록, 일괄 내보내기) ---
+
+    // 학생 본인 최신 보관 제출 N개 (student_id, submission_id 인덱스 역순)
+    @Query("""
+      select new com.cnu.docserver.submission.repository.SubmissionListRow(
+          a.submissionId, a.status, a.submittedAt, a.fileUrl)
+      from ArchivedSubmission a
+      where a.studentId = :studentId
+        and a.status in :statuses
+      order by a.submissionId desc
+    """)
+    List<SubmissionListRow> findMyListRows(@Param("studentId") String studentId,
+                                           @Param("statuses") Collection<SubmissionStatus> statuses,
+                                           Pageable pageable);
+
+    // 일괄 내보내기: SubmissionRepository.findExportPage 와 같은 조건의 submissionId keyset 페이지
+    @Query("""
+      select a from ArchivedSubmission a
+      join DocType dt on dt.docTypeId = a.docTypeId
+      where dt.department.departmentId = :departmentId
+        and (:docTypeId is null or a.docTypeId = :docTypeId)
+        and a.status in :statuses
+        and (:from is null or a.submittedAt >= :from)
+        and (:to is null or a.submittedAt < :to)
+        and a.submissionId > :afterId
+      order by a.submissionId asc
+    """)
+    List<ArchivedSubmission> findExportPage(@Param("departmentId") Integer departmentId,
+                                            @Param("docTypeId") Integer docTypeId,
+                                            @Param("statuses") Collection<SubmissionStatus> statuses,
+                                            @Param("from") LocalDateTime from,
+                                            @Param("to") LocalDateTime to,
+                                            @Param("afterId") Integer afterId,
+                                            Pageable pageable);
+
+    // --- 검색 재색인 (보관분도 검색 결과에 남도록) ---
+
+    @Query("select a.submissionId from ArchivedSubmission a where a.submissionId > :afterId order by a.submissionId asc")
+    List<Integer> findIdPage(@Param("afterId") Integer afterId, Pageable pageable);
+
+    @Query("""
+      select new com.cnu.docserver.submission.repository.ArchivedSearchRow(
+          a.submissionId, dt.department.departmentId, a.docTypeId, a.docTypeTitle, a.status,
+          a.studentId, a.studentName, a.submittedAt)
+      from ArchivedSubmission a
+      join DocType dt on dt.docTypeId = a.docTypeId
+      where a.submissionId in :ids
+    """)
+    List<ArchivedSearchRow> findSearchRows(@Param("ids") Collection<Integer> ids);
+
+    // [submission_id, field_name, field_value]
+    @Query(value = """
+      SELECT v.submission_id, v.field_name, v.field_value
+      FROM submission_field_values_archive v
+      WHERE v.submission_id IN (:ids)
+      ORDER BY v.submission_id, v.submission_field_value_id
+    """, nativeQuery = true)
+    List<Object[]> findFieldValueRows(@Param("ids") Collection<Integer> ids);
+
+    // 자동 검토(봇) 이력 메모: [submission_id, memo] (SubmissionHistoryRepository.findBotHistories 와 같은 조건)
+    @Query(value = """
+      SELECT h.submission_id, h.memo
+      FROM submission_histories_archive h
+      WHERE h.submission_id IN (:ids)
+        AND h.admin_id IS NULL
+        AND h.memo LIKE '자동 검토%'
+      ORDER BY h.submission_id, h.changed_at, h.submission_history_id
+    """, nativeQuery = true)
+    List<Object[]> findBotMemoRows(@Param("ids") Collection<Integer> ids);
+
+    // --- 원본 삭제 (자식 → 부모 순) ---
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "submission_queue_view"))
+    @Query(value = "DELETE FROM submission_queue_view WHERE submission_id IN (:ids)", nativeQuery = true)
+    int deleteQueueViews(@Param("ids") Collection<Integer> ids);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "ocr_review_result"))
+    @Query(value = "DELETE FROM ocr_review_result WHERE submission_submission_id IN (:ids)", nativeQuery = true)
+    int deleteOcrResults(@Param("ids") Collection<Integer> ids);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "submission_field_values"))
+    @Query(value = "DELETE FROM submission_field_values WHERE submission_id IN (:ids)", nativeQuery = true)
+    int deleteFieldValues(@Param("ids") Collection<Integer> ids);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "submission_files"))
+    @Query(value = "DELETE FROM submission_files WHERE submission_id IN (:ids)", nativeQuery = true)
+    int deleteFiles(@Param("ids") Collection<Integer> ids);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "submission_histories"))
+    @Query(value = "DELETE FROM submission_histories WHERE submission_id IN (:ids)", nativeQuery = true)
+    int deleteHistories(@Param("ids") Collection<Integer> ids);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "submissions"))
+    @Query(value = "DELETE FROM submissions WHERE submission_id IN (:ids)", nativeQuery = true)
+    int deleteSubmissions(@Param("ids") Collection<Integer> ids);
+}
@@ -0,0 +1,11 @@
+package com.cnu.docserver.submission.repository;
+
+import com.cnu.docserver.submission.enums.SubmissionStatus;
+
+/** 대시보드 프로젝션: 문서 유형 × 상태별 건수 (카운터 행이 없으면 status/count null) */
+public record QueueCounterRow(
+        Integer docTypeId,
+        String title,
+        SubmissionStatus status,
+        Long count
+) {}
@@ -4,10 +4,13 @@ import com.cnu.docserver.submission.entity.Submission;
 import com.cnu.docserver.submission.entity.SubmissionFieldValue;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface SubmissionFieldValueRepository extends JpaRepository<SubmissionFieldValue, Integer> {
 
     List<SubmissionFieldValue> findBySubmission(Submission submission);
-    void deleteBySubmission(Submission submission);
+
+    // 여러 제출의 필드 값을 한 번에 조회 (내보내기용)
+    List<SubmissionFieldValue> findBySubmission_SubmissionIdInOrderBySubmissionFieldValueIdAsc(Collection<Integer> submissionIds);
 }
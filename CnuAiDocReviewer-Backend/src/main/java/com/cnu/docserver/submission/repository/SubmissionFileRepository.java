@@ -4,6 +4,8 @@ import com.cnu.docserver.submission.entity.Submission;
 import com.cnu.docserver.submission.entity.SubmissionFile;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 
@@ -12,4 +14,7 @@ public interface SubmissionFileRepository extends JpaRepository<SubmissionFile,
     Optional<SubmissionFile> findTopBySubmissionOrderByUploadedAtDesc(Submission submission);
     Optional<SubmissionFile> findTopBySubmissionOrderBySubmissionFileIdDesc(Submission submission);
 
+    // 여러 제출의 파일을 한 번에 조회 (목록/내보내기용)
+    List<SubmissionFile> findBySubmission_SubmissionIdIn(Collection<Integer> submissionIds);
+
 }
@@ -4,7 +4,10 @@ import com.cnu.docserver.submission.entity.Submission;
 import com.cnu.docserver.submission.entity.SubmissionHistory;
 import org.springdoc.core.converters.models.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface SubmissionHistoryRepository extends JpaRepository<SubmissionHistory, Integer> {
@@ -13,4 +16,27 @@ public interface SubmissionHistoryRepository extends JpaRepository<SubmissionHis
     List<SubmissionHistory> findBySubmissionOrderBySubmissionHistoryIdAsc(Submission submission);
     // 혹은 최신순이 필요하면 Desc 버전도 함께
     List<SubmissionHistory> findBySubmissionOrderBySubmissionHistoryIdDesc(Submission submission);
+
+    // 상세/작업 화면: 관리자 → 회원(이름)까지 한 번에 (이력 행마다 추가 조회 방지)
+    @Query("""
+      from SubmissionHistory h
+      left join fetch h.admin a
+      left join fetch a.member
+      where h.submission.submissionId = :submissionId
+      order by h.changedAt asc
+    """)
+    List<SubmissionHistory> findWithAdminBySubmissionId(@Param("submissionId") Integer submissionId);
+
+    // 여러 제출의 이력을 한 번에 조회 (내보내기용)
+    List<SubmissionHistory> findBySubmission_SubmissionIdInOrderBySubmissionHistoryIdAsc(Collection<Integer> submissionIds);
+
+    // 자동 검토(봇) 이력만: 관리자 없음 + "자동 검토" 메모 (읽기 모델의 최신 판정 계산용)
+    @Query("""
+      from SubmissionHistory h
+      where h.submission.submissionId in :ids
+        and h.admin is null
+        and h.memo like '자동 검토%'
+      order by h.submissionHistoryId asc
+    """)
+    List<SubmissionHistory> findBotHistories(@Param("ids") Collection<Integer> submissionIds);
 }
@@ -0,0 +1,13 @@
+package com.cnu.docserver.submission.repository;
+
+import com.cnu.docserver.submission.enums.SubmissionStatus;
+
+import java.time.LocalDateTime;
+
+/** 목록 화면용 한 줄 프로젝션 (제출 + 최신 파일 URL 을 한 쿼리로) */
+public record SubmissionListRow(
+        Integer submissionId,
+        SubmissionStatus status,
+        LocalDateTime submittedAt,
+        String fileUrl
+) {}
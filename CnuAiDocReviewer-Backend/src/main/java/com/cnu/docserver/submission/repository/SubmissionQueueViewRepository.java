@@ -0,0 +1,79 @@
+package com.cnu.docserver.submission.repository;
+
+import com.cnu.docserver.submission.entity.SubmissionQueueView;
+import com.cnu.docserver.submission.enums.SubmissionStatus;
+import org.springframework.data.domain.Pageable;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface SubmissionQueueViewRepository extends JpaRepository<SubmissionQueueView, Integer> {
+
+    // 관리자 목록 (상태 필터, 최신순)
+    List<SubmissionQueueView> findByDepartmentIdAndStatusInOrderBySubmittedAtDesc(
+            Integer departmentId, Collection<SubmissionStatus> statuses);
+
+    // 관리자 대기열: (submittedAt, submissionId) 내림차순 keyset 페이지. 조인 없이 읽기 모델만 사용
+    @Query("""
+      from SubmissionQueueView v
+      where v.departmentId = :departmentId
+        and v.submittedAt is not null
+        and (:docTypeId is null or v.docTypeId = :docTypeId)
+        and v.status in :statuses
+        and (:studentId is null or v.studentId = :studentId)
+        and (:from is null or v.submittedAt >= :from)
+        and (:to is null or v.submittedAt < :to)
+        and (:cursorAt is null
+             or v.submittedAt < :cursorAt
+             or (v.submittedAt = :cursorAt and v.submissionId < :cursorId))
+      order by v.submittedAt desc, v.submissionId desc
+    """)
+    List<SubmissionQueueView> findQueuePage(@Param("departmentId") Integer departmentId,
+                                            @Param("docTypeId") Integer docTypeId,
+                                            @Param("statuses") Collection<SubmissionStatus> statuses,
+                                            @Param("studentId") String studentId,
+                                            @Param("from") LocalDateTime from,
+                                            @Param("to") LocalDateTime to,
+                                            @Param("cursorAt") LocalDateTime cursorAt,
+                                            @Param("cursorId") Integer cursorId,
+                                            Pageable pageable);
+
+    // 일괄 승인/반려 대상: 대기열 조건 + 마지막 자동 검토 판정 (botVerdict 가 null 이면 판정 무관)
+    @Query("""
+      select v.submissionId from SubmissionQueueView v
+      where v.departmentId = :departmentId
+        and v.submittedAt is not null
+        and (:docTypeId is null or v.docTypeId = :docTypeId)
+        and v.status in :statuses
+        and (:botVerdict is null or v.botVerdict = :botVerdict)
+        and (:studentId is null or v.studentId = :studentId)
+        and (:from is null or v.submittedAt >= :from)
+        and (:to is null or v.submittedAt < :to)
+      order by v.submittedAt desc, v.submissionId desc
+    """)
+    List<Integer> findBulkTargetIds(@Param("departmentId") Integer departmentId,
+                                    @Param("docTypeId") Integer docTypeId,
+                                    @Param("statuses") Collection<SubmissionStatus> statuses,
+                                    @Param("botVerdict") String botVerdict,
+                                    @Param("studentId") String studentId,
+                                    @Param("from") LocalDateTime from,
+                                    @Param("to") LocalDateTime to,
+                                    Pageable pageable);
+
+    // 갱신 직렬화: 같은 제출의 행을 동시에 다시 계산하지 않도록 먼저 잠근 뒤 원본을 읽는다
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("from SubmissionQueueView v where v.submissionId in :ids")
+    List<SubmissionQueueView> lockByIds(@Param("ids") Collection<Integer> ids);
+
+    // 재생성 후 원본에 없는 행 정리
+    @Modifying
+    @Query("delete from SubmissionQueueView v where v.refreshedAt < :before")
+    int deleteRefreshedBefore(@Param("before") LocalDateTime before);
+}
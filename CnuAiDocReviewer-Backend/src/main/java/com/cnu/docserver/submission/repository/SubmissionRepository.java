@@ -3,10 +3,19 @@ package com.cnu.docserver.submission.repository;
 import com.cnu.docserver.department.entity.Department;
 import com.cnu.docserver.submission.entity.Submission;
 import com.cnu.docserver.submission.enums.SubmissionStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -19,6 +28,21 @@ public interface SubmissionRepository extends JpaRepository<Submission, Integer>
     );
     List<Submission> findByDocType_DepartmentOrderBySubmittedAtDesc(Department department);
 
+    // ▶ 학생 본인 최신 제출 N개 + 최신 파일 URL (한 쿼리)
+    @Query("""
+      select new com.cnu.docserver.submission.repository.SubmissionListRow(
+          s.submissionId, s.status, s.submittedAt, f.fileUrl)
+      from Submission s
+      left join SubmissionFile f on f.submission = s
+          and f.submissionFileId = (select max(f2.submissionFileId) from SubmissionFile f2 where f2.submission = s)
+      where s.student.studentId = :studentId
+        and s.status in :statuses
+      order by s.submissionId desc
+    """)
+    List<SubmissionListRow> findMyListRows(@Param("studentId") String studentId,
+                                           @Param("statuses") Collection<SubmissionStatus> statuses,
+                                           Pageable pageable);
+
     // ▶ 학생 본인 최신 제출 N개
     List<Submission> findByStudent_StudentIdOrderBySubmissionIdDesc(
             String studentId, Pageable pageable);
@@ -35,4 +59,101 @@ public interface SubmissionRepository extends JpaRepository<Submission, Integer>
     """)
     Optional<Submission> findDetailById(Integer id);
 
+    // ▶ 일괄 내보내기: submissionId 오름차순 keyset 페이지 (학생/회원/문서유형 함께 로딩)
+    @Query("""
+      from Submission s
+      join fetch s.student st
+      join fetch st.member m
+      join fetch s.docType dt
+      where dt.department.departmentId = :departmentId
+        and (:docTypeId is null or dt.docTypeId = :docTypeId)
+        and s.status in :statuses
+        and (:from is null or s.submittedAt >= :from)
+        and (:to is null or s.submittedAt < :to)
+        and s.submissionId > :afterId
+      order by s.submissionId asc
+    """)
+    List<Submission> findExportPage(@Param("departmentId") Integer departmentId,
+                                    @Param("docTypeId") Integer docTypeId,
+                                    @Param("statuses") Collection<SubmissionStatus> statuses,
+                                    @Param("from") LocalDateTime from,
+                                    @Param("to") LocalDateTime to,
+                                    @Param("afterId") Integer afterId,
+                                    Pageable pageable);
+
+    // ▶ 읽기 모델 재생성: 전체 제출 ID 를 오름차순 keyset 페이지로
+    @Query("select s.submissionId from Submission s where s.submissionId > :afterId order by s.submissionId asc")
+    List<Integer> findIdPage(@Param("afterId") Integer afterId, Pageable pageable);
+
+    @Query("""
+      from Submission s
+      join fetch s.student st
+      join fetch st.member m
+      join fetch s.docType dt
+      where s.submissionId in :ids
+    """)
+    List<Submission> findViewSourceByIds(@Param("ids") Collection<Integer> ids);
+
+    // ▶ 보관 대상: 기준 시각(이번 학기 시작) 전에 종료된 제출 ID (status, submitted_at 인덱스 범위)
+    @Query("""
+      select s.submissionId from Submission s
+      where s.status in :statuses
+        and s.submittedAt < :cutoff
+        and (s.reviewedAt is null or s.reviewedAt < :cutoff)
+    """)
+    List<Integer> findArchivableIds(@Param("statuses") Collection<SubmissionStatus> statuses,
+                                    @Param("cutoff") LocalDateTime cutoff,
+                                    Pageable pageable);
+
+    // ▶ 필드 버전 compare-and-set: 기대한 버전이고 아직 수정 가능한 상태일 때만 +1
+    //   (0 건이면 다른 저장이 먼저 반영됐거나, 상태 확인 뒤 그 사이 제출되어 검수로 넘어간 것)
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "submissions"))
+    @Query(value = """
+      UPDATE submissions SET fields_version = fields_version + 1
+      WHERE submission_id = :id AND fields_version = :expected AND status IN ('DRAFT', 'REJECTED')
+    """, nativeQuery = true)
+    int bumpFieldsVersion(@Param("id") Integer id, @Param("expected") int expected);
+
+    // ▶ 상태 compare-and-set: 전이표의 출발 상태 중 하나일 때만 전이 (0 건이면 그 사이 출발할 수 없는 상태로 바뀐 것)
+    //   바뀌기 전 상태는 :order 안의 순번(FIELD)으로 LAST_INSERT_ID 에 남긴다 → 성공했을 때만 previousStatusOrder() 로 읽음
+    //   (SET 은 왼쪽부터 평가되므로 첫 대입식 안의 status 는 바뀌기 전 값)
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "submissions"))
+    @Query(value = """
+      UPDATE submissions SET status = IF(LAST_INSERT_ID(FIELD(status, :order)) > 0, :to, :to),
+                             submitted_at = COALESCE(:submittedAt, submitted_at),
+                             reviewed_at = COALESCE(:reviewedAt, reviewed_at)
+      WHERE submission_id = :id AND status IN (:from)
+    """, nativeQuery = true)
+    int compareAndSetStatus(@Param("id") Integer id,
+                            @Param("from") Collection<String> from,
+                            @Param("order") List<String> order,
+                            @Param("to") String to,
+                            @Param("submittedAt") LocalDateTime submittedAt,
+                            @Param("reviewedAt") LocalDateTime reviewedAt);
+
+    // ▶ 바로 앞 compareAndSetStatus 가 남긴 이전 상태 순번 (1부터). 같은 트랜잭션(같은 커넥션)에서만 의미 있음
+    @Query(value = "SELECT LAST_INSERT_ID()", nativeQuery = true)
+    Number previousStatusOrder();
+
+    // ▶ 일괄 전이 대상 잠금: PK 순서로 잠근 뒤 최신 상태를 읽는다 (이후 조건부 UPDATE 결과가 읽은 상태와 일치)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("from Submission s where s.submissionId in :ids order by s.submissionId")
+    List<Submission> lockByIds(@Param("ids") Collection<Integer> ids);
+
+    // ▶ 상태 compare-and-set (일괄): 같은 상태에서 출발하는 제출들을 UPDATE 한 번으로
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "submissions"))
+    @Query(value = """
+      UPDATE submissions SET status = :to,
+                             submitted_at = COALESCE(:submittedAt, submitted_at),
+                             reviewed_at = COALESCE(:reviewedAt, reviewed_at)
+      WHERE submission_id IN (:ids) AND status = :expected
+    """, nativeQuery = true)
+    int compareAndSetStatusIn(@Param("ids") Collection<Integer> ids,
+                              @Param("expected") String expected,
+                              @Param("to") String to,
+                              @Param("submittedAt") LocalDateTime submittedAt,
+                              @Param("reviewedAt") LocalDateTime reviewedAt);
 }
@@ -0,0 +1,69 @@
+package com.cnu.docserver.submission.repository;
+
+import com.cnu.docserver.submission.entity.SubmissionStatusCounter;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface SubmissionStatusCounterRepository
+        extends JpaRepository<SubmissionStatusCounter, SubmissionStatusCounter.Key> {
+
+    // 네이티브 쓰기는 영향 테이블을 밝혀야 한다. 없으면 Hibernate 가 2차/쿼리 캐시 전체를 비움
+    String SPACES = "submission_status_counters";
+
+    // 원자적 증감 (행이 없으면 생성). 호출한 트랜잭션과 함께 커밋/롤백된다
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = SPACES))
+    @Query(value = """
+      INSERT INTO submission_status_counters (doc_type_id, status, cnt)
+      VALUES (:docTypeId, :status, :delta)
+      ON DUPLICATE KEY UPDATE cnt = cnt + :delta
+    """, nativeQuery = true)
+    int add(@Param("docTypeId") Integer docTypeId, @Param("status") String status, @Param("delta") long delta);
+
+    // 대시보드: 부서의 문서 유형별 카운터 (문서 유형 수 × 상태 수만큼만 읽음)
+    @Query("""
+      select new com.cnu.docserver.submission.repository.QueueCounterRow(
+          dt.docTypeId, dt.title, c.id.status, c.count)
+      from DocType dt
+      left join SubmissionStatusCounter c on c.id.docTypeId = dt.docTypeId
+      where dt.department.departmentId = :departmentId
+      order by dt.docTypeId asc
+    """)
+    List<QueueCounterRow> findDashboardRows(@Param("departmentId") Integer departmentId);
+
+    // --- 정합성 점검용 ---
+
+    // 원본 테이블 기준 실제 건수: [doc_type_id, status, count]
+    @Query(value = """
+      SELECT doc_type_id, status, COUNT(*) FROM submissions GROUP BY doc_type_id, status
+    """, nativeQuery = true)
+    List<Object[]> countActual();
+
+    // 실제 건수로 덮어쓰기 (단일 INSERT ... SELECT 라 스캔한 행 기준으로 일관됨)
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = SPACES))
+    @Query(value = """
+      INSERT INTO submission_status_counters (doc_type_id, status, cnt)
+      SELECT t.doc_type_id, t.status, t.c
+      FROM (SELECT doc_type_id, status, COUNT(*) AS c FROM submissions GROUP BY doc_type_id, status) t
+      ON DUPLICATE KEY UPDATE cnt = t.c
+    """, nativeQuery = true)
+    int rebuildFromSubmissions();
+
+    // 더 이상 해당 상태의 제출이 없는 카운터는 0 으로
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = SPACES))
+    @Query(value = """
+      UPDATE submission_status_counters c SET c.cnt = 0
+      WHERE c.cnt <> 0
+        AND NOT EXISTS (SELECT 1 FROM submissions s WHERE s.doc_type_id = c.doc_type_id AND s.status = c.status)
+    """, nativeQuery = true)
+    int zeroStale();
+}
@@ -0,0 +1,74 @@
+package com.cnu.docserver.submission.repository;
+
+import com.cnu.docserver.submission.entity.UploadSession;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 업로드 세션 상태 전이는 모두 조건부 UPDATE/DELETE (0 건이면 다른 요청·인스턴스가 먼저 바꾼 것).
+ * 임대(lease)가 살아 있는 동안에는 같은 세션에 다른 쓰기/claim 이 들어오지 못한다.
+ */
+public interface UploadSessionRepository extends JpaRepository<UploadSession, String> {
+
+    // 청크 쓰기 임대: 미완료 + offset 일치 + 다른 임대 없음
+    @Modifying(clearAutomatically = true)
+    @Query("""
+      update UploadSession u set u.leaseId = :lease, u.leaseUntil = :until, u.updatedAt = :now
+      where u.token = :token and u.completed = false and u.receivedBytes = :offset
+        and (u.leaseUntil is null or u.leaseUntil < :now)
+    """)
+    int leaseChunk(@Param("token") String token, @Param("offset") long offset, @Param("lease") String lease,
+                   @Param("until") LocalDateTime until, @Param("now") LocalDateTime now);
+
+    // 청크 반영 + 임대 해제 (임대를 잃었으면 0)
+    @Modifying(clearAutomatically = true)
+    @Query("""
+      update UploadSession u set u.receivedBytes = :received, u.leaseId = null, u.leaseUntil = null, u.updatedAt = :now
+      where u.token = :token and u.leaseId = :lease
+    """)
+    int advance(@Param("token") String token, @Param("lease") String lease,
+                @Param("received") long received, @Param("now") LocalDateTime now);
+
+    @Modifying(clearAutomatically = true)
+    @Query("update UploadSession u set u.leaseId = null, u.leaseUntil = null where u.token = :token and u.leaseId = :lease")
+    int releaseLease(@Param("token") String token, @Param("lease") String lease);
+
+    @Modifying(clearAutomatically = true)
+    @Query("""
+      update UploadSession u set u.completed = true, u.sha256 = :sha256, u.updatedAt = :now
+      where u.token = :token and u.completed = false and u.receivedBytes = u.size
+        and (u.leaseUntil is null or u.leaseUntil < :now)
+    """)
+    int complete(@Param("token") String token, @Param("sha256") String sha256, @Param("now") LocalDateTime now);
+
+    // 제출 반영(claim) 임대: 완료 + 다른 claim 없음
+    @Modifying(clearAutomatically = true)
+    @Query("""
+      update UploadSession u set u.leaseId = :lease, u.leaseUntil = :until, u.updatedAt = :now
+      where u.token = :token and u.completed = true and (u.leaseUntil is null or u.leaseUntil < :now)
+    """)
+    int leaseClaim(@Param("token") String token, @Param("lease") String lease,
+                   @Param("until") LocalDateTime until, @Param("now") LocalDateTime now);
+
+    // 제출/수정 트랜잭션 안에서 사용 처리 (claim 임대를 가진 요청만)
+    @Modifying
+    @Query("delete from UploadSession u where u.token = :token and u.leaseId = :lease")
+    int consume(@Param("token") String token, @Param("lease") String lease);
+
+    // --- 만료 정리 ---
+
+    @Query("select u.token from UploadSession u where u.updatedAt < :before")
+    List<String> findIdleTokens(@Param("before") LocalDateTime before);
+
+    @Modifying
+    @Query("""
+      delete from UploadSession u
+      where u.token = :token and u.updatedAt < :before and (u.leaseUntil is null or u.leaseUntil < :now)
+    """)
+    int deleteIdle(@Param("token") String token, @Param("before") LocalDateTime before, @Param("now") LocalDateTime now);
+}
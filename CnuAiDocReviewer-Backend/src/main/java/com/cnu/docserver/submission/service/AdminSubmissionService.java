@@ -1,24 +1,33 @@
 package com.cnu.docserver.submission.service;
 
-import com.cnu.docserver.department.entity.Department;
+import com.cnu.docserver.auth.context.LoginPrincipal;
 import com.cnu.docserver.department.repository.DepartmentRepository;
 import com.cnu.docserver.docmanger.service.FileStorageService;
+import com.cnu.docserver.submission.dto.AdminQueueItemDTO;
+import com.cnu.docserver.submission.dto.AdminQueuePageDTO;
+import com.cnu.docserver.submission.dto.BulkDecisionRequestDTO;
+import com.cnu.docserver.submission.dto.BulkDecisionResultDTO;
 import com.cnu.docserver.submission.dto.HistoryDTO;
 import com.cnu.docserver.submission.dto.SubmissionDetailDTO;
 import com.cnu.docserver.submission.dto.SubmissionSummaryDTO;
+import com.cnu.docserver.submission.entity.ArchivedSubmission;
 import com.cnu.docserver.submission.entity.Submission;
 import com.cnu.docserver.submission.entity.SubmissionFile;
 import com.cnu.docserver.submission.entity.SubmissionHistory;
-import com.cnu.docserver.submission.enums.HistoryAction;
+import com.cnu.docserver.submission.entity.SubmissionQueueView;
 import com.cnu.docserver.submission.enums.SubmissionStatus;
+import com.cnu.docserver.submission.enums.SubmissionTransition;
+import com.cnu.docserver.submission.repository.ArchivedSubmissionHistoryRepository;
+import com.cnu.docserver.submission.repository.ArchivedSubmissionRepository;
 import com.cnu.docserver.submission.repository.SubmissionFileRepository;
 import com.cnu.docserver.submission.repository.SubmissionHistoryRepository;
+import com.cnu.docserver.submission.repository.SubmissionQueueViewRepository;
 import com.cnu.docserver.submission.repository.SubmissionRepository;
 import com.cnu.docserver.user.entity.Admin;
-import com.cnu.docserver.user.entity.Member;
 import com.cnu.docserver.user.repository.AdminRepository;
 import io.micrometer.common.lang.Nullable;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -27,8 +36,15 @@ import org.springframework.web.server.ResponseStatusException;
 import java.net.URLDecoder;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Paths;
-import java.util.EnumSet;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -38,20 +54,39 @@ public class AdminSubmissionService {
     private final SubmissionHistoryRepository submissionHistoryRepository;
     private final AdminRepository adminRepository;
     private final SubmissionFileRepository submissionFileRepository; // ★ 추가
+    private final SubmissionQueueViewRepository queueViewRepository;
     private final DepartmentRepository departmentRepository;
     private final FileStorageService fileStorageService;
-    private static final EnumSet<SubmissionStatus> REVIEWABLE_STATUSES =
-            EnumSet.of(
-                    SubmissionStatus.SUBMITTED,
-                    SubmissionStatus.UNDER_REVIEW,
-                    SubmissionStatus.BOT_REVIEW,
-                    SubmissionStatus.NEEDS_FIX
-            );
+    private final ArchivedSubmissionRepository archivedSubmissionRepository;
+    private final ArchivedSubmissionHistoryRepository archivedHistoryRepository;
+    private final SubmissionStateMachine submissionStateMachine;
+    private static final int QUEUE_DEFAULT_SIZE = 50;
+    private static final int QUEUE_MAX_SIZE = 200;
+    private static final int BULK_MAX_ITEMS = 500;
+
     @Transactional(readOnly = true)
     public SubmissionDetailDTO getDetail(Integer id) {
+        // 헤더는 읽기 모델에서 (조인 없음). 아직 반영 전이면 원본에서 조회
+        SubmissionQueueView v = queueViewRepository.findById(id).orElse(null);
+        if (v == null) return getDetailFromSource(id);
 
-        Submission s = submissionRepository.findDetailById(id)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "제출을 찾을 수 없습니다."));
+        List<HistoryDTO> history = toHistory(submissionHistoryRepository.findWithAdminBySubmissionId(id));
+        return new SubmissionDetailDTO(
+                v.getSubmissionId(),
+                v.getStatus() == null ? null : v.getStatus().name(),
+                v.getSubmittedAt() == null ? null : v.getSubmittedAt().toString(),
+                v.getMemberId(),
+                v.getStudentName(),
+                v.getFileUrl(),
+                v.getDocTypeTitle(),
+                v.getFileName(),
+                history
+        );
+    }
+
+    private SubmissionDetailDTO getDetailFromSource(Integer id) {
+        Submission s = submissionRepository.findDetailById(id).orElse(null);
+        if (s == null) return getDetailFromArchive(id); // 지난 학기 종료분은 보관 테이블에 있음
 
         // 파일 URL / 파일명
         String fileUrl = submissionFileRepository.findBySubmission(s)
@@ -63,16 +98,7 @@ public class AdminSubmissionService {
         String docTypeName = (s.getDocType() != null ? s.getDocType().getTitle() : null);
 
         // 히스토리
-        List<HistoryDTO> history = submissionHistoryRepository.findBySubmissionOrderByChangedAtAsc(s)
-                .stream()
-                .map(h -> new HistoryDTO(
-                        h.getSubmissionHistoryId(),
-                        h.getAction() == null ? null : h.getAction().name(),
-                        h.getMemo(),
-                        resolveAdminName(h.getAdmin()),
-                        h.getChangedAt() == null ? null : h.getChangedAt().toString()
-                ))
-                .toList();
+        List<HistoryDTO> history = toHistory(submissionHistoryRepository.findWithAdminBySubmissionId(id));
 
         // 학생 정보
         String studentName = (s.getStudent() != null && s.getStudent().getMember() != null)
@@ -95,6 +121,46 @@ public class AdminSubmissionService {
         );
     }
 
+    // 관리자 작업 화면(AdminWorkspaceService)도 같은 read-through 를 쓴다
+    SubmissionDetailDTO getDetailFromArchive(Integer id) {
+        ArchivedSubmission a = archivedSubmissionRepository.findById(id)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "제출을 찾을 수 없습니다."));
+
+        List<HistoryDTO> history = archivedHistoryRepository.findBySubmissionIdOrderByChangedAtAsc(id).stream()
+                .map(h -> new HistoryDTO(
+                        h.getSubmissionHistoryId(),
+                        h.getAction() == null ? null : h.getAction().name(),
+                        h.getMemo(),
+                        h.getAdminId() == null ? "학생/시스템" : (h.getAdminName() != null ? h.getAdminName() : h.getAdminId()),
+                        h.getChangedAt() == null ? null : h.getChangedAt().toString()
+                ))
+                .toList();
+
+        return new SubmissionDetailDTO(
+                a.getSubmissionId(),
+                a.getStatus() == null ? null : a.getStatus().name(),
+                a.getSubmittedAt() == null ? null : a.getSubmittedAt().toString(),
+                a.getMemberId(),
+                a.getStudentName(),
+                a.getFileUrl(),
+                a.getDocTypeTitle(),
+                extractFileName(a.getFileUrl()),
+                history
+        );
+    }
+
+    // 이력 → DTO (admin/member 는 fetch join 으로 미리 읽어 둘 것)
+    List<HistoryDTO> toHistory(List<SubmissionHistory> histories) {
+        return histories.stream()
+                .map(h -> new HistoryDTO(
+                        h.getSubmissionHistoryId(),
+                        h.getAction() == null ? null : h.getAction().name(),
+                        h.getMemo(),
+                        resolveAdminName(h.getAdmin()),
+                        h.getChangedAt() == null ? null : h.getChangedAt().toString()
+                ))
+                .toList();
+    }
 
     private String resolveAdminName(Admin admin) {
         if (admin == null) return "학생/시스템";
@@ -105,7 +171,7 @@ public class AdminSubmissionService {
         return admin.getAdminId() != null ? admin.getAdminId().toString() : "관리자";
     }
 
-    private String extractFileName(String url) {
+    String extractFileName(String url) {
         if (url == null || url.isBlank()) return null;
 
         // ?query 제거
@@ -124,80 +190,235 @@ public class AdminSubmissionService {
     }
     @Transactional(readOnly = true)
     public List<SubmissionSummaryDTO> listAdminQueue(Integer departmentId, @Nullable List<SubmissionStatus> statuses) {
-        Department dept = departmentRepository.findById(departmentId)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "부서를 찾을 수 없습니다."));
-
-        List<Submission> list;
-        if (statuses == null || statuses.isEmpty()) {
-            // ★ 전체 상태
-            list = submissionRepository.findByDocType_DepartmentOrderBySubmittedAtDesc(dept);
-        } else {
-            list = submissionRepository.findByDocType_DepartmentAndStatusInOrderBySubmittedAtDesc(dept, statuses);
+        if (!departmentRepository.existsById(departmentId)) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "부서를 찾을 수 없습니다.");
         }
 
-        return list.stream().map(this::toSummary).toList();
+        // ★ 상태 미지정이면 전체 상태. 읽기 모델 한 테이블만 조회
+        List<SubmissionStatus> filter = (statuses == null || statuses.isEmpty())
+                ? List.of(SubmissionStatus.values()) : statuses;
+
+        return queueViewRepository.findByDepartmentIdAndStatusInOrderBySubmittedAtDesc(departmentId, filter).stream()
+                .map(v -> SubmissionSummaryDTO.builder()
+                        .submissionId(v.getSubmissionId())
+                        .status(v.getStatus())
+                        .fileUrl(v.getFileUrl())
+                        .submittedAt(v.getSubmittedAt() == null ? null : v.getSubmittedAt().toString())
+                        .build())
+                .toList();
     }
 
+    /** 대기열 조회 조건 (departmentId 외에는 null 이면 전체) */
+    public record QueueFilter(
+            Integer departmentId,
+            Integer docTypeId,
+            List<SubmissionStatus> statuses,
+            String studentId,
+            LocalDate from,
+            LocalDate to
+    ) {}
+
+    /**
+     * 커서 기반 대기열. (submittedAt, submissionId) 내림차순 keyset 이라
+     * 몇 페이지를 내려가도 OFFSET 스캔 없이 인덱스에서 바로 이어 읽는다.
+     */
+    @Transactional(readOnly = true)
+    public AdminQueuePageDTO listAdminQueuePage(QueueFilter filter, @Nullable String cursor, @Nullable Integer size) {
+        if (!departmentRepository.existsById(filter.departmentId())) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "부서를 찾을 수 없습니다.");
+        }
+        if (filter.from() != null && filter.to() != null && filter.from().isAfter(filter.to())) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "조회 기간이 올바르지 않습니다.");
+        }
+        int limit = (size == null || size <= 0) ? QUEUE_DEFAULT_SIZE : Math.min(size, QUEUE_MAX_SIZE);
+        QueueCursor after = QueueCursor.decode(cursor);
+
+        List<SubmissionStatus> statuses = (filter.statuses() == null || filter.statuses().isEmpty())
+                ? List.of(SubmissionStatus.values()) : filter.statuses();
+        String studentId = (filter.studentId() == null || filter.studentId().isBlank()) ? null : filter.studentId().trim();
+
+        // limit + 1 건을 읽어 다음 페이지 존재 여부 판단
+        List<SubmissionQueueView> rows = queueViewRepository.findQueuePage(
+                filter.departmentId(),
+                filter.docTypeId(),
+                statuses,
+                studentId,
+                filter.from() == null ? null : filter.from().atStartOfDay(),
+                filter.to() == null ? null : filter.to().plusDays(1).atStartOfDay(), // to 당일 포함
+                after == null ? null : after.submittedAt(),
+                after == null ? null : after.submissionId(),
+                PageRequest.of(0, limit + 1));
+
+        boolean hasNext = rows.size() > limit;
+        List<SubmissionQueueView> page = hasNext ? rows.subList(0, limit) : rows;
+
+        List<AdminQueueItemDTO> items = page.stream()
+                .map(v -> new AdminQueueItemDTO(
+                        v.getSubmissionId(),
+                        v.getStatus() == null ? null : v.getStatus().name(),
+                        v.getSubmittedAt().toString(),
+                        v.getStudentId(),
+                        v.getStudentName(),
+                        v.getDocTypeId(),
+                        v.getDocTypeTitle(),
+                        v.getFileUrl(),
+                        v.getFileName(),
+                        v.getBotVerdict()
+                ))
+                .toList();
 
-    @Transactional
-    public SubmissionSummaryDTO approve(Integer submissionId, Member adminMember) {
-        Submission s = requireReviewable(submissionId);
-        Admin admin = adminRepository.findByMember(adminMember)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.FORBIDDEN, "관리자 권한이 없습니다."));
+        String nextCursor = null;
+        if (hasNext) {
+            SubmissionQueueView last = page.get(page.size() - 1);
+            nextCursor = new QueueCursor(last.getSubmittedAt(), last.getSubmissionId()).encode();
+        }
+        return new AdminQueuePageDTO(items, nextCursor, hasNext);
+    }
 
+    // 불투명 커서: base64url("{submittedAt ISO}|{submissionId}")
+    private record QueueCursor(LocalDateTime submittedAt, Integer submissionId) {
+        String encode() {
+            String raw = submittedAt + "|" + submissionId;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
 
-        s.setStatus(SubmissionStatus.APPROVED);
-        submissionRepository.save(s);
+        static QueueCursor decode(String cursor) {
+            if (cursor == null || cursor.isBlank()) return null;
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                int sep = raw.lastIndexOf('|');
+                return new QueueCursor(LocalDateTime.parse(raw.substring(0, sep)),
+                        Integer.valueOf(raw.substring(sep + 1)));
+            } catch (IllegalArgumentException | DateTimeParseException | IndexOutOfBoundsException e) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "잘못된 커서입니다.");
+            }
+        }
+    }
 
-        saveHistory(s, admin, HistoryAction.APPROVED, "승인 처리되었습니다.");
+    @Transactional
+    public SubmissionSummaryDTO approve(Integer submissionId, LoginPrincipal principal) {
+        Submission s = requireSubmission(submissionId);
+        Admin admin = requireAdmin(principal);
 
+        // 검토 가능한 상태에서만, 그 사이 OCR/다른 관리자가 먼저 바꿨으면 409
+        submissionStateMachine.apply(s, SubmissionTransition.APPROVE, admin, "승인 처리되었습니다.");
         return toSummary(s);
     }
 
     @Transactional
-    public SubmissionSummaryDTO reject(Integer submissionId, Member adminMember, String reason) {
-        Submission s = requireReviewable(submissionId);
-        Admin admin = adminRepository.findByMember(adminMember)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.FORBIDDEN, "관리자 권한이 없습니다."));
-
-        s.setStatus(SubmissionStatus.REJECTED);
-        submissionRepository.save(s);
-        saveHistory(s, admin, HistoryAction.REJECTED, "반려 사유: " + (reason == null ? "사유 미기재" : reason));
+    public SubmissionSummaryDTO reject(Integer submissionId, LoginPrincipal principal, String reason) {
+        Submission s = requireSubmission(submissionId);
+        Admin admin = requireAdmin(principal);
 
+        submissionStateMachine.apply(s, SubmissionTransition.REJECT, admin,
+                "반려 사유: " + (reason == null ? "사유 미기재" : reason));
         return toSummary(s);
     }
 
-    // --- helpers ---
+    /**
+     * 일괄 승인/반려 (학기말 대기열 정리).
+     * 대상을 PK 순서로 잠근 뒤 전이표로 거르고, 출발 상태별 조건부 UPDATE + 이력 배치 INSERT 로 한 트랜잭션에 반영.
+     * 처리할 수 없는 건(없음/이미 처리됨)은 건너뛰고 건별 결과로 알려 준다.
+     */
+    @Transactional
+    public BulkDecisionResultDTO decideAll(BulkDecisionRequestDTO body, LoginPrincipal principal) {
+        if (body == null || body.decision() == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "처리 종류(APPROVE/REJECT)가 필요합니다.");
+        }
+        Admin admin = requireAdmin(principal);
+        BulkTargets targets = bulkTargets(body);
+        List<Integer> ids = targets.ids();
+
+        SubmissionTransition transition;
+        String memo;
+        if (body.decision() == BulkDecisionRequestDTO.Decision.APPROVE) {
+            transition = SubmissionTransition.APPROVE;
+            memo = body.memo() == null || body.memo().isBlank() ? "일괄 승인 처리되었습니다." : "일괄 승인: " + body.memo();
+        } else {
+            transition = SubmissionTransition.REJECT;
+            memo = "반려 사유: " + (body.memo() == null || body.memo().isBlank() ? "사유 미기재" : body.memo());
+        }
 
-    private Submission requireReviewable(Integer id) {
-        Submission s = submissionRepository.findById(id)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "제출을 찾을 수 없습니다."));
+        Map<Integer, Submission> locked = ids.isEmpty() ? Map.of()
+                : submissionRepository.lockByIds(ids).stream()
+                .collect(Collectors.toMap(Submission::getSubmissionId, Function.identity()));
+        Map<Integer, SubmissionStatus> applied =
+                submissionStateMachine.applyAll(List.copyOf(locked.values()), transition, admin, memo);
+
+        List<BulkDecisionResultDTO.Item> items = ids.stream()
+                .map(id -> {
+                    Submission s = locked.get(id);
+                    if (s == null) return new BulkDecisionResultDTO.Item(id, "NOT_FOUND", null);
+                    return new BulkDecisionResultDTO.Item(id,
+                            applied.containsKey(id) ? "APPLIED" : "NOT_ALLOWED", s.getStatus().name());
+                })
+                .toList();
+        return new BulkDecisionResultDTO(body.decision().name(), ids.size(), applied.size(), items,
+                targets.truncated());
+    }
 
-        if (!REVIEWABLE_STATUSES.contains(s.getStatus())) {
-            throw new ResponseStatusException(HttpStatus.CONFLICT, "검토 가능한 상태가 아닙니다.");
+    private record BulkTargets(List<Integer> ids, boolean truncated) {}
+
+    // 일괄 처리 대상: ID 목록(중복 제거, 요청 순서 유지, 한도 초과 400) 또는 대기열 조건
+    // 조건은 한 건 더 읽어 한도를 넘는지 알려 준다 (처리된 건은 대기 상태를 벗어나므로 같은 요청 반복으로 이어서 처리)
+    private BulkTargets bulkTargets(BulkDecisionRequestDTO body) {
+        boolean byIds = body.submissionIds() != null && !body.submissionIds().isEmpty();
+        if (byIds == (body.filter() != null)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "submissionIds 와 filter 중 하나만 지정해야 합니다.");
+        }
+        if (byIds) {
+            List<Integer> ids = body.submissionIds().stream().filter(Objects::nonNull).distinct().toList();
+            if (ids.size() > BULK_MAX_ITEMS) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "한 번에 최대 " + BULK_MAX_ITEMS + "건까지 처리할 수 있습니다.");
+            }
+            return new BulkTargets(ids, false);
         }
 
-        // 관리자가 개입하면 '검토 중'으로 진입 표시 (기존 컨벤션 유지)
-        if (s.getStatus() == SubmissionStatus.SUBMITTED
-                || s.getStatus() == SubmissionStatus.BOT_REVIEW
-                || s.getStatus() == SubmissionStatus.NEEDS_FIX) {
-            s.setStatus(SubmissionStatus.UNDER_REVIEW);
-            // 같은 트랜잭션 내 flush 시 반영되므로 save 생략해도 무방
-            // submissionRepository.save(s);
+        BulkDecisionRequestDTO.Filter f = body.filter();
+        if (f.departmentId() == null || !departmentRepository.existsById(f.departmentId())) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "부서를 찾을 수 없습니다.");
         }
+        if (f.from() != null && f.to() != null && f.from().isAfter(f.to())) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "조회 기간이 올바르지 않습니다.");
+        }
+        // 읽기 모델이 조금 늦더라도 상태는 잠근 원본 기준으로 다시 확인하므로 잘못 처리되지 않음
+        List<Integer> ids = queueViewRepository.findBulkTargetIds(
+                f.departmentId(),
+                f.docTypeId(),
+                (f.statuses() == null || f.statuses().isEmpty()) ? List.of(SubmissionStatus.SUBMITTED) : f.statuses(),
+                botVerdictOf(f),
+                (f.studentId() == null || f.studentId().isBlank()) ? null : f.studentId().trim(),
+                f.from() == null ? null : f.from().atStartOfDay(),
+                f.to() == null ? null : f.to().plusDays(1).atStartOfDay(),
+                PageRequest.of(0, BULK_MAX_ITEMS + 1));
+        return ids.size() > BULK_MAX_ITEMS
+                ? new BulkTargets(ids.subList(0, BULK_MAX_ITEMS), true)
+                : new BulkTargets(ids, false);
+    }
 
-        return s;
+    // 기본은 자동 검토를 통과한 건만 (DIRECT 제출처럼 검토를 거치지 않은 건은 ANY 로 명시해야 포함)
+    private static String botVerdictOf(BulkDecisionRequestDTO.Filter f) {
+        String v = f.botVerdict() == null || f.botVerdict().isBlank() ? "PASS" : f.botVerdict().trim().toUpperCase();
+        return switch (v) {
+            case "ANY" -> null;
+            case "PASS", "NEEDS_FIX", "REJECT" -> v;
+            default -> throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "botVerdict 는 PASS, NEEDS_FIX, REJECT, ANY 중 하나여야 합니다.");
+        };
     }
 
-    private void saveHistory(Submission s, Admin admin, HistoryAction action, String memo) {
-        submissionHistoryRepository.save(
-                SubmissionHistory.builder()
-                        .submission(s)
-                        .admin(admin)          // ★ admin_id NOT NULL 보장
-                        .action(action)
-                        .memo(memo)
-                        .build()
-        );
+    // --- helpers ---
+
+    // 로그인 시 확인해 둔 관리자 ID 로 참조만 (이력 FK 용, 조회 없음)
+    private Admin requireAdmin(LoginPrincipal principal) {
+        if (principal.adminId() == null) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN, "관리자 권한이 없습니다.");
+        }
+        return adminRepository.getReferenceById(principal.adminId());
+    }
+
+    private Submission requireSubmission(Integer id) {
+        return submissionRepository.findById(id)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "제출을 찾을 수 없습니다."));
     }
 
     private SubmissionSummaryDTO toSummary(Submission s) {
@@ -215,12 +436,15 @@ public class AdminSubmissionService {
 
     @Transactional(readOnly = true)
     public FileDownload downloadFile(Integer submissionId) {
-        Submission s = submissionRepository.findById(submissionId)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "제출을 찾을 수 없습니다."));
-
-        String fileUrl = submissionFileRepository.findBySubmission(s)
-                .map(SubmissionFile::getFileUrl)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "제출 파일이 없습니다."));
+        Submission s = submissionRepository.findById(submissionId).orElse(null);
+        String fileUrl = s != null
+                ? submissionFileRepository.findBySubmission(s).map(SubmissionFile::getFileUrl).orElse(null)
+                : archivedSubmissionRepository.findById(submissionId) // 지난 학기 종료분은 보관 테이블에 있음
+                        .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "제출을 찾을 수 없습니다."))
+                        .getFileUrl();
+        if (fileUrl == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "제출 파일이 없습니다.");
+        }
 
         byte[] bytes = fileStorageService.readBytes(fileUrl);
 
@@ -0,0 +1,217 @@
+package com.cnu.docserver.submission.service;
+
+import com.cnu.docserver.common.ReadWriteRoutingDataSource;
+import com.cnu.docserver.common.Workload;
+import com.cnu.docserver.docmanger.service.FileStorageService;
+import com.cnu.docserver.ocr.repository.OCRReviewResultRepository;
+import com.cnu.docserver.submission.dto.AdminWorkspaceDTO;
+import com.cnu.docserver.submission.dto.SubmissionDetailDTO;
+import com.cnu.docserver.submission.entity.Submission;
+import com.cnu.docserver.submission.entity.SubmissionFile;
+import com.cnu.docserver.submission.entity.SubmissionQueueView;
+import com.cnu.docserver.submission.enums.SubmissionStatus;
+import com.cnu.docserver.submission.event.SubmissionChangedEvent;
+import com.cnu.docserver.submission.repository.ArchivedOcrReviewResultRepository;
+import com.cnu.docserver.submission.repository.ArchivedSubmissionRepository;
+import com.cnu.docserver.submission.repository.SubmissionFieldValueRepository;
+import com.cnu.docserver.submission.repository.SubmissionFileRepository;
+import com.cnu.docserver.submission.repository.SubmissionHistoryRepository;
+import com.cnu.docserver.submission.repository.SubmissionQueueViewRepository;
+import com.cnu.docserver.submission.repository.SubmissionRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 관리자 검토 작업 화면: 상세/필드/자동 검토 결과/파일 정보를 한 번에.
+ *  - 조회 수는 항목 크기와 무관하게 고정 (제출+학생+문서 유형 1, 파일 1, 이력+관리자 1, 필드 1, OCR 1)
+ *  - 조립 결과는 짧게 캐시하고, 대기열의 다음 N건을 백그라운드에서 미리 조립해 둔다 → 다음 항목 열기는 캐시 적중
+ *  - 제출이 바뀌면(SubmissionChangedEvent, 커밋 후) 해당 항목만 무효화
+ *  - 운영 테이블에 없으면 보관 테이블에서 조립 (AdminSubmissionService.getDetail 과 같은 read-through)
+ */
+@Service
+@Slf4j
+public class AdminWorkspaceService {
+
+    private static final int MAX_PREFETCH = 10;
+    private static final List<SubmissionStatus> REVIEW_QUEUE = List.of(
+            SubmissionStatus.SUBMITTED, SubmissionStatus.UNDER_REVIEW,
+            SubmissionStatus.BOT_REVIEW, SubmissionStatus.NEEDS_FIX);
+
+    private final SubmissionRepository submissionRepository;
+    private final SubmissionFileRepository submissionFileRepository;
+    private final SubmissionHistoryRepository submissionHistoryRepository;
+    private final SubmissionFieldValueRepository fieldValueRepository;
+    private final OCRReviewResultRepository ocrReviewResultRepository;
+    private final SubmissionQueueViewRepository queueViewRepository;
+    private final ArchivedSubmissionRepository archivedSubmissionRepository;
+    private final ArchivedOcrReviewResultRepository archivedOcrRepository;
+    private final AdminSubmissionService adminSubmissionService;
+    private final FileStorageService fileStorageService;
+    private final TaskExecutor taskExecutor;
+    private final TransactionTemplate readOnly;
+    private final Cache<Integer, Entry> cache;
+
+    // 캐시 값: 응답 본문 + 다음 항목 계산용 대기열 위치
+    private record Entry(AdminWorkspaceDTO workspace, Integer departmentId, LocalDateTime submittedAt) {}
+
+    /** 다음 항목을 고를 대기열 조건 (departmentId 가 null 이면 현재 제출의 부서, statuses 가 비면 검토 대기 상태) */
+    public record NextFilter(Integer departmentId, Integer docTypeId, List<SubmissionStatus> statuses) {}
+
+    public AdminWorkspaceService(SubmissionRepository submissionRepository,
+                                 SubmissionFileRepository submissionFileRepository,
+                                 SubmissionHistoryRepository submissionHistoryRepository,
+                                 SubmissionFieldValueRepository fieldValueRepository,
+                                 OCRReviewResultRepository ocrReviewResultRepository,
+                                 SubmissionQueueViewRepository queueViewRepository,
+                                 ArchivedSubmissionRepository archivedSubmissionRepository,
+                                 ArchivedOcrReviewResultRepository archivedOcrRepository,
+                                 AdminSubmissionService adminSubmissionService,
+                                 FileStorageService fileStorageService,
+                                 @Qualifier("applicationTaskExecutor") TaskExecutor taskExecutor,
+                                 PlatformTransactionManager transactionManager,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${admin.workspace.cache.max-entries:500}") long maxEntries,
+                                 @Value("${admin.workspace.cache.ttl-seconds:120}") long ttlSeconds) {
+        this.submissionRepository = submissionRepository;
+        this.submissionFileRepository = submissionFileRepository;
+        this.submissionHistoryRepository = submissionHistoryRepository;
+        this.fieldValueRepository = fieldValueRepository;
+        this.ocrReviewResultRepository = ocrReviewResultRepository;
+        this.queueViewRepository = queueViewRepository;
+        this.archivedSubmissionRepository = archivedSubmissionRepository;
+        this.archivedOcrRepository = archivedOcrRepository;
+        this.adminSubmissionService = adminSubmissionService;
+        this.fileStorageService = fileStorageService;
+        this.taskExecutor = taskExecutor;
+        this.readOnly = new TransactionTemplate(transactionManager);
+        this.readOnly.setReadOnly(true);
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "admin.workspace");
+    }
+
+    /** 작업 화면 조회. next 건의 다음 항목 ID 를 함께 돌려주고, 그 항목들은 백그라운드에서 미리 조립한다 */
+    public AdminWorkspaceDTO getWorkspace(Integer submissionId, NextFilter filter, int next) {
+        Entry entry = cache.get(submissionId, this::load);
+
+        int limit = Math.max(0, Math.min(next, MAX_PREFETCH));
+        List<Integer> nextIds = limit == 0 ? List.of() : nextIds(entry, filter, limit);
+        if (!nextIds.isEmpty()) prefetch(nextIds);
+        return entry.workspace().withNextSubmissionIds(nextIds);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onSubmissionChanged(SubmissionChangedEvent event) {
+        cache.invalidateAll(event.getSubmissionIds()); // 조립 중이면 끝날 때까지 기다렸다가 지움 → 옛 값이 남지 않음
+    }
+
+    private List<Integer> nextIds(Entry current, NextFilter filter, int limit) {
+        if (current.submittedAt() == null) return List.of(); // 아직 대기열에 오르지 않은 초안 / 보관된 제출
+        Integer departmentId = filter.departmentId() != null ? filter.departmentId() : current.departmentId();
+        List<SubmissionStatus> statuses = (filter.statuses() == null || filter.statuses().isEmpty())
+                ? REVIEW_QUEUE : filter.statuses();
+        // 대기열과 같은 (submittedAt, submissionId) 내림차순: 현재 항목을 커서로 바로 다음부터
+        return queueViewRepository.findQueuePage(departmentId, filter.docTypeId(), statuses, null, null, null,
+                        current.submittedAt(), current.workspace().detail().submissionId(), PageRequest.of(0, limit))
+                .stream()
+                .map(SubmissionQueueView::getSubmissionId)
+                .toList();
+    }
+
+    private void prefetch(List<Integer> ids) {
+        List<Integer> missing = ids.stream().filter(id -> cache.getIfPresent(id) == null).toList();
+        if (missing.isEmpty()) return;
+        taskExecutor.execute(() -> Workload.INCREMENTAL.run(() -> { // 미리 불러오기가 웹 요청 풀/배치 풀을 쓰지 않도록
+            for (Integer id : missing) {
+                try {
+                    cache.get(id, this::load); // 같은 항목을 사용자가 먼저 열면 그 조립을 기다렸다 공유
+                } catch (RuntimeException e) {
+                    log.debug("Workspace prefetch skipped for submission {}: {}", id, e.getMessage());
+                }
+            }
+        }));
+    }
+
+    // 변경 이벤트로 비운 항목을 지연된 레플리카 값으로 다시 채우지 않도록 원본에서 조립
+    private Entry load(Integer id) {
+        return ReadWriteRoutingDataSource.primary(() -> readOnly.execute(tx -> {
+            Submission s = submissionRepository.findDetailById(id).orElse(null);
+            if (s == null) return loadArchived(id); // 지난 학기 종료분은 보관 테이블에 있음 (getDetail 과 같은 read-through)
+            String fileUrl = submissionFileRepository.findBySubmission(s).map(SubmissionFile::getFileUrl).orElse(null);
+            String fileName = adminSubmissionService.extractFileName(fileUrl);
+
+            SubmissionDetailDTO detail = new SubmissionDetailDTO(
+                    s.getSubmissionId(),
+                    s.getStatus() == null ? null : s.getStatus().name(),
+                    s.getSubmittedAt() == null ? null : s.getSubmittedAt().toString(),
+                    s.getStudent().getMember().getMemberId(),
+                    s.getStudent().getMember().getName(),
+                    fileUrl,
+                    s.getDocType() == null ? null : s.getDocType().getTitle(),
+                    fileName,
+                    adminSubmissionService.toHistory(submissionHistoryRepository.findWithAdminBySubmissionId(id)));
+
+            List<AdminWorkspaceDTO.FieldValue> fields = fieldValueRepository.findBySubmission(s).stream()
+                    .map(v -> new AdminWorkspaceDTO.FieldValue(
+                            v.getRequiredField() == null ? null : v.getRequiredField().getRequiredFieldId(), // 프록시 ID 만 읽음
+                            v.getFieldName(),
+                            v.getFieldValue()))
+                    .toList();
+
+            AdminWorkspaceDTO.OcrResult ocr = ocrReviewResultRepository.findTopBySubmissionOrderByIdDesc(s)
+                    .map(r -> new AdminWorkspaceDTO.OcrResult(r.getVerdict(), r.getReason(), r.getFindings(),
+                            r.getCreatedAt() == null ? null : r.getCreatedAt().toString()))
+                    .orElse(null);
+
+            Integer departmentId = s.getDocType() == null ? null : s.getDocType().getDepartment().getDepartmentId();
+            return new Entry(new AdminWorkspaceDTO(detail, fields, ocr, fileMeta(id, fileUrl, fileName), List.of()),
+                    departmentId, s.getSubmittedAt());
+        }));
+    }
+
+    // 보관된 제출: 종료 상태라 대기열 위치가 없음 → 다음 항목 없음 (submittedAt 커서 null)
+    private Entry loadArchived(Integer id) {
+        SubmissionDetailDTO detail = adminSubmissionService.getDetailFromArchive(id); // 없으면 404
+        List<AdminWorkspaceDTO.FieldValue> fields = archivedSubmissionRepository.findFieldValueRows(List.of(id)).stream()
+                .map(row -> new AdminWorkspaceDTO.FieldValue(null, (String) row[1], (String) row[2]))
+                .toList();
+        AdminWorkspaceDTO.OcrResult ocr = archivedOcrRepository.findTopBySubmissionIdOrderByIdDesc(id)
+                .map(r -> new AdminWorkspaceDTO.OcrResult(r.getVerdict(), r.getReason(), r.getFindings(),
+                        r.getCreatedAt() == null ? null : r.getCreatedAt().toString()))
+                .orElse(null);
+        return new Entry(new AdminWorkspaceDTO(detail, fields, ocr, fileMeta(id, detail.fileUrl(), detail.fileName()),
+                List.of()), null, null);
+    }
+
+    private AdminWorkspaceDTO.FileMeta fileMeta(Integer id, String fileUrl, String fileName) {
+        return fileUrl == null ? null : new AdminWorkspaceDTO.FileMeta(
+                fileUrl,
+                fileName,
+                fileStorageService.sizeOf(fileUrl),
+                MediaTypeFactory.getMediaType(fileName).orElse(MediaType.APPLICATION_OCTET_STREAM).toString(),
+                "/api/admin/submissions/" + id + "/file?inline=true");
+    }
+}
@@ -0,0 +1,157 @@
+package com.cnu.docserver.submission.service;
+
+import com.cnu.docserver.common.Workload;
+import com.cnu.docserver.department.repository.DepartmentRepository;
+import com.cnu.docserver.submission.dto.QueueDashboardDTO;
+import com.cnu.docserver.submission.entity.Submission;
+import com.cnu.docserver.submission.entity.SubmissionStatusCounter;
+import com.cnu.docserver.submission.enums.SubmissionStatus;
+import com.cnu.docserver.submission.repository.QueueCounterRow;
+import com.cnu.docserver.submission.repository.SubmissionStatusCounterRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.*;
+
+/**
+ * 문서 유형 × 상태별 제출 건수 카운터.
+ *  - 상태가 바뀌는 트랜잭션 안에서 moved() 로 증감 → 커밋/롤백이 상태 변경과 함께 묶임
+ *  - 대시보드는 카운터 행만 읽으므로 제출 건수와 무관하게 일정한 비용
+ *  - 주기적으로 submissions 원본과 비교해 어긋나면 다시 계산
+ */
+@Service
+@Slf4j
+public class QueueCounterService {
+
+    private final SubmissionStatusCounterRepository counterRepository;
+    private final DepartmentRepository departmentRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter driftCounter;
+
+    public QueueCounterService(SubmissionStatusCounterRepository counterRepository,
+                               DepartmentRepository departmentRepository,
+                               TransactionTemplate transactionTemplate,
+                               MeterRegistry meterRegistry) {
+        this.counterRepository = counterRepository;
+        this.departmentRepository = departmentRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.driftCounter = Counter.builder("queue.counters.drift")
+                .description("정합성 점검에서 발견된 카운터 불일치 건수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 상태 전이 반영. from 이 null 이면 신규 제출.
+     * 두 행을 항상 같은 순서(상태 ordinal)로 갱신해 동시 전이 간 교착을 피한다.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void moved(Submission s, SubmissionStatus from) {
+        SubmissionStatus to = s.getStatus();
+        if (from == to) return;
+        Integer docTypeId = s.getDocType().getDocTypeId(); // 프록시여도 ID 만 읽으므로 추가 조회 없음
+
+        if (from == null) {
+            counterRepository.add(docTypeId, to.name(), 1);
+        } else if (from.ordinal() < to.ordinal()) {
+            counterRepository.add(docTypeId, from.name(), -1);
+            counterRepository.add(docTypeId, to.name(), 1);
+        } else {
+            counterRepository.add(docTypeId, to.name(), 1);
+            counterRepository.add(docTypeId, from.name(), -1);
+        }
+    }
+
+    /**
+     * 일괄 전이 반영. 같은 (문서 유형, 상태) 증감을 합쳐 행마다 한 번만 갱신한다.
+     * 갱신 순서는 (상태 ordinal, 문서 유형) — 단건 moved() 와 같은 순서라 서로 교착하지 않음.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void movedAll(Collection<Submission> moved, Map<Integer, SubmissionStatus> fromById) {
+        Map<SubmissionStatus, Map<Integer, Long>> deltas = new EnumMap<>(SubmissionStatus.class);
+        for (Submission s : moved) {
+            SubmissionStatus from = fromById.get(s.getSubmissionId());
+            SubmissionStatus to = s.getStatus();
+            if (from == to) continue;
+            Integer docTypeId = s.getDocType().getDocTypeId();
+            if (from != null) {
+                deltas.computeIfAbsent(from, k -> new TreeMap<>()).merge(docTypeId, -1L, Long::sum);
+            }
+            deltas.computeIfAbsent(to, k -> new TreeMap<>()).merge(docTypeId, 1L, Long::sum);
+        }
+        deltas.forEach((status, byDocType) -> byDocType.forEach((docTypeId, delta) -> {
+            if (delta != 0) counterRepository.add(docTypeId, status.name(), delta);
+        }));
+    }
+
+    @Transactional(readOnly = true)
+    public QueueDashboardDTO dashboard(Integer departmentId) {
+        if (!departmentRepository.existsById(departmentId)) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "부서를 찾을 수 없습니다.");
+        }
+
+        Map<String, Long> totals = zeroCounts();
+        Map<Integer, QueueDashboardDTO.DocTypeCounts> byDocType = new LinkedHashMap<>();
+        for (QueueCounterRow row : counterRepository.findDashboardRows(departmentId)) {
+            var dt = byDocType.computeIfAbsent(row.docTypeId(),
+                    id -> new QueueDashboardDTO.DocTypeCounts(id, row.title(), zeroCounts()));
+            if (row.status() != null && row.count() != null) {
+                dt.counts().merge(row.status().name(), row.count(), Long::sum);
+                totals.merge(row.status().name(), row.count(), Long::sum);
+            }
+        }
+        return new QueueDashboardDTO(departmentId, totals, new ArrayList<>(byDocType.values()));
+    }
+
+    /** 원본 테이블과 비교해 어긋난 카운터가 있으면 다시 계산. 불일치 건수를 반환 */
+    @Scheduled(fixedDelayString = "${queue.counters.reconcile-interval-ms:600000}", initialDelay = 60_000L)
+    public int reconcile() {
+        return Workload.BACKGROUND.call(this::reconcileCounters); // 전체 집계 → 배치 풀
+    }
+
+    private int reconcileCounters() {
+        Map<SubmissionStatusCounter.Key, Long> actual = new HashMap<>();
+        for (Object[] r : counterRepository.countActual()) {
+            actual.put(new SubmissionStatusCounter.Key(((Number) r[0]).intValue(), SubmissionStatus.valueOf((String) r[1])),
+                    ((Number) r[2]).longValue());
+        }
+        Map<SubmissionStatusCounter.Key, Long> stored = new HashMap<>();
+        counterRepository.findAll().forEach(c -> stored.put(c.getId(), c.getCount()));
+
+        Set<SubmissionStatusCounter.Key> keys = new HashSet<>(actual.keySet());
+        keys.addAll(stored.keySet());
+        int drift = 0;
+        for (SubmissionStatusCounter.Key k : keys) {
+            long a = actual.getOrDefault(k, 0L);
+            long c = stored.getOrDefault(k, 0L);
+            if (a != c) {
+                drift++;
+                log.warn("Queue counter drift: docType={} status={} counter={} actual={}",
+                        k.getDocTypeId(), k.getStatus(), c, a);
+            }
+        }
+        if (drift == 0) return 0;
+
+        // 두 조회 사이에 커밋된 전이 때문에 생긴 일시적 차이여도 재계산은 무해하다
+        driftCounter.increment(drift);
+        transactionTemplate.executeWithoutResult(tx -> {
+            counterRepository.rebuildFromSubmissions();
+            counterRepository.zeroStale();
+        });
+        log.info("Queue counters rebuilt from submissions ({} keys drifted)", drift);
+        return drift;
+    }
+
+    private static Map<String, Long> zeroCounts() {
+        Map<String, Long> m = new LinkedHashMap<>();
+        for (SubmissionStatus st : SubmissionStatus.values()) m.put(st.name(), 0L);
+        return m;
+    }
+}
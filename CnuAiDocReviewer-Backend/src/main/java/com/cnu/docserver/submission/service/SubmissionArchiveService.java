@@ -0,0 +1,124 @@
+package com.cnu.docserver.submission.service;
+
+import com.cnu.docserver.common.Workload;
+import com.cnu.docserver.submission.enums.SubmissionStatus;
+import com.cnu.docserver.submission.repository.ArchivedSubmissionRepository;
+import com.cnu.docserver.submission.repository.SubmissionRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 지난 학기에 종료된(APPROVED/REJECTED) 제출을 보관 테이블로 이동.
+ *  - 기준: 이번 학기 시작일 이전에 제출·검토가 끝난 제출 → 운영 테이블에는 진행 중 + 이번 학기 종료분만 남음
+ *  - 배치마다 한 트랜잭션: 후보를 잠그고 → 보관 테이블로 복사 → 카운터 차감 → 원본(자식 → 부모) 삭제
+ *  - 종료 시각은 승인/반려 시각 (reviewed_at, SubmissionStateMachine 이 전이 때 찍음)
+ *  - 상세 화면, 학생 본인 목록/요약, 일괄 내보내기는 보관 테이블도 함께 읽는다
+ *    (AdminSubmissionService.getDetail, SubmissionController.listMySubmissions, SubmissionService.getSummary,
+ *     SubmissionExportService)
+ *  - 검색 인덱스 항목은 그대로 둔다 (검색 결과 → 상세 화면 read-through)
+ */
+@Service
+@Slf4j
+public class SubmissionArchiveService {
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+    /** 보관 테이블에 들어가는 (= 보관 테이블에만 있을 수 있는) 상태 */
+    public static final List<SubmissionStatus> CLOSED = List.of(SubmissionStatus.APPROVED, SubmissionStatus.REJECTED);
+
+    private final SubmissionRepository submissionRepository;
+    private final ArchivedSubmissionRepository archiveRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int[] semesterStartMonths;
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    public SubmissionArchiveService(SubmissionRepository submissionRepository,
+                                    ArchivedSubmissionRepository archiveRepository,
+                                    TransactionTemplate transactionTemplate,
+                                    @Value("${archive.batch-size:200}") int batchSize,
+                                    @Value("${archive.semester-start-months:3,9}") int[] semesterStartMonths) {
+        this.submissionRepository = submissionRepository;
+        this.archiveRepository = archiveRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+        this.semesterStartMonths = Arrays.stream(semesterStartMonths).sorted().toArray();
+    }
+
+    @Scheduled(cron = "${archive.cron:0 30 3 * * *}", zone = "Asia/Seoul")
+    public void archiveScheduled() {
+        try {
+            int moved = archivePreviousSemesters();
+            if (moved > 0) log.info("Archived {} closed submissions from previous semesters", moved);
+        } catch (IllegalStateException e) {
+            log.warn("Submission archiving skipped: {}", e.getMessage());
+        }
+    }
+
+    /** 이번 학기 시작 전에 종료된 제출을 모두 보관 테이블로 옮긴다. 반환값은 옮긴 제출 수 */
+    public int archivePreviousSemesters() {
+        if (!running.compareAndSet(false, true)) {
+            throw new IllegalStateException("이미 보관 작업이 진행 중입니다.");
+        }
+        try {
+            return Workload.BACKGROUND.call(this::archiveAll); // 대량 이동 → 배치 풀
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private int archiveAll() {
+        LocalDateTime cutoff = semesterStart(LocalDate.now(KST)).atStartOfDay();
+        int total = 0;
+        List<Integer> ids;
+        // 옮긴 행은 원본에서 사라지므로 항상 첫 페이지를 다시 읽는다
+        while (!(ids = submissionRepository.findArchivableIds(CLOSED, cutoff, PageRequest.of(0, batchSize))).isEmpty()) {
+            int moved = archiveBatch(ids, cutoff);
+            if (moved == 0) break; // 후보가 모두 그 사이 다시 열림 → 다음 실행에서
+            total += moved;
+        }
+        return total;
+    }
+
+    private int archiveBatch(List<Integer> candidates, LocalDateTime cutoff) {
+        Integer moved = transactionTemplate.execute(tx -> {
+            List<Integer> ids = archiveRepository.lockClosed(candidates, cutoff);
+            if (ids.isEmpty()) return 0;
+
+            archiveRepository.copySubmissions(ids, LocalDateTime.now());
+            archiveRepository.copyHistories(ids);
+            archiveRepository.copyFieldValues(ids);
+            archiveRepository.copyOcrResults(ids);
+            archiveRepository.subtractCounters(ids);
+
+            archiveRepository.deleteQueueViews(ids);
+            archiveRepository.deleteOcrResults(ids);
+            archiveRepository.deleteFieldValues(ids);
+            archiveRepository.deleteFiles(ids);
+            archiveRepository.deleteHistories(ids);
+            archiveRepository.deleteSubmissions(ids);
+            return ids.size();
+        });
+        return moved == null ? 0 : moved;
+    }
+
+    // date 가 속한 학기의 시작일 (1~2월처럼 첫 시작 월 이전이면 전년도 마지막 학기)
+    private LocalDate semesterStart(LocalDate date) {
+        for (int i = semesterStartMonths.length - 1; i >= 0; i--) {
+            if (date.getMonthValue() >= semesterStartMonths[i]) {
+                return LocalDate.of(date.getYear(), semesterStartMonths[i], 1);
+            }
+        }
+        return LocalDate.of(date.getYear() - 1, semesterStartMonths[semesterStartMonths.length - 1], 1);
+    }
+}
@@ -0,0 +1,282 @@
+package com.cnu.docserver.submission.service;
+
+import com.cnu.docserver.department.repository.DepartmentRepository;
+import com.cnu.docserver.docmanger.service.FileStorageService;
+import com.cnu.docserver.submission.entity.ArchivedSubmission;
+import com.cnu.docserver.submission.entity.Submission;
+import com.cnu.docserver.submission.entity.SubmissionFile;
+import com.cnu.docserver.submission.enums.HistoryAction;
+import com.cnu.docserver.submission.enums.SubmissionStatus;
+import com.cnu.docserver.submission.repository.ArchivedSubmissionHistoryRepository;
+import com.cnu.docserver.submission.repository.ArchivedSubmissionRepository;
+import com.cnu.docserver.submission.repository.SubmissionFieldValueRepository;
+import com.cnu.docserver.submission.repository.SubmissionFileRepository;
+import com.cnu.docserver.submission.repository.SubmissionHistoryRepository;
+import com.cnu.docserver.submission.repository.SubmissionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * 학기 말 일괄 내보내기: 필터에 맞는 제출 파일 + manifest.csv 를 ZIP 으로 응답에 바로 스트리밍.
+ * 제출은 submissionId keyset 페이지 단위로 읽고 파일은 한 개씩 복사하므로 메모리 사용량은 건수와 무관하다.
+ * 지난 학기에 보관 테이블로 옮겨진 종료 제출도 같은 순서로 섞어 내보낸다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SubmissionExportService {
+
+    private static final int PAGE_SIZE = 200;
+    private static final DateTimeFormatter ISO = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
+    private static final String BOT_MEMO_PREFIX = "자동 검토";
+
+    private final SubmissionRepository submissionRepository;
+    private final SubmissionFileRepository submissionFileRepository;
+    private final SubmissionFieldValueRepository submissionFieldValueRepository;
+    private final SubmissionHistoryRepository submissionHistoryRepository;
+    private final ArchivedSubmissionRepository archivedSubmissionRepository;
+    private final ArchivedSubmissionHistoryRepository archivedHistoryRepository;
+    private final DepartmentRepository departmentRepository;
+    private final FileStorageService fileStorageService;
+
+    /** 내보내기 조건 (docTypeId/statuses/from/to 는 null 이면 전체) */
+    public record ExportFilter(
+            Integer departmentId,
+            Integer docTypeId,
+            List<SubmissionStatus> statuses,
+            LocalDate from,
+            LocalDate to
+    ) {}
+
+    /** manifest/파일 한 줄 (운영 테이블이든 보관 테이블이든 같은 모양, fileUrl 은 최신 파일) */
+    private record ExportRow(
+            Integer submissionId,
+            String studentId,
+            String studentName,
+            String docTypeTitle,
+            SubmissionStatus status,
+            LocalDateTime submittedAt,
+            LocalDateTime reviewedAt,
+            String fileUrl,
+            boolean archived
+    ) {
+        static ExportRow of(Submission s, String fileUrl) {
+            return new ExportRow(s.getSubmissionId(), s.getStudent().getStudentId(),
+                    s.getStudent().getMember().getName(), s.getDocType().getTitle(), s.getStatus(),
+                    s.getSubmittedAt(), s.getReviewedAt(), fileUrl, false);
+        }
+
+        static ExportRow of(ArchivedSubmission a) {
+            return new ExportRow(a.getSubmissionId(), a.getStudentId(), a.getStudentName(), a.getDocTypeTitle(),
+                    a.getStatus(), a.getSubmittedAt(), a.getReviewedAt(), a.getFileUrl(), true);
+        }
+    }
+
+    /** 한 페이지의 manifest 부가 열. 이력은 오래된 순으로 넣으므로 메모는 마지막 것이 남는다 */
+    private record PageDetails(
+            Map<Integer, List<String>> fields,
+            Map<Integer, String> botMemos,
+            Map<Integer, String> decisionMemos
+    ) {
+        void addField(Integer submissionId, String name, String value) {
+            fields.computeIfAbsent(submissionId, k -> new ArrayList<>()).add(name + "=" + Objects.toString(value, ""));
+        }
+
+        void addHistory(Integer submissionId, boolean byAdmin, HistoryAction action, String memo) {
+            if (memo != null && memo.startsWith(BOT_MEMO_PREFIX)) botMemos.put(submissionId, memo);
+            if (byAdmin && (action == HistoryAction.APPROVED || action == HistoryAction.REJECTED)) {
+                decisionMemos.put(submissionId, memo);
+            }
+        }
+    }
+
+    /** 스트리밍 시작 전에 호출: 잘못된 요청은 ZIP 헤더가 나가기 전에 4xx 로 끊는다 */
+    public void validate(ExportFilter filter) {
+        if (!departmentRepository.existsById(filter.departmentId())) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "부서를 찾을 수 없습니다.");
+        }
+        if (filter.from() != null && filter.to() != null && filter.from().isAfter(filter.to())) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "조회 기간이 올바르지 않습니다.");
+        }
+    }
+
+    /**
+     * ZIP 구조
+     *  - manifest.csv : 제출별 학생/문서/상태/필드 값/검토 결과
+     *  - {문서유형}/{제출ID}_{학번}_{파일명} : 제출 파일 원본
+     *  - missing-files.txt : 디스크에서 찾지 못한 파일 (있을 때만)
+     */
+    public void writeZip(ExportFilter filter, OutputStream out) throws IOException {
+        ZipOutputStream zip = new ZipOutputStream(new BufferedOutputStream(out, 64 * 1024), StandardCharsets.UTF_8);
+        zip.setLevel(Deflater.BEST_SPEED); // PDF/이미지는 이미 압축돼 있어 CPU 만 낭비하지 않도록
+
+        // 1) manifest 먼저 (DB 만 읽으므로 다운로드가 즉시 시작됨)
+        zip.putNextEntry(new ZipEntry("manifest.csv"));
+        zip.write(new byte[]{(byte) 0xEF, (byte) 0xBB, (byte) 0xBF}); // 엑셀 한글 깨짐 방지 BOM
+        writeCsvLine(zip, List.of("submissionId", "studentId", "studentName", "docType", "status",
+                "submittedAt", "reviewedAt", "fileName", "zipEntry", "botVerdict", "decisionMemo", "fields"));
+
+        int lastId = 0;
+        List<ExportRow> page;
+        while (!(page = nextPage(filter, lastId)).isEmpty()) {
+            PageDetails details = detailsOf(page);
+            for (ExportRow r : page) {
+                writeCsvLine(zip, Arrays.asList(
+                        String.valueOf(r.submissionId()),
+                        r.studentId(),
+                        r.studentName(),
+                        r.docTypeTitle(),
+                        r.status() == null ? null : r.status().name(),
+                        r.submittedAt() == null ? null : r.submittedAt().format(ISO),
+                        r.reviewedAt() == null ? null : r.reviewedAt().format(ISO),
+                        fileName(r.fileUrl()),
+                        r.fileUrl() == null ? null : entryName(r),
+                        details.botMemos().get(r.submissionId()),
+                        details.decisionMemos().get(r.submissionId()),
+                        String.join(" | ", details.fields().getOrDefault(r.submissionId(), List.of()))
+                ));
+            }
+            lastId = page.get(page.size() - 1).submissionId();
+        }
+        zip.closeEntry();
+
+        // 2) 파일 본문: manifest 에 기록된 범위(lastId 이하)만 한 개씩 복사
+        final int manifestLastId = lastId;
+        List<String> missing = new ArrayList<>();
+        int afterId = 0;
+        while (afterId < manifestLastId && !(page = nextPage(filter, afterId)).isEmpty()) {
+            for (ExportRow r : page) {
+                if (r.submissionId() > manifestLastId) break;
+                if (r.fileUrl() == null) continue;
+                zip.putNextEntry(new ZipEntry(entryName(r)));
+                try {
+                    fileStorageService.copyTo(r.fileUrl(), zip);
+                } catch (FileStorageService.FileReadException e) {
+                    log.warn("Export: file missing for submission {}: {}", r.submissionId(), e.getMessage());
+                    missing.add(r.submissionId() + "\t" + r.fileUrl());
+                }
+                zip.closeEntry();
+            }
+            afterId = page.get(page.size() - 1).submissionId();
+        }
+
+        if (!missing.isEmpty()) {
+            zip.putNextEntry(new ZipEntry("missing-files.txt"));
+            zip.write(String.join("\n", missing).getBytes(StandardCharsets.UTF_8));
+            zip.closeEntry();
+        }
+        zip.finish();
+        zip.flush();
+    }
+
+    // --- helpers ---
+
+    // 운영 테이블과 보관 테이블(지난 학기 종료분)에서 각각 PAGE_SIZE 개씩 읽어 ID 순으로 합친 뒤 PAGE_SIZE 개
+    private List<ExportRow> nextPage(ExportFilter f, int afterId) {
+        List<SubmissionStatus> statuses = (f.statuses() == null || f.statuses().isEmpty())
+                ? List.of(SubmissionStatus.values()) : f.statuses();
+        LocalDateTime from = f.from() == null ? null : f.from().atStartOfDay();
+        LocalDateTime to = f.to() == null ? null : f.to().plusDays(1).atStartOfDay(); // to 당일 포함
+        PageRequest pageable = PageRequest.of(0, PAGE_SIZE);
+
+        List<Submission> live = submissionRepository.findExportPage(
+                f.departmentId(), f.docTypeId(), statuses, from, to, afterId, pageable);
+        Map<Integer, String> fileUrls = live.isEmpty() ? Map.of()
+                : fileUrlsOf(live.stream().map(Submission::getSubmissionId).toList());
+        List<ExportRow> rows = new ArrayList<>();
+        for (Submission s : live) rows.add(ExportRow.of(s, fileUrls.get(s.getSubmissionId())));
+
+        if (statuses.stream().anyMatch(SubmissionArchiveService.CLOSED::contains)) {
+            archivedSubmissionRepository.findExportPage(
+                    f.departmentId(), f.docTypeId(), statuses, from, to, afterId, pageable)
+                    .forEach(a -> rows.add(ExportRow.of(a)));
+            rows.sort(Comparator.comparing(ExportRow::submissionId));
+        }
+        return rows.size() > PAGE_SIZE ? rows.subList(0, PAGE_SIZE) : rows;
+    }
+
+    // manifest 의 필드 값 / 봇 검토 메모 / 승인·반려 메모 (운영·보관 각각 배치 조회)
+    private PageDetails detailsOf(List<ExportRow> page) {
+        Map<Boolean, List<Integer>> idsByArchived = page.stream().collect(Collectors.partitioningBy(
+                ExportRow::archived, Collectors.mapping(ExportRow::submissionId, Collectors.toList())));
+        PageDetails details = new PageDetails(new HashMap<>(), new HashMap<>(), new HashMap<>());
+
+        List<Integer> liveIds = idsByArchived.get(false);
+        if (!liveIds.isEmpty()) {
+            submissionFieldValueRepository.findBySubmission_SubmissionIdInOrderBySubmissionFieldValueIdAsc(liveIds)
+                    .forEach(v -> details.addField(v.getSubmission().getSubmissionId(),
+                            v.getFieldName(), v.getFieldValue()));
+            submissionHistoryRepository.findBySubmission_SubmissionIdInOrderBySubmissionHistoryIdAsc(liveIds)
+                    .forEach(h -> details.addHistory(h.getSubmission().getSubmissionId(),
+                            h.getAdmin() != null, h.getAction(), h.getMemo()));
+        }
+
+        List<Integer> archivedIds = idsByArchived.get(true);
+        if (!archivedIds.isEmpty()) {
+            archivedSubmissionRepository.findFieldValueRows(archivedIds)
+                    .forEach(row -> details.addField(((Number) row[0]).intValue(), (String) row[1], (String) row[2]));
+            archivedHistoryRepository.findBySubmissionIdInOrderBySubmissionHistoryIdAsc(archivedIds)
+                    .forEach(h -> details.addHistory(h.getSubmissionId(),
+                            h.getAdminId() != null, h.getAction(), h.getMemo()));
+        }
+        return details;
+    }
+
+    private Map<Integer, String> fileUrlsOf(List<Integer> ids) {
+        return submissionFileRepository.findBySubmission_SubmissionIdIn(ids).stream()
+                .collect(Collectors.toMap(f -> f.getSubmission().getSubmissionId(), SubmissionFile::getFileUrl,
+                        (a, b) -> b));
+    }
+
+    private static String entryName(ExportRow r) {
+        return safe(r.docTypeTitle()) + "/"
+                + r.submissionId() + "_" + safe(r.studentId()) + "_" + safe(fileName(r.fileUrl()));
+    }
+
+    private static String fileName(String url) {
+        if (url == null || url.isBlank()) return null;
+        String raw = url.substring(url.lastIndexOf('/') + 1);
+        try {
+            return URLDecoder.decode(raw, StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            return raw;
+        }
+    }
+
+    // ZIP 경로 구분자/상위 경로 조작 방지
+    private static String safe(String s) {
+        if (s == null || s.isBlank()) return "unknown";
+        return s.replace('/', '_').replace('\\', '_').replace("..", "_");
+    }
+
+    private static void writeCsvLine(OutputStream out, List<String> cols) throws IOException {
+        String line = cols.stream().map(SubmissionExportService::csv).collect(Collectors.joining(",")) + "\r\n";
+        out.write(line.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String csv(String v) {
+        if (v == null) return "";
+        if (v.contains(",") || v.contains("\"") || v.contains("\n") || v.contains("\r")) {
+            return "\"" + v.replace("\"", "\"\"") + "\"";
+        }
+        return v;
+    }
+}
@@ -0,0 +1,180 @@
+package com.cnu.docserver.submission.service;
+
+import com.cnu.docserver.common.Workload;
+import com.cnu.docserver.submission.entity.Submission;
+import com.cnu.docserver.submission.entity.SubmissionFile;
+import com.cnu.docserver.submission.entity.SubmissionHistory;
+import com.cnu.docserver.submission.entity.SubmissionQueueView;
+import com.cnu.docserver.submission.enums.HistoryAction;
+import com.cnu.docserver.submission.event.SubmissionChangedEvent;
+import com.cnu.docserver.submission.repository.SubmissionFileRepository;
+import com.cnu.docserver.submission.repository.SubmissionHistoryRepository;
+import com.cnu.docserver.submission.repository.SubmissionQueueViewRepository;
+import com.cnu.docserver.submission.repository.SubmissionRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * submission_queue_view 읽기 모델 갱신.
+ *  - 쓰기 트랜잭션 커밋 후 SubmissionChangedEvent 를 받아 해당 제출 행을 원본 기준으로 다시 계산 (증분 적용이 아니라 재계산이라 멱등)
+ *  - 행을 먼저 잠그고 원본을 읽으므로, 같은 제출에 대한 동시 갱신이 오래된 값으로 덮어쓰지 않는다
+ *  - rebuild() 는 같은 경로로 전체 제출을 페이지 단위 재계산 (실시간 갱신과 섞여도 안전)
+ */
+@Service
+@Slf4j
+public class SubmissionQueueViewProjector {
+
+    private static final int REBUILD_PAGE_SIZE = 500;
+    private static final String BOT_MEMO_PREFIX = "자동 검토";
+
+    private final SubmissionRepository submissionRepository;
+    private final SubmissionFileRepository submissionFileRepository;
+    private final SubmissionHistoryRepository submissionHistoryRepository;
+    private final SubmissionQueueViewRepository viewRepository;
+    private final TransactionTemplate requiresNew;
+    private final AtomicBoolean rebuilding = new AtomicBoolean(false);
+
+    @PersistenceContext
+    private EntityManager em;
+
+    public SubmissionQueueViewProjector(SubmissionRepository submissionRepository,
+                                        SubmissionFileRepository submissionFileRepository,
+                                        SubmissionHistoryRepository submissionHistoryRepository,
+                                        SubmissionQueueViewRepository viewRepository,
+                                        PlatformTransactionManager transactionManager) {
+        this.submissionRepository = submissionRepository;
+        this.submissionFileRepository = submissionFileRepository;
+        this.submissionHistoryRepository = submissionHistoryRepository;
+        this.viewRepository = viewRepository;
+        // AFTER_COMMIT 시점에는 원래 트랜잭션 자원이 남아 있으므로 항상 새 트랜잭션에서 쓴다
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onSubmissionChanged(SubmissionChangedEvent event) {
+        try {
+            try {
+                refresh(event.getSubmissionIds());
+            } catch (DataIntegrityViolationException e) {
+                // 같은 신규 제출을 두 갱신이 동시에 INSERT 한 경우: 한 번 더 (이번엔 행이 있어 잠금으로 직렬화됨)
+                refresh(event.getSubmissionIds());
+            }
+        } catch (RuntimeException e) {
+            // 읽기 모델 갱신 실패가 쓰기 요청을 실패시키지 않도록 로그만 남김 (rebuild 로 복구)
+            log.error("Queue view refresh failed for submissions {}: {}", event.getSubmissionIds(), e.getMessage(), e);
+        }
+    }
+
+    /** 원본 테이블에서 읽기 모델 전체를 다시 만든다. 반환값은 처리한 제출 수 */
+    public int rebuild() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            throw new IllegalStateException("이미 읽기 모델 재생성이 진행 중입니다.");
+        }
+        try {
+            return Workload.BACKGROUND.call(this::rebuildAll); // 전체 재계산 → 배치 풀
+        } finally {
+            rebuilding.set(false);
+        }
+    }
+
+    private int rebuildAll() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        int total = 0;
+        int afterId = 0;
+        List<Integer> ids;
+        while (!(ids = submissionRepository.findIdPage(afterId, PageRequest.of(0, REBUILD_PAGE_SIZE))).isEmpty()) {
+            refresh(ids);
+            total += ids.size();
+            afterId = ids.get(ids.size() - 1);
+        }
+        // 이번 재생성/실시간 갱신 어느 쪽에서도 건드리지 않은 행 = 원본에 없는 제출
+        Integer removed = requiresNew.execute(tx -> viewRepository.deleteRefreshedBefore(startedAt));
+        log.info("Queue view rebuilt: {} submissions, {} orphan rows removed", total, removed);
+        return total;
+    }
+
+    private void refresh(List<Integer> ids) {
+        requiresNew.executeWithoutResult(tx -> {
+            // 1) 행 잠금 먼저 → 2) 원본 조회 (잠금 이후에 읽어야 최신 커밋을 본다)
+            Map<Integer, SubmissionQueueView> existing = viewRepository.lockByIds(ids).stream()
+                    .collect(Collectors.toMap(SubmissionQueueView::getSubmissionId, Function.identity()));
+
+            Map<Integer, Submission> sources = submissionRepository.findViewSourceByIds(ids).stream()
+                    .collect(Collectors.toMap(Submission::getSubmissionId, Function.identity()));
+            Map<Integer, String> fileUrls = submissionFileRepository.findBySubmission_SubmissionIdIn(ids).stream()
+                    .collect(Collectors.groupingBy(f -> f.getSubmission().getSubmissionId(),
+                            Collectors.collectingAndThen(
+                                    Collectors.maxBy(Comparator.comparing(SubmissionFile::getSubmissionFileId)),
+                                    f -> f.map(SubmissionFile::getFileUrl).orElse(null))));
+            Map<Integer, SubmissionHistory> lastBot = new HashMap<>();
+            submissionHistoryRepository.findBotHistories(ids)
+                    .forEach(h -> lastBot.put(h.getSubmission().getSubmissionId(), h)); // id 오름차순 → 마지막이 최신
+
+            LocalDateTime now = LocalDateTime.now();
+            for (Integer id : ids) {
+                Submission s = sources.get(id);
+                SubmissionQueueView v = existing.get(id);
+                if (s == null) {
+                    if (v != null) viewRepository.delete(v);
+                    continue;
+                }
+                boolean isNew = (v == null);
+                if (isNew) v = SubmissionQueueView.builder().submissionId(id).build();
+
+                SubmissionHistory bot = lastBot.get(id);
+                String fileUrl = fileUrls.get(id);
+                v.setDepartmentId(s.getDocType().getDepartment().getDepartmentId());
+                v.setDocTypeId(s.getDocType().getDocTypeId());
+                v.setDocTypeTitle(s.getDocType().getTitle());
+                v.setStudentId(s.getStudent().getStudentId());
+                v.setMemberId(s.getStudent().getMember().getMemberId());
+                v.setStudentName(s.getStudent().getMember().getName());
+                v.setStatus(s.getStatus());
+                v.setSubmittedAt(s.getSubmittedAt());
+                v.setFileUrl(fileUrl);
+                v.setFileName(fileName(fileUrl));
+                v.setBotVerdict(verdictOf(bot));
+                v.setBotMemo(bot == null ? null : bot.getMemo());
+                v.setRefreshedAt(now);
+
+                if (isNew) em.persist(v); // 기존 행은 관리 상태라 flush 때 UPDATE
+            }
+        });
+    }
+
+    // ReviewTransactionService 의 이력 메모 규칙 기준 판정 복원
+    private static String verdictOf(SubmissionHistory bot) {
+        if (bot == null) return null;
+        if (bot.getMemo().startsWith(BOT_MEMO_PREFIX + " 통과")) return "PASS";
+        if (bot.getAction() == HistoryAction.REJECTED) return "REJECT";
+        return "NEEDS_FIX";
+    }
+
+    private static String fileName(String url) {
+        if (url == null || url.isBlank()) return null;
+        String raw = url.substring(url.lastIndexOf('/') + 1);
+        try {
+            return URLDecoder.decode(raw, StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            return raw;
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.cnu.docserver.submission.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+/**
+ * 기동 시 읽기 모델 재생성: java -jar docserver.jar --rebuild-queue-view
+ * (최초 배포, 테이블 유실, 갱신 누락 의심 시)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SubmissionQueueViewRebuildRunner implements ApplicationRunner {
+
+    private final SubmissionQueueViewProjector projector;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!args.containsOption("rebuild-queue-view")) return;
+        log.info("Rebuilding submission_queue_view (--rebuild-queue-view)");
+        projector.rebuild();
+    }
+}
@@ -1,28 +1,37 @@
 package com.cnu.docserver.submission.service;
 
-import com.cnu.docserver.deadline.repository.DeadlineRepository;
+import com.cnu.docserver.auth.context.LoginPrincipal;
+import com.cnu.docserver.deadline.service.DeadlineService;
+import com.cnu.docserver.docmanger.dto.RequiredFieldDTO;
 import com.cnu.docserver.docmanger.entity.DocType;
 import com.cnu.docserver.docmanger.entity.RequiredField;
 import com.cnu.docserver.docmanger.repository.DocTypeRepository;
 import com.cnu.docserver.docmanger.repository.RequiredFieldRepository;
+import com.cnu.docserver.docmanger.service.DocTypeService;
 import com.cnu.docserver.docmanger.service.FileStorageService;
+import com.cnu.docserver.ocr.HotFileBuffer;
 import com.cnu.docserver.ocr.SubmissionReviewOrchestrator;
+import com.cnu.docserver.submission.dto.FieldPatchRequestDTO;
+import com.cnu.docserver.submission.dto.FieldPatchResultDTO;
 import com.cnu.docserver.submission.dto.FieldValueInputDTO;
 import com.cnu.docserver.submission.dto.SubmissionSummaryDTO;
 import com.cnu.docserver.submission.dto.SubmitRequestDTO;
+import com.cnu.docserver.submission.entity.ArchivedSubmission;
 import com.cnu.docserver.submission.entity.Submission;
 import com.cnu.docserver.submission.entity.SubmissionFieldValue;
 import com.cnu.docserver.submission.entity.SubmissionFile;
 import com.cnu.docserver.submission.entity.SubmissionHistory;
 import com.cnu.docserver.submission.enums.HistoryAction;
 import com.cnu.docserver.submission.enums.SubmissionStatus;
+import com.cnu.docserver.submission.enums.SubmissionTransition;
+import com.cnu.docserver.submission.event.SubmissionChangedEvent;
 import com.cnu.docserver.submission.event.SubmissionCreatedEvent;
+import com.cnu.docserver.submission.repository.ArchivedSubmissionRepository;
 import com.cnu.docserver.submission.repository.SubmissionFieldValueRepository;
 import com.cnu.docserver.submission.repository.SubmissionFileRepository;
 import com.cnu.docserver.submission.repository.SubmissionHistoryRepository;
 import com.cnu.docserver.submission.repository.SubmissionRepository;
 import com.cnu.docserver.user.entity.Admin;
-import com.cnu.docserver.user.entity.Member;
 import com.cnu.docserver.user.entity.Student;
 import com.cnu.docserver.user.repository.StudentRepository;
 import com.fasterxml.jackson.core.type.TypeReference;
@@ -33,10 +42,9 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.multipart.MultipartFile;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.time.LocalDate;
@@ -52,16 +60,23 @@ public class SubmissionService {
     private final StudentRepository studentRepository;
     private final DocTypeRepository docTypeRepository;
     private final SubmissionRepository submissionRepository;
+    private final ArchivedSubmissionRepository archivedSubmissionRepository;
     private final ApplicationEventPublisher eventPublisher;
 
-    private final DeadlineRepository deadlineRepository;
+    private final DeadlineService deadlineService;
 
     private final FileStorageService fileStorageService;
+    private final UploadSessionService uploadSessionService;
+    private final HotFileBuffer hotFileBuffer;
     private final RequiredFieldRepository requiredFieldRepository;
+    private final DocTypeService docTypeService;
 
     private final SubmissionFileRepository submissionFileRepository;
     private final SubmissionFieldValueRepository submissionFieldValueRepository;
     private final SubmissionHistoryRepository submissionHistoryRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final QueueCounterService queueCounterService;
+    private final SubmissionStateMachine submissionStateMachine;
 
     // SubmissionReviewOrchestrator를 직접 호출하지 않으므로 주석 처리하거나 제거 가능
     private final SubmissionReviewOrchestrator submissionReviewOrchestrator;
@@ -70,8 +85,9 @@ public class SubmissionService {
     private static final ZoneId KST = ZoneId.of("Asia/Seoul");
 
     // === 1) 최초 제출 ===
-    @Transactional
-    public SubmissionSummaryDTO create(Integer docTypeId, String fieldsJson, MultipartFile file) {
+    // 파일 이동·검증·조회는 트랜잭션 밖에서 끝내고, 트랜잭션은 INSERT 묶음만 수행한다.
+    // (디스크 I/O 동안 JDBC 커넥션을 잡고 있지 않도록)
+    public SubmissionSummaryDTO create(Integer docTypeId, String fieldsJson, String uploadToken) {
         // 1) 로그인 학생 조회
         String studentId = currentStudentId();
         Student student = studentRepository.findById(studentId)
@@ -84,110 +100,190 @@ public class SubmissionService {
         // 3) 마감일 1차 체크
         ensureNotPastDeadline(docType);
 
-        // 4) 파일 필수
-        if (file == null || file.isEmpty()) {
+        // 4) 파일 필수 (완료된 업로드 토큰)
+        if (uploadToken == null || uploadToken.isBlank()) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "파일은 필수입니다.");
         }
 
-        // 5) 제출 생성(DRAFT)
-        Submission submission = Submission.builder()
-                .student(student)
-                .docType(docType)
-                .status(SubmissionStatus.DRAFT)
-                .build();
-        submissionRepository.save(submission);
+        // 5) 필드 검증 + 필수항목 정의 조회 (트랜잭션 밖)
+        List<FieldValueInputDTO> inputs = parseFields(fieldsJson);
+        validateFields(inputs);
+        Map<String, RequiredField> definedByName = inputs.isEmpty() ? Map.of() : requiredFieldsByName(docType);
 
-        // 6) 파일/필드 upsert
-        upsertFile(submission, file);
-        upsertFieldValues(submission, parseFields(fieldsJson), docType);
+        // 6) 스테이징 파일 → 최종 위치 (트랜잭션 밖, 업로드 세션은 아래 트랜잭션에서 사용 처리)
+        UploadSessionService.PromotedUpload upload = uploadSessionService.promote(uploadToken);
+        String fileUrl = upload.fileUrl();
 
-        // 7) 제출 전이 (학생 제출) -> SUBMITTED
-        submission.setStatus(SubmissionStatus.SUBMITTED);
-        submission.setSubmittedAt(LocalDateTime.now());
-        submissionRepository.save(submission);
+        // 7) 트랜잭션: 제출/파일/필드/이력 INSERT 만
+        try {
+            return transactionTemplate.execute(tx -> {
+                // DRAFT → SUBMITTED → BOT_REVIEW 를 한 트랜잭션에서 거치므로 최종 상태로 바로 INSERT
+                Submission submission = Submission.builder()
+                        .student(student)
+                        .docType(docType)
+                        .status(SubmissionStatus.BOT_REVIEW)
+                        .submittedAt(LocalDateTime.now())
+                        .build();
+                submissionRepository.save(submission);
+                queueCounterService.moved(submission, null);
+                uploadSessionService.consume(upload);
+
+                submissionFileRepository.save(
+                        SubmissionFile.builder()
+                                .submission(submission)
+                                .fileUrl(fileUrl)
+                                .uploadedAt(LocalDateTime.now())
+                                .build());
+                if (!inputs.isEmpty()) {
+                    submissionFieldValueRepository.saveAll(buildFieldRows(submission, inputs, definedByName));
+                }
+
+                // 이력 기록: SUBMITTED (학생 제출)
+                writeHistory(submission, null, HistoryAction.SUBMITTED, "학생 제출");
+
+                // OCR 은 커밋 이후(AFTER_COMMIT) 이벤트 리스너에서 비동기로 실행
+                // 업로드 메모리 사본을 넘겨 두면 디스패처가 디스크를 다시 읽지 않는다
+                hotFileBuffer.put(fileUrl, upload.content());
+                eventPublisher.publishEvent(new SubmissionCreatedEvent(this, submission.getSubmissionId()));
+                eventPublisher.publishEvent(new SubmissionChangedEvent(this, submission.getSubmissionId()));
+
+                return toSummary(submission, fileUrl);
+            });
+        } catch (RuntimeException e) {
+            // DB 실패 시 파일을 스테이징으로 되돌려 같은 업로드 토큰으로 다시 제출할 수 있게
+            uploadSessionService.restore(upload);
+            throw e;
+        }
+    }
 
+    public String getCurrentStudentId() {
+        return currentStudentId();
+    }
+    // === 2) 반려 후 수정(덮어쓰기) ===
+    // create 와 같은 방식: 파일/검증은 트랜잭션 밖, DB 변경만 트랜잭션 안
+    public SubmissionSummaryDTO update(Integer submissionId, String fieldsJson, String uploadToken) {
+        // 빠른 실패: 파일을 옮기기 전에 상태 확인 (트랜잭션 안에서 한 번 더 확인)
+        mustBeOneOf(requireSubmission(submissionId), SubmissionStatus.DRAFT, SubmissionStatus.REJECTED);
 
-        // 8) 이력 기록: SUBMITTED (학생 제출)
-        writeHistory(submission, null, HistoryAction.SUBMITTED, "학생 제출");
+        boolean hasFields = fieldsJson != null && !fieldsJson.isBlank();
+        List<FieldValueInputDTO> inputs = hasFields ? parseFields(fieldsJson) : List.of();
+        validateFields(inputs);
 
-        // 9) 서버가 곧바로 UNDER_REVIEW로 전환
-        submission.setStatus(SubmissionStatus.BOT_REVIEW);
-        submissionRepository.save(submission);
+        UploadSessionService.PromotedUpload upload =
+                (uploadToken != null && !uploadToken.isBlank()) ? uploadSessionService.promote(uploadToken) : null;
+        String newUrl = upload == null ? null : upload.fileUrl();
 
-        // 10) OCR 프로세스를 비동기 실행하는 대신, 이벤트를 발행합니다.
-        // 이 이벤트는 현재 트랜잭션이 성공적으로 커밋된 후에만 리스너를 트리거합니다.
-//        submissionReviewOrchestrator.runBotReview(submission.getSubmissionId());
-        eventPublisher.publishEvent(new SubmissionCreatedEvent(this, submission.getSubmissionId()));
+        List<String> replacedUrls = new ArrayList<>();
+        SubmissionSummaryDTO result;
+        try {
+            result = transactionTemplate.execute(tx -> {
+                Submission s = requireSubmission(submissionId);
+                mustBeOneOf(s, SubmissionStatus.DRAFT, SubmissionStatus.REJECTED);
+
+                if (newUrl != null) {
+                    uploadSessionService.consume(upload);
+                    submissionFileRepository.findBySubmission(s).ifPresentOrElse(existing -> {
+                        replacedUrls.add(existing.getFileUrl());
+                        existing.setFileUrl(newUrl);
+                        existing.setUploadedAt(LocalDateTime.now());
+                    }, () -> submissionFileRepository.save(
+                            SubmissionFile.builder()
+                                    .submission(s)
+                                    .fileUrl(newUrl)
+                                    .uploadedAt(LocalDateTime.now())
+                                    .build()));
+                }
+                if (hasFields) {
+                    Map<String, String> all = new LinkedHashMap<>();
+                    inputs.forEach(in -> all.put(in.getLabel().trim(), in.getValue()));
+                    if (!applyFieldChanges(s, all, true).isEmpty()) {
+                        bumpFieldsVersion(s, s.getFieldsVersion());
+                    }
+                }
+
+                if (newUrl != null || hasFields) {
+                    writeHistory(s, null, HistoryAction.MODIFIED, "학생 수정(임시 저장)");
+                    eventPublisher.publishEvent(new SubmissionChangedEvent(this, s.getSubmissionId()));
+                }
+                return toSummary(s);
+            });
+        } catch (RuntimeException e) {
+            if (upload != null) uploadSessionService.restore(upload);
+            throw e;
+        }
 
-        return toSummary(submission);
+        // 커밋 이후에만 이전 파일 삭제
+        replacedUrls.forEach(this::safeDelete);
+        return result;
     }
 
-    public String getCurrentStudentId() {
-        return currentStudentId();
-    }
-    // === 2) 반려 후 수정(덮어쓰기) ===
-    @Transactional
-    public SubmissionSummaryDTO update(Integer submissionId, String fieldsJson, MultipartFile file) {
-        Submission s = requireSubmission(submissionId);
-        mustBeOneOf(s, SubmissionStatus.DRAFT, SubmissionStatus.REJECTED);
 
-        boolean changed = false;
+    // === 2-1) 필드 단위 자동 저장 (PATCH) ===
+    // 바뀐 필드만 INSERT/UPDATE/DELETE, baseVersion 이 현재 버전과 다르면 409 (낙관적 잠금)
+    @Transactional
+    public FieldPatchResultDTO patchFields(Integer submissionId, FieldPatchRequestDTO body) {
+        if (body == null || body.baseVersion() == null || body.changes() == null || body.changes().isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "baseVersion 과 changes 는 필수입니다.");
+        }
+        Map<String, String> changes = new LinkedHashMap<>();
+        for (FieldPatchRequestDTO.Change c : body.changes()) {
+            String label = (c.label() == null) ? null : c.label().trim();
+            if (label == null || label.isBlank()) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "field_name(label)은 필수입니다.");
+            }
+            changes.put(label, c.value()); // 같은 필드가 여러 번 오면 마지막 값
+        }
 
-        if (file != null && !file.isEmpty()) {
-            upsertFile(s, file);
-            changed = true;
+        Submission s = requireSubmission(submissionId);
+        if (!s.getStudent().getStudentId().equals(currentStudentId())) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN, "본인의 제출만 수정할 수 있습니다.");
         }
-        if (fieldsJson != null && !fieldsJson.isBlank()) {
-            upsertFieldValues(s, parseFields(fieldsJson), s.getDocType());
-            changed = true;
+        mustBeOneOf(s, SubmissionStatus.DRAFT, SubmissionStatus.REJECTED);
+        int base = body.baseVersion();
+        if (s.getFieldsVersion() != base) {
+            throw fieldsConflict();
         }
 
-        if (changed) {
-            writeHistory(s, null, HistoryAction.MODIFIED, "학생 수정(임시 저장)");
+        FieldDiff diff = applyFieldChanges(s, changes, false);
+        if (!diff.isEmpty()) {
+            bumpFieldsVersion(s, base);
+            // 자동 저장은 잦으므로 이력은 요약 한 줄만
+            writeHistory(s, null, HistoryAction.MODIFIED, "학생 자동 저장(v" + s.getFieldsVersion() + ": 추가 "
+                    + diff.inserted() + ", 수정 " + diff.updated() + ", 삭제 " + diff.deleted() + ")");
+            eventPublisher.publishEvent(new SubmissionChangedEvent(this, s.getSubmissionId()));
         }
-        return toSummary(s);
+        return new FieldPatchResultDTO(s.getSubmissionId(), s.getFieldsVersion(),
+                diff.inserted(), diff.updated(), diff.deleted());
     }
 
-
     // === 3) 최종 제출 ===
     @Transactional
     public SubmissionSummaryDTO submit(Integer submissionId, SubmitRequestDTO body) {
         Submission s = requireSubmission(submissionId);
-        // 재제출은 REJECTED/NEEDS_FIX에서도 가능하도록 하는 게 자연스러워요.
-        mustBeOneOf(s, SubmissionStatus.DRAFT, SubmissionStatus.REJECTED, SubmissionStatus.NEEDS_FIX);
-
+        // 재제출은 REJECTED/NEEDS_FIX에서도 가능 (출발 상태는 SubmissionTransition 표)
         if (body == null || body.getMode() == null) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "제출 모드가 필요합니다.");
         }
+        // DIRECT: 검증 건너뜀 → 관리자 대기 큐(SUBMITTED), 기본: 챗봇 검수(BOT_REVIEW)
+        SubmissionTransition transition = body.getMode() == SubmitRequestDTO.SubmitMode.DIRECT
+                ? SubmissionTransition.SUBMIT_DIRECT : SubmissionTransition.SUBMIT_FOR_BOT;
+        if (!transition.allowsFrom(s.getStatus())) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "현재 상태에서 허용되지 않는 작업입니다.");
+        }
 
         // 마감 체크
         ensureNotPastDeadline(s.getDocType());
 
+        // 히스토리 메모 (학생 제출/재제출 구분)
         SubmissionStatus prev = s.getStatus();
-
-        // 1) 학생 제출 접수(시각 기록)
-        s.setStatus(SubmissionStatus.SUBMITTED);
-        s.setSubmittedAt(LocalDateTime.now());
-        submissionRepository.save(s);
-
-        // 2) 히스토리 남기기 (학생 제출/재제출 구분)
+        boolean resubmit = prev == SubmissionStatus.REJECTED || prev == SubmissionStatus.NEEDS_FIX;
         String memo = switch (body.getMode()) {
-            case FINAL  -> (prev == SubmissionStatus.REJECTED || prev == SubmissionStatus.NEEDS_FIX)
-                    ? "학생 재제출(FINAL)" : "학생 최종제출(FINAL)";
-            case DIRECT -> (prev == SubmissionStatus.REJECTED || prev == SubmissionStatus.NEEDS_FIX)
-                    ? "학생 재제출(DIRECT)" : "학생 바로제출(DIRECT)";
+            case FINAL  -> resubmit ? "학생 재제출(FINAL)" : "학생 최종제출(FINAL)";
+            case DIRECT -> resubmit ? "학생 재제출(DIRECT)" : "학생 바로제출(DIRECT)";
         };
-        writeHistory(s, null, HistoryAction.SUBMITTED, memo);
-
-        // 3) 챗봇 단계로 보낼지 여부
-        if (body.getMode() == SubmitRequestDTO.SubmitMode.DIRECT) {
-            // 검증 건너뜀 → 관리자 대기 큐 유지(SUBMITTED 유지)
-            // 아무 것도 안 함
-        } else {
-            // 기본: 챗봇 검수로 전환
-            s.setStatus(SubmissionStatus.BOT_REVIEW);
-            submissionRepository.save(s);
-        }
+
+        // 제출 시각 기록 + 상태 전이 + 이력을 조건부 UPDATE 한 번으로
+        submissionStateMachine.apply(s, transition, null, memo);
 
         // (참고) 챗봇 검수 통과 시: BOT API에서 BOT_REVIEW -> SUBMITTED 로 바꿔 관리자 큐에 올림
         return toSummary(s);
@@ -197,32 +293,41 @@ public class SubmissionService {
     @Transactional(readOnly = true)
     public SubmissionSummaryDTO getSummary(Integer submissionId) {
         // 소유권 체크가 필요하면 requireMySubmission(...)으로 바꾸세요.
-        Submission s = requireSubmission(submissionId);
+        Submission s = submissionRepository.findById(submissionId).orElse(null);
+        if (s == null) return getArchivedSummary(submissionId); // 지난 학기 종료분은 보관 테이블에 있음
         return toSummary(s);
     }
 
+    // 보관된 제출은 종료 상태라 더 수정할 수 없음 → fieldsVersion 없음
+    private SubmissionSummaryDTO getArchivedSummary(Integer submissionId) {
+        ArchivedSubmission a = archivedSubmissionRepository.findById(submissionId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "제출을 찾을 수 없습니다."));
+        return SubmissionSummaryDTO.builder()
+                .submissionId(a.getSubmissionId())
+                .status(a.getStatus())
+                .fileUrl(a.getFileUrl())
+                .submittedAt(a.getSubmittedAt() == null ? null : a.getSubmittedAt().toString())
+                .build();
+    }
 
-    // 로그인 학생 검증
+
+    // 로그인 학생 검증 (학번은 로그인 시 principal 에 담아 둠 → 조회 없음)
     private String currentStudentId() {
-        var auth = SecurityContextHolder.getContext().getAuthentication();
-        if (auth == null || !(auth.getPrincipal() instanceof Member m)) {
-            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "로그인이 필요합니다.");
+        String studentId = LoginPrincipal.require().studentId();
+        if (studentId == null) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "학생 정보를 찾을 수 없습니다.");
         }
-        return studentRepository.findByMember(m)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.UNAUTHORIZED, "학생 정보를 찾을 수 없습니다."))
-                .getStudentId();
+        return studentId;
     }
 
 
-    //  마감일 검증: deadline이 없거나(null) 오늘이 마감일보다 늦지 않으면(<=) 통과
+    //  마감일 검증: deadline이 없거나(null) 오늘이 마감일보다 늦지 않으면(<=) 통과 (카탈로그 캐시 사용)
     private void ensureNotPastDeadline(DocType docType) {
-        deadlineRepository.findByDocType(docType).ifPresent(deadline -> {
-            LocalDate d = deadline.getDeadline();
-            LocalDate today = LocalDate.now(KST);
-            if (d != null && today.isAfter(d)) {
-                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "마감일이 지났습니다.");
-            }
-        });
+        LocalDate d = deadlineService.getDeadlineByDocTypeId(docType.getDocTypeId()).getDeadline();
+        LocalDate today = LocalDate.now(KST);
+        if (d != null && today.isAfter(d)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "마감일이 지났습니다.");
+        }
     }
 
     // 이력 기록
@@ -240,11 +345,16 @@ public class SubmissionService {
     private SubmissionSummaryDTO toSummary(Submission s) {
         String fileUrl = submissionFileRepository.findBySubmission(s)
                 .map(SubmissionFile::getFileUrl).orElse(null);
+        return toSummary(s, fileUrl);
+    }
+
+    private SubmissionSummaryDTO toSummary(Submission s, String fileUrl) {
         return SubmissionSummaryDTO.builder()
                 .submissionId(s.getSubmissionId())
                 .status(s.getStatus())
                 .fileUrl(fileUrl)
                 .submittedAt(s.getSubmittedAt() == null ? null : s.getSubmittedAt().toString())
+                .fieldsVersion(s.getFieldsVersion())
                 .build();
     }
 
@@ -260,52 +370,88 @@ public class SubmissionService {
         throw new ResponseStatusException(HttpStatus.CONFLICT, "현재 상태에서 허용되지 않는 작업입니다.");
     }
 
-    private void upsertFile(Submission submission, MultipartFile file) {
-
-        String newUrl = fileStorageService.saveSubmission(submission.getSubmissionId(),file);
-
-        submissionFileRepository.findBySubmission(submission).ifPresentOrElse(existing->{
-            safeDelete(existing.getFileUrl());
-            existing.setFileUrl(newUrl);
-            existing.setUploadedAt(LocalDateTime.now());
-            submissionFileRepository.save(existing);
-        },()->{
-            submissionFileRepository.save(
-                    SubmissionFile.builder()
-                            .submission(submission)
-                            .fileUrl(newUrl)
-                            .uploadedAt(LocalDateTime.now())
-                            .build()
-            );
-        });
-
-    }
     private void safeDelete(String url){
+        hotFileBuffer.invalidate(url);
         try{
             fileStorageService.deleteByUrl(url);
         }catch(Exception ignored){}
     }
-    private void upsertFieldValues(Submission submission, List<FieldValueInputDTO> inputs, DocType docType) {
+    private record FieldDiff(int inserted, int updated, int deleted) {
+        boolean isEmpty() {
+            return inserted + updated + deleted == 0;
+        }
+    }
 
-        // 기존 값 전체 삭제 후 다시 저장 (덮어쓰기 정책)
-        submissionFieldValueRepository.deleteBySubmission(submission);
-        if (inputs == null || inputs.isEmpty()) return;
+    /**
+     * 현재 필드 행과 비교해 바뀐 것만 반영 (label → value, value 가 null 이면 삭제).
+     * replaceAll 이면 changes 에 없는 기존 필드도 삭제한다 (PUT 덮어쓰기).
+     * 값이 같은 필드는 건드리지 않으므로 행 ID 와 인덱스 페이지가 유지된다.
+     */
+    private FieldDiff applyFieldChanges(Submission submission, Map<String, String> changes, boolean replaceAll) {
+        Map<String, SubmissionFieldValue> current = new HashMap<>();
+        List<SubmissionFieldValue> toDelete = new ArrayList<>();
+        for (SubmissionFieldValue row : submissionFieldValueRepository.findBySubmission(submission)) {
+            String name = row.getFieldName();
+            boolean dropped = replaceAll ? !changes.containsKey(name) || changes.get(name) == null
+                                         : changes.containsKey(name) && changes.get(name) == null;
+            if (dropped || current.putIfAbsent(name, row) != null) {
+                toDelete.add(row); // 삭제 대상 또는 같은 이름의 중복 행
+            }
+        }
 
-        // 해당 문서 유형의 필수항목 정의 불러오기
-        List<RequiredField> defined = requiredFieldRepository.findByDocType(docType);
+        List<SubmissionFieldValue> toInsert = new ArrayList<>();
+        Map<String, RequiredField> definedByName = null;
+        int updated = 0;
+        for (Map.Entry<String, String> change : changes.entrySet()) {
+            if (change.getValue() == null) continue;
+            SubmissionFieldValue row = current.get(change.getKey());
+            if (row == null) {
+                if (definedByName == null) definedByName = requiredFieldsByName(submission.getDocType());
+                toInsert.add(SubmissionFieldValue.builder()
+                        .submission(submission)
+                        .requiredField(definedByName.get(change.getKey()))
+                        .fieldName(change.getKey())
+                        .fieldValue(change.getValue())
+                        .build());
+            } else if (!change.getValue().equals(row.getFieldValue())) {
+                row.setFieldValue(change.getValue()); // 더티 체킹 UPDATE (배치)
+                updated++;
+            }
+        }
+
+        if (!toDelete.isEmpty()) submissionFieldValueRepository.deleteAllInBatch(toDelete); // DELETE 1회
+        if (!toInsert.isEmpty()) submissionFieldValueRepository.saveAll(toInsert);
+        return new FieldDiff(toInsert.size(), updated, toDelete.size());
+    }
+
+    private void bumpFieldsVersion(Submission s, int expected) {
+        if (submissionRepository.bumpFieldsVersion(s.getSubmissionId(), expected) == 0) {
+            throw fieldsConflict();
+        }
+        s.setFieldsVersion(expected + 1); // updatable=false 라 엔티티 UPDATE 는 발생하지 않음
+    }
+
+    // 앞선 상태 확인은 잠금 없는 읽기 → 그 사이 제출된 경우도 버전 CAS 에서 걸러진다
+    private static ResponseStatusException fieldsConflict() {
+        return new ResponseStatusException(HttpStatus.CONFLICT, "다른 곳에서 먼저 저장되었거나 제출되었습니다. 최신 내용을 불러온 뒤 다시 시도하세요.");
+    }
 
-        // field_name(=RequiredField.fieldName) → RequiredField 매핑
+    // field_name(=RequiredField.fieldName) → RequiredField 매핑
+    // 정의는 카탈로그 캐시에서, FK 는 ID 참조(프록시)만 걸어 조회 없이 INSERT
+    private Map<String, RequiredField> requiredFieldsByName(DocType docType) {
         Map<String, RequiredField> byName = new HashMap<>();
-        for (RequiredField rf : defined) {
-            String name = rf.getFieldName();
+        for (RequiredFieldDTO rf : docTypeService.getRequiredFields(docType.getDocTypeId())) {
+            String name = rf.getLabel();
             if (name != null && !name.isBlank()) {
-                byName.put(name, rf);
+                byName.put(name, requiredFieldRepository.getReferenceById(rf.getRequiredFieldId()));
             }
         }
+        return byName;
+    }
 
-        List<SubmissionFieldValue> rows = new ArrayList<>();
+    // 필수 검증: label(field_name), value
+    private void validateFields(List<FieldValueInputDTO> inputs) {
         for (FieldValueInputDTO in : inputs) {
-            // 1) 필수 검증: label(field_name), value
             String label = (in.getLabel() == null) ? null : in.getLabel().trim();
             if (label == null || label.isBlank()) {
                 throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "field_name(label)은 필수입니다.");
@@ -313,8 +459,16 @@ public class SubmissionService {
             if (in.getValue() == null) {
                 throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "value는 필수입니다.");
             }
+        }
+    }
 
-            // 2) field_name 기준 매칭 (정의된 필드가 있으면 FK 연결)
+    private List<SubmissionFieldValue> buildFieldRows(Submission submission, List<FieldValueInputDTO> inputs,
+                                                      Map<String, RequiredField> byName) {
+        List<SubmissionFieldValue> rows = new ArrayList<>();
+        for (FieldValueInputDTO in : inputs) {
+            String label = in.getLabel().trim();
+
+            // field_name 기준 매칭 (정의된 필드가 있으면 FK 연결)
             RequiredField rf = byName.get(label);
 
             rows.add(SubmissionFieldValue.builder()
@@ -324,8 +478,7 @@ public class SubmissionService {
                     .fieldValue(in.getValue())
                     .build());
         }
-
-        submissionFieldValueRepository.saveAll(rows);
+        return rows;
     }
 
     private List<FieldValueInputDTO> parseFields(String fieldsJson) {
@@ -0,0 +1,148 @@
+package com.cnu.docserver.submission.service;
+
+import com.cnu.docserver.analytics.service.AnalyticsRollupService;
+import com.cnu.docserver.submission.entity.Submission;
+import com.cnu.docserver.submission.entity.SubmissionHistory;
+import com.cnu.docserver.submission.enums.SubmissionStatus;
+import com.cnu.docserver.submission.enums.SubmissionTransition;
+import com.cnu.docserver.submission.event.SubmissionChangedEvent;
+import com.cnu.docserver.submission.repository.SubmissionHistoryRepository;
+import com.cnu.docserver.submission.repository.SubmissionRepository;
+import com.cnu.docserver.user.entity.Admin;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 제출 상태 전이 (SubmissionTransition 표 기준).
+ *  - 단건: UPDATE … WHERE id = ? AND status IN (전이표의 출발 상태) 한 번 + 이력 INSERT.
+ *    읽어 둔 상태가 아니라 DB 의 현재 상태로 판단하고, 이전 상태도 UPDATE 가 남긴 값으로 받는다
+ *    (그 사이 허용된 중간 변경, 예: SUBMITTED→NEEDS_FIX 뒤의 승인은 충돌이 아님)
+ *  - 그 사이 다른 작업(OCR 결과 반영, 다른 관리자)이 출발할 수 없는 상태로 바꿨으면 UPDATE 0 건 → 덮어쓰지 않고 충돌
+ *  - 카운터 증감, 승인/반려 통계 누적, 변경 이벤트도 여기서 함께 (호출자 트랜잭션 안)
+ */
+@Service
+@RequiredArgsConstructor
+public class SubmissionStateMachine {
+
+    private final SubmissionRepository submissionRepository;
+    private final SubmissionHistoryRepository submissionHistoryRepository;
+    private final QueueCounterService queueCounterService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final AnalyticsRollupService analyticsRollupService;
+
+    private static final List<String> STATUS_ORDER = Arrays.stream(SubmissionStatus.values()).map(Enum::name).toList();
+
+    /** 전이가 불가능하거나 다른 작업과 겹치면 409 */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void apply(Submission s, SubmissionTransition transition, Admin admin, String memo) {
+        if (!tryApply(s, transition, admin, memo)) {
+            // 실패 원인 구분은 읽어 둔 상태 기준 (추가 조회 없음)
+            throw new ResponseStatusException(HttpStatus.CONFLICT, transition.allowsFrom(s.getStatus())
+                    ? "다른 처리로 상태가 이미 변경되었습니다. 새로고침 후 다시 시도해 주세요."
+                    : "현재 상태에서 허용되지 않는 작업입니다.");
+        }
+    }
+
+    /** 현재 DB 상태에서 전이가 불가능하면(다른 작업이 먼저 바꾼 경우 포함) false (아무것도 바꾸지 않음) */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public boolean tryApply(Submission s, SubmissionTransition transition, Admin admin, String memo) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime submittedAt = transition.stampsSubmittedAt() ? now : null;
+        LocalDateTime reviewedAt = transition.stampsReviewedAt() ? now : null;
+        int updated = submissionRepository.compareAndSetStatus(s.getSubmissionId(),
+                transition.from().stream().map(Enum::name).toList(), STATUS_ORDER,
+                transition.to().name(), submittedAt, reviewedAt);
+        if (updated == 0) {
+            return false;
+        }
+        // 카운터는 읽어 둔 상태가 아니라 실제로 바뀌기 전 상태에서 뺀다
+        SubmissionStatus prev = SubmissionStatus.values()[submissionRepository.previousStatusOrder().intValue() - 1];
+
+        // updatable=false 라 엔티티 UPDATE 는 발생하지 않음 (응답/카운터용 메모리 반영)
+        s.setStatus(transition.to());
+        if (submittedAt != null) s.setSubmittedAt(submittedAt);
+        if (reviewedAt != null) s.setReviewedAt(reviewedAt);
+
+        if (transition.isDecision()) { // 통계 누적이 이력보다 먼저 (재계산과의 순서, AnalyticsRollupService)
+            analyticsRollupService.decided(List.of(s), transition == SubmissionTransition.APPROVE);
+        }
+        submissionHistoryRepository.save(
+                SubmissionHistory.builder()
+                        .submission(s)
+                        .admin(admin) // 학생/시스템 전이면 null
+                        .action(transition.historyAction())
+                        .memo(memo)
+                        .build()
+        );
+        queueCounterService.moved(s, prev);
+        eventPublisher.publishEvent(new SubmissionChangedEvent(this, s.getSubmissionId()));
+        return true;
+    }
+
+    /**
+     * 일괄 전이. 대상은 호출자가 lockByIds 로 잠가 둔 제출이어야 한다.
+     * 출발 상태별로 조건부 UPDATE 한 번씩 + 이력 배치 INSERT + 카운터/이벤트 한 번씩.
+     * 반환값은 전이한 제출 ID → 이전 상태 (전이표상 불가능한 제출은 건드리지 않고 빠짐)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public Map<Integer, SubmissionStatus> applyAll(List<Submission> locked, SubmissionTransition transition,
+                                                   Admin admin, String memo) {
+        Map<SubmissionStatus, List<Submission>> byStatus = locked.stream()
+                .filter(s -> transition.allowsFrom(s.getStatus()))
+                .collect(Collectors.groupingBy(Submission::getStatus, () -> new EnumMap<>(SubmissionStatus.class),
+                        Collectors.toList()));
+        if (byStatus.isEmpty()) return Map.of();
+
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime submittedAt = transition.stampsSubmittedAt() ? now : null;
+        LocalDateTime reviewedAt = transition.stampsReviewedAt() ? now : null;
+        Map<Integer, SubmissionStatus> previous = new LinkedHashMap<>();
+        List<Submission> moved = new ArrayList<>();
+        byStatus.forEach((from, group) -> {
+            List<Integer> ids = group.stream().map(Submission::getSubmissionId).toList();
+            int updated = submissionRepository.compareAndSetStatusIn(
+                    ids, from.name(), transition.to().name(), submittedAt, reviewedAt);
+            if (updated != ids.size()) {
+                // 잠근 행이라 일어나지 않아야 함 — 일부만 반영된 채 커밋되지 않도록 전체 롤백
+                throw new ResponseStatusException(HttpStatus.CONFLICT, "일괄 처리 중 상태가 변경되었습니다. 다시 시도해 주세요.");
+            }
+            for (Submission s : group) {
+                previous.put(s.getSubmissionId(), from);
+                s.setStatus(transition.to());
+                if (submittedAt != null) s.setSubmittedAt(submittedAt);
+                if (reviewedAt != null) s.setReviewedAt(reviewedAt);
+                moved.add(s);
+            }
+        });
+
+        if (transition.isDecision()) { // 통계 누적이 이력보다 먼저
+            analyticsRollupService.decided(moved, transition == SubmissionTransition.APPROVE);
+        }
+        // hibernate.jdbc.batch_size 단위로 묶여 INSERT
+        submissionHistoryRepository.saveAll(moved.stream()
+                .map(s -> SubmissionHistory.builder()
+                        .submission(s)
+                        .admin(admin)
+                        .action(transition.historyAction())
+                        .memo(memo)
+                        .build())
+                .toList());
+        queueCounterService.movedAll(moved, previous);
+        eventPublisher.publishEvent(new SubmissionChangedEvent(this, previous.keySet()));
+        return previous;
+    }
+}
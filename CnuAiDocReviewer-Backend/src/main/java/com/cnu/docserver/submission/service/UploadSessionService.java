@@ -0,0 +1,394 @@
+package com.cnu.docserver.submission.service;
+
+import com.cnu.docserver.auth.context.LoginPrincipal;
+import com.cnu.docserver.common.ReadWriteRoutingDataSource;
+import com.cnu.docserver.docmanger.service.FileStorageService;
+import com.cnu.docserver.ocr.HotFileBuffer;
+import com.cnu.docserver.submission.dto.UploadSessionDTO;
+import com.cnu.docserver.submission.entity.UploadSession;
+import com.cnu.docserver.submission.repository.UploadSessionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 이어받기(resumable) 업로드 세션 관리.
+ *  1) open      : 파일명/크기 선언 → 토큰 발급
+ *  2) chunk     : offset 위치에 청크 PUT (offset 은 항상 서버가 받은 바이트 수와 같아야 함)
+ *  3) finalize  : 크기/해시 확인 후 완료 → 토큰을 제출/수정 API 에 전달
+ *  4) promote   : 제출/수정 API 가 파일을 제출 폴더로 옮기고, 같은 트랜잭션에서 consume (실패하면 restore)
+ * 세션 메타데이터는 upload_sessions 테이블, 청크는 공유 스테이징 볼륨에 기록하므로 어느 인스턴스에서든 이어받을 수 있다.
+ * SHA-256 과 OCR 핸드오프용 메모리 사본은 이 인스턴스가 처음부터 이어 받은 경우 청크를 쓰면서 함께 채운다.
+ * 다른 인스턴스가 받은 청크가 섞였으면 완료 시 스테이징 파일을 한 번 읽어 둘 다 만든다.
+ * 메모리 사본의 예산은 MIRROR_TTL 동안 청크/제출이 없으면 반납한다 (떠난 업로드가 핫 버퍼를 오래 잡지 않도록).
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class UploadSessionService {
+
+    private static final Duration TTL = Duration.ofHours(24);
+    // 청크 쓰기/제출 반영 중인 요청의 임대 (그 사이 인스턴스가 죽으면 만료 후 다른 요청이 이어받음)
+    private static final Duration LEASE = Duration.ofMinutes(5);
+    // 메모리 사본을 마지막 청크/완료 뒤 붙잡아 두는 시간
+    private static final Duration MIRROR_TTL = Duration.ofMinutes(10);
+
+    private final FileStorageService fileStorageService;
+    private final HotFileBuffer hotFileBuffer;
+    private final UploadSessionRepository uploadSessionRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${upload.max-bytes:52428800}")
+    private long maxBytes;
+
+    // 이 인스턴스가 받은 청크의 누적 해시/메모리 사본 (DB 상태의 캐시일 뿐, 없거나 어긋나면 버림)
+    private final Map<String, LocalProgress> localProgress = new ConcurrentHashMap<>();
+    // finalize 한 업로드의 메모리 사본 (핫 버퍼 예산을 잡아 둔 상태)
+    private final Map<String, Mirror> mirrors = new ConcurrentHashMap<>();
+
+    /** 제출 폴더로 옮긴 업로드 (content 는 메모리 사본, 없으면 null) */
+    public record PromotedUpload(String token, String lease, String fileUrl, byte[] content) {}
+
+    public UploadSessionDTO open(String filename, long size) {
+        if (size <= 0 || size > maxBytes) {
+            throw new ResponseStatusException(HttpStatus.PAYLOAD_TOO_LARGE, "허용 파일 크기를 초과했습니다.");
+        }
+        UploadSession session = UploadSession.builder()
+                .token(UUID.randomUUID().toString())
+                .ownerId(currentMemberId())
+                .filename(filename == null ? "unknown" : filename)
+                .size(size)
+                .updatedAt(LocalDateTime.now())
+                .build();
+        transactionTemplate.executeWithoutResult(tx -> uploadSessionRepository.save(session));
+        // 예산 안이면 사본을 미리 잡아 청크를 쓰면서 채운다 (finalize 에서 디스크를 다시 읽지 않도록)
+        localProgress.put(session.getToken(), new LocalProgress(0, newDigest(), hotFileBuffer.reserve(size)));
+        return toDto(session);
+    }
+
+    public UploadSessionDTO status(String token) {
+        return toDto(requireOwned(token));
+    }
+
+    public UploadSessionDTO appendChunk(String token, long offset, InputStream in) {
+        UploadSession session = requireOwned(token);
+        if (session.isCompleted()) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "이미 완료된 업로드입니다.");
+        }
+        if (offset != session.getReceivedBytes()) {
+            // 클라이언트는 status 로 현재 offset 을 확인한 뒤 그 위치부터 다시 보낸다
+            throw new ResponseStatusException(HttpStatus.CONFLICT,
+                    "offset 불일치: 서버가 받은 바이트 수는 " + session.getReceivedBytes() + " 입니다.");
+        }
+        String lease = UUID.randomUUID().toString();
+        LocalDateTime now = LocalDateTime.now();
+        if (tx(() -> uploadSessionRepository.leaseChunk(token, offset, lease, now.plus(LEASE), now)) != 1) {
+            // 같은 세션의 다른 청크 요청(다른 인스턴스 포함)이 먼저 들어옴
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "다른 청크를 받는 중입니다. 상태를 확인한 뒤 다시 보내세요.");
+        }
+
+        LocalProgress local = localProgressAt(token, offset);
+        MessageDigest next = local == null ? null : local.digestCopy(); // 청크 실패 시 해시 상태를 되돌리기 위해 사본에 누적
+        long written;
+        try {
+            written = fileStorageService.appendChunk(token, offset, in, session.getSize() - offset, next,
+                    local == null ? null : local.mirror);
+        } catch (RuntimeException e) {
+            tx(() -> uploadSessionRepository.releaseLease(token, lease));
+            if (e instanceof FileStorageService.FileWriteException) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+            }
+            throw e;
+        }
+        long received = offset + written;
+        if (tx(() -> uploadSessionRepository.advance(token, lease, received, LocalDateTime.now())) != 1) {
+            // 임대가 만료되어 다른 요청이 이어받음 → 이 청크는 반영하지 않는다
+            dropLocal(token);
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "청크 처리 시간이 초과되었습니다. 상태를 확인한 뒤 다시 보내세요.");
+        }
+        if (local != null && !localProgress.replace(token, local, new LocalProgress(received, next, local.mirror))) {
+            // 그 사이 사본 예산이 반납됨 → 해시만 이어 간다
+            localProgress.put(token, new LocalProgress(received, next, null));
+        }
+        return toDto(requireOwned(token));
+    }
+
+    public UploadSessionDTO finalizeUpload(String token, String expectedSha256) {
+        UploadSession session = requireOwned(token);
+        if (session.isCompleted()) {
+            return toDto(session);
+        }
+        if (session.getReceivedBytes() != session.getSize()) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT,
+                    "업로드가 끝나지 않았습니다. (" + session.getReceivedBytes() + "/" + session.getSize() + ")");
+        }
+        LocalProgress local = localProgressAt(token, session.getSize());
+        byte[] mirror;
+        String actual;
+        if (local != null && localProgress.remove(token, local)) {
+            // 청크를 쓰면서 채운 해시/사본을 그대로 사용 (사본 예산은 이 요청이 넘겨받음)
+            mirror = local.mirror;
+            actual = HexFormat.of().formatHex(local.digestCopy().digest());
+        } else {
+            // 다른 인스턴스가 받은 청크가 섞임 → 스테이징 파일을 한 번 읽어 해시와 사본을 같이 만든다
+            mirror = hotFileBuffer.reserve(session.getSize());
+            try {
+                actual = sha256OfStaging(token, mirror);
+            } catch (RuntimeException e) {
+                hotFileBuffer.release(mirror);
+                throw e;
+            }
+        }
+        if (expectedSha256 != null && !expectedSha256.isBlank() && !expectedSha256.equalsIgnoreCase(actual)) {
+            // 내용이 깨졌으면 처음부터 다시 받도록 세션 폐기
+            hotFileBuffer.release(mirror);
+            discard(token);
+            throw new ResponseStatusException(HttpStatus.UNPROCESSABLE_ENTITY, "파일 해시가 일치하지 않습니다.");
+        }
+        if (tx(() -> uploadSessionRepository.complete(token, actual, LocalDateTime.now())) != 1) {
+            hotFileBuffer.release(mirror);
+            UploadSession current = requireOwned(token);
+            if (!current.isCompleted()) {
+                throw new ResponseStatusException(HttpStatus.CONFLICT, "다른 요청이 업로드를 처리 중입니다.");
+            }
+            return toDto(current); // 동시에 들어온 finalize 가 먼저 완료
+        }
+        if (mirror != null) {
+            Mirror previous = mirrors.put(token, new Mirror(mirror, Instant.now()));
+            if (previous != null) hotFileBuffer.release(previous.bytes);
+        }
+        return toDto(requireOwned(token));
+    }
+
+    /** 기존 단일 multipart 업로드도 같은 스테이징 경로를 타도록 한 번에 세션 생성~완료 */
+    public String stage(MultipartFile file) {
+        UploadSessionDTO opened = open(file.getOriginalFilename(), file.getSize());
+        try (InputStream in = file.getInputStream()) {
+            appendChunk(opened.getUploadToken(), 0, in);
+        } catch (IOException e) {
+            discard(opened.getUploadToken());
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "파일 읽기 실패: " + e.getMessage(), e);
+        }
+        return finalizeUpload(opened.getUploadToken(), null).getUploadToken();
+    }
+
+    /**
+     * 완료된 업로드를 소유자 확인 후 제출 폴더로 옮긴다 (트랜잭션 밖에서 호출).
+     * 세션은 제출/수정 트랜잭션의 consume 으로만 사라지고, 실패하면 restore 로 되돌린다.
+     */
+    public PromotedUpload promote(String token) {
+        UploadSession session = requireOwned(token);
+        if (!session.isCompleted()) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "업로드가 완료되지 않았습니다.");
+        }
+        String lease = UUID.randomUUID().toString();
+        LocalDateTime now = LocalDateTime.now();
+        if (tx(() -> uploadSessionRepository.leaseClaim(token, lease, now.plus(LEASE), now)) != 1) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "이미 사용 중인 업로드입니다.");
+        }
+        String fileUrl;
+        try {
+            fileUrl = fileStorageService.promoteSubmission(token, session.getFilename());
+        } catch (RuntimeException e) {
+            tx(() -> uploadSessionRepository.releaseLease(token, lease));
+            throw e;
+        }
+        // 예산은 반납하고 사본은 제출 트랜잭션이 hotFileBuffer.put 으로 넘긴다
+        Mirror mirror = mirrors.remove(token);
+        if (mirror != null) hotFileBuffer.release(mirror.bytes);
+        return new PromotedUpload(token, lease, fileUrl, mirror == null ? null : mirror.bytes);
+    }
+
+    /** 제출/수정 트랜잭션 안에서 호출: 세션 행 삭제가 제출 INSERT/UPDATE 와 함께 커밋/롤백된다 */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void consume(PromotedUpload upload) {
+        if (uploadSessionRepository.consume(upload.token(), upload.lease()) != 1) {
+            // claim 임대가 만료되어 다른 요청이 가져감
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "이미 사용된 업로드입니다.");
+        }
+    }
+
+    /** 제출/수정 트랜잭션 실패 시: 파일을 스테이징으로 되돌리고 임대를 풀어 같은 토큰으로 재시도할 수 있게 */
+    public void restore(PromotedUpload upload) {
+        hotFileBuffer.invalidate(upload.fileUrl());
+        try {
+            fileStorageService.demoteSubmission(upload.token(), upload.fileUrl());
+            tx(() -> uploadSessionRepository.releaseLease(upload.token(), upload.lease()));
+        } catch (RuntimeException e) {
+            // 되돌릴 수 없으면 세션을 남겨 봐야 promote 가 실패하므로 정리
+            log.warn("Upload {} restore failed, discarding: {}", upload.token(), e.getMessage());
+            fileStorageService.deleteByUrl(upload.fileUrl());
+            discard(upload.token());
+        }
+    }
+
+    /** 오래된 미완료/미사용 세션과 스테이징 파일 정리 (인스턴스마다 돌아도 조건부 삭제라 안전) */
+    @Scheduled(fixedDelay = 60 * 60 * 1000L)
+    public void purgeExpired() {
+        LocalDateTime limit = LocalDateTime.now().minus(TTL);
+        int sessions = 0;
+        for (String token : uploadSessionRepository.findIdleTokens(limit)) {
+            if (tx(() -> uploadSessionRepository.deleteIdle(token, limit, LocalDateTime.now())) == 1) {
+                fileStorageService.deleteStaging(token);
+                sessions++;
+            }
+        }
+        // 세션 행 없이 남은 스테이징 파일 (행 삭제 후 파일 삭제 전에 죽은 경우 등)
+        int orphans = fileStorageService.sweepStaging(limit.atZone(ZoneId.systemDefault()).toInstant(),
+                token -> ReadWriteRoutingDataSource.primary(() -> uploadSessionRepository.existsById(token)));
+        Instant localLimit = Instant.now().minus(TTL);
+        localProgress.values().removeIf(p -> {
+            if (!p.touchedAt.isBefore(localLimit)) return false;
+            hotFileBuffer.release(p.mirror);
+            return true;
+        });
+        if (sessions + orphans > 0) {
+            log.info("Upload purge: {} sessions, {} orphan staging files", sessions, orphans);
+        }
+    }
+
+    /** 청크가 끊긴 업로드, 완료 후 제출로 이어지지 않은 업로드의 메모리 사본 예산 반납 */
+    @Scheduled(fixedDelay = 60 * 1000L)
+    public void releaseStaleMirrors() {
+        Instant limit = Instant.now().minus(MIRROR_TTL);
+        localProgress.forEach((token, p) -> {
+            // 해시는 남겨 두고 사본만 반납 (교체에 실패하면 그 사이 청크가 들어온 것)
+            if (p.mirror != null && p.touchedAt.isBefore(limit)
+                    && localProgress.replace(token, p, p.withoutMirror())) {
+                hotFileBuffer.release(p.mirror);
+            }
+        });
+        mirrors.entrySet().removeIf(e -> {
+            if (e.getValue().reservedAt.isAfter(limit)) return false;
+            hotFileBuffer.release(e.getValue().bytes);
+            return true;
+        });
+    }
+
+    // --- helpers ---
+
+    private void discard(String token) {
+        transactionTemplate.executeWithoutResult(tx -> uploadSessionRepository.deleteById(token));
+        dropLocal(token);
+        fileStorageService.deleteStaging(token);
+        log.debug("Upload session {} discarded", token);
+    }
+
+    // offset 까지 이 인스턴스가 모두 받은 경우만 (다른 인스턴스가 받은 청크가 있으면 버림)
+    private LocalProgress localProgressAt(String token, long offset) {
+        LocalProgress local = localProgress.get(token);
+        if (local == null || local.offset == offset) return local;
+        dropLocal(token);
+        return null;
+    }
+
+    private void dropLocal(String token) {
+        LocalProgress local = localProgress.remove(token);
+        if (local != null) hotFileBuffer.release(local.mirror);
+        Mirror mirror = mirrors.remove(token);
+        if (mirror != null) hotFileBuffer.release(mirror.bytes);
+    }
+
+    private String sha256OfStaging(String token, byte[] copyInto) {
+        try {
+            return fileStorageService.sha256OfStaging(token, copyInto);
+        } catch (FileStorageService.FileReadException e) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "스테이징 파일을 읽을 수 없습니다. 다시 업로드하세요.", e);
+        }
+    }
+
+    // offset/임대 판단은 레플리카 지연을 허용하지 않으므로 원본에서 읽음
+    private UploadSession requireOwned(String token) {
+        UploadSession session = (token == null) ? null
+                : ReadWriteRoutingDataSource.primary(() -> uploadSessionRepository.findById(token)).orElse(null);
+        if (session == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "업로드 세션을 찾을 수 없습니다.");
+        }
+        if (!session.getOwnerId().equals(currentMemberId())) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN, "본인의 업로드만 사용할 수 있습니다.");
+        }
+        return session;
+    }
+
+    private int tx(Supplier<Integer> action) {
+        Integer n = transactionTemplate.execute(status -> action.get());
+        return n == null ? 0 : n;
+    }
+
+    private static String currentMemberId() {
+        return LoginPrincipal.require().memberId();
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static UploadSessionDTO toDto(UploadSession session) {
+        return UploadSessionDTO.builder()
+                .uploadToken(session.getToken())
+                .filename(session.getFilename())
+                .size(session.getSize())
+                .offset(session.getReceivedBytes())
+                .completed(session.isCompleted())
+                .sha256(session.getSha256())
+                .build();
+    }
+
+    private record Mirror(byte[] bytes, Instant reservedAt) {}
+
+    private static final class LocalProgress {
+        final long offset;
+        final MessageDigest digest;
+        final byte[] mirror; // offset 까지 채워진 메모리 사본 (예산이 없으면 null)
+        final Instant touchedAt;
+
+        LocalProgress(long offset, MessageDigest digest, byte[] mirror) {
+            this(offset, digest, mirror, Instant.now());
+        }
+
+        private LocalProgress(long offset, MessageDigest digest, byte[] mirror, Instant touchedAt) {
+            this.offset = offset;
+            this.digest = digest;
+            this.mirror = mirror;
+            this.touchedAt = touchedAt;
+        }
+
+        LocalProgress withoutMirror() {
+            return new LocalProgress(offset, digest, null, touchedAt);
+        }
+
+        MessageDigest digestCopy() {
+            try {
+                return (MessageDigest) digest.clone();
+            } catch (CloneNotSupportedException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package com.cnu.docserver.user.entity;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import lombok.*;
 
 @Getter
@@ -10,6 +12,7 @@ import lombok.*;
 @Builder
 
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "user.Admin")
 @Table(name = "admins")
 public class Admin {
 
@@ -2,6 +2,8 @@ package com.cnu.docserver.user.entity;
 
 import com.cnu.docserver.user.enums.Role;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import lombok.*;
 import java.time.LocalDateTime;
 
@@ -12,6 +14,7 @@ import java.time.LocalDateTime;
 @Builder
 
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "user.Member")
 @Table(name = "members")
 public class Member {
     @Id
@@ -3,10 +3,22 @@ package com.cnu.docserver.user.repository;
 import com.cnu.docserver.user.entity.Admin;
 import com.cnu.docserver.user.entity.Member;
 import com.cnu.docserver.user.entity.Student;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Optional;
 
 public interface AdminRepository  extends JpaRepository<Admin, String> {
+    // 관리자 API 마다 호출 → 쿼리 캐시 (결과 ID 만 저장, 엔티티는 2차 캐시에서)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<Admin> findByMember(Member member);
+
+    // principal 생성/재구성용: 쿼리/2차 캐시를 거치지 않고 읽어 캐시도 새 값으로 덮는다 (MemberRepository.findForPrincipal)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHE_MODE, value = "REFRESH"))
+    @Query("SELECT a FROM Admin a WHERE a.member = :member")
+    Optional<Admin> findForPrincipal(@Param("member") Member member);
 }
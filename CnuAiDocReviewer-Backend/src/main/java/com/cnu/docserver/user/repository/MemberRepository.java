@@ -1,12 +1,33 @@
 package com.cnu.docserver.user.repository;
 
 import com.cnu.docserver.user.entity.Member;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Optional;
 
+/**
+ * principal_version 은 엔티티에 매핑하지 않는다: 2차 캐시(인스턴스별)에 남은 값과 비교하면 다른 인스턴스의 변경을 놓친다.
+ */
 public interface MemberRepository extends JpaRepository<Member, String> {
 
+    @Query(value = "SELECT principal_version FROM members WHERE member_id = :memberId", nativeQuery = true)
+    Optional<Integer> findPrincipalVersion(@Param("memberId") String memberId);
 
+    // 역할/소속 변경 → 이 회원의 기존 세션 principal 무효
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "members"))
+    @Query(value = "UPDATE members SET principal_version = principal_version + 1 WHERE member_id = :memberId",
+            nativeQuery = true)
+    int bumpPrincipalVersion(@Param("memberId") String memberId);
 
+    // principal 재구성용: 2차 캐시를 거치지 않고 읽어 캐시도 새 값으로 덮는다
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHE_MODE, value = "REFRESH"))
+    @Query("SELECT m FROM Member m WHERE m.memberId = :memberId")
+    Optional<Member> findForPrincipal(@Param("memberId") String memberId);
 }
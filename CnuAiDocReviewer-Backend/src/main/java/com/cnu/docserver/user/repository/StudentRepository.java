@@ -2,10 +2,20 @@ package com.cnu.docserver.user.repository;
 
 import com.cnu.docserver.user.entity.Member;
 import com.cnu.docserver.user.entity.Student;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Optional;
 
 public interface StudentRepository extends JpaRepository<Student, String> {
     Optional<Student> findByMember(Member member);
+
+    // principal 생성/재구성용: 2차 캐시를 거치지 않고 읽어 캐시도 새 값으로 덮는다 (MemberRepository.findForPrincipal)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHE_MODE, value = "REFRESH"))
+    @Query("SELECT s FROM Student s WHERE s.member = :member")
+    Optional<Student> findForPrincipal(@Param("member") Member member);
 }
@@ -0,0 +1,7 @@
+-- 레플리카 지연 측정용 (ReplicaLagMonitor): 원본에 주기적으로 현재 시각(epoch 밀리초)을 쓰고 레플리카에서 읽는다
+CREATE TABLE IF NOT EXISTS replication_heartbeat (
+    id      TINYINT NOT NULL PRIMARY KEY,
+    beat_at BIGINT  NOT NULL
+);
+
+INSERT IGNORE INTO replication_heartbeat (id, beat_at) VALUES (1, 0);
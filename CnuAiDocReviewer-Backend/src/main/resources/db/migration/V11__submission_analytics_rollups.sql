@@ -0,0 +1,24 @@
+-- 문서 유형별 자동 검토/관리자 처리 통계 (시간/일 단위 버킷)
+--  - 자동 검토 결과 반영, 관리자 승인/반려 트랜잭션에서 INSERT ... ON DUPLICATE KEY UPDATE 로 누적 (HOUR, DAY 두 행)
+--  - 조회는 부서의 문서 유형 × 기간 버킷 수만큼만 읽음 (제출/이력 건수와 무관)
+--  - 비율/평균은 조회 시 합계로 계산, 지연/대기 최댓값은 GREATEST 로 갱신
+--  - 유실/도입 이전 분은 이력에서 다시 계산 (AnalyticsBackfillService)
+CREATE TABLE IF NOT EXISTS submission_analytics_rollups (
+    granularity          VARCHAR(8)  NOT NULL, -- HOUR | DAY
+    doc_type_id          INT         NOT NULL,
+    bucket_start         DATETIME    NOT NULL,
+    ocr_passed           BIGINT      NOT NULL DEFAULT 0,
+    ocr_needs_fix        BIGINT      NOT NULL DEFAULT 0,
+    ocr_rejected         BIGINT      NOT NULL DEFAULT 0,
+    ocr_failed           BIGINT      NOT NULL DEFAULT 0, -- 파일/호출/응답 오류
+    ocr_latency_count    BIGINT      NOT NULL DEFAULT 0,
+    ocr_latency_sum_ms   BIGINT      NOT NULL DEFAULT 0,
+    ocr_latency_max_ms   BIGINT      NOT NULL DEFAULT 0,
+    approved             BIGINT      NOT NULL DEFAULT 0,
+    rejected             BIGINT      NOT NULL DEFAULT 0,
+    decision_wait_count  BIGINT      NOT NULL DEFAULT 0, -- 제출 시각 → 관리자 처리
+    decision_wait_sum_s  BIGINT      NOT NULL DEFAULT 0,
+    decision_wait_max_s  BIGINT      NOT NULL DEFAULT 0,
+    PRIMARY KEY (granularity, doc_type_id, bucket_start),
+    CONSTRAINT fk_analytics_rollups_doc_type FOREIGN KEY (doc_type_id) REFERENCES doc_types (doc_type_id)
+);
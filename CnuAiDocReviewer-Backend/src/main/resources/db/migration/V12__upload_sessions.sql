@@ -0,0 +1,18 @@
+-- 이어받기 업로드 세션 (여러 인스턴스가 같은 세션을 이어받도록 메타데이터는 DB, 청크는 공유 스테이징 볼륨)
+--  - received_bytes: 앞에서부터 연속으로 받은 바이트 수 = 다음 청크 offset
+--  - lease_id/lease_until: 청크 쓰기 또는 제출 반영(claim) 중인 요청의 임대. 만료되면 다른 요청이 가져갈 수 있다
+--  - 제출/수정 트랜잭션에서 행을 삭제하므로 DB 실패 시 세션이 그대로 남아 같은 토큰으로 재시도할 수 있다
+--  - 만료 정리는 updated_at 인덱스로
+CREATE TABLE IF NOT EXISTS upload_sessions (
+    token          VARCHAR(36)  NOT NULL PRIMARY KEY,
+    owner_id       VARCHAR(255) NOT NULL,
+    filename       VARCHAR(255) NOT NULL,
+    size           BIGINT       NOT NULL,
+    received_bytes BIGINT       NOT NULL DEFAULT 0,
+    completed      BOOLEAN      NOT NULL DEFAULT FALSE,
+    sha256         CHAR(64),
+    lease_id       VARCHAR(36),
+    lease_until    DATETIME(6),
+    updated_at     DATETIME(6)  NOT NULL,
+    INDEX idx_upload_sessions_updated (updated_at)
+);
@@ -0,0 +1,3 @@
+-- 세션 principal 버전: 역할/소속 변경 시 +1 → 세션에 저장된 버전과 다르면 다음 요청에서 principal 재구성
+-- (인스턴스마다 따로인 메모리 표시 대신 DB 값이라 모든 인스턴스/세션 저장소가 같은 기준으로 비교)
+ALTER TABLE members ADD COLUMN principal_version INT NOT NULL DEFAULT 0;
@@ -0,0 +1,14 @@
+-- 통계 재계산(AnalyticsBackfillService)용 그림자 테이블 + 재계산 상태
+--  - 재계산은 그림자 테이블에 이력(cutoff 이전)을 재생하고, 끝날 때 한 트랜잭션으로 본 테이블을 교체 → 그동안 조회는 이전 값 그대로
+--  - cutoff 가 있으면 재계산 중: 실시간 누적은 본 테이블과 그림자 테이블 양쪽에 쓴다 (cutoff 이후 분)
+--  - 실시간 누적은 상태 행을 공유 잠금, 재계산 시작/교체는 배타 잠금 → 어떤 누적이 이력 재생 몫인지 잠금 순서로 갈린다
+--  - 본 테이블 컬럼을 바꾸면 그림자 테이블도 함께 바꾼다 (교체 쿼리가 컬럼을 나열함)
+CREATE TABLE IF NOT EXISTS submission_analytics_rollups_rebuild LIKE submission_analytics_rollups;
+
+CREATE TABLE IF NOT EXISTS analytics_rebuild_state (
+    id     INT         NOT NULL PRIMARY KEY, -- 항상 1
+    cutoff DATETIME(6)
+);
+
+INSERT INTO analytics_rebuild_state (id, cutoff) VALUES (1, NULL)
+ON DUPLICATE KEY UPDATE id = id;
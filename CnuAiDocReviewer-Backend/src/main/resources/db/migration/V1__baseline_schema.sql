@@ -0,0 +1,121 @@
+-- 기준 스키마 (엔티티 매핑 기준). 기존 운영 DB 는 baseline(=1) 으로 표시되어 이 파일은 건너뛴다.
+-- 새 환경(로컬/테스트)에서만 실제로 실행됨.
+
+CREATE TABLE IF NOT EXISTS members (
+    member_id  VARCHAR(255) NOT NULL PRIMARY KEY,
+    password   VARCHAR(255) NOT NULL,
+    name       VARCHAR(255) NOT NULL,
+    role       VARCHAR(20)  NOT NULL,
+    created_at DATETIME(6)  NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS students (
+    student_id      VARCHAR(255) NOT NULL PRIMARY KEY,
+    member_id       VARCHAR(255) NOT NULL,
+    department      VARCHAR(255) NOT NULL,
+    academic_status VARCHAR(20)  NOT NULL,
+    CONSTRAINT uk_students_member UNIQUE (member_id),
+    CONSTRAINT fk_students_member FOREIGN KEY (member_id) REFERENCES members (member_id)
+);
+
+CREATE TABLE IF NOT EXISTS admins (
+    admin_id   VARCHAR(255) NOT NULL PRIMARY KEY,
+    member_id  VARCHAR(255) NOT NULL,
+    department VARCHAR(255) NOT NULL,
+    CONSTRAINT uk_admins_member UNIQUE (member_id),
+    CONSTRAINT fk_admins_member FOREIGN KEY (member_id) REFERENCES members (member_id)
+);
+
+CREATE TABLE IF NOT EXISTS departments (
+    department_id INT          NOT NULL AUTO_INCREMENT PRIMARY KEY,
+    name          VARCHAR(255) NOT NULL,
+    phone         VARCHAR(20)
+);
+
+CREATE TABLE IF NOT EXISTS doc_types (
+    doc_type_id   INT          NOT NULL AUTO_INCREMENT PRIMARY KEY,
+    department_id INT          NOT NULL,
+    title         VARCHAR(100) NOT NULL,
+    created_at    DATETIME(6)  NOT NULL,
+    updated_at    DATETIME(6)  NOT NULL,
+    CONSTRAINT fk_doc_types_department FOREIGN KEY (department_id) REFERENCES departments (department_id)
+);
+
+CREATE TABLE IF NOT EXISTS original_files (
+    original_file_id INT         NOT NULL AUTO_INCREMENT PRIMARY KEY,
+    doc_type_id      INT         NOT NULL,
+    file_url         TEXT        NOT NULL,
+    uploaded_at      DATETIME(6) NOT NULL,
+    CONSTRAINT uk_original_files_doc_type UNIQUE (doc_type_id),
+    CONSTRAINT fk_original_files_doc_type FOREIGN KEY (doc_type_id) REFERENCES doc_types (doc_type_id)
+);
+
+CREATE TABLE IF NOT EXISTS required_fields (
+    required_field_id INT          NOT NULL AUTO_INCREMENT PRIMARY KEY,
+    doc_type_id       INT          NOT NULL,
+    field_name        VARCHAR(100) NOT NULL,
+    example_value     VARCHAR(255),
+    CONSTRAINT fk_required_fields_doc_type FOREIGN KEY (doc_type_id) REFERENCES doc_types (doc_type_id)
+);
+
+CREATE TABLE IF NOT EXISTS deadlines (
+    deadline_id INT         NOT NULL AUTO_INCREMENT PRIMARY KEY,
+    doc_type_id INT         NOT NULL,
+    deadline    DATE,
+    created_at  DATETIME(6),
+    CONSTRAINT fk_deadlines_doc_type FOREIGN KEY (doc_type_id) REFERENCES doc_types (doc_type_id)
+);
+
+CREATE TABLE IF NOT EXISTS submissions (
+    submission_id    INT          NOT NULL AUTO_INCREMENT PRIMARY KEY,
+    student_id       VARCHAR(255) NOT NULL,
+    doc_type_id      INT          NOT NULL,
+    status           VARCHAR(30)  NOT NULL,
+    rejection_reason VARCHAR(255),
+    reviewed_at      DATETIME(6),
+    submitted_at     DATETIME(6),
+    CONSTRAINT fk_submissions_student FOREIGN KEY (student_id) REFERENCES students (student_id),
+    CONSTRAINT fk_submissions_doc_type FOREIGN KEY (doc_type_id) REFERENCES doc_types (doc_type_id)
+);
+
+CREATE TABLE IF NOT EXISTS submission_files (
+    submission_file_id INT          NOT NULL AUTO_INCREMENT PRIMARY KEY,
+    submission_id      INT          NOT NULL,
+    file_url           VARCHAR(255) NOT NULL,
+    uploaded_at        DATETIME(6)  NOT NULL,
+    CONSTRAINT fk_submission_files_submission FOREIGN KEY (submission_id) REFERENCES submissions (submission_id)
+);
+
+CREATE TABLE IF NOT EXISTS submission_field_values (
+    submission_field_value_id INT          NOT NULL AUTO_INCREMENT PRIMARY KEY,
+    submission_id             INT          NOT NULL,
+    required_field_id         INT,
+    field_name                VARCHAR(255) NOT NULL,
+    field_value               TEXT,
+    CONSTRAINT fk_field_values_submission FOREIGN KEY (submission_id) REFERENCES submissions (submission_id),
+    -- 필수 항목 정의가 삭제돼도 제출 값은 남긴다 (field_name 으로 식별)
+    CONSTRAINT fk_field_values_required_field FOREIGN KEY (required_field_id) REFERENCES required_fields (required_field_id)
+        ON DELETE SET NULL
+);
+
+CREATE TABLE IF NOT EXISTS submission_histories (
+    submission_history_id INT          NOT NULL AUTO_INCREMENT PRIMARY KEY,
+    submission_id         INT          NOT NULL,
+    admin_id              VARCHAR(255),
+    action                VARCHAR(40),
+    memo                  VARCHAR(255),
+    changed_at            DATETIME(6)  NOT NULL,
+    CONSTRAINT fk_histories_submission FOREIGN KEY (submission_id) REFERENCES submissions (submission_id),
+    CONSTRAINT fk_histories_admin FOREIGN KEY (admin_id) REFERENCES admins (admin_id)
+);
+
+CREATE TABLE IF NOT EXISTS ocr_review_result (
+    id                       BIGINT      NOT NULL AUTO_INCREMENT PRIMARY KEY,
+    submission_submission_id INT         NOT NULL,
+    verdict                  VARCHAR(32) NOT NULL,
+    findings_json            TEXT,
+    reason                   TEXT,
+    debug_text               TEXT,
+    created_at               DATETIME(6),
+    CONSTRAINT fk_ocr_review_result_submission FOREIGN KEY (submission_submission_id) REFERENCES submissions (submission_id)
+);
@@ -0,0 +1,31 @@
+-- 관리자 검토 대기열 keyset 페이지용 인덱스
+-- 정렬 키 (submitted_at DESC, submission_id DESC) 를 필터 컬럼 뒤에 두어
+-- 각 필터 조합에서 filesort / OFFSET 스캔 없이 커서 위치부터 바로 이어 읽는다.
+-- InnoDB 보조 인덱스는 PK(submission_id) 를 포함하므로 커서 비교까지 인덱스 안에서 끝난다.
+-- 이 스크립트를 손으로 먼저 적용한 DB 가 있어 인덱스가 없을 때만 만든다 (MySQL 에는 CREATE INDEX IF NOT EXISTS 가 없음).
+
+-- 문서 유형 필터 + 커서
+SET @ddl = (SELECT IF(COUNT(*) = 0,
+    'CREATE INDEX idx_submissions_doctype_submitted ON submissions (doc_type_id, submitted_at, submission_id)', 'DO 0')
+    FROM information_schema.statistics
+    WHERE table_schema = DATABASE() AND table_name = 'submissions' AND index_name = 'idx_submissions_doctype_submitted');
+PREPARE stmt FROM @ddl; EXECUTE stmt; DEALLOCATE PREPARE stmt;
+-- 상태 필터 + 커서
+SET @ddl = (SELECT IF(COUNT(*) = 0,
+    'CREATE INDEX idx_submissions_status_submitted ON submissions (status, submitted_at, submission_id)', 'DO 0')
+    FROM information_schema.statistics
+    WHERE table_schema = DATABASE() AND table_name = 'submissions' AND index_name = 'idx_submissions_status_submitted');
+PREPARE stmt FROM @ddl; EXECUTE stmt; DEALLOCATE PREPARE stmt;
+-- 학번 필터 + 커서
+SET @ddl = (SELECT IF(COUNT(*) = 0,
+    'CREATE INDEX idx_submissions_student_submitted ON submissions (student_id, submitted_at, submission_id)', 'DO 0')
+    FROM information_schema.statistics
+    WHERE table_schema = DATABASE() AND table_name = 'submissions' AND index_name = 'idx_submissions_student_submitted');
+PREPARE stmt FROM @ddl; EXECUTE stmt; DEALLOCATE PREPARE stmt;
+-- 학과 전체 (필터 없음): 최신순 역방향 스캔 후 doc_types 조인으로 학과 판별
+SET @ddl = (SELECT IF(COUNT(*) = 0,
+    'CREATE INDEX idx_submissions_submitted ON submissions (submitted_at, submission_id)', 'DO 0')
+    FROM information_schema.statistics
+    WHERE table_schema = DATABASE() AND table_name = 'submissions' AND index_name = 'idx_submissions_submitted');
+PREPARE stmt FROM @ddl; EXECUTE stmt; DEALLOCATE PREPARE stmt;
+-- doc_types(department_id) 는 FK 인덱스로 커버됨
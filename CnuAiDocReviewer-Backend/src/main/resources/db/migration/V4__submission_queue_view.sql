@@ -0,0 +1,23 @@
+-- 관리자 조회용 비정규화 읽기 모델 (제출 1건 = 1행)
+-- 생성 후 채우기: 앱을 --rebuild-queue-view 옵션으로 한 번 기동하거나
+--                POST /api/admin/submissions/queue-view/rebuild 호출
+CREATE TABLE IF NOT EXISTS submission_queue_view (
+    submission_id  INT          NOT NULL PRIMARY KEY,
+    department_id  INT          NOT NULL,
+    doc_type_id    INT          NOT NULL,
+    doc_type_title VARCHAR(100),
+    student_id     VARCHAR(255) NOT NULL,
+    member_id      VARCHAR(255),
+    student_name   VARCHAR(255),
+    status         VARCHAR(30)  NOT NULL,
+    submitted_at   DATETIME(6),
+    file_url       VARCHAR(512),
+    file_name      VARCHAR(255),
+    bot_verdict    VARCHAR(20),
+    bot_memo       VARCHAR(255),
+    refreshed_at   DATETIME(6)  NOT NULL,
+    INDEX idx_queue_view_dept_submitted        (department_id, submitted_at, submission_id),
+    INDEX idx_queue_view_dept_status_submitted (department_id, status, submitted_at, submission_id),
+    INDEX idx_queue_view_doctype_submitted     (doc_type_id, submitted_at, submission_id),
+    INDEX idx_queue_view_student_submitted     (student_id, submitted_at, submission_id)
+);
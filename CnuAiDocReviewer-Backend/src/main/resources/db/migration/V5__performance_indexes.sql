@@ -0,0 +1,16 @@
+-- 저장소 쿼리의 주요 조건별 인덱스 (QueryPlanTest 가 EXPLAIN 으로 전체 스캔 여부를 검사)
+
+-- 문서 유형 + 상태 (+ 제출일): 카운터 정합성 GROUP BY, 관리자 상태 필터
+-- (doc_type_id, status) 인덱스를 포함하므로 대체
+CREATE INDEX idx_submissions_doctype_status_submitted ON submissions (doc_type_id, status, submitted_at);
+DROP INDEX idx_submissions_doctype_status ON submissions;
+
+-- 학생 본인 목록: student_id = ? ORDER BY submission_id DESC
+CREATE INDEX idx_submissions_student_id ON submissions (student_id, submission_id);
+
+-- 제출별 이력: submission_id = ? ORDER BY changed_at
+CREATE INDEX idx_histories_submission_changed ON submission_histories (submission_id, changed_at);
+
+-- 제출별 파일 / 문서 유형별 마감일 (FK 자동 인덱스가 없는 기존 DB 대비 명시)
+CREATE INDEX idx_submission_files_submission ON submission_files (submission_id);
+CREATE INDEX idx_deadlines_doc_type ON deadlines (doc_type_id);
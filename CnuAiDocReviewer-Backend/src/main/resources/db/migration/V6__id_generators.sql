@@ -0,0 +1,17 @@
+-- 다건 저장 엔티티의 ID 를 테이블 생성기로 전환 (IDENTITY 는 Hibernate INSERT 배치를 비활성화함)
+-- pooled-lo: next_val 부터 50개를 한 번에 예약하므로 현재 최대 ID 다음 값으로 시작
+-- 이후 이 세 테이블의 행은 모두 생성기를 거쳐 INSERT 해야 한다. AUTO_INCREMENT 컬럼은 남아 있지만
+-- 수동/옛 코드의 INSERT 가 받는 다음 AUTO_INCREMENT 값은 실행 중인 인스턴스가 이미 예약한 블록 안일 수 있어
+-- 나중에 키 중복으로 실패한다. 그래서 IDENTITY 를 쓰던 옛 인스턴스와 섞어 돌리는 롤링 배포는 안 되고 (한 번에 교체),
+-- 손으로 넣은 행은 재기동 시 afterMigrate.sql 이 next_val 을 MAX(id) 뒤로 올려 이후 블록과 겹치지 않게 한다.
+CREATE TABLE IF NOT EXISTS id_generators (
+    sequence_name VARCHAR(64) NOT NULL PRIMARY KEY,
+    next_val      BIGINT      NOT NULL
+);
+
+INSERT INTO id_generators (sequence_name, next_val)
+SELECT 'required_fields', COALESCE(MAX(required_field_id), 0) + 1 FROM required_fields
+UNION ALL
+SELECT 'submission_field_values', COALESCE(MAX(submission_field_value_id), 0) + 1 FROM submission_field_values
+UNION ALL
+SELECT 'submission_histories', COALESCE(MAX(submission_history_id), 0) + 1 FROM submission_histories;
@@ -0,0 +1,2 @@
+-- 필드 자동 저장(PATCH) 낙관적 잠금용 버전. 필드 값이 바뀔 때마다 조건부 UPDATE 로 +1
+ALTER TABLE submissions ADD COLUMN fields_version INT NOT NULL DEFAULT 0;
@@ -0,0 +1,51 @@
+-- 지난 학기에 종료된(APPROVED/REJECTED) 제출의 보관 테이블
+--  - SubmissionArchiveService 가 운영 테이블에서 옮겨 오고 원본은 삭제 → 운영 테이블 크기는 진행 중인 제출 수에 비례
+--  - 조회는 상세 화면 read-through 뿐이라 압축 행 포맷 + 최소 인덱스, 운영 테이블과 FK 없음
+--  - 학생/문서 유형/관리자 이름은 보관 시점 값으로 복사 (원본이 바뀌거나 삭제돼도 상세 화면 유지)
+CREATE TABLE IF NOT EXISTS submissions_archive (
+    submission_id    INT          NOT NULL PRIMARY KEY,
+    student_id       VARCHAR(255) NOT NULL,
+    member_id        VARCHAR(255),
+    student_name     VARCHAR(255),
+    doc_type_id      INT          NOT NULL,
+    doc_type_title   VARCHAR(100),
+    status           VARCHAR(30)  NOT NULL,
+    rejection_reason VARCHAR(255),
+    reviewed_at      DATETIME(6),
+    submitted_at     DATETIME(6),
+    closed_at        DATETIME(6),
+    file_url         VARCHAR(512),
+    archived_at      DATETIME(6)  NOT NULL,
+    INDEX idx_submissions_archive_closed  (closed_at, submission_id),
+    INDEX idx_submissions_archive_student (student_id, submission_id)
+) ROW_FORMAT = COMPRESSED;
+
+CREATE TABLE IF NOT EXISTS submission_histories_archive (
+    submission_history_id INT          NOT NULL PRIMARY KEY,
+    submission_id         INT          NOT NULL,
+    admin_id              VARCHAR(255),
+    admin_name            VARCHAR(255),
+    action                VARCHAR(40),
+    memo                  VARCHAR(255),
+    changed_at            DATETIME(6)  NOT NULL,
+    INDEX idx_histories_archive_submission (submission_id, changed_at)
+) ROW_FORMAT = COMPRESSED;
+
+CREATE TABLE IF NOT EXISTS submission_field_values_archive (
+    submission_field_value_id INT          NOT NULL PRIMARY KEY,
+    submission_id             INT          NOT NULL,
+    field_name                VARCHAR(255) NOT NULL,
+    field_value               TEXT,
+    INDEX idx_field_values_archive_submission (submission_id)
+) ROW_FORMAT = COMPRESSED;
+
+CREATE TABLE IF NOT EXISTS ocr_review_result_archive (
+    id            BIGINT      NOT NULL PRIMARY KEY,
+    submission_id INT         NOT NULL,
+    verdict       VARCHAR(32) NOT NULL,
+    findings_json TEXT,
+    reason        TEXT,
+    debug_text    TEXT,
+    created_at    DATETIME(6),
+    INDEX idx_ocr_review_result_archive_submission (submission_id)
+) ROW_FORMAT = COMPRESSED;
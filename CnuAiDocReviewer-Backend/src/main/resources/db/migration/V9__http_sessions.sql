@@ -0,0 +1,14 @@
+-- 공유 세션 저장소 (session.store=jdbc): 여러 인스턴스가 고정 세션 없이 같은 로그인 상태를 본다
+--  - 로그인 사용자는 SecurityContext 직렬화 대신 LoginPrincipal 만 작은 바이너리로 (principal)
+--  - 그 밖의 세션 속성이 있을 때만 attributes 에 직렬화
+--  - 시각은 epoch 밀리초, 만료 정리는 expires_at 인덱스로
+CREATE TABLE IF NOT EXISTS http_sessions (
+    session_id           VARCHAR(64)    NOT NULL PRIMARY KEY,
+    principal            VARBINARY(1024),
+    attributes           BLOB,
+    created_at           BIGINT         NOT NULL,
+    last_accessed_at     BIGINT         NOT NULL,
+    max_inactive_seconds INT            NOT NULL,
+    expires_at           BIGINT         NOT NULL,
+    INDEX idx_http_sessions_expires (expires_at)
+);
@@ -0,0 +1,14 @@
+-- Flyway 콜백: 기동 시 migrate 가 끝날 때마다 실행 (새 마이그레이션이 없어도)
+-- 테이블 생성기를 거치지 않고 들어간 행(수동 INSERT 등)보다 next_val 이 뒤처졌으면 MAX(id) 다음으로 올린다.
+-- 올리기만 하므로 실행 중인 다른 인스턴스가 이미 예약한 블록과는 겹치지 않는다 (V6 참고).
+UPDATE id_generators
+SET next_val = GREATEST(next_val, (SELECT COALESCE(MAX(required_field_id), 0) + 1 FROM required_fields))
+WHERE sequence_name = 'required_fields';
+
+UPDATE id_generators
+SET next_val = GREATEST(next_val, (SELECT COALESCE(MAX(submission_field_value_id), 0) + 1 FROM submission_field_values))
+WHERE sequence_name = 'submission_field_values';
+
+UPDATE id_generators
+SET next_val = GREATEST(next_val, (SELECT COALESCE(MAX(submission_history_id), 0) + 1 FROM submission_histories))
+WHERE sequence_name = 'submission_histories';
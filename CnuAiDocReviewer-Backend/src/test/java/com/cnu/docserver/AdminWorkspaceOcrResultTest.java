@@ -0,0 +1,65 @@
+package com.cnu.docserver;
+
+import com.cnu.docserver.ocr.OcrClient;
+import com.cnu.docserver.ocr.ReviewTransactionService;
+import com.cnu.docserver.ocr.dto.Finding;
+import com.cnu.docserver.submission.dto.AdminWorkspaceDTO;
+import com.cnu.docserver.submission.service.AdminWorkspaceService;
+import com.cnu.docserver.support.EmbeddedMariaDb;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * 자동 검토 결과 반영(ReviewTransactionService) → 관리자 작업 화면(AdminWorkspaceService) 의 OCR 영역.
+ * 결과가 ocr_review_result 에 남아야 작업 화면이 판정/지적 사항을 보여 준다.
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "search.index-dir=build/test-search-index/workspace-ocr"
+})
+@Sql("/db/seed.sql")
+class AdminWorkspaceOcrResultTest {
+
+    private static final int BOT_REVIEW_SUBMISSION = 1; // 시드: (1 % 7) + 1 = BOT_REVIEW
+
+    @DynamicPropertySource
+    static void embeddedMariaDb(DynamicPropertyRegistry registry) {
+        EmbeddedMariaDb.register(registry, "workspace_ocr");
+    }
+
+    @Autowired ReviewTransactionService reviewTransactionService;
+    @Autowired AdminWorkspaceService adminWorkspaceService;
+
+    @Test
+    void reviewedSubmissionShowsLatestFindings() {
+        Finding finding = new Finding();
+        finding.setLabel("학번");
+        finding.setMessage("학번이 비어 있습니다.");
+        OcrClient.OcrResult result = new OcrClient.OcrResult();
+        result.setVerdict("NEEDS_FIX");
+        result.setReason("필수 항목 누락");
+        result.setFindings(List.of(finding));
+
+        reviewTransactionService.updateSubmissionStatus(BOT_REVIEW_SUBMISSION, result, 1200);
+
+        AdminWorkspaceDTO workspace = adminWorkspaceService.getWorkspace(
+                BOT_REVIEW_SUBMISSION, new AdminWorkspaceService.NextFilter(null, null, List.of()), 0);
+
+        assertThat(workspace.detail().status()).isEqualTo("NEEDS_FIX");
+        assertThat(workspace.ocr()).isNotNull();
+        assertThat(workspace.ocr().verdict()).isEqualTo("NEEDS_FIX");
+        assertThat(workspace.ocr().reason()).isEqualTo("필수 항목 누락");
+        assertThat(workspace.ocr().findings())
+                .extracting(Finding::getLabel, Finding::getMessage)
+                .containsExactly(tuple("학번", "학번이 비어 있습니다."));
+    }
+}
@@ -0,0 +1,142 @@
+package com.cnu.docserver;
+
+import com.cnu.docserver.analytics.service.AnalyticsBackfillService;
+import com.cnu.docserver.ocr.OcrClient;
+import com.cnu.docserver.ocr.ReviewTransactionService;
+import com.cnu.docserver.submission.enums.SubmissionTransition;
+import com.cnu.docserver.submission.repository.SubmissionRepository;
+import com.cnu.docserver.submission.service.SubmissionStateMachine;
+import com.cnu.docserver.support.EmbeddedMariaDb;
+import com.cnu.docserver.user.repository.AdminRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * 실시간 누적(AnalyticsRollupService)과 이력 재계산(AnalyticsBackfillService)이 같은 통계를 만드는지.
+ *  - 실제 상태 전이 경로로 자동 검토/관리자 처리를 만든 뒤 롤업을 떠 두고, 재계산 후 다시 비교
+ *  - OCR 지연은 OCR_DETAIL 기록이 꺼져 있으면 재계산으로 복원되지 않으므로 비교에서 뺀다
+ *  - 처리 대기 시간은 초 단위로 잘리므로 합계만 처리 건수만큼의 오차로 비교
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "search.index-dir=build/test-search-index/analytics-backfill"
+})
+class AnalyticsBackfillEquivalenceTest {
+
+    private static final String COUNTS = """
+            SELECT granularity, doc_type_id, bucket_start, ocr_passed, ocr_needs_fix, ocr_rejected, ocr_failed,
+                   approved, rejected, decision_wait_count
+            FROM %s ORDER BY granularity, doc_type_id, bucket_start
+            """;
+
+    @DynamicPropertySource
+    static void embeddedMariaDb(DynamicPropertyRegistry registry) {
+        EmbeddedMariaDb.register(registry, "analytics_backfill");
+    }
+
+    @Autowired JdbcTemplate jdbcTemplate;
+    @Autowired TransactionTemplate transactionTemplate;
+    @Autowired SubmissionRepository submissionRepository;
+    @Autowired AdminRepository adminRepository;
+    @Autowired SubmissionStateMachine stateMachine;
+    @Autowired ReviewTransactionService reviewTransactionService;
+    @Autowired AnalyticsBackfillService backfillService;
+
+    @BeforeEach
+    void referenceData() {
+        jdbcTemplate.update("INSERT IGNORE INTO departments (department_id, name) VALUES (1, '학과1')");
+        jdbcTemplate.update("""
+                INSERT IGNORE INTO doc_types (doc_type_id, department_id, title, created_at, updated_at)
+                VALUES (1, 1, '문서1', NOW(6), NOW(6)), (2, 1, '문서2', NOW(6), NOW(6))""");
+        jdbcTemplate.update("""
+                INSERT IGNORE INTO members (member_id, password, name, role, created_at)
+                VALUES ('m1', 'x', '학생', 'STUDENT', NOW(6)), ('m2', 'x', '관리자', 'ADMIN', NOW(6))""");
+        jdbcTemplate.update("INSERT IGNORE INTO students (student_id, member_id, department, academic_status) VALUES ('s1', 'm1', '학과1', 'ENROLLED')");
+        jdbcTemplate.update("INSERT IGNORE INTO admins (admin_id, member_id, department) VALUES ('a1', 'm2', '학과1')");
+    }
+
+    @Test
+    void backfillRebuildsWhatLiveUpdatesRecorded() {
+        reviewAndDecide(100);
+        List<Map<String, Object>> live = rollups("submission_analytics_rollups");
+        long liveWaitSeconds = waitSeconds();
+        assertThat(live).isNotEmpty();
+
+        backfillService.rebuild();
+
+        assertThat(rollups("submission_analytics_rollups")).isEqualTo(live);
+        assertThat(waitSeconds()).isCloseTo(liveWaitSeconds, within(2L));
+        assertThat(jdbcTemplate.queryForObject("SELECT cutoff FROM analytics_rebuild_state WHERE id = 1", Object.class)).isNull();
+    }
+
+    @Test
+    void updatesAfterRebuildCutoffAlsoReachShadowTable() {
+        jdbcTemplate.update("DELETE FROM submission_analytics_rollups_rebuild");
+        submitted(200);
+        reviewTransactionService.updateSubmissionStatus(200, ocr("PASS"), 700); // cutoff 이전 → 이력 재생 몫
+
+        jdbcTemplate.update("UPDATE analytics_rebuild_state SET cutoff = NOW(6) WHERE id = 1"); // 재계산이 cutoff 를 정한 직후
+        try {
+            transition(200, SubmissionTransition.APPROVE, "a1");
+        } finally {
+            jdbcTemplate.update("UPDATE analytics_rebuild_state SET cutoff = NULL WHERE id = 1");
+        }
+
+        Map<String, Object> shadow = jdbcTemplate.queryForMap("""
+                SELECT COALESCE(SUM(ocr_passed), 0) AS ocr_passed, COALESCE(SUM(approved), 0) AS approved
+                FROM submission_analytics_rollups_rebuild WHERE granularity = 'DAY'""");
+        assertThat(((Number) shadow.get("ocr_passed")).longValue()).isZero();
+        assertThat(((Number) shadow.get("approved")).longValue()).isEqualTo(1);
+    }
+
+    // 자동 검토 통과/보완/반려/오류 각 1건 + 관리자 승인/반려
+    private void reviewAndDecide(int firstId) {
+        for (int id = firstId; id < firstId + 4; id++) submitted(id);
+        reviewTransactionService.updateSubmissionStatus(firstId, ocr("PASS"), 800);
+        reviewTransactionService.updateSubmissionStatus(firstId + 1, ocr("NEEDS_FIX"), 1200);
+        reviewTransactionService.updateSubmissionStatus(firstId + 2, ocr("REJECT"), 900);
+        reviewTransactionService.saveAsNeedsFix(firstId + 3, "자동 검토 실패: OCR 호출 오류");
+        transition(firstId, SubmissionTransition.APPROVE, "a1");     // SUBMITTED → APPROVED
+        transition(firstId + 1, SubmissionTransition.REJECT, "a1");  // NEEDS_FIX → REJECTED
+    }
+
+    private void submitted(int id) {
+        jdbcTemplate.update("INSERT INTO submissions (submission_id, student_id, doc_type_id, status) VALUES (?, 's1', ?, 'DRAFT')",
+                id, (id % 2) + 1);
+        transition(id, SubmissionTransition.SUBMIT_FOR_BOT, null);
+    }
+
+    private void transition(int id, SubmissionTransition transition, String adminId) {
+        transactionTemplate.executeWithoutResult(tx -> stateMachine.apply(
+                submissionRepository.findById(id).orElseThrow(), transition,
+                adminId == null ? null : adminRepository.findById(adminId).orElseThrow(), null));
+    }
+
+    private static OcrClient.OcrResult ocr(String verdict) {
+        OcrClient.OcrResult result = new OcrClient.OcrResult();
+        result.setVerdict(verdict);
+        return result;
+    }
+
+    private List<Map<String, Object>> rollups(String table) {
+        return jdbcTemplate.queryForList(COUNTS.formatted(table));
+    }
+
+    private long waitSeconds() {
+        return jdbcTemplate.queryForObject(
+                "SELECT COALESCE(SUM(decision_wait_sum_s), 0) FROM submission_analytics_rollups WHERE granularity = 'DAY'",
+                Long.class);
+    }
+}
@@ -0,0 +1,88 @@
+package com.cnu.docserver;
+
+import com.cnu.docserver.auth.context.LoginPrincipal;
+import com.cnu.docserver.submission.dto.BulkDecisionRequestDTO;
+import com.cnu.docserver.submission.dto.BulkDecisionResultDTO;
+import com.cnu.docserver.submission.enums.SubmissionStatus;
+import com.cnu.docserver.submission.service.AdminSubmissionService;
+import com.cnu.docserver.support.EmbeddedMariaDb;
+import com.cnu.docserver.user.enums.Role;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 조건 지정 일괄 승인/반려(decideAll)의 대상 선정.
+ *  - 판정 미지정 시 자동 검토를 통과한(PASS) 건만 (검토를 거치지 않은 SUBMITTED 는 제외)
+ *  - 조건에 맞는 건이 한도를 넘으면 한도까지만 처리하고 truncated 로 알려 줌
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "search.index-dir=build/test-search-index/bulk-decision"
+})
+@Sql(scripts = "/db/seed.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_CLASS)
+class BulkDecisionFilterTest {
+
+    // 시드: 문서 유형 1 은 부서 2, 문서 유형 20 은 부서 1 (doc_type_id % 20 + 1)
+    private static final int VERDICT_DOC_TYPE = 1;
+    private static final int VERDICT_DEPARTMENT = 2;
+    private static final int TRUNCATED_DEPARTMENT = 1;
+    private static final LoginPrincipal ADMIN = new LoginPrincipal("m1", "관리자", Role.ADMIN, null, "a1",
+            "학과", null, 0);
+
+    @DynamicPropertySource
+    static void embeddedMariaDb(DynamicPropertyRegistry registry) {
+        EmbeddedMariaDb.register(registry, "bulk_decision");
+    }
+
+    @Autowired AdminSubmissionService adminSubmissionService;
+    @Autowired JdbcTemplate jdbcTemplate;
+
+    @Test
+    void filterDefaultsToBotPassedSubmissions() {
+        // 시드 읽기 모델은 판정이 비어 있음 → 앞의 두 건만 자동 검토 통과로 표시
+        List<Integer> submitted = jdbcTemplate.queryForList("""
+                SELECT submission_id FROM submission_queue_view
+                WHERE doc_type_id = ? AND status = 'SUBMITTED' ORDER BY submission_id LIMIT 3
+                """, Integer.class, VERDICT_DOC_TYPE);
+        jdbcTemplate.update("UPDATE submission_queue_view SET bot_verdict = 'PASS' WHERE submission_id IN (?, ?)",
+                submitted.get(0), submitted.get(1));
+
+        BulkDecisionResultDTO result = adminSubmissionService.decideAll(new BulkDecisionRequestDTO(
+                BulkDecisionRequestDTO.Decision.APPROVE, null,
+                new BulkDecisionRequestDTO.Filter(VERDICT_DEPARTMENT, VERDICT_DOC_TYPE, null, null, null, null, null),
+                "일괄 승인"), ADMIN);
+
+        assertThat(result.items()).extracting(BulkDecisionResultDTO.Item::submissionId)
+                .containsExactlyInAnyOrder(submitted.get(0), submitted.get(1));
+        assertThat(result.applied()).isEqualTo(2);
+        assertThat(result.truncated()).isFalse();
+        assertThat(status(submitted.get(2))).isEqualTo(SubmissionStatus.SUBMITTED.name());
+    }
+
+    @Test
+    void filterOverLimitReportsTruncated() {
+        // 부서 1 의 종료 건(APPROVED/REJECTED)은 한도보다 많고, 반려할 수 없으므로 상태는 그대로
+        BulkDecisionResultDTO result = adminSubmissionService.decideAll(new BulkDecisionRequestDTO(
+                BulkDecisionRequestDTO.Decision.REJECT, null,
+                new BulkDecisionRequestDTO.Filter(TRUNCATED_DEPARTMENT, null,
+                        List.of(SubmissionStatus.APPROVED, SubmissionStatus.REJECTED), "ANY", null, null, null),
+                "한도 확인"), ADMIN);
+
+        assertThat(result.requested()).isEqualTo(500);
+        assertThat(result.applied()).isZero();
+        assertThat(result.truncated()).isTrue();
+    }
+
+    private String status(int id) {
+        return jdbcTemplate.queryForObject("SELECT status FROM submissions WHERE submission_id = ?", String.class, id);
+    }
+}
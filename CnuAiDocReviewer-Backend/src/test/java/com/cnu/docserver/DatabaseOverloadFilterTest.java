@@ -0,0 +1,44 @@
+package com.cnu.docserver;
+
+import com.cnu.docserver.common.DatabaseOverloadFilter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.sql.SQLTransientConnectionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 세션 저장소처럼 MVC 밖에서 풀 포화가 나도 503 + Retry-After 로 끝나는지 (컨트롤러 예외 처리기를 거치지 않는 경로)
+ */
+class DatabaseOverloadFilterTest {
+
+    private final DatabaseOverloadFilter filter = new DatabaseOverloadFilter(new ObjectMapper());
+
+    @Test
+    void poolTimeoutOutsideMvcBecomes503() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/submissions"), response, (req, res) -> {
+            throw new CannotGetJdbcConnectionException("Failed to obtain JDBC Connection",
+                    new SQLTransientConnectionException("web - Connection is not available, request timed out after 2000ms"));
+        });
+
+        assertThat(response.getStatus()).isEqualTo(503);
+        assertThat(response.getHeader("Retry-After")).isEqualTo("2");
+        assertThat(response.getContentType()).startsWith("application/problem+json");
+    }
+
+    @Test
+    void otherFailuresPassThrough() {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertThatThrownBy(() -> filter.doFilter(new MockHttpServletRequest("GET", "/api/submissions"), response,
+                (req, res) -> { throw new IllegalStateException("boom"); }))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
@@ -0,0 +1,88 @@
+package com.cnu.docserver;
+
+import com.cnu.docserver.auth.context.LoginPrincipal;
+import com.cnu.docserver.auth.service.PrincipalService;
+import com.cnu.docserver.support.EmbeddedMariaDb;
+import com.cnu.docserver.user.entity.Member;
+import com.cnu.docserver.user.repository.AdminRepository;
+import com.cnu.docserver.user.repository.MemberRepository;
+import com.cnu.docserver.user.repository.StudentRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 역할/소속 변경 표시(principal_version)가 인스턴스 사이에 공유되는지:
+ * 스프링 빈(인스턴스 A)과 같은 DB 를 보는 별도 PrincipalService(인스턴스 B, 버전 캐시 없음)로 확인.
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "search.index-dir=build/test-search-index/principal-version"
+})
+@Sql(scripts = "/db/seed.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_CLASS)
+class PrincipalVersionTest {
+
+    private static final String STUDENT_MEMBER = "m51"; // 시드: 학생 s1
+    private static final String ADMIN_MEMBER = "m1";    // 시드: 관리자 a1
+
+    @DynamicPropertySource
+    static void embeddedMariaDb(DynamicPropertyRegistry registry) {
+        EmbeddedMariaDb.register(registry, "principal_version");
+    }
+
+    @Autowired PrincipalService nodeA;
+    @Autowired MemberRepository memberRepository;
+    @Autowired StudentRepository studentRepository;
+    @Autowired AdminRepository adminRepository;
+    @Autowired JdbcTemplate jdbcTemplate;
+
+    @Test
+    void markStaleOnOneInstanceRefreshesSessionsOnAnother() {
+        PrincipalService nodeB = new PrincipalService(memberRepository, studentRepository, adminRepository, 0);
+        LoginPrincipal session = nodeA.rebuild(STUDENT_MEMBER).orElseThrow();
+        assertThat(nodeA.isStale(session)).isFalse();
+        assertThat(nodeB.isStale(session)).isFalse();
+
+        jdbcTemplate.update("UPDATE students SET department = '새학과' WHERE student_id = 's1'");
+        assertThat(nodeA.markStale(STUDENT_MEMBER)).isTrue();
+
+        assertThat(nodeB.isStale(session)).isTrue();
+        LoginPrincipal refreshed = nodeB.rebuild(STUDENT_MEMBER).orElseThrow();
+        assertThat(refreshed.department()).isEqualTo("새학과");
+        assertThat(refreshed.version()).isEqualTo(session.version() + 1);
+        assertThat(nodeA.isStale(refreshed)).isFalse();
+        assertThat(nodeB.isStale(refreshed)).isFalse();
+    }
+
+    // 서버 밖에서 바꾼 관리자 소속: 관리자 API 가 올려 둔 쿼리/2차 캐시 값이 아니라 DB 값으로 재구성
+    @Test
+    void rebuildReadsAdminAffiliationPastSecondLevelCache() {
+        Member member = memberRepository.findById(ADMIN_MEMBER).orElseThrow();
+        assertThat(adminRepository.findByMember(member)).isPresent();
+        LoginPrincipal session = nodeA.rebuild(ADMIN_MEMBER).orElseThrow();
+
+        jdbcTemplate.update("UPDATE admins SET department = '새부서' WHERE admin_id = ?", session.adminId());
+        assertThat(nodeA.markStale(ADMIN_MEMBER)).isTrue();
+
+        LoginPrincipal refreshed = nodeA.rebuild(ADMIN_MEMBER).orElseThrow();
+        assertThat(refreshed.adminId()).isEqualTo(session.adminId());
+        assertThat(refreshed.department()).isEqualTo("새부서");
+    }
+
+    @Test
+    void deletedMemberIsAlwaysStale() {
+        LoginPrincipal session = nodeA.rebuild(STUDENT_MEMBER).orElseThrow();
+        assertThat(nodeA.markStale("no-such-member")).isFalse();
+
+        LoginPrincipal ghost = new LoginPrincipal("no-such-member", session.name(), session.role(),
+                null, null, null, null, 0);
+        assertThat(nodeA.isStale(ghost)).isTrue();
+        assertThat(nodeA.rebuild("no-such-member")).isEmpty();
+    }
+}
@@ -0,0 +1,181 @@
+package com.cnu.docserver;
+
+import com.cnu.docserver.analytics.enums.RollupGranularity;
+import com.cnu.docserver.analytics.repository.AnalyticsRollupRow;
+import com.cnu.docserver.analytics.repository.SubmissionAnalyticsRollupRepository;
+import com.cnu.docserver.support.EmbeddedMariaDb;
+import com.cnu.docserver.support.JdbcRecorder;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.repository.core.RepositoryInformation;
+import org.springframework.data.repository.support.Repositories;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 모든 저장소 조회 메서드를 실제로 실행해 나간 SQL 을 모으고, 각각 EXPLAIN 해서 전체 테이블 스캔(type=ALL)이 있으면 실패.
+ *  - 임베디드 MariaDB + Flyway 마이그레이션(db/migration) 으로 운영과 같은 인덱스 구성
+ *  - 데이터는 db/seed.sql (옵티마이저가 작은 테이블이라 스캔을 고르지 않을 만큼)
+ *  - 쓰기(@Modifying) 메서드는 제외
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+        "spring.jpa.properties.hibernate.cache.use_query_cache=false",
+        "search.index-dir=build/test-search-index/query-plan"
+})
+@Import(JdbcRecorder.Config.class)
+@Sql(scripts = "/db/seed.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_CLASS)
+class QueryPlanTest {
+
+    @DynamicPropertySource
+    static void embeddedMariaDb(DynamicPropertyRegistry registry) {
+        EmbeddedMariaDb.register(registry, "query_plan");
+    }
+
+    @Autowired ApplicationContext context;
+    @Autowired JdbcTemplate jdbcTemplate;
+    @Autowired TransactionTemplate transactionTemplate;
+    @Autowired SubmissionAnalyticsRollupRepository rollupRepository;
+    @PersistenceContext EntityManager em;
+
+    @Test
+    void repositoryQueriesDoNotScanWholeTables() {
+        Repositories repositories = new Repositories(context);
+        Map<String, List<String>> sqlByMethod = new LinkedHashMap<>();
+
+        for (Class<?> domainType : repositories) {
+            RepositoryInformation info = repositories.getRequiredRepositoryInformation(domainType);
+            Object repository = repositories.getRepositoryFor(domainType).orElseThrow();
+            for (Method m : info.getQueryMethods()) {
+                if (m.isAnnotationPresent(Modifying.class)) continue;
+                String name = info.getRepositoryInterface().getSimpleName() + "." + m.getName();
+                sqlByMethod.put(name, selectsOf(() -> invoke(repository, m)));
+            }
+        }
+
+        List<String> violations = new ArrayList<>();
+        sqlByMethod.forEach((method, sqls) -> {
+            assertThat(sqls).as("%s 에서 실행된 SQL 이 없음", method).isNotEmpty();
+            violations.addAll(planViolations(method, sqls));
+        });
+        assertThat(violations).as(String.join("\n", violations)).isEmpty();
+    }
+
+    // 공통 샘플 인자는 from = to 라 빈 범위 → 시드 롤업 행(학과 1: 문서 유형 10개 × 최근 60일)을 실제로 읽는 범위로 따로 확인
+    @Test
+    void departmentAnalyticsReadsSeedRollupsByKeyRange() {
+        LocalDateTime from = LocalDate.now().minusDays(29).atStartOfDay();
+        LocalDateTime to = LocalDate.now().plusDays(1).atStartOfDay();
+        List<AnalyticsRollupRow> rows = new ArrayList<>();
+
+        List<String> sqls = selectsOf(() -> rows.addAll(
+                rollupRepository.findDepartmentRows(1, RollupGranularity.DAY, from, to)));
+
+        assertThat(rows).hasSize(10 * 30);
+        List<String> violations = planViolations("findDepartmentRows", sqls);
+        assertThat(violations).as(String.join("\n", violations)).isEmpty();
+    }
+
+    private List<String> planViolations(String method, List<String> sqls) {
+        List<String> violations = new ArrayList<>();
+        for (String sql : sqls) {
+            for (Map<String, Object> row : jdbcTemplate.queryForList("EXPLAIN " + stripLockClause(sql))) {
+                String table = String.valueOf(row.get("table"));
+                if ("ALL".equals(row.get("type")) && !table.startsWith("<")) {
+                    violations.add(method + " → " + table + " 전체 스캔 (rows=" + row.get("rows") + ")\n    " + sql);
+                }
+            }
+        }
+        return violations;
+    }
+
+    // 조회 결과/예외와 무관하게 SQL 만 필요 → 롤백 트랜잭션 안에서 실행
+    private List<String> selectsOf(Runnable action) {
+        List<String> statements = JdbcRecorder.statements(() -> transactionTemplate.executeWithoutResult(tx -> {
+            tx.setRollbackOnly();
+            try {
+                action.run();
+            } catch (RuntimeException ignored) {
+                // 단건 조회의 결과 개수 불일치 등은 계획 검사와 무관
+            }
+        }));
+        return statements.stream().filter(sql -> sql.regionMatches(true, 0, "select", 0, 6)).toList();
+    }
+
+    private void invoke(Object repository, Method m) {
+        Type[] types = m.getGenericParameterTypes();
+        Object[] args = new Object[types.length];
+        for (int i = 0; i < types.length; i++) args[i] = sampleArg(types[i]);
+        try {
+            m.invoke(repository, args);
+        } catch (InvocationTargetException e) {
+            if (e.getCause() instanceof RuntimeException re) throw re;
+            throw new IllegalStateException(e.getCause());
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // 시드 데이터에 존재하는 값 (ID 1 / 학번 s1 / 관리자 a1 / 회원 m51)
+    private Object sampleArg(Type type) {
+        if (type instanceof ParameterizedType p && p.getRawType() instanceof Class<?> raw
+                && Collection.class.isAssignableFrom(raw)) {
+            Type element = p.getActualTypeArguments()[0];
+            if (element instanceof Class<?> c && c.isEnum()) {
+                return List.of(c.getEnumConstants()).subList(0, Math.min(3, c.getEnumConstants().length));
+            }
+            return List.of(sampleArg(element), sampleArg(element));
+        }
+        Class<?> c = (Class<?>) (type instanceof ParameterizedType p ? p.getRawType() : type);
+        if (c == Integer.class || c == int.class) return 1;
+        if (c == Long.class || c == long.class) return 1L;
+        if (c == Boolean.class || c == boolean.class) return false;
+        if (c == String.class) return "s1";
+        if (c == LocalDateTime.class) return LocalDateTime.now().minusDays(7);
+        if (c == LocalDate.class) return LocalDate.now().minusDays(7);
+        if (c == Pageable.class) return PageRequest.of(0, 20);
+        if (c == Sort.class) return Sort.unsorted();
+        if (c.isEnum()) return c.getEnumConstants()[0];
+        if (c.isAnnotationPresent(jakarta.persistence.Entity.class)) {
+            Class<?> idType = em.getMetamodel().entity(c).getIdType().getJavaType();
+            Object id = idType == String.class ? sampleStringId(c) : sampleArg(idType);
+            return em.getReference(c, id);
+        }
+        throw new IllegalArgumentException("QueryPlanTest 에 " + c.getName() + " 샘플 값을 추가하세요");
+    }
+
+    private static String sampleStringId(Class<?> entityType) {
+        return switch (entityType.getSimpleName()) {
+            case "Member" -> "m51";
+            case "Admin" -> "a1";
+            default -> "s1";
+        };
+    }
+
+    private static String stripLockClause(String sql) {
+        return sql.replaceAll("(?i)\\s+(for update(\\s+of\\s+\\S+)?(\\s+(nowait|skip locked))?|lock in share mode)\\s*$", "");
+    }
+}
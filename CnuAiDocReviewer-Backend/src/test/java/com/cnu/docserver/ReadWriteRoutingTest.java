@@ -0,0 +1,164 @@
+package com.cnu.docserver;
+
+import com.cnu.docserver.common.ReadWriteRoutingDataSource;
+import com.cnu.docserver.common.ReplicaLagMonitor;
+import com.cnu.docserver.common.Workload;
+import com.cnu.docserver.support.EmbeddedMariaDb;
+import com.cnu.docserver.user.entity.Member;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.sql.DataSource;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 읽기/쓰기 분리 + 작업별 풀: 같은 임베디드 서버의 두 스키마를 원본/레플리카로 두고, 트랜잭션이 어느 쪽으로 가는지 SELECT DATABASE() 로 확인.
+ * 복제가 없으므로 레플리카의 heartbeat 를 직접 써서 따라잡음/지연을 흉내 낸다.
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "datasource.replica.heartbeat-interval-ms=3600000", // 스케줄 대신 테스트가 tick() 호출
+        "search.index-dir=build/test-search-index/routing",
+        // 커넥션마다 자기 풀 이름을 세션 변수로 → 트랜잭션이 실제로 어느 풀의 커넥션을 받았는지 확인
+        "spring.datasource.hikari.connection-init-sql=SET @pool = 'web'",
+        "datasource.pools.ocr.connection-init-sql=SET @pool = 'ocr'",
+        "datasource.pools.incremental.connection-init-sql=SET @pool = 'incremental'",
+        "datasource.pools.background.connection-init-sql=SET @pool = 'background'",
+        "datasource.replica.hikari.connection-init-sql=SET @pool = 'replica'"
+})
+class ReadWriteRoutingTest {
+
+    private static final String PRIMARY = "routing_primary";
+    private static final String REPLICA = "routing_replica";
+
+    @DynamicPropertySource
+    static void embeddedMariaDb(DynamicPropertyRegistry registry) {
+        EmbeddedMariaDb.register(registry, PRIMARY);
+        EmbeddedMariaDb.registerReplica(registry, REPLICA);
+    }
+
+    @Autowired JdbcTemplate jdbcTemplate;
+    @Autowired @Qualifier("replicaDataSource") DataSource replicaDataSource;
+    @Autowired ReplicaLagMonitor lagMonitor;
+    @Autowired PlatformTransactionManager transactionManager;
+    @Autowired EntityManagerFactory entityManagerFactory;
+    @PersistenceContext EntityManager entityManager;
+
+    @AfterEach
+    void clearRequest() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void readOnlyTransactionsGoToReplica() {
+        replicaCaughtUpTo(Instant.now());
+
+        assertThat(databaseIn(true)).isEqualTo(REPLICA);
+        assertThat(databaseIn(false)).isEqualTo(PRIMARY);
+        assertThat(jdbcTemplate.queryForObject("SELECT DATABASE()", String.class)).isEqualTo(PRIMARY); // 트랜잭션 밖
+    }
+
+    @Test
+    void laggingReplicaFallsBackToPrimary() {
+        replicaCaughtUpTo(Instant.now().minusSeconds(60));
+
+        assertThat(databaseIn(true)).isEqualTo(PRIMARY);
+    }
+
+    @Test
+    void sessionReadsItsOwnWriteFromPrimaryUntilReplicated() {
+        replicaCaughtUpTo(Instant.now().minusMillis(500));
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setSession(new MockHttpSession());
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+        assertThat(databaseIn(true)).isEqualTo(REPLICA);
+        databaseIn(false); // 쓰기 트랜잭션 커밋 → 세션에 시각 기록
+        assertThat(databaseIn(true)).isEqualTo(PRIMARY);
+
+        replicaCaughtUpTo(Instant.now().plusMillis(1));
+        assertThat(databaseIn(true)).isEqualTo(REPLICA);
+    }
+
+    @Test
+    void primaryBlockOverridesReadOnlyRouting() {
+        replicaCaughtUpTo(Instant.now());
+
+        assertThat(ReadWriteRoutingDataSource.primary(() -> databaseIn(true))).isEqualTo(PRIMARY);
+    }
+
+    @Test
+    void ocrIncrementalAndBackgroundWorkloadsUseTheirPrimaryPools() {
+        replicaCaughtUpTo(Instant.now());
+
+        assertThat(Workload.OCR.call(() -> databaseIn(true))).isEqualTo(PRIMARY);
+        assertThat(Workload.OCR.call(() -> poolIn(true))).isEqualTo("ocr");
+        assertThat(Workload.INCREMENTAL.call(() -> databaseIn(true))).isEqualTo(PRIMARY);
+        assertThat(Workload.INCREMENTAL.call(() -> poolIn(true))).isEqualTo("incremental");
+        assertThat(Workload.BACKGROUND.call(() -> databaseIn(true))).isEqualTo(PRIMARY);
+        assertThat(Workload.BACKGROUND.call(() -> poolIn(false))).isEqualTo("background");
+        assertThat(poolIn(true)).isEqualTo("replica");
+        assertThat(poolIn(false)).isEqualTo("web");
+    }
+
+    @Test
+    void replicaReadsDoNotFillSecondLevelCache() {
+        replicaCaughtUpTo(Instant.now());
+        String memberId = "cache-route";
+        insertMember(jdbcTemplate, memberId, "최신 이름");
+        insertMember(new JdbcTemplate(replicaDataSource), memberId, "지연된 이름");
+        entityManagerFactory.getCache().evict(Member.class);
+
+        assertThat(memberNameIn(true, memberId)).isEqualTo("지연된 이름");
+        assertThat(entityManagerFactory.getCache().contains(Member.class, memberId)).isFalse();
+
+        assertThat(memberNameIn(false, memberId)).isEqualTo("최신 이름");
+        assertThat(entityManagerFactory.getCache().contains(Member.class, memberId)).isTrue();
+        assertThat(memberNameIn(true, memberId)).isEqualTo("최신 이름"); // 레플리카 트랜잭션도 캐시는 읽는다
+    }
+
+    private static void insertMember(JdbcTemplate jdbc, String memberId, String name) {
+        jdbc.update("INSERT INTO members (member_id, password, name, role, created_at) VALUES (?, 'x', ?, 'STUDENT', NOW(6))",
+                memberId, name);
+    }
+
+    private String memberNameIn(boolean readOnly, String memberId) {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        tx.setReadOnly(readOnly);
+        return tx.execute(status -> entityManager.find(Member.class, memberId).getName());
+    }
+
+    private void replicaCaughtUpTo(Instant at) {
+        new JdbcTemplate(replicaDataSource).update("UPDATE replication_heartbeat SET beat_at = ? WHERE id = 1", at.toEpochMilli());
+        lagMonitor.tick();
+    }
+
+    private String poolIn(boolean readOnly) {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        tx.setReadOnly(readOnly);
+        return tx.execute(status -> jdbcTemplate.queryForObject("SELECT @pool", String.class));
+    }
+
+    private String databaseIn(boolean readOnly) {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        tx.setReadOnly(readOnly);
+        return tx.execute(status -> jdbcTemplate.queryForObject("SELECT DATABASE()", String.class));
+    }
+}
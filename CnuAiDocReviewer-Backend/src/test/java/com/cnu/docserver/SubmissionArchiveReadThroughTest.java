@@ -0,0 +1,151 @@
+package com.cnu.docserver;
+
+import com.cnu.docserver.auth.context.LoginPrincipal;
+import com.cnu.docserver.submission.controller.SubmissionController;
+import com.cnu.docserver.submission.dto.AdminWorkspaceDTO;
+import com.cnu.docserver.submission.dto.MySubmissionRowDTO;
+import com.cnu.docserver.submission.entity.Submission;
+import com.cnu.docserver.submission.enums.SubmissionStatus;
+import com.cnu.docserver.submission.enums.SubmissionTransition;
+import com.cnu.docserver.submission.repository.SubmissionRepository;
+import com.cnu.docserver.submission.service.AdminSubmissionService;
+import com.cnu.docserver.submission.service.AdminWorkspaceService;
+import com.cnu.docserver.submission.service.SubmissionArchiveService;
+import com.cnu.docserver.submission.service.SubmissionExportService;
+import com.cnu.docserver.submission.service.SubmissionService;
+import com.cnu.docserver.submission.service.SubmissionStateMachine;
+import com.cnu.docserver.support.EmbeddedMariaDb;
+import com.cnu.docserver.user.enums.Role;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 지난 학기 종료분 보관 이후에도 학생 본인 목록/요약, 일괄 내보내기, 관리자 작업 화면에서 보이는지,
+ * 승인/반려 전이가 보관 기준 시각(reviewed_at)을 찍는지.
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "search.index-dir=build/test-search-index/archive-read-through"
+})
+@Sql(scripts = "/db/seed.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_CLASS)
+class SubmissionArchiveReadThroughTest {
+
+    // 시드: (id % 7) + 1 = APPROVED, 학생 s13 (m63), 문서 유형 13
+    private static final int ARCHIVED_SUBMISSION = 12;
+    // 시드: (id % 7) + 1 = APPROVED, 학생 s20 (m70)
+    private static final int WORKSPACE_SUBMISSION = 19;
+    // 시드: (id % 7) + 1 = SUBMITTED
+    private static final int DECIDED_SUBMISSION = 2;
+
+    @DynamicPropertySource
+    static void embeddedMariaDb(DynamicPropertyRegistry registry) {
+        EmbeddedMariaDb.register(registry, "archive_read_through");
+    }
+
+    @Autowired SubmissionArchiveService submissionArchiveService;
+    @Autowired SubmissionController submissionController;
+    @Autowired SubmissionService submissionService;
+    @Autowired SubmissionExportService submissionExportService;
+    @Autowired SubmissionStateMachine submissionStateMachine;
+    @Autowired AdminWorkspaceService adminWorkspaceService;
+    @Autowired AdminSubmissionService adminSubmissionService;
+    @Autowired SubmissionRepository submissionRepository;
+    @Autowired TransactionTemplate transactionTemplate;
+    @Autowired JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void clearPrincipal() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void archivedSubmissionStaysVisibleToStudentAndExport() throws IOException {
+        archive(ARCHIVED_SUBMISSION);
+
+        loginAs("m63", "s13");
+        List<Integer> ids = submissionController.listMySubmissions(20, null).stream()
+                .map(MySubmissionRowDTO::submissionId).toList();
+        assertThat(ids).contains(ARCHIVED_SUBMISSION);
+        assertThat(ids).isSortedAccordingTo((a, b) -> Integer.compare(b, a));
+        assertThat(submissionController.listMySubmissions(20, "DRAFT").stream()
+                .map(MySubmissionRowDTO::submissionId)).doesNotContain(ARCHIVED_SUBMISSION);
+
+        assertThat(submissionService.getSummary(ARCHIVED_SUBMISSION).getStatus()).isEqualTo(SubmissionStatus.APPROVED);
+
+        Integer departmentId = jdbcTemplate.queryForObject(
+                "SELECT department_id FROM doc_types WHERE doc_type_id = 13", Integer.class);
+        ByteArrayOutputStream zip = new ByteArrayOutputStream();
+        submissionExportService.writeZip(new SubmissionExportService.ExportFilter(
+                departmentId, 13, List.of(SubmissionStatus.APPROVED), null, null), zip);
+        List<String> entries = new ArrayList<>();
+        String manifest = null;
+        try (ZipInputStream in = new ZipInputStream(new ByteArrayInputStream(zip.toByteArray()), StandardCharsets.UTF_8)) {
+            for (ZipEntry e; (e = in.getNextEntry()) != null; ) {
+                entries.add(e.getName());
+                if (e.getName().equals("manifest.csv")) manifest = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+            }
+        }
+        assertThat(manifest).contains("\r\n" + ARCHIVED_SUBMISSION + ",s13,");
+        assertThat(entries).anyMatch(name -> name.endsWith("/" + ARCHIVED_SUBMISSION + "_s13_" + ARCHIVED_SUBMISSION + ".pdf"));
+    }
+
+    @Test
+    void workspaceFallsBackToArchiveLikeDetail() {
+        archive(WORKSPACE_SUBMISSION);
+
+        AdminWorkspaceDTO workspace = adminWorkspaceService.getWorkspace(
+                WORKSPACE_SUBMISSION, new AdminWorkspaceService.NextFilter(null, null, List.of()), 3);
+
+        assertThat(workspace.detail()).isEqualTo(adminSubmissionService.getDetail(WORKSPACE_SUBMISSION));
+        assertThat(workspace.detail().status()).isEqualTo("APPROVED");
+        assertThat(workspace.fields()).extracting(AdminWorkspaceDTO.FieldValue::label).contains("이름");
+        assertThat(workspace.nextSubmissionIds()).isEmpty();
+    }
+
+    @Test
+    void decisionStampsReviewedAt() {
+        LocalDateTime before = LocalDateTime.now().minusSeconds(1);
+        transactionTemplate.executeWithoutResult(tx -> {
+            Submission s = submissionRepository.findById(DECIDED_SUBMISSION).orElseThrow();
+            assertThat(submissionStateMachine.tryApply(s, SubmissionTransition.APPROVE, null, "승인")).isTrue();
+        });
+
+        LocalDateTime reviewedAt = jdbcTemplate.queryForObject(
+                "SELECT reviewed_at FROM submissions WHERE submission_id = ?", LocalDateTime.class, DECIDED_SUBMISSION);
+        assertThat(reviewedAt).isAfter(before);
+    }
+
+    // 지난 학기에 종료된 것으로 바꾼 뒤 보관
+    private void archive(int submissionId) {
+        jdbcTemplate.update("UPDATE submissions SET submitted_at = '2000-03-02', reviewed_at = '2000-03-03' "
+                + "WHERE submission_id = ?", submissionId);
+        submissionArchiveService.archivePreviousSemesters();
+        assertThat(submissionRepository.existsById(submissionId)).isFalse();
+    }
+
+    private static void loginAs(String memberId, String studentId) {
+        LoginPrincipal principal = new LoginPrincipal(memberId, "학생", Role.STUDENT, studentId, null,
+                "학과", "ENROLLED", 0);
+        SecurityContextHolder.getContext().setAuthentication(principal.authentication());
+    }
+}
@@ -0,0 +1,117 @@
+package com.cnu.docserver;
+
+import com.cnu.docserver.submission.service.SubmissionService;
+import com.cnu.docserver.submission.service.UploadSessionService;
+import com.cnu.docserver.support.EmbeddedMariaDb;
+import com.cnu.docserver.support.JdbcRecorder;
+import com.cnu.docserver.auth.context.LoginPrincipal;
+import com.cnu.docserver.auth.service.PrincipalService;
+import com.cnu.docserver.user.entity.Member;
+import com.cnu.docserver.user.repository.MemberRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 필드가 많은 제출(25개)의 SubmissionService.create 한 번당 DB 왕복 수: JDBC 배치 끄기(이전) vs 켜기(현재).
+ *  - 이전: 배치 크기 1 = IDENTITY 시절과 같이 필드 행마다 INSERT 1회
+ *  - 현재: 테이블 생성기(pooled-lo) + hibernate.jdbc.batch_size + rewriteBatchedStatements → 필드 행 INSERT 왕복 1회
+ * 이전/현재 왕복 수를 단언하고, 숫자는 테스트 로그(INFO)로 남긴다.
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "search.index-dir=build/test-search-index/batching-bench"
+})
+@Import(JdbcRecorder.Config.class)
+@Sql("/db/seed.sql")
+class SubmissionCreateBatchingBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(SubmissionCreateBatchingBenchmarkTest.class);
+
+    private static final int FIELD_COUNT = 25;
+    private static final String FIELD_INSERT = "insert into submission_field_values";
+
+    @DynamicPropertySource
+    static void embeddedMariaDb(DynamicPropertyRegistry registry) {
+        EmbeddedMariaDb.register(registry, "batching_bench");
+    }
+
+    @Autowired SubmissionService submissionService;
+    @Autowired UploadSessionService uploadSessionService;
+    @Autowired MemberRepository memberRepository;
+    @Autowired PrincipalService principalService;
+    @Autowired TransactionTemplate transactionTemplate;
+    @PersistenceContext EntityManager em;
+
+    @BeforeEach
+    void loginAsStudent() {
+        Member student = memberRepository.findById("m51").orElseThrow(); // 시드: m51 = 학생 s1
+        LoginPrincipal principal = principalService.build(student).orElseThrow();
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, List.of()));
+    }
+
+    @AfterEach
+    void logout() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void batchingCutsRoundTripsPerCreate() {
+        createRecorded(null); // 워밍업: 카탈로그 캐시/ID 풀 채우기
+
+        List<String> before = createRecorded(1);
+        List<String> after = createRecorded(null);
+
+        log.info("SubmissionService.create ({} fields) DB round trips: before={} (field inserts {}), after={} (field inserts {})",
+                FIELD_COUNT, before.size(), countFieldInserts(before), after.size(), countFieldInserts(after));
+
+        assertThat(countFieldInserts(before)).isEqualTo(FIELD_COUNT);
+        assertThat(countFieldInserts(after)).isEqualTo(1);
+        // 필드 INSERT 24회가 줄어야 함 (나머지 문장 수 차이는 ID 풀 재할당 정도: 2회 이내)
+        assertThat(before.size() - after.size()).isBetween(FIELD_COUNT - 1 - 2, FIELD_COUNT - 1 + 2);
+    }
+
+    // jdbcBatchSize 가 null 이면 설정값(hibernate.jdbc.batch_size) 그대로
+    private List<String> createRecorded(Integer jdbcBatchSize) {
+        String token = uploadSessionService.stage(
+                new MockMultipartFile("file", "bench.pdf", "application/pdf", new byte[]{'%', 'P', 'D', 'F'}));
+        String fieldsJson = IntStream.rangeClosed(1, FIELD_COUNT)
+                .mapToObj(i -> "{\"label\":\"항목" + i + "\",\"value\":\"값" + i + "\"}")
+                .collect(Collectors.joining(",", "[", "]"));
+
+        // 바깥 트랜잭션을 열어 두면 create 안의 트랜잭션이 같은 세션에 합류 → 세션 단위 배치 크기 조정 가능
+        return JdbcRecorder.statements(() -> transactionTemplate.executeWithoutResult(tx -> {
+            if (jdbcBatchSize != null) em.unwrap(Session.class).setJdbcBatchSize(jdbcBatchSize);
+            submissionService.create(1, fieldsJson, token);
+        }));
+    }
+
+    private static long countFieldInserts(List<String> statements) {
+        return statements.stream()
+                .filter(sql -> sql.regionMatches(true, 0, FIELD_INSERT, 0, FIELD_INSERT.length())
+                        || sql.regionMatches(true, 0, "batch " + FIELD_INSERT, 0, FIELD_INSERT.length() + 6))
+                .count();
+    }
+}
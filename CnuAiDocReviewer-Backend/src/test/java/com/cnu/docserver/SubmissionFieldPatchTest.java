@@ -0,0 +1,120 @@
+package com.cnu.docserver;
+
+import com.cnu.docserver.auth.context.LoginPrincipal;
+import com.cnu.docserver.submission.dto.FieldPatchRequestDTO;
+import com.cnu.docserver.submission.dto.FieldPatchResultDTO;
+import com.cnu.docserver.submission.dto.SubmitRequestDTO;
+import com.cnu.docserver.submission.enums.SubmissionStatus;
+import com.cnu.docserver.submission.repository.SubmissionRepository;
+import com.cnu.docserver.submission.service.SubmissionService;
+import com.cnu.docserver.support.EmbeddedMariaDb;
+import com.cnu.docserver.user.enums.Role;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 필드 단위 자동 저장(patchFields)의 충돌 처리.
+ *  - baseVersion 이 현재 버전과 다르면 409
+ *  - 상태 확인(잠금 없는 읽기) 뒤 제출이 먼저 커밋되면 버전이 맞아도 409 (검수로 넘어간 문서는 바뀌지 않음)
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "search.index-dir=build/test-search-index/field-patch"
+})
+@Sql(scripts = "/db/seed.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_CLASS)
+class SubmissionFieldPatchTest {
+
+    // 시드: (id % 7) + 1 = DRAFT, 학생 s{(id % 4950) + 1} = 회원 m{학생 번호 + 50}
+    private static final int STALE_VERSION_SUBMISSION = 7;  // 학생 s8 (m58)
+    private static final int SUBMIT_RACE_SUBMISSION = 14;   // 학생 s15 (m65), 문서 유형 15
+
+    @DynamicPropertySource
+    static void embeddedMariaDb(DynamicPropertyRegistry registry) {
+        EmbeddedMariaDb.register(registry, "field_patch");
+    }
+
+    @Autowired SubmissionService submissionService;
+    @Autowired SubmissionRepository submissionRepository;
+    @Autowired TransactionTemplate transactionTemplate;
+    @Autowired JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void clearPrincipal() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void staleBaseVersionIsRejected() {
+        loginAs("m58", "s8");
+        FieldPatchResultDTO first = submissionService.patchFields(STALE_VERSION_SUBMISSION, patch(0, "첫 저장"));
+        assertThat(first.fieldsVersion()).isEqualTo(1);
+
+        assertThatThrownBy(() -> submissionService.patchFields(STALE_VERSION_SUBMISSION, patch(0, "늦은 저장")))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.CONFLICT));
+
+        assertThat(fieldsVersion(STALE_VERSION_SUBMISSION)).isEqualTo(1);
+        assertThat(contactValues(STALE_VERSION_SUBMISSION)).containsExactly("첫 저장");
+    }
+
+    @Test
+    void patchAfterConcurrentSubmitIsRejected() {
+        loginAs("m65", "s15");
+        // 시드 마감일은 DB 기준 오늘 → 시간대와 무관하게 제출이 마감에 걸리지 않도록
+        jdbcTemplate.update("UPDATE deadlines SET deadline = CURDATE() + INTERVAL 7 DAY WHERE doc_type_id = 15");
+        assertThatThrownBy(() -> transactionTemplate.executeWithoutResult(tx -> {
+            // 상태 확인에 쓰일 엔티티를 먼저 읽어 둠 → 아래 patchFields 는 이 트랜잭션의 DRAFT 를 본다
+            assertThat(submissionRepository.findById(SUBMIT_RACE_SUBMISSION).orElseThrow().getStatus())
+                    .isEqualTo(SubmissionStatus.DRAFT);
+            // 그 사이 다른 요청의 제출이 커밋됨
+            CompletableFuture.runAsync(() -> submissionService.submit(SUBMIT_RACE_SUBMISSION,
+                    new SubmitRequestDTO(SubmitRequestDTO.SubmitMode.DIRECT))).join();
+
+            submissionService.patchFields(SUBMIT_RACE_SUBMISSION, patch(0, "제출 뒤 저장"));
+        })).isInstanceOfSatisfying(ResponseStatusException.class,
+                e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.CONFLICT));
+
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT status FROM submissions WHERE submission_id = ?", String.class, SUBMIT_RACE_SUBMISSION))
+                .isEqualTo("SUBMITTED");
+        assertThat(fieldsVersion(SUBMIT_RACE_SUBMISSION)).isZero();
+        assertThat(contactValues(SUBMIT_RACE_SUBMISSION)).isEmpty();
+    }
+
+    private static FieldPatchRequestDTO patch(int baseVersion, String contact) {
+        return new FieldPatchRequestDTO(baseVersion, List.of(new FieldPatchRequestDTO.Change("연락처", contact)));
+    }
+
+    private static void loginAs(String memberId, String studentId) {
+        LoginPrincipal principal = new LoginPrincipal(memberId, "학생", Role.STUDENT, studentId, null,
+                "학과", "ENROLLED", 0);
+        SecurityContextHolder.getContext().setAuthentication(principal.authentication());
+    }
+
+    private int fieldsVersion(int submissionId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT fields_version FROM submissions WHERE submission_id = ?", Integer.class, submissionId);
+    }
+
+    private List<String> contactValues(int submissionId) {
+        return jdbcTemplate.queryForList(
+                "SELECT field_value FROM submission_field_values WHERE submission_id = ? AND field_name = '연락처'",
+                String.class, submissionId);
+    }
+}
@@ -0,0 +1,149 @@
+package com.cnu.docserver;
+
+import com.cnu.docserver.auth.context.LoginPrincipal;
+import com.cnu.docserver.ocr.OcrClient;
+import com.cnu.docserver.ocr.ReviewTransactionService;
+import com.cnu.docserver.submission.enums.SubmissionStatus;
+import com.cnu.docserver.submission.repository.SubmissionRepository;
+import com.cnu.docserver.submission.service.AdminSubmissionService;
+import com.cnu.docserver.support.EmbeddedMariaDb;
+import com.cnu.docserver.user.enums.Role;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 단건 상태 전이(SubmissionStateMachine.tryApply)의 동시성.
+ *  - 자동 검토 결과 반영과 관리자 승인이 같은 제출에 동시에 오면 정확히 한쪽만 반영
+ *  - 읽어 둔 뒤 허용된 중간 변경(BOT_REVIEW→SUBMITTED)이 끼어도 승인은 충돌이 아니고, 카운터는 실제 이전 상태에서 빠짐
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "search.index-dir=build/test-search-index/transition-race"
+})
+@Sql(scripts = "/db/seed.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_CLASS)
+class SubmissionTransitionRaceTest {
+
+    // 시드: (id % 7) + 1 = BOT_REVIEW 인 제출 1, 8, 15, ... 중 앞쪽은 경합, 뒤쪽 하나는 중간 변경 확인용
+    private static final int RACE_ROUNDS = 20;
+    private static final int INTERLEAVED_SUBMISSION = 1 + 7 * 100;
+    private static final LoginPrincipal ADMIN = new LoginPrincipal("m1", "관리자", Role.ADMIN, null, "a1",
+            "학과", null, 0);
+
+    private static final ExecutorService pool = Executors.newFixedThreadPool(2);
+
+    @DynamicPropertySource
+    static void embeddedMariaDb(DynamicPropertyRegistry registry) {
+        EmbeddedMariaDb.register(registry, "transition_race");
+    }
+
+    @Autowired ReviewTransactionService reviewTransactionService;
+    @Autowired AdminSubmissionService adminSubmissionService;
+    @Autowired SubmissionRepository submissionRepository;
+    @Autowired TransactionTemplate transactionTemplate;
+    @Autowired JdbcTemplate jdbcTemplate;
+
+    @AfterAll
+    static void shutdown() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    void ocrWriteBackAndAdminApproveHaveExactlyOneWinner() throws Exception {
+        for (int round = 0; round < RACE_ROUNDS; round++) {
+            int id = 1 + 7 * round;
+            int historiesBefore = histories(id);
+            int ocrResultsBefore = ocrResults(id);
+            CyclicBarrier start = new CyclicBarrier(2);
+
+            Future<?> ocr = pool.submit(() -> {
+                start.await(5, TimeUnit.SECONDS);
+                reviewTransactionService.updateSubmissionStatus(id, verdict("REJECT"), 1000);
+                return null;
+            });
+            Future<Boolean> approve = pool.submit(() -> {
+                start.await(5, TimeUnit.SECONDS);
+                try {
+                    adminSubmissionService.approve(id, ADMIN);
+                    return true;
+                } catch (ResponseStatusException e) {
+                    assertThat(e.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+                    return false;
+                }
+            });
+            ocr.get(30, TimeUnit.SECONDS);
+            boolean approved = approve.get(30, TimeUnit.SECONDS);
+
+            // 승인이 이겼으면 APPROVED, 자동 검토가 이겼으면 REJECTED (승인은 409) — 이력도 이긴 쪽 한 줄만
+            assertThat(status(id)).as("round %d", round)
+                    .isEqualTo(approved ? SubmissionStatus.APPROVED.name() : SubmissionStatus.REJECTED.name());
+            assertThat(histories(id) - historiesBefore).as("round %d", round).isEqualTo(1);
+            assertThat(ocrResults(id) - ocrResultsBefore).as("round %d", round).isEqualTo(approved ? 0 : 1);
+        }
+        assertThat(driftedCounters()).isZero();
+    }
+
+    @Test
+    void approveAfterAllowedIntermediateChangeIsNotAConflict() {
+        transactionTemplate.executeWithoutResult(tx -> {
+            // 관리자가 검수 중(BOT_REVIEW)인 제출을 읽어 둔 사이
+            assertThat(submissionRepository.findById(INTERLEAVED_SUBMISSION).orElseThrow().getStatus())
+                    .isEqualTo(SubmissionStatus.BOT_REVIEW);
+            // 자동 검토 통과가 먼저 커밋됨 (BOT_REVIEW → SUBMITTED)
+            CompletableFuture.runAsync(() -> reviewTransactionService.updateSubmissionStatus(
+                    INTERLEAVED_SUBMISSION, verdict("PASS"), 1000)).join();
+
+            adminSubmissionService.approve(INTERLEAVED_SUBMISSION, ADMIN);
+        });
+
+        assertThat(status(INTERLEAVED_SUBMISSION)).isEqualTo(SubmissionStatus.APPROVED.name());
+        assertThat(driftedCounters()).isZero();
+    }
+
+    private static OcrClient.OcrResult verdict(String verdict) {
+        OcrClient.OcrResult result = new OcrClient.OcrResult();
+        result.setVerdict(verdict);
+        result.setReason("테스트");
+        return result;
+    }
+
+    private String status(int id) {
+        return jdbcTemplate.queryForObject("SELECT status FROM submissions WHERE submission_id = ?", String.class, id);
+    }
+
+    private int histories(int id) {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM submission_histories WHERE submission_id = ?", Integer.class, id);
+    }
+
+    private int ocrResults(int id) {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM ocr_review_result WHERE submission_submission_id = ?", Integer.class, id);
+    }
+
+    // 상태별 건수 카운터가 실제 집계와 다른 (문서 유형, 상태) 수
+    private int driftedCounters() {
+        return jdbcTemplate.queryForObject("""
+                SELECT COUNT(*) FROM submission_status_counters c
+                WHERE c.cnt <> (SELECT COUNT(*) FROM submissions s
+                                WHERE s.doc_type_id = c.doc_type_id AND s.status = c.status)
+                """, Integer.class);
+    }
+}
@@ -0,0 +1,49 @@
+package com.cnu.docserver.support;
+
+import ch.vorburger.mariadb4j.DB;
+import ch.vorburger.mariadb4j.DBConfigurationBuilder;
+import org.flywaydb.core.Flyway;
+import org.springframework.test.context.DynamicPropertyRegistry;
+
+/**
+ * 테스트용 임베디드 MariaDB (JVM 당 1개, 테스트 클래스마다 별도 스키마).
+ * 스키마는 앱 기동 시 Flyway 마이그레이션으로 만들어진다.
+ */
+public final class EmbeddedMariaDb {
+
+    private static DB db;
+    private static DBConfigurationBuilder config;
+
+    private EmbeddedMariaDb() {}
+
+    public static synchronized void register(DynamicPropertyRegistry registry, String schema) {
+        String url = createSchema(schema);
+        registry.add("spring.datasource.url", () -> url);
+        registry.add("spring.datasource.username", () -> "root");
+        registry.add("spring.datasource.password", () -> "");
+    }
+
+    /**
+     * 읽기/쓰기 분리용 두 번째 DB (datasource.replica.url). 같은 서버의 별도 스키마에 Flyway 로 같은 구성을 만든다.
+     * 실제 복제는 없으므로 replication_heartbeat 는 테스트가 직접 써서 지연을 흉내 낸다.
+     */
+    public static synchronized void registerReplica(DynamicPropertyRegistry registry, String schema) {
+        String url = createSchema(schema);
+        Flyway.configure().dataSource(url, "root", "").locations("classpath:db/migration").load().migrate();
+        registry.add("datasource.replica.url", () -> url);
+    }
+
+    private static String createSchema(String schema) {
+        try {
+            if (db == null) {
+                config = DBConfigurationBuilder.newBuilder().setPort(0);
+                db = DB.newEmbeddedDB(config.build()); // JVM 종료 시 자동 정지
+                db.start();
+            }
+            db.createDB(schema);
+        } catch (Exception e) {
+            throw new IllegalStateException("임베디드 MariaDB 기동 실패", e);
+        }
+        return config.getURL(schema) + "?characterEncoding=UTF-8&rewriteBatchedStatements=true";
+    }
+}
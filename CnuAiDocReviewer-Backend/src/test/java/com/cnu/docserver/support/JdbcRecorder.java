@@ -0,0 +1,101 @@
+package com.cnu.docserver.support;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * 현재 스레드에서 DB 로 나간 문장을 기록 (1건 = 왕복 1회).
+ *  - execute* : 파라미터가 채워진 SQL
+ *  - executeBatch : "batch " + SQL 한 건 (rewriteBatchedStatements 면 왕복 1회)
+ * 테스트 클래스에 @Import(JdbcRecorder.Config.class) 로 DataSource 를 감싼다.
+ */
+public final class JdbcRecorder {
+
+    private static final ThreadLocal<List<String>> RECORDED = new ThreadLocal<>();
+
+    private JdbcRecorder() {}
+
+    public static List<String> statements(Runnable action) {
+        return record(() -> {
+            action.run();
+            return null;
+        }).statements();
+    }
+
+    public static <T> Result<T> record(Supplier<T> action) {
+        List<String> statements = new ArrayList<>();
+        RECORDED.set(statements);
+        try {
+            return new Result<>(action.get(), statements);
+        } finally {
+            RECORDED.remove();
+        }
+    }
+
+    public record Result<T>(T value, List<String> statements) {}
+
+    @TestConfiguration
+    public static class Config {
+
+        @Bean
+        static BeanPostProcessor recordingDataSource() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    // 애플리케이션이 쓰는 DataSource 만 (그 뒤의 풀별 DataSource 까지 감싸면 중복 기록)
+                    if (!(bean instanceof DataSource ds) || !"dataSource".equals(beanName)) return bean;
+                    return proxy(DataSource.class, ds, (target, m, args) -> {
+                        Object result = m.invoke(target, args);
+                        return result instanceof Connection c ? proxy(Connection.class, c, JdbcRecorder::onConnection) : result;
+                    });
+                }
+            };
+        }
+    }
+
+    private static Object onConnection(Object target, Method m, Object[] args) throws Throwable {
+        Object result = m.invoke(target, args);
+        if (!(result instanceof PreparedStatement ps) || !m.getName().equals("prepareStatement")) return result;
+        return proxy(PreparedStatement.class, ps, (t, pm, pargs) -> {
+            List<String> statements = RECORDED.get();
+            boolean noArgs = pargs == null || pargs.length == 0;
+            if (statements != null && noArgs && pm.getName().startsWith("execute")) {
+                // 실행 전에 기록 (실패한 문장도 계획 검사 대상)
+                statements.add(pm.getName().equals("executeBatch") ? "batch " + args[0] : boundSql(ps));
+            }
+            return pm.invoke(t, pargs);
+        });
+    }
+
+    // Connector/J 클라이언트 PreparedStatement.toString() = "클래스명: 바인딩된 SQL"
+    private static String boundSql(PreparedStatement ps) throws Exception {
+        String s = ps.unwrap(PreparedStatement.class).toString();
+        return s.substring(s.indexOf(": ") + 2).trim();
+    }
+
+    private interface Handler {
+        Object handle(Object target, Method m, Object[] args) throws Throwable;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> iface, T target, Handler handler) {
+        return (T) Proxy.newProxyInstance(iface.getClassLoader(), new Class<?>[]{iface}, (p, m, args) -> {
+            try {
+                return handler.handle(target, m, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        });
+    }
+}
@@ -0,0 +1,77 @@
+-- 임베디드 DB 테스트(QueryPlanTest, SubmissionCreateBatchingBenchmarkTest) 공용 데이터: 옵티마이저가 작은 테이블이라 전체 스캔을 고르지 않도록 운영과 비슷한 비율로 채운다
+-- (MariaDB 시퀀스 엔진 seq_1_to_N 사용)
+
+INSERT INTO departments (department_id, name, phone)
+SELECT seq, CONCAT('학과', seq), NULL FROM seq_1_to_20;
+
+INSERT INTO doc_types (doc_type_id, department_id, title, created_at, updated_at)
+SELECT seq, (seq % 20) + 1, CONCAT('문서', seq), NOW(6), NOW(6) FROM seq_1_to_200;
+
+INSERT INTO original_files (doc_type_id, file_url, uploaded_at)
+SELECT seq, CONCAT('/files/doctype/', seq, '/original.pdf'), NOW(6) FROM seq_1_to_200;
+
+INSERT INTO required_fields (doc_type_id, field_name, example_value)
+SELECT (seq % 200) + 1, CONCAT('항목', seq), NULL FROM seq_1_to_1000;
+
+INSERT INTO deadlines (doc_type_id, deadline, created_at)
+SELECT seq, CURDATE(), NOW(6) FROM seq_1_to_200;
+
+INSERT INTO members (member_id, password, name, role, created_at)
+SELECT CONCAT('m', seq), 'x', CONCAT('이름', seq), IF(seq <= 50, 'ADMIN', 'STUDENT'), NOW(6) FROM seq_1_to_5000;
+
+INSERT INTO admins (admin_id, member_id, department)
+SELECT CONCAT('a', seq), CONCAT('m', seq), '학과' FROM seq_1_to_50;
+
+INSERT INTO students (student_id, member_id, department, academic_status)
+SELECT CONCAT('s', seq), CONCAT('m', seq + 50), '학과', 'ENROLLED' FROM seq_1_to_4950;
+
+INSERT INTO submissions (submission_id, student_id, doc_type_id, status, submitted_at)
+SELECT seq,
+       CONCAT('s', (seq % 4950) + 1),
+       (seq % 200) + 1,
+       ELT((seq % 7) + 1, 'DRAFT', 'BOT_REVIEW', 'SUBMITTED', 'UNDER_REVIEW', 'NEEDS_FIX', 'APPROVED', 'REJECTED'),
+       NOW(6) - INTERVAL seq MINUTE
+FROM seq_1_to_50000;
+
+INSERT INTO submission_files (submission_id, file_url, uploaded_at)
+SELECT seq, CONCAT('/uploads/submissions/', seq, '.pdf'), NOW(6) FROM seq_1_to_50000;
+
+INSERT INTO submission_field_values (submission_id, required_field_id, field_name, field_value)
+SELECT (seq % 50000) + 1, NULL, '이름', '값' FROM seq_1_to_100000;
+
+INSERT INTO submission_histories (submission_id, admin_id, action, memo, changed_at)
+SELECT (seq % 50000) + 1, NULL, 'SUBMITTED', IF(seq % 2 = 0, '자동 검토 통과', '학생 제출'), NOW(6) FROM seq_1_to_100000;
+
+INSERT INTO ocr_review_result (submission_submission_id, verdict, created_at)
+SELECT seq, 'PASS', NOW(6) FROM seq_1_to_50000;
+
+INSERT INTO submission_queue_view (submission_id, department_id, doc_type_id, doc_type_title, student_id,
+                                   status, submitted_at, refreshed_at)
+SELECT s.submission_id, dt.department_id, s.doc_type_id, dt.title, s.student_id, s.status, s.submitted_at, NOW(6)
+FROM submissions s JOIN doc_types dt ON dt.doc_type_id = s.doc_type_id;
+
+INSERT INTO submission_status_counters (doc_type_id, status, cnt)
+SELECT doc_type_id, status, COUNT(*) FROM submissions GROUP BY doc_type_id, status;
+
+INSERT INTO submission_analytics_rollups (granularity, doc_type_id, bucket_start, ocr_passed, approved)
+SELECT 'DAY', (seq % 200) + 1, CURDATE() - INTERVAL (seq DIV 200) DAY, 3, 2 FROM seq_0_to_11999;
+INSERT INTO submission_analytics_rollups (granularity, doc_type_id, bucket_start, ocr_passed, approved)
+SELECT 'HOUR', (seq % 200) + 1, DATE_FORMAT(NOW(), '%Y-%m-%d %H:00:00') - INTERVAL (seq DIV 200) HOUR, 1, 1
+FROM seq_0_to_9599;
+
+INSERT INTO upload_sessions (token, owner_id, filename, size, received_bytes, completed, updated_at)
+SELECT CONCAT('u', seq), CONCAT('m', (seq % 4950) + 51), CONCAT('file', seq, '.pdf'), 1048576, 1048576, TRUE,
+       NOW(6) - INTERVAL seq MINUTE
+FROM seq_1_to_5000;
+
+-- 테이블 생성기 ID 를 시드 이후로 (pooled-lo: 다음에 쓸 값)
+UPDATE id_generators SET next_val = (SELECT MAX(required_field_id) + 1 FROM required_fields)
+WHERE sequence_name = 'required_fields';
+UPDATE id_generators SET next_val = (SELECT MAX(submission_field_value_id) + 1 FROM submission_field_values)
+WHERE sequence_name = 'submission_field_values';
+UPDATE id_generators SET next_val = (SELECT MAX(submission_history_id) + 1 FROM submission_histories)
+WHERE sequence_name = 'submission_histories';
+
+ANALYZE TABLE departments, doc_types, original_files, required_fields, deadlines, members, admins, students,
+    submissions, submission_files, submission_field_values, submission_histories, ocr_review_result,
+    submission_queue_view, submission_status_counters, submission_analytics_rollups, upload_sessions;
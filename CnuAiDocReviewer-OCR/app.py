@@ -1,7 +1,8 @@
 # app.py
-from fastapi import FastAPI, File, UploadFile, HTTPException
+from fastapi import FastAPI, File, UploadFile, HTTPException, Header, Request
 from fastapi.responses import JSONResponse
-import tempfile, os, time
+from pydantic import BaseModel
+import tempfile, os, time, hmac
 import uvicorn
 
 from ocr_pipeline import review_document
@@ -13,6 +14,15 @@ LAST_WARMUP = {"status": "cold", "ts": None, "msg": None}
 def _set_warmup(status: str, msg: str | None = None):
     LAST_WARMUP.update({"status": status, "ts": int(time.time()), "msg": msg})
 
+# 백엔드 ocr.shared-secret 과 같은 값. 설정하면 /ocr/review-path 는 X-OCR-Secret 헤더가 맞아야 함
+SHARED_SECRET = os.getenv("OCR_SHARED_SECRET", "")
+UDS = os.getenv("OCR_UDS", "").strip()
+LOOPBACK = {"127.0.0.1", "::1", "localhost"}
+
+def _check_secret(secret: str | None):
+    if SHARED_SECRET and not hmac.compare_digest((secret or "").encode(), SHARED_SECRET.encode()):
+        raise HTTPException(status_code=401, detail="인증 실패")
+
 @app.post("/ocr/review")
 async def ocr_review(file: UploadFile = File(...)):
     tmp_path = None
@@ -29,6 +39,35 @@ async def ocr_review(file: UploadFile = File(...)):
             try: os.remove(tmp_path)
             except Exception: pass
 
+# 같은 호스트/볼륨 배포용: 백엔드 uploads 폴더를 OCR_SHARED_ROOT 로 마운트하면
+# 파일을 업로드받지 않고 상대 경로만 받아 바로 연다 (임시파일 복사 없음)
+#  - 제출 파일 폴더(uploads/submissions) 안의 파일만 (심볼릭 링크는 실제 경로로 확인)
+#  - OCR_SHARED_SECRET 이 없으면 같은 호스트(루프백/유닉스 소켓) 요청만 받음
+SHARED_ROOT = os.path.realpath(os.getenv("OCR_SHARED_ROOT", "../CnuAiDocReviewer-Backend/uploads"))
+SUBMISSIONS_ROOT = os.path.join(SHARED_ROOT, "submissions")
+
+class ReviewPathRequest(BaseModel):
+    path: str
+
+@app.post("/ocr/review-path")
+def ocr_review_path(req: ReviewPathRequest, request: Request, x_ocr_secret: str | None = Header(default=None)):
+    _check_secret(x_ocr_secret)
+    # 유닉스 소켓 요청은 client 가 없음 (소켓 파일 권한으로 제한)
+    if not SHARED_SECRET and request.client is not None and request.client.host not in LOOPBACK:
+        raise HTTPException(status_code=403, detail="같은 호스트에서만 호출할 수 있습니다 (OCR_SHARED_SECRET 미설정)")
+    if not req.path or os.path.isabs(req.path) or "\0" in req.path:
+        raise HTTPException(status_code=400, detail="잘못된 경로")
+    target = os.path.realpath(os.path.join(SHARED_ROOT, req.path))
+    if os.path.commonpath([SUBMISSIONS_ROOT, target]) != SUBMISSIONS_ROOT:
+        raise HTTPException(status_code=400, detail="잘못된 경로")
+    if not os.path.isfile(target):
+        raise HTTPException(status_code=404, detail=f"파일 없음: {req.path}")
+    try:
+        return review_document(target)
+    except Exception as e:
+        import traceback; traceback.print_exc()
+        raise HTTPException(status_code=500, detail=f"OCR 실패: {e}")
+
 @app.get("/healthz")
 def healthz():
     return {"status": "ok"}
@@ -64,4 +103,11 @@ def auto_warmup_on_start():
             pass
 
 if __name__ == "__main__":
-    uvicorn.run("app:app", host="0.0.0.0", port=8000, reload=True)
+    if UDS:
+        # 백엔드와 같은 호스트: 유닉스 도메인 소켓으로만 받음 (ocr.transport=uds)
+        uvicorn.run("app:app", uds=UDS, reload=True)
+    else:
+        # 다른 호스트의 백엔드도 /ocr/review 로 호출할 수 있도록 기본은 모든 인터페이스
+        # (/ocr/review-path 는 OCR_SHARED_SECRET 이 없으면 루프백 요청만 받음)
+        host = os.getenv("OCR_HOST", "0.0.0.0")
+        uvicorn.run("app:app", host=host, port=int(os.getenv("OCR_PORT", "8000")), reload=True)
@@ -0,0 +1,109 @@
+# bench_transport.py
+# 백엔드 → OCR 전송 방식별 요청당 오버헤드 비교 (OCR 파이프라인 자체 시간은 제외)
+#   multipart : 현재 방식 (/ocr/review, 파일 업로드 + 임시파일 기록)
+#   path-tcp  : 공유 볼륨 경로만 전달 (/ocr/review-path, TCP)
+#   path-uds  : 공유 볼륨 경로만 전달 (/ocr/review-path, 유닉스 도메인 소켓)
+#
+# 사용법: python bench_transport.py [--size-mb 5] [--requests 200]
+# review_document 는 파일을 끝까지 읽기만 하는 스텁으로 바꿔서 전송 비용만 잰다.
+import argparse, http.client, os, socket, statistics, sys, tempfile, threading, time, types, uuid
+
+# 무거운 OCR 모듈(paddleocr 등) 대신 스텁 주입: 파일을 한 번 읽어 크기만 돌려줌
+def _stub_review(path):
+    with open(path, "rb") as f:
+        n = 0
+        while chunk := f.read(1 << 20):
+            n += len(chunk)
+    return {"verdict": "PASS", "findings": [], "details": {"bytes": n}}
+
+sys.modules["ocr_pipeline"] = types.SimpleNamespace(review_document=_stub_review)
+
+import uvicorn  # noqa: E402
+
+
+class UnixHTTPConnection(http.client.HTTPConnection):
+    def __init__(self, path):
+        super().__init__("localhost")
+        self.unix_path = path
+
+    def connect(self):
+        self.sock = socket.socket(socket.AF_UNIX, socket.SOCK_STREAM)
+        self.sock.connect(self.unix_path)
+
+
+def _serve(config):
+    server = uvicorn.Server(config)
+    t = threading.Thread(target=server.run, daemon=True)
+    t.start()
+    while not server.started:
+        time.sleep(0.05)
+    return server
+
+
+def _multipart(filename, data):
+    boundary = uuid.uuid4().hex
+    head = (f"--{boundary}\r\nContent-Disposition: form-data; name=\"file\"; filename=\"{filename}\"\r\n"
+            "Content-Type: application/pdf\r\n\r\n").encode()
+    tail = f"\r\n--{boundary}--\r\n".encode()
+    return head + data + tail, f"multipart/form-data; boundary={boundary}"
+
+
+def _run(name, make_conn, path, body, content_type, n, report=True):
+    samples = []
+    for _ in range(n):
+        conn = make_conn()  # 백엔드 클라이언트처럼 요청마다 새 연결
+        t0 = time.perf_counter()
+        conn.request("POST", path, body=body, headers={"Content-Type": content_type})
+        res = conn.getresponse()
+        res.read()
+        samples.append((time.perf_counter() - t0) * 1000)
+        conn.close()
+        if res.status != 200:
+            raise SystemExit(f"{name}: HTTP {res.status}")
+    if not report:
+        return
+    samples.sort()
+    p95 = samples[int(len(samples) * 0.95) - 1]
+    print(f"{name:<10} mean={statistics.mean(samples):7.2f}ms  p50={statistics.median(samples):7.2f}ms  p95={p95:7.2f}ms")
+
+
+def main():
+    ap = argparse.ArgumentParser()
+    ap.add_argument("--size-mb", type=float, default=5)
+    ap.add_argument("--requests", type=int, default=200)
+    ap.add_argument("--port", type=int, default=18000)
+    args = ap.parse_args()
+
+    root = tempfile.mkdtemp(prefix="ocr-shared-")
+    os.environ["OCR_SHARED_ROOT"] = root
+    import app  # OCR_SHARED_ROOT 를 읽으므로 환경변수 설정 후 import
+
+    rel = "submissions/bench/sample.pdf"
+    os.makedirs(os.path.dirname(os.path.join(root, rel)), exist_ok=True)
+    data = os.urandom(int(args.size_mb * 1024 * 1024))
+    with open(os.path.join(root, rel), "wb") as f:
+        f.write(data)
+
+    sock_path = os.path.join(root, "ocr.sock")
+    tcp = _serve(uvicorn.Config(app.app, host="127.0.0.1", port=args.port, log_level="warning"))
+    uds = _serve(uvicorn.Config(app.app, uds=sock_path, log_level="warning"))
+
+    body, ctype = _multipart("sample.pdf", data)
+    path_body = ('{"path": "%s"}' % rel).encode()
+    tcp_conn = lambda: http.client.HTTPConnection("127.0.0.1", args.port)
+    uds_conn = lambda: UnixHTTPConnection(sock_path)
+
+    print(f"file={args.size_mb}MB requests={args.requests}")
+    for name, conn, path, b, ct in (
+            ("multipart", tcp_conn, "/ocr/review", body, ctype),
+            ("path-tcp", tcp_conn, "/ocr/review-path", path_body, "application/json"),
+            ("path-uds", uds_conn, "/ocr/review-path", path_body, "application/json")):
+        _run(name, conn, path, b, ct, 5, report=False)  # 워밍업
+        _run(name, conn, path, b, ct, args.requests)
+
+    tcp.should_exit = True
+    uds.should_exit = True
+
+
+if __name__ == "__main__":
+    main()